@@ -0,0 +1,103 @@
+package home.project.service.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 가 요청 하나를 인증하는 비용을 비교합니다.
+ *
+ * legacyPerRequest: 이전 방식. 요청마다 파서를 새로 만들고 서명을 세 번 검증합니다.
+ * verifyOnceColdCache: 파서를 공유하고 한 번만 검증합니다. 토큰이 캐시에 없는 경우입니다.
+ * verifyOnceWarmCache: 같은 토큰이 다시 들어와 캐시된 Claims 를 쓰는 경우입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3Nlcy1vbmx5LXNob3VsZC1iZS1sb25nLWVub3VnaA==";
+    private static final int TOKEN_COUNT = 4096;
+
+    private Key key;
+    private JwtTokenProvider warmProvider;
+    private JwtTokenProvider coldProvider;
+    private String warmToken;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        warmProvider = new JwtTokenProvider(SECRET, this::noUserDetails, 10_000, new TokenRevocationRegistry(100_000, 0.01));
+        // 캐시보다 훨씬 많은 토큰을 돌려 써서 매번 서명 검증을 하게 합니다.
+        coldProvider = new JwtTokenProvider(SECRET, this::noUserDetails, 16, new TokenRevocationRegistry(100_000, 0.01));
+
+        warmToken = warmProvider.generateToken(authentication("bench@example.com")).getAccessToken();
+        warmProvider.verify(warmToken);
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = coldProvider.generateToken(authentication("bench" + i + "@example.com")).getAccessToken();
+        }
+    }
+
+    @Benchmark
+    public Authentication legacyPerRequest() {
+        String token = nextToken();
+        // validateToken → getAuthentication → parseClaims(validateTokenDetail + parse)
+        newParser().parseClaimsJws(token);
+        newParser().parseClaimsJws(token);
+        Claims claims = newParser().parseClaimsJws(token).getBody();
+        return coldProvider.getAuthentication(claims);
+    }
+
+    @Benchmark
+    public Authentication verifyOnceColdCache() {
+        JwtTokenProvider.VerifiedToken verifiedToken = coldProvider.verify(nextToken());
+        return coldProvider.getAuthentication(verifiedToken.claims());
+    }
+
+    @Benchmark
+    public Authentication verifyOnceWarmCache() {
+        JwtTokenProvider.VerifiedToken verifiedToken = warmProvider.verify(warmToken);
+        return warmProvider.getAuthentication(verifiedToken.claims());
+    }
+
+    private JwtParser newParser() {
+        return Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % TOKEN_COUNT;
+        return token;
+    }
+
+    private static Authentication authentication(String email) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        return new UsernamePasswordAuthenticationToken(email, "", authorities);
+    }
+
+    private UserDetails noUserDetails(String username) {
+        throw new UsernameNotFoundException(username);
+    }
+}
@@ -0,0 +1,248 @@
+package home.project.config.elasticserch;
+
+import home.project.domain.elasticsearch.CouponDocument;
+import home.project.domain.elasticsearch.MemberDocument;
+import home.project.domain.elasticsearch.OrdersDocument;
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.domain.member.Member;
+import home.project.domain.order.Orders;
+import home.project.domain.outbox.ElasticsearchTombstone;
+import home.project.domain.outbox.OutboxDocumentType;
+import home.project.domain.product.Coupon;
+import home.project.domain.product.Product;
+import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.util.Converter;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * updatedAt 워터마크 구간에 변경된 엔티티와 삭제 기록(tombstone)만 Elasticsearch 에 반영하는 증분 동기화 작업입니다.
+ * 전체 재색인은 elasticSyncJob 으로 ElasticSyncController 에서 필요할 때 실행합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ElasticIncrementalSyncBatchConfig {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final Converter converter;
+    private final ElasticSyncWatermarkListener elasticSyncWatermarkListener;
+    private final IndexToElasticsearch indexToElasticsearch;
+
+    @Bean
+    public Job elasticIncrementalSyncJob() {
+        return new JobBuilder("elasticIncrementalSyncJob", jobRepository)
+                .listener(elasticSyncWatermarkListener)
+                .start(memberIncrementalStep())
+                .next(productIncrementalStep())
+                .next(orderIncrementalStep())
+                .next(couponIncrementalStep())
+                .next(tombstoneStep())
+                .build();
+    }
+
+    @Bean
+    public Step memberIncrementalStep() {
+        return new StepBuilder("memberIncrementalStep", jobRepository)
+                .<Member, MemberDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(memberIncrementalReader(null, null))
+                .processor(converter::convertFromMemberToMemberDocument)
+                .writer(memberWriter())
+                .build();
+    }
+
+    @Bean
+    public Step productIncrementalStep() {
+        return new StepBuilder("productIncrementalStep", jobRepository)
+                .<Product, ProductDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(productIncrementalReader(null, null))
+                .processor(converter::convertFromProductToProductDocument)
+                .writer(productWriter())
+                .build();
+    }
+
+    @Bean
+    public Step orderIncrementalStep() {
+        return new StepBuilder("orderIncrementalStep", jobRepository)
+                .<Orders, OrdersDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(orderIncrementalReader(null, null))
+                .processor(converter::convertFromOrderToOrdersDocument)
+                .writer(orderWriter())
+                .build();
+    }
+
+    @Bean
+    public Step couponIncrementalStep() {
+        return new StepBuilder("couponIncrementalStep", jobRepository)
+                .<Coupon, CouponDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(couponIncrementalReader(null, null))
+                .processor(converter::convertFromCouponToCouponDocument)
+                .writer(couponWriter())
+                .build();
+    }
+
+    @Bean
+    public Step tombstoneStep() {
+        return new StepBuilder("tombstoneStep", jobRepository)
+                .<ElasticsearchTombstone, ElasticsearchTombstone>chunk(CHUNK_SIZE, transactionManager)
+                .reader(tombstoneReader(null, null))
+                .writer(tombstoneWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JpaKeysetPagingItemReader<Member> memberIncrementalReader(
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.SINCE_KEY + "']}") String since,
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.UNTIL_KEY + "']}") String until) {
+        return changedBetween("SELECT m FROM Member m WHERE m.id > :lastId AND m.updatedAt > :since AND m.updatedAt <= :until ORDER BY m.id",
+                Member.class, Member::getId, since, until);
+    }
+
+    @Bean
+    @StepScope
+    public JpaKeysetPagingItemReader<Product> productIncrementalReader(
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.SINCE_KEY + "']}") String since,
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.UNTIL_KEY + "']}") String until) {
+        return changedBetween("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.id > :lastId AND p.updatedAt > :since AND p.updatedAt <= :until ORDER BY p.id",
+                Product.class, Product::getId, since, until);
+    }
+
+    @Bean
+    @StepScope
+    public JpaKeysetPagingItemReader<Orders> orderIncrementalReader(
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.SINCE_KEY + "']}") String since,
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.UNTIL_KEY + "']}") String until) {
+        return changedBetween("SELECT o FROM Orders o WHERE o.id > :lastId AND o.updatedAt > :since AND o.updatedAt <= :until ORDER BY o.id",
+                Orders.class, Orders::getId, since, until);
+    }
+
+    @Bean
+    @StepScope
+    public JpaKeysetPagingItemReader<Coupon> couponIncrementalReader(
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.SINCE_KEY + "']}") String since,
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.UNTIL_KEY + "']}") String until) {
+        return changedBetween("SELECT c FROM Coupon c WHERE c.id > :lastId AND c.updatedAt > :since AND c.updatedAt <= :until ORDER BY c.id",
+                Coupon.class, Coupon::getId, since, until);
+    }
+
+    @Bean
+    @StepScope
+    public JpaKeysetPagingItemReader<ElasticsearchTombstone> tombstoneReader(
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.SINCE_KEY + "']}") String since,
+            @Value("#{jobExecutionContext['" + ElasticSyncWatermarkListener.UNTIL_KEY + "']}") String until) {
+        return changedBetween("SELECT t FROM ElasticsearchTombstone t WHERE t.id > :lastId AND t.deletedAt > :since AND t.deletedAt <= :until ORDER BY t.id",
+                ElasticsearchTombstone.class, ElasticsearchTombstone::getId, since, until);
+    }
+
+    @Bean
+    public ItemWriter<MemberDocument> memberWriter() {
+        return items -> {
+            try {
+                indexToElasticsearch.indexDocumentsToElasticsearch(new ArrayList<MemberDocument>(items.getItems()), MemberDocument.class);
+                log.info("Saved {} members to Elasticsearch", items.size());
+            } catch (Exception e) {
+                log.error("Failed to save members to Elasticsearch", e);
+                throw e;
+            }
+        };
+    }
+
+    @Bean
+    public ItemWriter<ProductDocument> productWriter() {
+        return items -> {
+            try {
+                indexToElasticsearch.indexDocumentsToElasticsearch(new ArrayList<ProductDocument>(items.getItems()), ProductDocument.class);
+                log.info("Saved {} products to Elasticsearch", items.size());
+            } catch (Exception e) {
+                log.error("Failed to save products to Elasticsearch", e);
+                throw e;
+            }
+        };
+    }
+
+    @Bean
+    public ItemWriter<OrdersDocument> orderWriter() {
+        return items -> {
+            try {
+                indexToElasticsearch.indexDocumentsToElasticsearch(new ArrayList<OrdersDocument>(items.getItems()), OrdersDocument.class);
+                log.info("Saved {} orders to Elasticsearch", items.size());
+            } catch (Exception e) {
+                log.error("Failed to save orders to Elasticsearch", e);
+                throw e;
+            }
+        };
+    }
+
+    @Bean
+    public ItemWriter<CouponDocument> couponWriter() {
+        return items -> {
+            try {
+                indexToElasticsearch.indexDocumentsToElasticsearch(new ArrayList<CouponDocument>(items.getItems()), CouponDocument.class);
+                log.info("Saved {} coupons to Elasticsearch", items.size());
+            } catch (Exception e) {
+                log.error("Failed to save coupons to Elasticsearch", e);
+                throw e;
+            }
+        };
+    }
+
+    @Bean
+    public ItemWriter<ElasticsearchTombstone> tombstoneWriter() {
+        return items -> {
+            Map<OutboxDocumentType, List<String>> idsByType = items.getItems().stream()
+                    .collect(Collectors.groupingBy(ElasticsearchTombstone::getDocumentType,
+                            Collectors.mapping(tombstone -> String.valueOf(tombstone.getDocumentId()), Collectors.toList())));
+
+            idsByType.forEach((type, ids) -> {
+                elasticsearchOperations.delete(NativeQuery.builder().withIds(ids).build(), documentClassOf(type));
+                log.info("Deleted {} {} documents from Elasticsearch", ids.size(), type);
+            });
+        };
+    }
+
+    private <T> JpaKeysetPagingItemReader<T> changedBetween(String queryString, Class<T> entityClass,
+                                                          Function<T, Long> idExtractor, String since, String until) {
+        JpaKeysetPagingItemReader<T> reader = new JpaKeysetPagingItemReader<>(entityManagerFactory, queryString, entityClass, idExtractor);
+        reader.setName(entityClass.getSimpleName() + "IncrementalReader");
+        reader.setPageSize(CHUNK_SIZE);
+        reader.setParameterValue("since", LocalDateTime.parse(since));
+        reader.setParameterValue("until", LocalDateTime.parse(until));
+        return reader;
+    }
+
+    private Class<?> documentClassOf(OutboxDocumentType type) {
+        return switch (type) {
+            case MEMBER -> MemberDocument.class;
+            case PRODUCT -> ProductDocument.class;
+            case ORDER -> OrdersDocument.class;
+            case COUPON -> CouponDocument.class;
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package home.project.config.elasticserch;
+
+import home.project.domain.elasticsearch.CouponDocument;
+import home.project.domain.elasticsearch.MemberDocument;
+import home.project.domain.elasticsearch.OrdersDocument;
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.service.integration.ElasticsearchIndexManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 재색인 전에 문서 클래스마다 새 버전 인덱스를 만들어 Job ExecutionContext 에 기록합니다.
+ * 재색인 중 바뀐 행은 별칭 전환 뒤 증분 단계가 다시 반영하도록 시작 시각을 워터마크로 남기고,
+ * 작업이 실패하면 전환되지 않은 인덱스를 지웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticReindexListener implements JobExecutionListener {
+
+    public static final List<Class<?>> DOCUMENT_CLASSES =
+            List.of(MemberDocument.class, ProductDocument.class, OrdersDocument.class, CouponDocument.class);
+
+    private final ElasticsearchIndexManager elasticsearchIndexManager;
+
+    @Value("${elasticsearch.sync.watermark-lag-seconds:60}")
+    private long watermarkLagSeconds;
+
+    public static String targetIndexKey(Class<?> documentClass) {
+        return "reindex.target." + documentClass.getSimpleName();
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        ExecutionContext context = jobExecution.getExecutionContext();
+        context.putString(ElasticSyncWatermarkListener.SINCE_KEY,
+                LocalDateTime.now().minusSeconds(watermarkLagSeconds).toString());
+
+        for (Class<?> documentClass : DOCUMENT_CLASSES) {
+            context.putString(targetIndexKey(documentClass), elasticsearchIndexManager.createIndexForReload(documentClass));
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            return;
+        }
+        ExecutionContext context = jobExecution.getExecutionContext();
+        for (Class<?> documentClass : DOCUMENT_CLASSES) {
+            if (context.containsKey(targetIndexKey(documentClass))) {
+                elasticsearchIndexManager.discard(documentClass, context.getString(targetIndexKey(documentClass)));
+            }
+        }
+    }
+}
@@ -8,23 +8,38 @@ import home.project.domain.member.Member;
 import home.project.domain.order.Orders;
 import home.project.domain.product.Coupon;
 import home.project.domain.product.Product;
+import home.project.service.integration.ElasticsearchIndexManager;
 import home.project.service.util.Converter;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -34,147 +49,241 @@ public class ElasticSyncBatchConfig {
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
     private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchIndexManager elasticsearchIndexManager;
+    private final ElasticReindexListener elasticReindexListener;
     private final Converter converter;
+    private final Step memberIncrementalStep;
+    private final Step productIncrementalStep;
+    private final Step orderIncrementalStep;
+    private final Step couponIncrementalStep;
+    private final Step tombstoneStep;
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Value("${elasticsearch.sync.partition-count:8}")
+    private int partitionCount;
+
+    @Value("${elasticsearch.sync.threads:0}")
+    private int syncThreads;
 
     @Bean
     public Job elasticSyncJob() {
+        // 서로 의존하지 않는 네 엔티티의 전체 재색인을 동시에 실행
+        Flow memberFlow = new FlowBuilder<SimpleFlow>("memberFlow").start(memberStep()).build();
+        Flow productFlow = new FlowBuilder<SimpleFlow>("productFlow").start(productStep()).build();
+        Flow orderFlow = new FlowBuilder<SimpleFlow>("orderFlow").start(orderStep()).build();
+        Flow couponFlow = new FlowBuilder<SimpleFlow>("couponFlow").start(couponStep()).build();
+
+        Flow syncFlow = new FlowBuilder<SimpleFlow>("elasticSyncFlow")
+                .split(new SimpleAsyncTaskExecutor("elastic-sync-"))
+                .add(memberFlow, productFlow, orderFlow, couponFlow)
+                .build();
+
+        // 새 버전 인덱스에 적재한 뒤 별칭을 옮기고, 적재 중 바뀐 행과 삭제를 새 인덱스에 반영
         return new JobBuilder("elasticSyncJob", jobRepository)
-                .start(memberStep())
-                .next(productStep())
-                .next(orderStep())
-                .next(couponStep())
+                .listener(elasticReindexListener)
+                .start(syncFlow)
+                .next(promoteIndicesStep())
+                .next(memberIncrementalStep)
+                .next(productIncrementalStep)
+                .next(orderIncrementalStep)
+                .next(couponIncrementalStep)
+                .next(tombstoneStep)
+                .end()
                 .build();
     }
 
     @Bean
     public Step memberStep() {
-        return new StepBuilder("memberStep", jobRepository)
-                .<Member, MemberDocument>chunk(100, transactionManager)
-                .reader(memberReader())
+        return partitionedStep("memberStep", "Member", memberWorkerStep());
+    }
+
+    @Bean
+    public Step productStep() {
+        return partitionedStep("productStep", "Product", productWorkerStep());
+    }
+
+    @Bean
+    public Step orderStep() {
+        return partitionedStep("orderStep", "Orders", orderWorkerStep());
+    }
+
+    @Bean
+    public Step couponStep() {
+        return partitionedStep("couponStep", "Coupon", couponWorkerStep());
+    }
+
+    @Bean
+    public Step memberWorkerStep() {
+        return new StepBuilder("memberWorkerStep", jobRepository)
+                .<Member, MemberDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(memberReader(null, null))
                 .processor(converter::convertFromMemberToMemberDocument)
-                .writer(memberWriter())
+                .writer(memberReloadWriter(null))
                 .build();
     }
 
     @Bean
-    public Step productStep() {
-        return new StepBuilder("productStep", jobRepository)
-                .<Product, ProductDocument>chunk(100, transactionManager)
-                .reader(productReader())
+    public Step productWorkerStep() {
+        return new StepBuilder("productWorkerStep", jobRepository)
+                .<Product, ProductDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(productReader(null, null))
                 .processor(converter::convertFromProductToProductDocument)
-                .writer(productWriter())
+                .writer(productReloadWriter(null))
                 .build();
     }
 
     @Bean
-    public Step orderStep() {
-        return new StepBuilder("orderStep", jobRepository)
-                .<Orders, OrdersDocument>chunk(100, transactionManager)
-                .reader(orderReader())
+    public Step orderWorkerStep() {
+        return new StepBuilder("orderWorkerStep", jobRepository)
+                .<Orders, OrdersDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(orderReader(null, null))
                 .processor(converter::convertFromOrderToOrdersDocument)
-                .writer(orderWriter())
+                .writer(orderReloadWriter(null))
                 .build();
     }
 
     @Bean
-    public Step couponStep() {
-        return new StepBuilder("couponStep", jobRepository)
-                .<Coupon, CouponDocument>chunk(100, transactionManager)
-                .reader(couponReader())
+    public Step couponWorkerStep() {
+        return new StepBuilder("couponWorkerStep", jobRepository)
+                .<Coupon, CouponDocument>chunk(CHUNK_SIZE, transactionManager)
+                .reader(couponReader(null, null))
                 .processor(converter::convertFromCouponToCouponDocument)
-                .writer(couponWriter())
+                .writer(couponReloadWriter(null))
                 .build();
     }
 
     @Bean
-    public JpaPagingItemReader<Member> memberReader() {
-        return new JpaPagingItemReaderBuilder<Member>()
-                .name("memberReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(100)
-                .queryString("SELECT m FROM Member m")  // 컬렉션을 즉시 페치하지 않음
-                .build();
+    @StepScope
+    public JpaKeysetPagingItemReader<Member> memberReader(
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MIN_ID_KEY + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MAX_ID_KEY + "']}") Long maxId) {
+        return idRangeReader("SELECT m FROM Member m WHERE m.id > :lastId AND m.id <= :maxId ORDER BY m.id",
+                Member.class, Member::getId, minId, maxId);
     }
 
     @Bean
-    public JpaPagingItemReader<Product> productReader() {
-        return new JpaPagingItemReaderBuilder<Product>()
-                .name("productReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(100)
-                .queryString("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.category")  // 컬렉션을 즉시 페치하지 않음
-                .build();
+    @StepScope
+    public JpaKeysetPagingItemReader<Product> productReader(
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MIN_ID_KEY + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MAX_ID_KEY + "']}") Long maxId) {
+        return idRangeReader("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.id > :lastId AND p.id <= :maxId ORDER BY p.id",
+                Product.class, Product::getId, minId, maxId);
     }
 
     @Bean
-    public JpaPagingItemReader<Orders> orderReader() {
-        return new JpaPagingItemReaderBuilder<Orders>()
-                .name("orderReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(100)
-                .queryString("SELECT o FROM Orders o")  // 컬렉션을 즉시 페치하지 않음
-                .build();
+    @StepScope
+    public JpaKeysetPagingItemReader<Orders> orderReader(
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MIN_ID_KEY + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MAX_ID_KEY + "']}") Long maxId) {
+        return idRangeReader("SELECT o FROM Orders o WHERE o.id > :lastId AND o.id <= :maxId ORDER BY o.id",
+                Orders.class, Orders::getId, minId, maxId);
+    }
+
+    @Bean
+    @StepScope
+    public JpaKeysetPagingItemReader<Coupon> couponReader(
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MIN_ID_KEY + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + IdRangePartitioner.MAX_ID_KEY + "']}") Long maxId) {
+        return idRangeReader("SELECT c FROM Coupon c WHERE c.id > :lastId AND c.id <= :maxId ORDER BY c.id",
+                Coupon.class, Coupon::getId, minId, maxId);
     }
 
     @Bean
-    public JpaPagingItemReader<Coupon> couponReader() {
-        return new JpaPagingItemReaderBuilder<Coupon>()
-                .name("couponReader")
-                .entityManagerFactory(entityManagerFactory)
-                .pageSize(100)
-                .queryString("SELECT c FROM Coupon c")  // 컬렉션을 즉시 페치하지 않음
+    public Step promoteIndicesStep() {
+        return new StepBuilder("promoteIndicesStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    promoteIndices(chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
                 .build();
     }
 
+    /**
+     * 재색인한 인덱스로 별칭을 옮기고, 재색인 시작부터 전환 시각까지 바뀐 행을 이어지는 증분 단계가 다시 반영하도록 구간 끝을 기록합니다.
+     * 재색인 도중의 변경은 updated_at 으로만 찾으므로, 엔티티를 거치지 않는 UPDATE 도 updated_at 을 갱신해야 합니다.
+     */
+    void promoteIndices(ExecutionContext context) throws IOException {
+        for (Class<?> documentClass : ElasticReindexListener.DOCUMENT_CLASSES) {
+            elasticsearchIndexManager.promote(documentClass, context.getString(ElasticReindexListener.targetIndexKey(documentClass)));
+        }
+        context.putString(ElasticSyncWatermarkListener.UNTIL_KEY, LocalDateTime.now().toString());
+    }
+
     @Bean
-    public ItemWriter<MemberDocument> memberWriter() {
-        return items -> {
-            try {
-                elasticsearchOperations.save(items);
-                log.info("Saved {} members to Elasticsearch", items.size());
-            } catch (Exception e) {
-                log.error("Failed to save members to Elasticsearch", e);
-                throw e;
-            }
-        };
+    @StepScope
+    public ItemWriter<MemberDocument> memberReloadWriter(
+            @Value("#{jobExecutionContext['reindex.target.MemberDocument']}") String targetIndex) {
+        return reloadWriter(targetIndex);
     }
 
     @Bean
-    public ItemWriter<ProductDocument> productWriter() {
-        return items -> {
-            try {
-                elasticsearchOperations.save(items);
-                log.info("Saved {} products to Elasticsearch", items.size());
-            } catch (Exception e) {
-                log.error("Failed to save products to Elasticsearch", e);
-                throw e;
-            }
-        };
+    @StepScope
+    public ItemWriter<ProductDocument> productReloadWriter(
+            @Value("#{jobExecutionContext['reindex.target.ProductDocument']}") String targetIndex) {
+        return reloadWriter(targetIndex);
     }
 
     @Bean
-    public ItemWriter<OrdersDocument> orderWriter() {
-        return items -> {
-            try {
-                elasticsearchOperations.save(items);
-                log.info("Saved {} orders to Elasticsearch", items.size());
-            } catch (Exception e) {
-                log.error("Failed to save orders to Elasticsearch", e);
-                throw e;
-            }
-        };
+    @StepScope
+    public ItemWriter<OrdersDocument> orderReloadWriter(
+            @Value("#{jobExecutionContext['reindex.target.OrdersDocument']}") String targetIndex) {
+        return reloadWriter(targetIndex);
     }
 
     @Bean
-    public ItemWriter<CouponDocument> couponWriter() {
+    @StepScope
+    public ItemWriter<CouponDocument> couponReloadWriter(
+            @Value("#{jobExecutionContext['reindex.target.CouponDocument']}") String targetIndex) {
+        return reloadWriter(targetIndex);
+    }
+
+    // 별칭이 아닌 재색인 대상 인덱스에 chunk 단위 bulk 요청으로 저장
+    private <T> ItemWriter<T> reloadWriter(String targetIndex) {
         return items -> {
             try {
-                elasticsearchOperations.save(items);
-                log.info("Saved {} coupons to Elasticsearch", items.size());
+                elasticsearchOperations.save(new ArrayList<T>(items.getItems()), IndexCoordinates.of(targetIndex));
+                log.info("Saved {} documents to {}", items.size(), targetIndex);
             } catch (Exception e) {
-                log.error("Failed to save coupons to Elasticsearch", e);
+                log.error("Failed to save documents to {}", targetIndex, e);
                 throw e;
             }
         };
     }
+
+    private Step partitionedStep(String stepName, String entityName, Step workerStep) {
+        return new StepBuilder(stepName, jobRepository)
+                .partitioner(workerStep.getName(), new IdRangePartitioner(entityManagerFactory, entityName))
+                .step(workerStep)
+                .gridSize(partitionCount)
+                .taskExecutor(elasticSyncPartitionExecutor())
+                .build();
+    }
+
+    private <T> JpaKeysetPagingItemReader<T> idRangeReader(String queryString, Class<T> entityClass,
+                                                         Function<T, Long> idExtractor, Long minId, Long maxId) {
+        JpaKeysetPagingItemReader<T> reader = new JpaKeysetPagingItemReader<>(entityManagerFactory, queryString, entityClass, idExtractor);
+        reader.setName(entityClass.getSimpleName() + "Reader");
+        reader.setPageSize(CHUNK_SIZE);
+        reader.setStartAfterId(minId - 1);
+        reader.setParameterValue("maxId", maxId);
+        return reader;
+    }
+
+    /**
+     * 파티션 워커 스텝을 돌리는 스레드 풀. 컨테이너가 초기화와 종료를 관리합니다.
+     * 이 빈이 등록되면 Spring Boot 의 기본 applicationTaskExecutor 는 만들어지지 않지만, 애플리케이션에서 @Async 등으로 쓰는 곳은 없습니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor elasticSyncPartitionExecutor() {
+        int threads = syncThreads > 0 ? syncThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // 네 엔티티의 파티션이 모두 들어갈 만큼만 대기열을 두고, 넘치면 호출한 스레드가 직접 실행
+        executor.setQueueCapacity(partitionCount * 4);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("elastic-sync-partition-");
+        return executor;
+    }
 }
@@ -0,0 +1,91 @@
+package home.project.config.elasticserch;
+
+import home.project.repository.outbox.ElasticsearchTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 증분 동기화 작업의 워터마크를 Job ExecutionContext 에 기록합니다.
+ * 이번 구간의 시작은 마지막으로 성공한 실행의 끝 시각이며, 끝은 현재 시각에서 지연 시간만큼 뺀 값입니다.
+ * 지연 시간은 아직 커밋되지 않은 트랜잭션의 변경이 구간 밖으로 밀려 누락되는 것을 막습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticSyncWatermarkListener implements JobExecutionListener {
+
+    public static final String SINCE_KEY = "watermark.since";
+    public static final String UNTIL_KEY = "watermark.until";
+
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int LOOKUP_PAGE_SIZE = 20;
+
+    private final JobExplorer jobExplorer;
+    private final ElasticsearchTombstoneRepository elasticsearchTombstoneRepository;
+
+    @Value("${elasticsearch.sync.watermark-lag-seconds:60}")
+    private long watermarkLagSeconds;
+
+    @Value("${elasticsearch.sync.tombstone-retention-days:7}")
+    private long tombstoneRetentionDays;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        LocalDateTime until = LocalDateTime.now().minusSeconds(watermarkLagSeconds);
+        LocalDateTime since = findLastWatermark(jobExecution.getJobInstance().getJobName()).orElseGet(() -> {
+            log.warn("No completed incremental Elasticsearch sync found, syncing everything since {}", INITIAL_WATERMARK);
+            return INITIAL_WATERMARK;
+        });
+        if (since.isAfter(until)) {
+            since = until;
+        }
+
+        ExecutionContext context = jobExecution.getExecutionContext();
+        context.putString(SINCE_KEY, since.toString());
+        context.putString(UNTIL_KEY, until.toString());
+        log.info("Incremental Elasticsearch sync window: {} ~ {}", since, until);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.parse(jobExecution.getExecutionContext().getString(UNTIL_KEY));
+        int purged = elasticsearchTombstoneRepository.deleteByDeletedAtBefore(until.minusDays(tombstoneRetentionDays));
+        if (purged > 0) {
+            log.info("Purged {} Elasticsearch tombstones", purged);
+        }
+    }
+
+    // 실패가 길게 이어져도 전체 재동기화로 떨어지지 않도록, 성공한 실행을 찾을 때까지 최근 인스턴스부터 모두 훑습니다.
+    private Optional<LocalDateTime> findLastWatermark(String jobName) {
+        int start = 0;
+        List<JobInstance> jobInstances;
+        do {
+            jobInstances = jobExplorer.findJobInstancesByJobName(jobName, start, LOOKUP_PAGE_SIZE);
+            for (JobInstance jobInstance : jobInstances) {
+                for (JobExecution execution : jobExplorer.getJobExecutions(jobInstance)) {
+                    if (execution.getStatus() == BatchStatus.COMPLETED
+                            && execution.getExecutionContext().containsKey(UNTIL_KEY)) {
+                        return Optional.of(LocalDateTime.parse(execution.getExecutionContext().getString(UNTIL_KEY)));
+                    }
+                }
+            }
+            start += LOOKUP_PAGE_SIZE;
+        } while (jobInstances.size() == LOOKUP_PAGE_SIZE);
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,59 @@
+package home.project.config.elasticserch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 엔티티의 최소/최대 id 를 gridSize 개의 연속 구간으로 나눕니다.
+ * 각 파티션은 (minId - 1, maxId] 구간을 keyset 페이징으로 읽습니다.
+ */
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String entityName;
+
+    public IdRangePartitioner(EntityManagerFactory entityManagerFactory, String entityName) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.entityName = entityName;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Object[] bounds = findIdBounds();
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (bounds[0] == null) {
+            return partitions;
+        }
+
+        long min = ((Number) bounds[0]).longValue();
+        long max = ((Number) bounds[1]).longValue();
+        long rangeSize = Math.max((max - min) / gridSize + 1, 1);
+
+        int partitionNumber = 0;
+        for (long start = min; start <= max; start += rangeSize) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID_KEY, start);
+            context.putLong(MAX_ID_KEY, Math.min(start + rangeSize - 1, max));
+            partitions.put("partition" + partitionNumber++, context);
+        }
+        return partitions;
+    }
+
+    private Object[] findIdBounds() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT MIN(e.id), MAX(e.id) FROM " + entityName + " e", Object[].class)
+                    .getSingleResult();
+        } finally {
+            entityManager.close();
+        }
+    }
+}
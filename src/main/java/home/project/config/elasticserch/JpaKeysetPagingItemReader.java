@@ -0,0 +1,87 @@
+package home.project.config.elasticserch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.springframework.batch.item.database.AbstractPagingItemReader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * OFFSET 대신 마지막으로 읽은 id 이후를 조회하는(keyset) JPA 페이징 리더입니다.
+ * 쿼리는 {@code :lastId} 파라미터로 범위를 좁히고 id 오름차순으로 정렬해야 합니다.
+ * 페이지가 뒤로 갈수록 느려지지 않고, 읽는 도중 행이 조건에서 빠져도 다른 행을 건너뛰지 않습니다.
+ */
+public class JpaKeysetPagingItemReader<T> extends AbstractPagingItemReader<T> {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String queryString;
+    private final Class<T> entityClass;
+    private final Function<T, Long> idExtractor;
+    private final Map<String, Object> parameterValues = new HashMap<>();
+
+    private EntityManager entityManager;
+    private Long lastId;
+
+    public JpaKeysetPagingItemReader(EntityManagerFactory entityManagerFactory, String queryString,
+                                     Class<T> entityClass, Function<T, Long> idExtractor) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryString = queryString;
+        this.entityClass = entityClass;
+        this.idExtractor = idExtractor;
+        setSaveState(false);
+    }
+
+    public void setParameterValue(String name, Object value) {
+        parameterValues.put(name, value);
+    }
+
+    public void setStartAfterId(Long startAfterId) {
+        this.lastId = startAfterId;
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        super.doOpen();
+        entityManager = entityManagerFactory.createEntityManager();
+        if (lastId == null) {
+            lastId = 0L;
+        }
+    }
+
+    @Override
+    protected void doReadPage() {
+        // 이전 페이지 엔티티는 이미 처리됐으므로 영속성 컨텍스트를 비워 메모리가 누적되지 않게 합니다.
+        entityManager.clear();
+
+        TypedQuery<T> query = entityManager.createQuery(queryString, entityClass)
+                .setParameter("lastId", lastId)
+                .setMaxResults(getPageSize());
+        parameterValues.forEach(query::setParameter);
+
+        List<T> page = query.getResultList();
+
+        if (results == null) {
+            results = new CopyOnWriteArrayList<>();
+        } else {
+            results.clear();
+        }
+        results.addAll(page);
+
+        if (!page.isEmpty()) {
+            lastId = idExtractor.apply(page.get(page.size() - 1));
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        if (entityManager != null) {
+            entityManager.close();
+        }
+        super.doClose();
+    }
+}
@@ -0,0 +1,38 @@
+package home.project.config.elasticserch;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * updated_at 컬럼이 생기기 전에 만들어져 값이 비어 있는 행을 현재 시각으로 채웁니다.
+ * 증분 동기화는 updatedAt 구간으로만 변경을 찾으므로, 비어 있는 행은 채워 준 다음 실행에서 한 번 색인됩니다.
+ * 워터마크와 같은 시계를 쓰도록 DB 의 NOW() 대신 애플리케이션의 현재 시각으로 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpdatedAtBackfill {
+
+    private static final List<String> TABLES = List.of("member", "product", "orders", "coupon");
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public void backfill() {
+        for (String table : TABLES) {
+            Integer updated = transactionTemplate.execute(status -> entityManager
+                    .createNativeQuery("UPDATE " + table + " SET updated_at = :now WHERE updated_at IS NULL")
+                    .setParameter("now", LocalDateTime.now())
+                    .executeUpdate());
+            if (updated != null && updated > 0) {
+                log.info("Backfilled updated_at of {} {} rows", updated, table);
+            }
+        }
+    }
+}
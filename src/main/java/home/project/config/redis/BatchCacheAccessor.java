@@ -0,0 +1,21 @@
+package home.project.config.redis;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 여러 키를 한 번의 왕복으로 읽고 쓰는 캐시 접근입니다. 목록을 만들 때 키마다 GET 을 보내지 않도록 사용합니다.
+ */
+public interface BatchCacheAccessor {
+
+    /**
+     * 키들을 L1 에서 먼저 찾고, 나머지는 한 번의 MGET 으로 Redis 에서 읽습니다.
+     * 없거나 만료된 키, 없는 대상으로 캐시된 키는 결과에 넣지 않습니다.
+     */
+    Map<String, Object> getAll(String cacheName, Collection<String> keys);
+
+    /**
+     * 값들을 한 번의 파이프라인으로 저장합니다. 트랜잭션 안에서 호출하면 커밋 후에 실행됩니다.
+     */
+    void putAll(String cacheName, Map<String, ?> values);
+}
@@ -1,26 +1,41 @@
 package home.project.config.redis;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCache;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @Configuration
 @EnableCaching
 public class CacheConfig extends CachingConfigurerSupport {
 
+    private static final Duration REDIS_TTL = Duration.ofMinutes(30);
+
     @Bean
     public RedisCacheConfiguration redisCacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))  // 캐시 유효시간 30분
+                .entryTtl(REDIS_TTL)  // 캐시 유효시간 30분
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
@@ -34,4 +49,78 @@ public class CacheConfig extends CachingConfigurerSupport {
                 .transactionAware()
                 .build();
     }
+
+    /**
+     * 로컬 캐시(L1) + Redis(L2) 2단계 캐시 매니저. @Cacheable 등은 이 매니저를 사용합니다.
+     * 트랜잭션 연동은 이 매니저에서 한 번만 하므로 L2 로는 transactionAware 가 아닌 RedisCacheManager 를 씁니다.
+     * TTL, jitter, stale 허용 시간, negative 캐시, L1 크기는 캐시 이름별로 {@link CachePolicyProperties} 에서 정합니다.
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+                                                     StringRedisTemplate stringRedisTemplate,
+                                                     RedisSerializerFactory redisSerializerFactory,
+                                                     CachePolicyProperties cachePolicies,
+                                                     @Value("${cache.local.key-prefixes:}") List<String> keyPrefixes,
+                                                     @Value("${cache.refresh.beta:1.0}") double refreshBeta,
+                                                     @Value("${cache.load-wait-timeout-ms:5000}") long loadWaitTimeoutMs,
+                                                     ObjectProvider<CacheTagResolver> tagResolvers,
+                                                     CacheMetrics cacheMetrics) {
+        Map<String, CacheRefreshPolicy> refreshPolicyByName = new ConcurrentHashMap<>();
+        Function<String, CacheRefreshPolicy> refreshPolicies = name -> refreshPolicyByName.computeIfAbsent(name,
+                cacheName -> CacheRefreshPolicy.of(cachePolicies.policyFor(cacheName), refreshBeta));
+
+        // 캐시마다 직렬화기(이름별 지표)와 TTL 정책을 따로 둡니다. TTL 은 값마다 만료 시각 + stale 로 정해집니다.
+        RedisCacheConfiguration defaultConfiguration = redisCacheConfiguration();
+        RedisCacheManager redisCacheManager = new RedisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), defaultConfiguration) {
+            @Override
+            protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+                CacheRefreshPolicy refreshPolicy = refreshPolicies.apply(name);
+                RedisCacheConfiguration configuration = (cacheConfiguration != null ? cacheConfiguration : defaultConfiguration)
+                        .entryTtl((key, value) -> refreshPolicy.redisTtl(value, System.currentTimeMillis()))
+                        .serializeValuesWith(RedisSerializationContext.SerializationPair
+                                .fromSerializer(redisSerializerFactory.forCache(name)));
+                return super.createRedisCache(name, configuration);
+            }
+        };
+        redisCacheManager.afterPropertiesSet();
+
+        TwoLevelCacheManager twoLevelCacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate,
+                cachePolicies, refreshPolicies, redisSerializerFactory, keyPrefixes,
+                tagResolvers.orderedStream().toList(), Duration.ofMillis(loadWaitTimeoutMs), cacheMetrics);
+        twoLevelCacheManager.setTransactionAware(true);
+        return twoLevelCacheManager;
+    }
+
+    @Bean
+    public CacheMetrics cacheMetrics(MeterRegistry meterRegistry,
+                                     @Value("${cache.metrics.size-sample-rate:0.05}") double sizeSampleRate) {
+        return new CacheMetrics(meterRegistry, sizeSampleRate);
+    }
+
+    @Bean
+    public CacheMetricsEndpoint cacheMetricsEndpoint(CacheMetrics cacheMetrics) {
+        return new CacheMetricsEndpoint(cacheMetrics);
+    }
+
+    @Bean
+    public CacheKeyGenerator cacheKeyGenerator() {
+        return new CacheKeyGenerator(false);
+    }
+
+    // 로그인 사용자에 따라 결과가 달라지는 조회용
+    @Bean
+    public CacheKeyGenerator principalCacheKeyGenerator() {
+        return new CacheKeyGenerator(true);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager twoLevelCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(twoLevelCacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,32 @@
+package home.project.config.redis;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 캐시 값과 함께 저장 시각, 계산에 걸린 시간, 논리적 만료 시각을 담습니다.
+ * {@link CacheRefreshPolicy} 가 이 정보로 만료 전 조기 갱신과 stale 응답 여부를 판단합니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope {
+
+    private Object value;
+
+    private long createdAt;
+
+    private long computeMillis;
+
+    // jitter 가 반영된 만료 시각. 이 필드가 없던 이전 값은 0 으로 읽힙니다.
+    private long expiresAt;
+
+    @JsonIgnore
+    public boolean isNegative() {
+        return value instanceof NegativeCacheValue;
+    }
+}
@@ -0,0 +1,88 @@
+package home.project.config.redis;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * 대상 클래스, 메서드 시그니처와 모든 인자(Pageable 은 페이지 번호/크기/정렬까지)를 정규화해 해시한 캐시 키를 만듭니다.
+ * 같은 캐시를 쓰는 여러 빈에 시그니처가 같은 메서드가 있어도 클래스가 해시에 들어가므로 키가 겹치지 않습니다.
+ * 키는 "메서드명:해시" 형태라 메서드 단위로 구분할 수 있고, 필터나 페이지 크기만 다른 조회가 같은 키를 쓰지 않습니다.
+ * includePrincipal 이면 현재 로그인 사용자도 키에 포함합니다.
+ */
+public class CacheKeyGenerator implements KeyGenerator {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String NULL = "∅";
+
+    private final boolean includePrincipal;
+
+    public CacheKeyGenerator(boolean includePrincipal) {
+        this.includePrincipal = includePrincipal;
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Class<?> targetClass = target != null ? ClassUtils.getUserClass(target) : method.getDeclaringClass();
+        StringBuilder canonical = new StringBuilder()
+                .append(targetClass.getName())
+                .append('#')
+                .append(method.getName())
+                .append('(')
+                .append(Arrays.stream(method.getParameterTypes()).map(Class::getSimpleName).collect(Collectors.joining(",")))
+                .append(')');
+
+        for (Object param : params) {
+            canonical.append(SEPARATOR).append(canonicalize(param));
+        }
+        if (includePrincipal) {
+            canonical.append(SEPARATOR).append("principal=").append(currentPrincipal());
+        }
+
+        return method.getName() + ":" + hash(canonical.toString());
+    }
+
+    private String canonicalize(Object param) {
+        if (param == null) {
+            return NULL;
+        }
+        if (param instanceof Pageable pageable) {
+            if (pageable.isUnpaged()) {
+                return "unpaged";
+            }
+            return "page=" + pageable.getPageNumber() + ",size=" + pageable.getPageSize() + ",sort=" + pageable.getSort();
+        }
+        if (param instanceof Collection<?> collection) {
+            return collection.stream().map(this::canonicalize).collect(Collectors.joining(",", "[", "]"));
+        }
+        if (param.getClass().isArray() && param instanceof Object[] array) {
+            return Arrays.stream(array).map(this::canonicalize).collect(Collectors.joining(",", "[", "]"));
+        }
+        return param.toString();
+    }
+
+    private String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : NULL;
+    }
+
+    private String hash(String canonical) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
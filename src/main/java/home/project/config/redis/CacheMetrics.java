@@ -0,0 +1,178 @@
+package home.project.config.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 캐시 이름과 키 접두어별로 조회 적중/미스, 로딩 시간, 저장 항목 크기, 삭제 횟수를 기록합니다.
+ * 키 접두어는 마지막 ':' 앞부분입니다("product:detail:1" → "product:detail", "findAll:해시" → "findAll").
+ * 같은 수치를 {@link CacheMetricsEndpoint} 에서 캐시별 표로 돌려줍니다.
+ *
+ * 항목 크기는 값을 한 번 더 직렬화해야 하므로 sizeSampleRate 비율로만 잽니다.
+ */
+public class CacheMetrics {
+
+    public static final String LEVEL_LOCAL = "local";
+    public static final String LEVEL_REDIS = "redis";
+
+    public static final String EVICT_EXPLICIT = "explicit";
+    public static final String EVICT_TAG = "tag";
+    public static final String EVICT_CLEAR = "clear";
+    public static final String EVICT_REMOTE = "remote";
+
+    private static final String ALL_KEYS = "*";
+
+    private final MeterRegistry meterRegistry;
+    private final double sizeSampleRate;
+    private final ConcurrentMap<String, PrefixMeters> meters = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry meterRegistry, double sizeSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sizeSampleRate = sizeSampleRate;
+    }
+
+    public void recordHit(String cacheName, String key, String level) {
+        PrefixMeters prefixMeters = metersFor(cacheName, key);
+        (LEVEL_LOCAL.equals(level) ? prefixMeters.localHits : prefixMeters.redisHits).increment();
+    }
+
+    public void recordMiss(String cacheName, String key) {
+        metersFor(cacheName, key).misses.increment();
+    }
+
+    public void recordLoad(String cacheName, String key, long nanos, boolean success) {
+        PrefixMeters prefixMeters = metersFor(cacheName, key);
+        (success ? prefixMeters.loadSuccess : prefixMeters.loadFailure).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEntrySize(String cacheName, String key, IntSupplier serializedSize) {
+        if (sizeSampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sizeSampleRate) {
+            return;
+        }
+        metersFor(cacheName, key).entryBytes.record(serializedSize.getAsInt());
+    }
+
+    public void recordEviction(String cacheName, String key, String cause) {
+        metersFor(cacheName, key).eviction(cause).increment();
+    }
+
+    public void recordClear(String cacheName, String cause) {
+        metersFor(cacheName, null).eviction(cause).increment();
+    }
+
+    /**
+     * 지금까지 기록된 수치를 캐시 이름별로, 접두어 순서대로 묶어 돌려줍니다.
+     */
+    public Map<String, List<PrefixStats>> snapshot() {
+        Map<String, List<PrefixStats>> snapshot = new LinkedHashMap<>();
+        meters.values().stream()
+                .sorted(Comparator.comparing((PrefixMeters prefixMeters) -> prefixMeters.cacheName)
+                        .thenComparing(prefixMeters -> prefixMeters.prefix))
+                .forEach(prefixMeters -> snapshot
+                        .computeIfAbsent(prefixMeters.cacheName, name -> new ArrayList<>())
+                        .add(prefixMeters.stats()));
+        return snapshot;
+    }
+
+    static String prefixOf(String key) {
+        if (key == null) {
+            return ALL_KEYS;
+        }
+        int separator = key.lastIndexOf(':');
+        return separator > 0 ? key.substring(0, separator) : key;
+    }
+
+    private PrefixMeters metersFor(String cacheName, String key) {
+        String prefix = prefixOf(key);
+        return meters.computeIfAbsent(cacheName + "|" + prefix, id -> new PrefixMeters(cacheName, prefix));
+    }
+
+    public record PrefixStats(String prefix, long localHits, long redisHits, long misses, double hitRatio,
+                              long loads, long loadFailures, double meanLoadMillis, double maxLoadMillis,
+                              long sampledEntries, double meanEntryBytes, double maxEntryBytes,
+                              Map<String, Long> evictions) {
+    }
+
+    private final class PrefixMeters {
+
+        private final String cacheName;
+        private final String prefix;
+        private final Counter localHits;
+        private final Counter redisHits;
+        private final Counter misses;
+        private final Timer loadSuccess;
+        private final Timer loadFailure;
+        private final DistributionSummary entryBytes;
+        private final ConcurrentMap<String, Counter> evictions = new ConcurrentHashMap<>();
+
+        private PrefixMeters(String cacheName, String prefix) {
+            this.cacheName = cacheName;
+            this.prefix = prefix;
+            this.localHits = gets("hit", LEVEL_LOCAL);
+            this.redisHits = gets("hit", LEVEL_REDIS);
+            this.misses = gets("miss", "none");
+            this.loadSuccess = load("success");
+            this.loadFailure = load("failure");
+            this.entryBytes = DistributionSummary.builder("cache.prefix.entry.size")
+                    .baseUnit("bytes")
+                    .tag("cache", cacheName)
+                    .tag("prefix", prefix)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private Counter gets(String result, String level) {
+            return Counter.builder("cache.prefix.gets")
+                    .tag("cache", cacheName)
+                    .tag("prefix", prefix)
+                    .tag("result", result)
+                    .tag("level", level)
+                    .register(meterRegistry);
+        }
+
+        private Timer load(String result) {
+            return Timer.builder("cache.prefix.loads")
+                    .tag("cache", cacheName)
+                    .tag("prefix", prefix)
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private Counter eviction(String cause) {
+            return evictions.computeIfAbsent(cause, c -> Counter.builder("cache.prefix.evictions")
+                    .tag("cache", cacheName)
+                    .tag("prefix", prefix)
+                    .tag("cause", c)
+                    .register(meterRegistry));
+        }
+
+        private PrefixStats stats() {
+            long local = (long) localHits.count();
+            long redis = (long) redisHits.count();
+            long miss = (long) misses.count();
+            long gets = local + redis + miss;
+            Map<String, Long> evictionCounts = new LinkedHashMap<>();
+            evictions.forEach((cause, counter) -> evictionCounts.put(cause, (long) counter.count()));
+            return new PrefixStats(prefix, local, redis, miss,
+                    gets == 0 ? 0 : (double) (local + redis) / gets,
+                    loadSuccess.count(), loadFailure.count(),
+                    loadSuccess.mean(TimeUnit.MILLISECONDS), loadSuccess.max(TimeUnit.MILLISECONDS),
+                    entryBytes.count(), entryBytes.mean(), entryBytes.max(),
+                    evictionCounts);
+        }
+    }
+}
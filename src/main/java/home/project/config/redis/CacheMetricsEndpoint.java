@@ -0,0 +1,32 @@
+package home.project.config.redis;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * /actuator/cachemetrics 로 캐시 이름, 키 접두어별 적중률과 로딩 시간, 항목 크기, 삭제 횟수를 보여줍니다.
+ * 같은 수치는 cache.prefix.* 지표로도 수집됩니다.
+ */
+@Endpoint(id = "cachemetrics")
+public class CacheMetricsEndpoint {
+
+    private final CacheMetrics cacheMetrics;
+
+    public CacheMetricsEndpoint(CacheMetrics cacheMetrics) {
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, List<CacheMetrics.PrefixStats>> caches() {
+        return cacheMetrics.snapshot();
+    }
+
+    @ReadOperation
+    public List<CacheMetrics.PrefixStats> cache(@Selector String cacheName) {
+        return cacheMetrics.snapshot().getOrDefault(cacheName, List.of());
+    }
+}
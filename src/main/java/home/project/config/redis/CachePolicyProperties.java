@@ -0,0 +1,70 @@
+package home.project.config.redis;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 이름별 정책. cache.caches.{이름}.* 에 없는 값은 cache.defaults.* 를 따릅니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache")
+public class CachePolicyProperties {
+
+    private Policy defaults = Policy.builtIn();
+    private Map<String, Policy> caches = new HashMap<>();
+
+    public Policy policyFor(String cacheName) {
+        Policy resolvedDefaults = defaults.withFallback(Policy.builtIn());
+        Policy policy = caches.get(cacheName);
+        return policy != null ? policy.withFallback(resolvedDefaults) : resolvedDefaults;
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // Redis 에서의 논리적 유효시간
+        private Duration ttl;
+        // ttl 에 0 ~ jitter 비율만큼 무작위로 더해 같은 시각에 만료가 몰리지 않게 합니다.
+        private Double jitter;
+        // 만료 후에도 갱신 중인 요청에 내어 줄 수 있는 시간
+        private Duration stale;
+        // IdNotFoundException 결과를 캐시하는 시간. 0 이면 캐시하지 않습니다.
+        private Duration negativeTtl;
+        // 로컬 캐시(L1) 최대 항목 수. localMaximumBytes 가 있으면 그쪽을 씁니다.
+        private Long localMaximumSize;
+        // 로컬 캐시(L1) 최대 크기(직렬화 기준 바이트)
+        private Long localMaximumBytes;
+        private Duration localTtl;
+
+        static Policy builtIn() {
+            Policy policy = new Policy();
+            policy.ttl = Duration.ofMinutes(30);
+            policy.jitter = 0.0;
+            policy.stale = Duration.ofMinutes(5);
+            policy.negativeTtl = Duration.ZERO;
+            policy.localMaximumSize = 10_000L;
+            policy.localTtl = Duration.ofSeconds(60);
+            return policy;
+        }
+
+        Policy withFallback(Policy fallback) {
+            Policy merged = new Policy();
+            merged.ttl = ttl != null ? ttl : fallback.ttl;
+            merged.jitter = jitter != null ? jitter : fallback.jitter;
+            merged.stale = stale != null ? stale : fallback.stale;
+            merged.negativeTtl = negativeTtl != null ? negativeTtl : fallback.negativeTtl;
+            merged.localMaximumSize = localMaximumSize != null ? localMaximumSize : fallback.localMaximumSize;
+            merged.localMaximumBytes = localMaximumBytes != null ? localMaximumBytes : fallback.localMaximumBytes;
+            merged.localTtl = localTtl != null ? localTtl : fallback.localTtl;
+            return merged;
+        }
+    }
+}
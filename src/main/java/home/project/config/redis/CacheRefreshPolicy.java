@@ -0,0 +1,98 @@
+package home.project.config.redis;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 캐시 하나의 만료와 갱신 시점을 정합니다.
+ * 저장할 때 ttl 에 jitter 를 더한 만료 시각을 정해 두고, Redis 에는 그 뒤로 stale 만큼 더 남겨
+ * 만료된 값을 누군가 갱신하는 동안 다른 요청에 그대로 내어 줍니다.
+ * 만료 직전에는 계산 시간에 비례한 확률로 한 요청이 미리 갱신합니다(XFetch, beta 가 클수록 일찍 갱신).
+ * 없는 대상에 대한 결과는 negativeTtl 동안만 보관하고 stale 로 내어 주지 않습니다.
+ * jitter 와 XFetch 에 쓰는 [0, 1) 난수는 random 으로 받으며, 테스트에서는 고정값을 넣어 결과를 정할 수 있습니다.
+ */
+public class CacheRefreshPolicy {
+
+    private static final Duration MIN_REDIS_TTL = Duration.ofSeconds(1);
+
+    private final Duration ttl;
+    private final double jitter;
+    private final Duration staleTtl;
+    private final Duration negativeTtl;
+    private final double beta;
+    private final DoubleSupplier random;
+
+    public CacheRefreshPolicy(Duration ttl, double jitter, Duration staleTtl, Duration negativeTtl, double beta) {
+        this(ttl, jitter, staleTtl, negativeTtl, beta, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    CacheRefreshPolicy(Duration ttl, double jitter, Duration staleTtl, Duration negativeTtl, double beta,
+                       DoubleSupplier random) {
+        this.ttl = ttl;
+        this.jitter = jitter;
+        this.staleTtl = staleTtl;
+        this.negativeTtl = negativeTtl;
+        this.beta = beta;
+        this.random = random;
+    }
+
+    public static CacheRefreshPolicy of(CachePolicyProperties.Policy policy, double beta) {
+        return new CacheRefreshPolicy(policy.getTtl(), policy.getJitter(), policy.getStale(), policy.getNegativeTtl(), beta);
+    }
+
+    public CacheEnvelope envelope(Object value, long now, long computeMillis) {
+        long jitterMillis = jitter > 0 ? (long) (ttl.toMillis() * jitter * random.getAsDouble()) : 0;
+        return new CacheEnvelope(value, now, computeMillis, now + ttl.toMillis() + jitterMillis);
+    }
+
+    public boolean cachesNegatives() {
+        return !negativeTtl.isZero() && !negativeTtl.isNegative();
+    }
+
+    public CacheEnvelope negativeEnvelope(String message, long now) {
+        return new CacheEnvelope(new NegativeCacheValue(message), now, 0, now + negativeTtl.toMillis());
+    }
+
+    /**
+     * 저장된 값이 Redis 에 남아 있어야 하는 시간. 만료 시각 이후 stale 만큼 더 둡니다.
+     */
+    public Duration redisTtl(Object value, long now) {
+        if (!(value instanceof CacheEnvelope envelope)) {
+            return maxRedisTtl();
+        }
+        long remaining = expiresAt(envelope) + (envelope.isNegative() ? 0 : staleTtl.toMillis()) - now;
+        Duration redisTtl = Duration.ofMillis(remaining);
+        return redisTtl.compareTo(MIN_REDIS_TTL) < 0 ? MIN_REDIS_TTL : redisTtl;
+    }
+
+    public Duration maxRedisTtl() {
+        return Duration.ofMillis((long) (ttl.toMillis() * (1 + jitter))).plus(staleTtl);
+    }
+
+    public boolean isExpired(CacheEnvelope envelope, long now) {
+        return now >= expiresAt(envelope);
+    }
+
+    public boolean isServable(CacheEnvelope envelope, long now) {
+        if (envelope.isNegative()) {
+            return !isExpired(envelope, now);
+        }
+        return now < expiresAt(envelope) + staleTtl.toMillis();
+    }
+
+    public boolean shouldRefresh(CacheEnvelope envelope, long now) {
+        if (isExpired(envelope, now)) {
+            return true;
+        }
+        if (beta <= 0 || envelope.getComputeMillis() <= 0) {
+            return false;
+        }
+        double gap = envelope.getComputeMillis() * beta * -Math.log(1.0 - random.getAsDouble());
+        return now + gap >= expiresAt(envelope);
+    }
+
+    private long expiresAt(CacheEnvelope envelope) {
+        return envelope.getExpiresAt() > 0 ? envelope.getExpiresAt() : envelope.getCreatedAt() + ttl.toMillis();
+    }
+}
@@ -0,0 +1,14 @@
+package home.project.config.redis;
+
+import java.util.Collection;
+
+/**
+ * 태그가 붙은 캐시 키만 골라 지웁니다. 캐시 전체를 비우는 allEntries 대신 사용합니다.
+ */
+public interface CacheTagInvalidator {
+
+    /**
+     * 주어진 태그 중 하나라도 붙은 키를 지웁니다. 트랜잭션 안에서 호출하면 커밋 후에 실행됩니다.
+     */
+    void evictTags(String cacheName, Collection<String> tags);
+}
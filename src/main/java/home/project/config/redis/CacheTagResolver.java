@@ -0,0 +1,12 @@
+package home.project.config.redis;
+
+import java.util.Set;
+
+/**
+ * 캐시에 저장되는 값에서 무효화 태그를 뽑아냅니다.
+ * 같은 태그가 붙은 키는 {@link CacheTagInvalidator#evictTags} 로 한 번에 지울 수 있습니다.
+ */
+public interface CacheTagResolver {
+
+    Set<String> resolveTags(String cacheName, String key, Object value);
+}
@@ -0,0 +1,18 @@
+package home.project.config.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 조회 대상이 없었다는 결과를 캐시할 때 쓰는 값. 적중하면 같은 메시지로 IdNotFoundException 을 다시 던집니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NegativeCacheValue {
+
+    private String message;
+}
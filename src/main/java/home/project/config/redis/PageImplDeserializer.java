@@ -19,7 +19,7 @@ class PageImplDeserializer extends JsonDeserializer<PageImpl<?>> {
         List<?> content = ctxt.readTreeAsValue(node.get("content"), List.class);
 
         // pageable 정보 파싱
-        JsonNode pageableNode = node.get("pageable");
+        JsonNode pageableNode = unwrapTypedValue(node.get("pageable"));
         int pageNumber = pageableNode.get("pageNumber").asInt();
         int pageSize = pageableNode.get("pageSize").asInt();
 
@@ -29,4 +29,12 @@ class PageImplDeserializer extends JsonDeserializer<PageImpl<?>> {
         // PageImpl 객체 생성
         return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), totalElements);
     }
-}
\ No newline at end of file
+
+    // Smile 매퍼는 타입 정보를 [타입명, 값] 배열로 감싸 쓰고, 이전 JSON 값은 @class 속성으로 씁니다. 두 형식을 모두 읽습니다.
+    private static JsonNode unwrapTypedValue(JsonNode node) {
+        if (node != null && node.isArray() && node.size() == 2 && node.get(0).isTextual()) {
+            return node.get(1);
+        }
+        return node;
+    }
+}
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -62,27 +63,26 @@ public class RedisConfig {
         return new LettuceConnectionFactory(redisConfig, clientConfig);
     }
 
+    /**
+     * RedisTemplate 과 캐시가 함께 쓰는 값 직렬화기. 이전 노드가 Smile 을 읽지 못하므로 기본값은 json 이며,
+     * 모든 노드가 이 빌드로 바뀐 뒤 설정으로 smile 로 바꿉니다.
+     */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisSerializerFactory redisSerializerFactory(@Value("${redis.serializer.write-format:json}") VersionedRedisSerializer.WriteFormat writeFormat,
+                                                         @Value("${redis.serializer.compression-threshold-bytes:1024}") int compressionThreshold,
+                                                         @Value("${redis.serializer.compare-sample-rate:0.01}") double compareSampleRate,
+                                                         MeterRegistry meterRegistry) {
+        return new RedisSerializerFactory(writeFormat, compressionThreshold, compareSampleRate, meterRegistry);
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisSerializerFactory redisSerializerFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // ObjectMapper 설정
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.registerModule(new PageImplDeserializerModule());  // PageImpl 지원 추가
-
-        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
-                .allowIfBaseType(Object.class)
-                .allowIfSubType(PageImpl.class)
-                .allowIfSubType(Sort.class)
-                .allowIfSubType(PageRequest.class)
-                .build();
-
-        mapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL);
-
         // Redis 직렬화 설정
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(mapper);
+        VersionedRedisSerializer serializer = redisSerializerFactory.forTemplate();
 
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(serializer);
@@ -0,0 +1,80 @@
+package home.project.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 이름별 {@link VersionedRedisSerializer} 를 만들어 재사용합니다.
+ * Smile 은 같은 문자열(필드명, 타입명)을 한 번만 쓰고 이후엔 참조로 적으므로, 페이지마다 반복되던 클래스명이 크게 줄어듭니다.
+ */
+public class RedisSerializerFactory {
+
+    public static final String TEMPLATE_NAME = "redisTemplate";
+
+    private final ObjectMapper smileMapper = createSmileMapper();
+    private final RedisSerializer<Object> cacheLegacySerializer = new GenericJackson2JsonRedisSerializer();
+    private final RedisSerializer<Object> templateLegacySerializer = new GenericJackson2JsonRedisSerializer(configure(new ObjectMapper()));
+    private final Map<String, VersionedRedisSerializer> serializers = new ConcurrentHashMap<>();
+
+    private final VersionedRedisSerializer.WriteFormat writeFormat;
+    private final int compressionThreshold;
+    private final double compareSampleRate;
+    private final MeterRegistry meterRegistry;
+
+    public RedisSerializerFactory(VersionedRedisSerializer.WriteFormat writeFormat, int compressionThreshold,
+                                  double compareSampleRate, MeterRegistry meterRegistry) {
+        this.writeFormat = writeFormat;
+        this.compressionThreshold = compressionThreshold;
+        this.compareSampleRate = compareSampleRate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 캐시는 이전에 기본 설정의 GenericJackson2JsonRedisSerializer 로 저장했습니다.
+    public VersionedRedisSerializer forCache(String cacheName) {
+        return serializers.computeIfAbsent(cacheName, name -> create(name, cacheLegacySerializer));
+    }
+
+    public VersionedRedisSerializer forTemplate() {
+        return serializers.computeIfAbsent(TEMPLATE_NAME, name -> create(name, templateLegacySerializer));
+    }
+
+    private VersionedRedisSerializer create(String name, RedisSerializer<Object> legacySerializer) {
+        return new VersionedRedisSerializer(name, smileMapper, legacySerializer, writeFormat,
+                compressionThreshold, compareSampleRate, meterRegistry);
+    }
+
+    private static ObjectMapper createSmileMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return configure(new ObjectMapper(smileFactory));
+    }
+
+    static ObjectMapper configure(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.registerModule(new PageImplDeserializerModule());  // PageImpl 지원 추가
+
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+                .allowIfBaseType(Object.class)
+                .allowIfSubType(PageImpl.class)
+                .allowIfSubType(Sort.class)
+                .allowIfSubType(PageRequest.class)
+                .build();
+
+        mapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL);
+        return mapper;
+    }
+}
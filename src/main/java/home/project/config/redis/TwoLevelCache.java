@@ -0,0 +1,363 @@
+package home.project.config.redis;
+
+import home.project.exceptions.exception.IdNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 로컬 힙 캐시(L1)를 Redis 캐시(L2) 앞에 두는 캐시입니다.
+ * 조회는 L1 → L2 순서로 하고, 저장/삭제는 L2 에 반영한 뒤 다른 노드의 L1 을 pub/sub 으로 무효화합니다.
+ * L1 에는 localKeyFilter 를 통과한 키만 올립니다. 저장된 값의 태그는 매니저가 Redis 에 기록합니다.
+ *
+ * 값은 {@link CacheEnvelope} 로 감싸 저장합니다. @Cacheable(sync = true) 로 들어오는 조회는
+ * 노드마다 키당 하나의 로더만 실행하고 나머지 요청은 그 결과를 기다리며,
+ * 갱신 중에는 만료됐지만 아직 허용 범위 안인 이전 값을 돌려줍니다.
+ * 로더가 IdNotFoundException 을 던지면 정책의 negativeTtl 동안 그 결과를 캐시해 같은 예외를 다시 던지며, sync 가 아닌 조회도 이 결과를 적중으로 봅니다.
+ *
+ * 조회 적중/미스, 로딩 시간, 저장 크기, 삭제는 {@link CacheMetrics} 에 키 접두어별로 기록합니다.
+ * sync 가 아닌 @Cacheable 은 같은 스레드에서 get(미스) → 메서드 실행 → put 순서로 호출되므로, 미스 시각부터 put 까지를 로딩 시간으로 잽니다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> localCache;
+    private final Cache redisCache;
+    private final Predicate<String> localKeyFilter;
+    private final CacheRefreshPolicy refreshPolicy;
+    private final Duration loadWaitTimeout;
+    private final TwoLevelCacheManager cacheManager;
+    private final CacheMetrics metrics;
+    private final RedisSerializer<Object> serializer;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final ThreadLocal<PendingLoad> pendingLoad = new ThreadLocal<>();
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> localCache,
+                  Cache redisCache, Predicate<String> localKeyFilter, CacheRefreshPolicy refreshPolicy,
+                  Duration loadWaitTimeout, TwoLevelCacheManager cacheManager, CacheMetrics metrics,
+                  RedisSerializer<Object> serializer) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.localKeyFilter = localKeyFilter;
+        this.refreshPolicy = refreshPolicy;
+        this.loadWaitTimeout = loadWaitTimeout;
+        this.cacheManager = cacheManager;
+        this.metrics = metrics;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        // 앞선 미스에서 메서드가 예외로 끝나 put 이 호출되지 않았다면 그때 남은 값을 버립니다.
+        pendingLoad.remove();
+        CacheEnvelope envelope = lookup(key);
+        if (envelope == null || refreshPolicy.isExpired(envelope, System.currentTimeMillis())) {
+            pendingLoad.set(new PendingLoad(String.valueOf(key), System.nanoTime()));
+            return null;
+        }
+        // 없는 대상으로 캐시된 결과는 메서드를 다시 실행하지 않고 같은 예외를 던집니다.
+        return new SimpleValueWrapper(valueOf(envelope));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        pendingLoad.remove();
+        long now = System.currentTimeMillis();
+        CacheEnvelope envelope = lookup(key);
+        if (envelope != null && !refreshPolicy.shouldRefresh(envelope, now)) {
+            return (T) valueOf(envelope);
+        }
+        boolean servable = envelope != null && refreshPolicy.isServable(envelope, now);
+
+        String loadKey = String.valueOf(key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(loadKey, load);
+        if (inFlight != null) {
+            // 다른 요청이 이미 계산 중이면 이전 값을 쓰고, 없으면 그 결과를 기다립니다.
+            return servable ? (T) valueOf(envelope) : awaitLoad(key, valueLoader, inFlight);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            T value = valueLoader.call();
+            long computeNanos = System.nanoTime() - startedAt;
+            metrics.recordLoad(name, loadKey, computeNanos, true);
+            store(key, refreshPolicy.envelope(value, System.currentTimeMillis(), TimeUnit.NANOSECONDS.toMillis(computeNanos)));
+            load.complete(value);
+            return value;
+        } catch (Exception e) {
+            metrics.recordLoad(name, loadKey, System.nanoTime() - startedAt, false);
+            load.completeExceptionally(e);
+            Throwable original = e instanceof CacheOperationInvoker.ThrowableWrapper wrapper ? wrapper.getOriginal() : e;
+            if (original instanceof IdNotFoundException) {
+                if (refreshPolicy.cachesNegatives()) {
+                    store(key, refreshPolicy.negativeEnvelope(original.getMessage(), System.currentTimeMillis()));
+                }
+            } else if (servable) {
+                log.warn("Failed to refresh cache {}::{}, serving previous value", name, key, e);
+                return (T) valueOf(envelope);
+            }
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlightLoads.remove(loadKey, load);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T awaitLoad(Object key, Callable<T> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return (T) inFlight.get(loadWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for in-flight load of {}::{}, loading directly", name, key);
+            try {
+                return valueLoader.call();
+            } catch (Exception loadException) {
+                throw new ValueRetrievalException(key, valueLoader, loadException);
+            }
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = String.valueOf(key);
+        long computeMillis = 0;
+        try {
+            PendingLoad pending = pendingLoad.get();
+            if (pending != null && pending.key().equals(localKey)) {
+                long computeNanos = System.nanoTime() - pending.startedAt();
+                metrics.recordLoad(name, localKey, computeNanos, true);
+                computeMillis = TimeUnit.NANOSECONDS.toMillis(computeNanos);
+            }
+        } finally {
+            pendingLoad.remove();
+        }
+        store(key, refreshPolicy.envelope(value, System.currentTimeMillis(), computeMillis));
+    }
+
+    @Override
+    public void evict(Object key) {
+        evict(key, CacheMetrics.EVICT_EXPLICIT);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCache.evictIfPresent(key);
+        localCache.invalidate(String.valueOf(key));
+        cacheManager.publishEvict(name, String.valueOf(key));
+        if (evicted) {
+            metrics.recordEviction(name, String.valueOf(key), CacheMetrics.EVICT_EXPLICIT);
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishClear(name);
+        metrics.recordClear(name, CacheMetrics.EVICT_CLEAR);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = redisCache.invalidate();
+        localCache.invalidateAll();
+        cacheManager.publishClear(name);
+        metrics.recordClear(name, CacheMetrics.EVICT_CLEAR);
+        return invalidated;
+    }
+
+    // 태그 무효화로 지우는 키입니다. 지표에서 직접 삭제와 구분합니다.
+    void evictTagged(String key) {
+        evict(key, CacheMetrics.EVICT_TAG);
+    }
+
+    // 다른 노드에서 변경이 일어났을 때 이 노드의 L1 만 비웁니다.
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+        metrics.recordEviction(name, key, CacheMetrics.EVICT_REMOTE);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+        metrics.recordClear(name, CacheMetrics.EVICT_REMOTE);
+    }
+
+    private void evict(Object key, String cause) {
+        String localKey = String.valueOf(key);
+        redisCache.evict(key);
+        localCache.invalidate(localKey);
+        cacheManager.publishEvict(name, localKey);
+        metrics.recordEviction(name, localKey, cause);
+    }
+
+    /**
+     * L1 에 없는 키만 모아 한 번의 MGET 으로 읽습니다. 만료됐거나 없는 대상으로 캐시된 키는 미스로 봅니다.
+     */
+    Map<String, Object> getAll(Collection<String> keys) {
+        long now = System.currentTimeMillis();
+        Map<String, Object> found = new LinkedHashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : keys) {
+            CacheEnvelope cached = localKeyFilter.test(key) ? localCache.getIfPresent(key) : null;
+            if (cached != null) {
+                metrics.recordHit(name, key, CacheMetrics.LEVEL_LOCAL);
+                putIfUsable(found, key, cached, now);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty() || !(redisCache instanceof RedisCache redis)) {
+            return found;
+        }
+
+        String keyPrefix = redis.getCacheConfiguration().getKeyPrefixFor(name);
+        byte[][] redisKeys = remoteKeys.stream()
+                .map(key -> (keyPrefix + key).getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        List<byte[]> values = cacheManager.multiGet(redisKeys);
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            String key = remoteKeys.get(i);
+            byte[] bytes = values != null && i < values.size() ? values.get(i) : null;
+            Object stored = bytes != null ? serializer.deserialize(bytes) : null;
+            if (stored == null) {
+                metrics.recordMiss(name, key);
+                continue;
+            }
+            metrics.recordHit(name, key, CacheMetrics.LEVEL_REDIS);
+            CacheEnvelope envelope = stored instanceof CacheEnvelope storedEnvelope
+                    ? storedEnvelope : refreshPolicy.envelope(stored, now, 0);
+            if (localKeyFilter.test(key)) {
+                localCache.put(key, envelope);
+            }
+            putIfUsable(found, key, envelope, now);
+        }
+        return found;
+    }
+
+    /**
+     * 값들을 봉투로 감싸 한 번의 파이프라인으로 Redis 에 저장하고, 태그도 한 번에 기록합니다.
+     */
+    void putAll(Map<String, ?> values) {
+        if (values.isEmpty() || !(redisCache instanceof RedisCache redis)) {
+            values.forEach(this::put);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String keyPrefix = redis.getCacheConfiguration().getKeyPrefixFor(name);
+        List<TwoLevelCacheManager.RedisEntry> entries = new ArrayList<>();
+        values.forEach((key, value) -> {
+            CacheEnvelope envelope = refreshPolicy.envelope(value, now, 0);
+            entries.add(new TwoLevelCacheManager.RedisEntry((keyPrefix + key).getBytes(StandardCharsets.UTF_8),
+                    serializer.serialize(envelope), refreshPolicy.redisTtl(envelope, now)));
+            if (localKeyFilter.test(key)) {
+                localCache.put(key, envelope);
+                cacheManager.publishEvict(name, key);
+            }
+        });
+        cacheManager.multiSet(entries);
+        cacheManager.recordTags(name, values);
+    }
+
+    private void putIfUsable(Map<String, Object> found, String key, CacheEnvelope envelope, long now) {
+        if (!envelope.isNegative() && !refreshPolicy.isExpired(envelope, now)) {
+            found.put(key, envelope.getValue());
+        }
+    }
+
+    private Object valueOf(CacheEnvelope envelope) {
+        if (envelope.getValue() instanceof NegativeCacheValue negative) {
+            throw new IdNotFoundException(negative.getMessage());
+        }
+        return envelope.getValue();
+    }
+
+    private CacheEnvelope lookup(Object key) {
+        String localKey = String.valueOf(key);
+        boolean local = localKeyFilter.test(localKey);
+        if (local) {
+            CacheEnvelope cached = localCache.getIfPresent(localKey);
+            if (cached != null) {
+                metrics.recordHit(name, localKey, CacheMetrics.LEVEL_LOCAL);
+                return cached;
+            }
+        }
+
+        ValueWrapper loaded = redisCache.get(key);
+        if (loaded == null) {
+            metrics.recordMiss(name, localKey);
+            return null;
+        }
+        metrics.recordHit(name, localKey, CacheMetrics.LEVEL_REDIS);
+        // 감싸지 않고 저장된 이전 형식의 값은 방금 저장된 것으로 보고, Redis TTL 에 만료를 맡깁니다.
+        CacheEnvelope envelope = loaded.get() instanceof CacheEnvelope stored
+                ? stored : refreshPolicy.envelope(loaded.get(), System.currentTimeMillis(), 0);
+        if (local) {
+            localCache.put(localKey, envelope);
+        }
+        return envelope;
+    }
+
+    private void store(Object key, CacheEnvelope envelope) {
+        String localKey = String.valueOf(key);
+        redisCache.put(key, envelope);
+        if (localKeyFilter.test(localKey)) {
+            localCache.put(localKey, envelope);
+        }
+        cacheManager.recordTags(name, localKey, envelope.getValue());
+        metrics.recordEntrySize(name, localKey, () -> cacheManager.serializedSize(name, envelope));
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    private record PendingLoad(String key, long startedAt) {
+    }
+}
@@ -0,0 +1,309 @@
+package home.project.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Redis 캐시 매니저 앞에 노드별 로컬 캐시를 붙인 CacheManager 입니다.
+ * 변경은 {@link #INVALIDATION_CHANNEL} 로 발행되어 다른 노드가 자신의 L1 에서 같은 키를 지웁니다.
+ * 메시지가 유실되더라도 L1 TTL 이 지나면 Redis 값으로 다시 채워집니다.
+ * 저장되는 값은 {@link CacheTagResolver} 로 태그를 뽑아 "cache:tag:캐시명:태그" Redis Set 에 키를 기록하고,
+ * {@link #evictTags} 는 그 Set 에 담긴 키만 지웁니다. 태그 Set 은 Redis 캐시 TTL 만큼만 유지됩니다.
+ * 목록 조회용으로 {@link #getAll}(MGET) 과 {@link #putAll}(파이프라인 SET) 을 제공합니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager
+        implements MessageListener, CacheTagInvalidator, BatchCacheAccessor {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String TAG_KEY_PREFIX = "cache:tag:";
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CachePolicyProperties cachePolicies;
+    private final Function<String, CacheRefreshPolicy> refreshPolicies;
+    private final RedisSerializerFactory redisSerializerFactory;
+    private final List<String> localKeyPrefixes;
+    private final List<CacheTagResolver> tagResolvers;
+    private final Duration loadWaitTimeout;
+    private final CacheMetrics cacheMetrics;
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+                                CachePolicyProperties cachePolicies, Function<String, CacheRefreshPolicy> refreshPolicies,
+                                RedisSerializerFactory redisSerializerFactory, List<String> localKeyPrefixes,
+                                List<CacheTagResolver> tagResolvers, Duration loadWaitTimeout, CacheMetrics cacheMetrics) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cachePolicies = cachePolicies;
+        this.refreshPolicies = refreshPolicies;
+        this.redisSerializerFactory = redisSerializerFactory;
+        this.localKeyPrefixes = localKeyPrefixes;
+        this.tagResolvers = tagResolvers;
+        this.loadWaitTimeout = loadWaitTimeout;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return new TwoLevelCache(name,
+                localCache(name, cachePolicies.policyFor(name)),
+                redisCache,
+                key -> localKeyPrefixes.stream().anyMatch(key::startsWith),
+                refreshPolicies.apply(name),
+                loadWaitTimeout,
+                this,
+                cacheMetrics,
+                redisSerializerFactory.forCache(name));
+    }
+
+    // 바이트 한도가 있으면 직렬화 크기로 가중치를 매기고, 없으면 항목 수로 제한합니다.
+    // 크기/만료로 L1 에서 밀려난 항목은 "local-size", "local-expired" 같은 원인으로 기록합니다.
+    private com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> localCache(String name, CachePolicyProperties.Policy policy) {
+        Caffeine<String, CacheEnvelope> builder = Caffeine.newBuilder()
+                .expireAfterWrite(policy.getLocalTtl())
+                .evictionListener((String key, CacheEnvelope envelope, RemovalCause cause) ->
+                        cacheMetrics.recordEviction(name, key, "local-" + cause.name().toLowerCase(Locale.ROOT)));
+        if (policy.getLocalMaximumBytes() != null) {
+            return builder
+                    .maximumWeight(policy.getLocalMaximumBytes())
+                    .weigher((String key, CacheEnvelope envelope) -> serializedSize(name, envelope))
+                    .build();
+        }
+        return builder
+                .maximumSize(policy.getLocalMaximumSize())
+                .build();
+    }
+
+    int serializedSize(String cacheName, CacheEnvelope envelope) {
+        return redisSerializerFactory.forCache(cacheName).serialize(envelope).length;
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(String.join("|", nodeId, EVICT, cacheName, key));
+    }
+
+    void publishClear(String cacheName) {
+        publish(String.join("|", nodeId, CLEAR, cacheName, ""));
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1 은 TTL 만료로 정리됩니다.
+            log.warn("Failed to publish cache invalidation: {}", message, e);
+        }
+    }
+
+    void recordTags(String cacheName, String key, Object value) {
+        recordTags(cacheName, Collections.singletonMap(key, value));
+    }
+
+    // 여러 키의 태그를 한 파이프라인으로 기록합니다.
+    void recordTags(String cacheName, Map<String, ?> values) {
+        if (tagResolvers.isEmpty()) {
+            return;
+        }
+        Map<String, Set<String>> keysByTag = new HashMap<>();
+        values.forEach((key, value) -> {
+            if (value == null) {
+                return;
+            }
+            tagResolvers.forEach(resolver -> resolver.resolveTags(cacheName, key, value)
+                    .forEach(tag -> keysByTag.computeIfAbsent(tag, t -> new HashSet<>()).add(key)));
+        });
+        if (keysByTag.isEmpty()) {
+            return;
+        }
+
+        long tagTtlSeconds = refreshPolicies.apply(cacheName).maxRedisTtl().toSeconds();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                keysByTag.forEach((tag, keys) -> {
+                    String tagKey = tagKey(cacheName, tag);
+                    stringConnection.sAdd(tagKey, keys.toArray(String[]::new));
+                    stringConnection.expire(tagKey, tagTtlSeconds);
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            // 태그 기록에 실패한 키는 캐시 TTL 이 지나면 정리됩니다.
+            log.warn("Failed to record cache tags for {}::{}", cacheName, values.keySet(), e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getAll(String cacheName, Collection<String> keys) {
+        TwoLevelCache cache = targetCache(cacheName);
+        if (cache == null || keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return cache.getAll(keys);
+        } catch (Exception e) {
+            // Redis 장애 시에는 모두 미스로 보고 호출한 쪽이 DB 에서 읽게 합니다.
+            log.warn("Failed to multi-get {} keys of {}", keys.size(), cacheName, e);
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void putAll(String cacheName, Map<String, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doPutAll(cacheName, values);
+                }
+            });
+        } else {
+            doPutAll(cacheName, values);
+        }
+    }
+
+    private void doPutAll(String cacheName, Map<String, ?> values) {
+        TwoLevelCache cache = targetCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.putAll(values);
+        } catch (Exception e) {
+            log.warn("Failed to multi-put {} keys of {}", values.size(), cacheName, e);
+        }
+    }
+
+    List<byte[]> multiGet(byte[][] keys) {
+        return stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+    }
+
+    void multiSet(List<RedisEntry> entries) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (RedisEntry entry : entries) {
+                connection.stringCommands().set(entry.key(), entry.value(),
+                        Expiration.from(entry.ttl()), RedisStringCommands.SetOption.upsert());
+            }
+            return null;
+        });
+    }
+
+    record RedisEntry(byte[] key, byte[] value, Duration ttl) {
+    }
+
+    @Override
+    public void evictTags(String cacheName, Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvictTags(cacheName, tags);
+                }
+            });
+        } else {
+            doEvictTags(cacheName, tags);
+        }
+    }
+
+    private void doEvictTags(String cacheName, Collection<String> tags) {
+        TwoLevelCache cache = targetCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            List<String> tagKeys = tags.stream().map(tag -> tagKey(cacheName, tag)).toList();
+            Set<String> keys = stringRedisTemplate.opsForSet().union(tagKeys);
+            if (keys == null || keys.isEmpty()) {
+                return;
+            }
+            keys.forEach(cache::evictTagged);
+            // 지운 키만 빼서, 그 사이 새로 기록된 키의 태그는 남겨 둡니다.
+            Object[] evicted = keys.toArray();
+            tagKeys.forEach(tagKey -> stringRedisTemplate.opsForSet().remove(tagKey, evicted));
+            log.debug("Evicted {} cache entries of {} by tags {}", keys.size(), cacheName, tags);
+        } catch (Exception e) {
+            log.warn("Failed to evict cache tags {} of {}", tags, cacheName, e);
+        }
+    }
+
+    private String tagKey(String cacheName, String tag) {
+        return TAG_KEY_PREFIX + cacheName + ":" + tag;
+    }
+
+    private TwoLevelCache targetCache(String cacheName) {
+        Cache cache = getCache(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        return (TwoLevelCache) (cache instanceof TransactionAwareCacheDecorator decorator
+                ? decorator.getTargetCache() : cache);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        Cache cache = lookupCache(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        TwoLevelCache twoLevelCache = (TwoLevelCache) (cache instanceof TransactionAwareCacheDecorator decorator
+                ? decorator.getTargetCache() : cache);
+
+        if (CLEAR.equals(parts[1])) {
+            twoLevelCache.clearLocal();
+        } else {
+            twoLevelCache.evictLocal(parts[3]);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package home.project.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 값을 헤더가 붙은 Smile(바이너리 JSON)로 직렬화합니다. 큰 값은 LZ4 로 압축합니다.
+ *
+ * <pre>
+ * [MAGIC][VERSION][FLAGS][(압축 시) 원본 길이 4바이트][페이로드]
+ * </pre>
+ *
+ * MAGIC 으로 시작하지 않는 값은 이전 JSON 형식으로 보고 legacySerializer 로 읽습니다.
+ * 알 수 없는 버전은 캐시 미스로 취급해, 롤링 배포 중 새 노드가 쓴 값을 이전 노드가 다시 계산하게 합니다.
+ * 이전 노드가 Smile 을 읽지 못하므로 배포 중에는 write-format 을 json 으로 두고, 배포가 끝난 뒤 smile 로 바꿉니다.
+ *
+ * 캐시 이름(name)별로 크기와 직렬화 시간을 기록하며, 일부 쓰기는 JSON 으로도 직렬화해 비교 수치를 남깁니다.
+ */
+@Slf4j
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    public enum WriteFormat { SMILE, JSON }
+
+    static final byte MAGIC = (byte) 0xB5;
+    static final byte VERSION_SMILE = 1;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 3;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final WriteFormat writeFormat;
+    private final int compressionThreshold;
+    private final double compareSampleRate;
+
+    private final DistributionSummary smileBytes;
+    private final DistributionSummary jsonBytes;
+    private final Timer smileSerializeTimer;
+    private final Timer smileDeserializeTimer;
+    private final Timer jsonSerializeTimer;
+    private final Timer jsonDeserializeTimer;
+
+    public VersionedRedisSerializer(String name, ObjectMapper smileMapper, RedisSerializer<Object> legacySerializer,
+                                    WriteFormat writeFormat, int compressionThreshold, double compareSampleRate,
+                                    MeterRegistry meterRegistry) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.writeFormat = writeFormat;
+        this.compressionThreshold = compressionThreshold;
+        this.compareSampleRate = compareSampleRate;
+
+        this.smileBytes = payloadBytes(meterRegistry, name, "smile");
+        this.jsonBytes = payloadBytes(meterRegistry, name, "json");
+        this.smileSerializeTimer = timer(meterRegistry, name, "smile", "serialize");
+        this.smileDeserializeTimer = timer(meterRegistry, name, "smile", "deserialize");
+        this.jsonSerializeTimer = timer(meterRegistry, name, "json", "serialize");
+        this.jsonDeserializeTimer = timer(meterRegistry, name, "json", "deserialize");
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        if (writeFormat == WriteFormat.JSON) {
+            return serializeJson(value);
+        }
+
+        byte[] bytes = smileSerializeTimer.record(() -> encodeSmile(value));
+        smileBytes.record(bytes.length);
+        if (compareSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < compareSampleRate) {
+            // 비교용 표본: 같은 값을 JSON 으로 직렬화/역직렬화한 비용을 남깁니다.
+            byte[] json = serializeJson(value);
+            jsonDeserializeTimer.record(() -> legacySerializer.deserialize(json));
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonDeserializeTimer.record(() -> legacySerializer.deserialize(bytes));
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION_SMILE) {
+            log.debug("Unsupported redis value format version {}, treating as miss", bytes.length > 1 ? bytes[1] : -1);
+            return null;
+        }
+        return smileDeserializeTimer.record(() -> decodeSmile(bytes));
+    }
+
+    private byte[] serializeJson(Object value) {
+        byte[] json = jsonSerializeTimer.record(() -> legacySerializer.serialize(value));
+        jsonBytes.record(json.length);
+        return json;
+    }
+
+    private byte[] encodeSmile(Object value) {
+        byte[] payload;
+        try {
+            payload = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile: " + e.getMessage(), e);
+        }
+
+        if (payload.length < compressionThreshold) {
+            return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                    .put(MAGIC).put(VERSION_SMILE).put((byte) 0)
+                    .put(payload)
+                    .array();
+        }
+
+        byte[] compressed = new byte[COMPRESSOR.maxCompressedLength(payload.length)];
+        int compressedLength = COMPRESSOR.compress(payload, 0, payload.length, compressed, 0, compressed.length);
+        return ByteBuffer.allocate(HEADER_SIZE + Integer.BYTES + compressedLength)
+                .put(MAGIC).put(VERSION_SMILE).put(FLAG_LZ4)
+                .putInt(payload.length)
+                .put(compressed, 0, compressedLength)
+                .array();
+    }
+
+    private Object decodeSmile(byte[] bytes) {
+        try {
+            if ((bytes[2] & FLAG_LZ4) == 0) {
+                return smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+            }
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, Integer.BYTES).getInt();
+            byte[] payload = new byte[originalLength];
+            DECOMPRESSOR.decompress(bytes, HEADER_SIZE + Integer.BYTES, payload, 0, originalLength);
+            return smileMapper.readValue(payload, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile: " + e.getMessage(), e);
+        }
+    }
+
+    private static DistributionSummary payloadBytes(MeterRegistry meterRegistry, String name, String format) {
+        return DistributionSummary.builder("redis.serializer.payload.bytes")
+                .baseUnit("bytes")
+                .tag("name", name)
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String format, String operation) {
+        return Timer.builder("redis.serializer.time")
+                .tag("name", name)
+                .tag("format", format)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,189 @@
+package home.project.config.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Ant 스타일 경로 패턴 목록을 세그먼트 단위 트라이로 미리 컴파일해 둡니다.
+ *
+ * 시작할 때 한 번만 만들고 이후에는 읽기만 하므로 여러 스레드가 잠금 없이 같이 씁니다.
+ * 리터럴 세그먼트는 요청 경로의 해당 구간과 regionMatches 로 비교하므로, 대부분의 요청은 문자열을 새로 만들지 않고 판정됩니다.
+ * 지원하는 문법은 리터럴, 세그먼트 전체 {@code *}, 여러 세그먼트 {@code **}, 세그먼트 안의 {@code *}/{@code ?}/{@code {변수}} 입니다.
+ * 빈 세그먼트는 무시하므로 끝에 붙은 슬래시나 연속된 슬래시는 없는 것과 같이 취급합니다.
+ */
+public final class PathPatternTrie {
+
+    private final Node root;
+
+    private PathPatternTrie(Node root) {
+        this.root = root;
+    }
+
+    public static PathPatternTrie compile(List<String> patterns) {
+        Node root = new Node();
+        if (patterns != null) {
+            for (String pattern : patterns) {
+                if (pattern != null && !pattern.isBlank()) {
+                    insert(root, pattern.trim());
+                }
+            }
+        }
+        root.freeze();
+        return new PathPatternTrie(root);
+    }
+
+    public boolean matches(String path) {
+        return path != null && match(root, path, 0);
+    }
+
+    private static void insert(Node root, String pattern) {
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            node = node.child(segment);
+        }
+        node.terminal = true;
+    }
+
+    private static boolean match(Node node, String path, int position) {
+        int start = skipSeparators(path, position);
+        if (start == path.length()) {
+            return node.terminal || (node.anyDepth != null && match(node.anyDepth, path, start));
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - start;
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == length && path.regionMatches(start, literal, 0, length)
+                    && match(node.literalChildren[i], path, end)) {
+                return true;
+            }
+        }
+        if (node.anySegment != null && match(node.anySegment, path, end)) {
+            return true;
+        }
+        if (node.patterns.length > 0) {
+            CharSequence segment = path.subSequence(start, end);
+            for (int i = 0; i < node.patterns.length; i++) {
+                if (node.patterns[i].matcher(segment).matches() && match(node.patternChildren[i], path, end)) {
+                    return true;
+                }
+            }
+        }
+        if (node.anyDepth != null) {
+            // ** 는 0개 이상의 세그먼트를 삼키므로 지금 위치부터 한 세그먼트씩 넘기며 나머지를 맞춰 봅니다.
+            int next = start;
+            while (true) {
+                if (match(node.anyDepth, path, next)) {
+                    return true;
+                }
+                next = skipSeparators(path, next);
+                if (next == path.length()) {
+                    return false;
+                }
+                int slash = path.indexOf('/', next);
+                next = slash < 0 ? path.length() : slash;
+            }
+        }
+        return false;
+    }
+
+    private static int skipSeparators(String path, int position) {
+        while (position < path.length() && path.charAt(position) == '/') {
+            position++;
+        }
+        return position;
+    }
+
+    private static Pattern toRegex(String segment) {
+        StringBuilder regex = new StringBuilder();
+        int i = 0;
+        while (i < segment.length()) {
+            char c = segment.charAt(i);
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '?') {
+                regex.append('.');
+            } else if (c == '{' && segment.indexOf('}', i) > i) {
+                int close = segment.indexOf('}', i);
+                String variable = segment.substring(i + 1, close);
+                int colon = variable.indexOf(':');
+                regex.append('(').append(colon < 0 ? ".*" : variable.substring(colon + 1)).append(')');
+                i = close;
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+            i++;
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private static boolean isLiteral(String segment) {
+        return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+    }
+
+    private static final class Node {
+        private static final String[] NO_LITERALS = new String[0];
+        private static final Node[] NO_NODES = new Node[0];
+        private static final Pattern[] NO_PATTERNS = new Pattern[0];
+
+        private final List<String> literalList = new ArrayList<>();
+        private final List<Node> literalNodeList = new ArrayList<>();
+        private final List<String> patternSourceList = new ArrayList<>();
+        private final List<Node> patternNodeList = new ArrayList<>();
+
+        private String[] literals = NO_LITERALS;
+        private Node[] literalChildren = NO_NODES;
+        private Pattern[] patterns = NO_PATTERNS;
+        private Node[] patternChildren = NO_NODES;
+        private Node anySegment;
+        private Node anyDepth;
+        private boolean terminal;
+
+        private Node child(String segment) {
+            if ("**".equals(segment)) {
+                return anyDepth == null ? (anyDepth = new Node()) : anyDepth;
+            }
+            if ("*".equals(segment)) {
+                return anySegment == null ? (anySegment = new Node()) : anySegment;
+            }
+            List<String> keys = isLiteral(segment) ? literalList : patternSourceList;
+            List<Node> nodes = isLiteral(segment) ? literalNodeList : patternNodeList;
+            int index = keys.indexOf(segment);
+            if (index >= 0) {
+                return nodes.get(index);
+            }
+            Node node = new Node();
+            keys.add(segment);
+            nodes.add(node);
+            return node;
+        }
+
+        // 컴파일이 끝나면 배열로 옮겨 매칭 중에는 반복자를 만들지 않게 합니다.
+        private void freeze() {
+            literals = literalList.toArray(NO_LITERALS);
+            literalChildren = literalNodeList.toArray(NO_NODES);
+            patterns = patternSourceList.stream().map(PathPatternTrie::toRegex).toArray(Pattern[]::new);
+            patternChildren = patternNodeList.toArray(NO_NODES);
+            for (Node node : literalChildren) {
+                node.freeze();
+            }
+            for (Node node : patternChildren) {
+                node.freeze();
+            }
+            if (anySegment != null) {
+                anySegment.freeze();
+            }
+            if (anyDepth != null) {
+                anyDepth.freeze();
+            }
+        }
+    }
+}
@@ -9,12 +9,16 @@ import home.project.exceptions.CustomAccessDeniedHandler;
 import home.project.exceptions.CustomLogoutSuccessHandler;
 import home.project.service.integration.FirebaseAuthenticationFilter;
 import home.project.service.integration.FirebaseAuthenticationProvider;
+import home.project.service.security.BoundedPasswordEncoder;
 import home.project.service.security.JwtAuthenticationFilter;
 import home.project.service.security.JwtTokenProvider;
+import home.project.service.security.TokenRevocationLogoutHandler;
 import home.project.service.util.*;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -35,6 +39,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -53,7 +58,9 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final SecurityPermissionsConfig securityPermissions;
+    private final SecurityPathMatchers securityPathMatchers;
     private final FirebaseAuthenticationProvider firebaseAuthenticationProvider;
+    private final TokenRevocationLogoutHandler tokenRevocationLogoutHandler;
 
 
     @Bean
@@ -87,9 +94,14 @@ public class SecurityConfig {
         return new ProviderManager(provider);
     }
 
+    // BCrypt 는 전용 스레드 풀에서만 돌리고, 풀과 큐가 가득 차면 429 로 바로 거절합니다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.threads:4}") int threads,
+                                           @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                           @Value("${security.password-hashing.timeout-ms:3000}") long timeoutMillis,
+                                           MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity,
+                Duration.ofMillis(timeoutMillis), meterRegistry);
     }
 
     @Bean
@@ -111,7 +123,7 @@ public class SecurityConfig {
     @Bean
     protected SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         FirebaseAuthenticationFilter firebaseFilter = new FirebaseAuthenticationFilter(firebaseAuthenticationManager());
-        firebaseFilter.setPermitAllPaths(securityPermissions.getPermitAll());
+        firebaseFilter.setPermitAllMatchers(securityPathMatchers);
 
         http
                 .csrf(csrf -> csrf.disable())
@@ -168,10 +180,11 @@ public class SecurityConfig {
                                 .accessDeniedHandler(accessDeniedHandler(objectMapper()))
                 )
                 // JWT 필터를 먼저 적용하고, Firebase 필터는 소셜 로그인 경로에만 적용
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, securityPathMatchers), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(firebaseFilter, JwtAuthenticationFilter.class)
                 .logout(logout -> logout
                         .logoutUrl("/api/logout")
+                        .addLogoutHandler(tokenRevocationLogoutHandler)
                         .logoutSuccessHandler(new CustomLogoutSuccessHandler())
                         .logoutSuccessUrl("/login?logout")
                         .invalidateHttpSession(true)
@@ -0,0 +1,39 @@
+package home.project.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link SecurityPermissionsConfig} 의 경로 목록을 시작할 때 한 번 컴파일해 보안 필터들이 같이 씁니다.
+ *
+ * 필터마다 요청이 들어올 때 AntPathRequestMatcher 를 만들거나 startsWith 를 나열하지 않도록,
+ * permitAll 경로와 JWT 검사를 건너뛸 경로를 각각 {@link PathPatternTrie} 로 들고 있습니다.
+ */
+@Component
+public class SecurityPathMatchers {
+
+    private final PathPatternTrie permitAll;
+    private final PathPatternTrie jwtExcluded;
+
+    public SecurityPathMatchers(SecurityPermissionsConfig securityPermissions) {
+        this.permitAll = PathPatternTrie.compile(securityPermissions.getPermitAll());
+        this.jwtExcluded = PathPatternTrie.compile(securityPermissions.getJwtExcluded());
+    }
+
+    public boolean isPermitAll(HttpServletRequest request) {
+        return permitAll.matches(pathWithinApplication(request));
+    }
+
+    public boolean isJwtExcluded(HttpServletRequest request) {
+        return jwtExcluded.matches(pathWithinApplication(request));
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (uri == null || contextPath == null || contextPath.isEmpty() || !uri.startsWith(contextPath)) {
+            return uri;
+        }
+        return uri.substring(contextPath.length());
+    }
+}
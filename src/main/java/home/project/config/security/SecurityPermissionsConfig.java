@@ -18,6 +18,7 @@ import java.util.Map;
 @ConfigurationProperties(prefix = "security")
 public class SecurityPermissionsConfig {
     private List<String> permitAll = new ArrayList<>();
+    private List<String> jwtExcluded = new ArrayList<>();
     private Map<String, List<String>> hasAnyRole = new HashMap<>();
     private Map<String, List<String>> hasRole = new HashMap<>();
 
@@ -22,17 +22,29 @@ public class ElasticSyncController {
 
     private final JobLauncher jobLauncher;
     private final Job elasticSyncJob;
+    private final Job elasticIncrementalSyncJob;
     private final JobExplorer jobExplorer;
 
 
+    // 전체 재색인
     @PostMapping("/sync")
     public ResponseEntity<String> syncToElastic() {
+        return runJob(elasticSyncJob);
+    }
+
+    // 마지막 성공 이후 변경분만 반영
+    @PostMapping("/sync/incremental")
+    public ResponseEntity<String> syncChangesToElastic() {
+        return runJob(elasticIncrementalSyncJob);
+    }
+
+    private ResponseEntity<String> runJob(Job job) {
         try {
             JobParameters jobParameters = new JobParametersBuilder()
                     .addLong("time", System.currentTimeMillis())
                     .toJobParameters();
 
-            JobExecution execution = jobLauncher.run(elasticSyncJob, jobParameters);
+            JobExecution execution = jobLauncher.run(job, jobParameters);
             return ResponseEntity.ok("Sync started with status: " + execution.getStatus());
 
         } catch (Exception e) {
@@ -10,6 +10,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -90,4 +91,14 @@ public class Member {
     @JsonManagedReference
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
     private List<Notification> notifications = new ArrayList<>();
-}
\ No newline at end of file
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 증분 Elasticsearch 동기화의 기준 시각으로 사용됩니다.
+    @PrePersist
+    @PreUpdate
+    protected void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -54,4 +54,14 @@ public class Orders {
 //    @JsonManagedReference
 //    @OneToMany(mappedBy = "coupon", cascade = CascadeType.ALL, orphanRemoval = true)
 //    private List<MemberCoupon> memberCoupons = new ArrayList<>();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 증분 Elasticsearch 동기화의 기준 시각으로 사용됩니다.
+    @PrePersist
+    @PreUpdate
+    protected void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
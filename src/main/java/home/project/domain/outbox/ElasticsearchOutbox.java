@@ -0,0 +1,58 @@
+package home.project.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Elasticsearch 에 반영해야 할 변경을 나타내는 아웃박스 엔티티입니다.
+ * 원본 엔티티와 같은 트랜잭션에서 저장되고, 릴레이가 순서대로 읽어 bulk 요청으로 색인한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "elasticsearch_outbox", indexes = {@Index(name = "idx_outbox_next_attempt", columnList = "next_attempt_at, id")})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ElasticsearchOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "document_type", nullable = false)
+    private OutboxDocumentType documentType;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false)
+    private OutboxOperation operation;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public ElasticsearchOutbox(OutboxDocumentType documentType, Long documentId, OutboxOperation operation) {
+        this.documentType = documentType;
+        this.documentId = documentId;
+        this.operation = operation;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package home.project.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 엔티티를 기록하는 엔티티입니다.
+ * 증분 동기화 작업이 워터마크 구간 안의 기록을 읽어 Elasticsearch 문서를 지우고, 보존 기간이 지나면 정리합니다.
+ */
+@Entity
+@Table(name = "elasticsearch_tombstone", indexes = {@Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at, id")})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ElasticsearchTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "document_type", nullable = false)
+    private OutboxDocumentType documentType;
+
+    @Column(name = "document_id", nullable = false)
+    private Long documentId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public ElasticsearchTombstone(OutboxDocumentType documentType, Long documentId) {
+        this.documentType = documentType;
+        this.documentId = documentId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.deletedAt = LocalDateTime.now();
+    }
+}
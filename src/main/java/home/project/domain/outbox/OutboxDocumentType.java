@@ -0,0 +1,8 @@
+package home.project.domain.outbox;
+
+public enum OutboxDocumentType {
+    MEMBER,
+    PRODUCT,
+    ORDER,
+    COUPON
+}
@@ -0,0 +1,6 @@
+package home.project.domain.outbox;
+
+public enum OutboxOperation {
+    INDEX,
+    DELETE
+}
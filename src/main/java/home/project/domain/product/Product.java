@@ -134,4 +134,14 @@ public class Product {
 
     @Column(name = "color")
     private String color;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 증분 Elasticsearch 동기화의 기준 시각으로 사용됩니다.
+    @PrePersist
+    @PreUpdate
+    protected void touchUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,16 @@
+package home.project.dto.cacheDTO;
+
+import home.project.domain.product.Category;
+
+/**
+ * 캐시에 저장하는 카테고리 값. 부모/자식 연관관계는 담지 않습니다.
+ */
+public record CategorySnapshot(Long id, String code, String name, Integer level) {
+
+    public static CategorySnapshot from(Category category) {
+        if (category == null) {
+            return null;
+        }
+        return new CategorySnapshot(category.getId(), category.getCode(), category.getName(), category.getLevel());
+    }
+}
@@ -0,0 +1,16 @@
+package home.project.dto.cacheDTO;
+
+import home.project.domain.member.Member;
+import home.project.domain.member.MemberGradeType;
+import home.project.domain.member.RoleType;
+
+/**
+ * 요청마다 현재 회원을 확인할 때 쓰는 가벼운 회원 값. 식별과 권한 판단에 필요한 필드만 담습니다.
+ * 포인트, 주소처럼 자주 바뀌거나 큰 정보가 필요한 곳은 MemberService#findById 로 엔티티를 조회해야 합니다.
+ */
+public record MemberSnapshot(Long id, String email, RoleType role, MemberGradeType grade) {
+
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(member.getId(), member.getEmail(), member.getRole(), member.getGrade());
+    }
+}
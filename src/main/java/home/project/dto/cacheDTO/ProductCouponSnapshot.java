@@ -0,0 +1,28 @@
+package home.project.dto.cacheDTO;
+
+import home.project.domain.product.Coupon;
+import home.project.domain.product.ProductCoupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 저장하는 상품 쿠폰 값. 쿠폰의 할인 정보만 펼쳐 담습니다.
+ */
+public record ProductCouponSnapshot(Long id, Long couponId, String couponName, Integer discountRate,
+                                    LocalDateTime startDate, LocalDateTime endDate,
+                                    LocalDateTime issuedAt, LocalDateTime usedAt, boolean used) {
+
+    public static ProductCouponSnapshot from(ProductCoupon productCoupon) {
+        Coupon coupon = productCoupon.getCoupon();
+        return new ProductCouponSnapshot(
+                productCoupon.getId(),
+                coupon != null ? coupon.getId() : null,
+                coupon != null ? coupon.getName() : null,
+                coupon != null ? coupon.getDiscountRate() : null,
+                coupon != null ? coupon.getStartDate() : null,
+                coupon != null ? coupon.getEndDate() : null,
+                productCoupon.getIssuedAt(),
+                productCoupon.getUsedAt(),
+                productCoupon.isUsed());
+    }
+}
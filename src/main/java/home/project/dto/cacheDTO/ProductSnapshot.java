@@ -0,0 +1,46 @@
+package home.project.dto.cacheDTO;
+
+import home.project.domain.product.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 캐시에 저장하는 상품 값. 엔티티 대신 이 값을 캐시해 지연 로딩 연관관계가 직렬화되지 않게 합니다.
+ * 변경이 필요한 곳은 ProductService#findById 로 영속 엔티티를 다시 조회해야 합니다.
+ */
+public record ProductSnapshot(Long id, String name, String brand, CategorySnapshot category, String productNum,
+                              Long stock, Long soldQuantity, Long price, Integer discountRate, Long defectiveStock,
+                              List<String> description, LocalDateTime createAt, String mainImageFile,
+                              String size, String color, List<ProductCouponSnapshot> productCoupons) {
+
+    public static ProductSnapshot from(Product product) {
+        List<String> description = product.getDescription() != null
+                ? Collections.unmodifiableList(new ArrayList<>(product.getDescription()))
+                : List.of();
+        List<ProductCouponSnapshot> productCoupons = Collections.unmodifiableList(product.getProductCoupons().stream()
+                .map(ProductCouponSnapshot::from)
+                .collect(Collectors.toList()));
+
+        return new ProductSnapshot(
+                product.getId(),
+                product.getName(),
+                product.getBrand(),
+                CategorySnapshot.from(product.getCategory()),
+                product.getProductNum(),
+                product.getStock(),
+                product.getSoldQuantity(),
+                product.getPrice(),
+                product.getDiscountRate(),
+                product.getDefectiveStock(),
+                description,
+                product.getCreateAt(),
+                product.getMainImageFile(),
+                product.getSize(),
+                product.getColor(),
+                productCoupons);
+    }
+}
@@ -2,12 +2,14 @@ package home.project.dto.responseDTO;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
 
 @Getter
 @Setter
+@NoArgsConstructor
 @Schema(description = "카테고리 응답")
 public class CategoryResponse {
 
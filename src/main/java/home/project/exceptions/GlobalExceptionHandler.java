@@ -115,6 +115,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     }
 
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> handleTooManyRequestsException(TooManyRequestsException e) {
+        Map<String, String> responseBody = new HashMap<>();
+        responseBody.put("errorMessage", e.getMessage());
+        CustomResponseBody<?> errorBody = new CustomResponseBody<>(Optional.of(responseBody), "요청이 너무 많습니다.", HttpStatus.TOO_MANY_REQUESTS.value());
+        return new CustomResponseEntity<>(errorBody, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleException(Exception e) {
         Map<String, String> responseBody = new HashMap<>();
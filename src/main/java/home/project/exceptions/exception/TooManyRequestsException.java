@@ -0,0 +1,7 @@
+package home.project.exceptions.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
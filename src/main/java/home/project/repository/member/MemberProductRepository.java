@@ -4,10 +4,17 @@ import home.project.domain.member.MemberProduct;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MemberProductRepository extends JpaRepository<MemberProduct, Long> {
     Page<MemberProduct> findAllByMemberId(Long id, Pageable pageable);
 
     boolean existsByMemberIdAndProductId(Long memberId, Long productId);
+
+    @Query("SELECT mp.product.id FROM MemberProduct mp WHERE mp.member.id = :memberId AND mp.product.id IN :productIds")
+    List<Long> findProductIdsByMemberIdAndProductIdIn(@Param("memberId") Long memberId, @Param("productIds") List<Long> productIds);
 }
 
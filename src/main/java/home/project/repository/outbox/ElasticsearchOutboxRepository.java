@@ -0,0 +1,23 @@
+package home.project.repository.outbox;
+
+import home.project.domain.outbox.ElasticsearchOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ElasticsearchOutboxRepository extends JpaRepository<ElasticsearchOutbox, Long> {
+
+    /**
+     * 재시도 시각이 지난 행을 잠그며 가져옵니다. 다른 노드가 잠근 행은 기다리지 않고 건너뛰므로
+     * 여러 노드의 릴레이가 같은 행을 함께 처리하지 않습니다. 호출한 트랜잭션이 끝날 때까지 잠금이 유지됩니다.
+     */
+    @Query(value = "SELECT * FROM elasticsearch_outbox WHERE next_attempt_at <= :now ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ElasticsearchOutbox> findDueForUpdateSkipLocked(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    Optional<ElasticsearchOutbox> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,18 @@
+package home.project.repository.outbox;
+
+import home.project.domain.outbox.ElasticsearchTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ElasticsearchTombstoneRepository extends JpaRepository<ElasticsearchTombstone, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ElasticsearchTombstone t WHERE t.deletedAt < :before")
+    int deleteByDeletedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -3,6 +3,11 @@ package home.project.repository.product;
 
 import home.project.domain.product.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
@@ -10,4 +15,22 @@ public interface ProductRepository extends JpaRepository<Product, Long>, Product
 
     Product findByProductNum(String productNum);
 
+    /**
+     * 재고가 충분할 때만 재고를 차감하고 판매량을 증가시킵니다.
+     * 조건부 단일 UPDATE 로 처리하므로 동시 주문에서도 재고가 음수가 되지 않습니다.
+     * 엔티티 콜백을 거치지 않으므로 증분 Elasticsearch 동기화가 이 변경을 놓치지 않도록 updated_at 도 함께 갱신합니다.
+     * updated_at 은 워터마크와 같은 애플리케이션 시계로 찍어야 하므로 DB 의 NOW() 대신 현재 시각을 바인딩합니다.
+     *
+     * @return 갱신된 행의 수 (0 이면 상품이 없거나 재고가 부족한 경우)
+     */
+    default int decreaseStockAndIncreaseSoldQuantity(Long productId, Long quantity) {
+        return decreaseStockAndIncreaseSoldQuantity(productId, quantity, LocalDateTime.now());
+    }
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE product SET stock = stock - :quantity, sold_Quantity = sold_Quantity + :quantity, updated_at = :updatedAt " +
+            "WHERE id = :productId AND stock >= :quantity", nativeQuery = true)
+    int decreaseStockAndIncreaseSoldQuantity(@Param("productId") Long productId, @Param("quantity") Long quantity,
+                                             @Param("updatedAt") LocalDateTime updatedAt);
+
 }
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 
 public interface ProductRepositoryCustom {
 
@@ -23,4 +24,6 @@ public interface ProductRepositoryCustom {
     List<Product> findAllByCategory(Category category);
 
     Page<Product> findTop20LatestProducts(Pageable pageable);
+
+    void addSoldQuantities(Map<Long, Long> soldQuantityDeltas);
 }
@@ -8,13 +8,19 @@ import home.project.domain.delivery.QShipping;
 import home.project.domain.order.QOrders;
 import home.project.domain.product.*;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
     private final QProduct product = QProduct.product;
     private final QCategory category = QCategory.category;
@@ -23,6 +29,7 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
     private final QShipping shipping = QShipping.shipping;
 
     public ProductRepositoryCustomImpl(EntityManager em) {
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
     }
 
@@ -181,4 +188,24 @@ public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
 
         return new PageImpl<>(results, pageable, total);
     }
+
+    @Override
+    public void addSoldQuantities(Map<Long, Long> soldQuantityDeltas) {
+        // 상품별 판매량 증감분을 JDBC 배치 한 번으로 반영 (판매량은 0 미만으로 내려가지 않음)
+        // 증분 Elasticsearch 동기화가 바뀐 판매량을 읽어 가도록 updated_at 도 함께 갱신
+        // (워터마크와 같은 애플리케이션 시계를 쓰도록 DB 의 NOW() 대신 현재 시각을 바인딩)
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE product SET sold_Quantity = GREATEST(sold_Quantity + ?, 0), updated_at = ? WHERE id = ?")) {
+                for (Map.Entry<Long, Long> entry : soldQuantityDeltas.entrySet()) {
+                    statement.setLong(1, entry.getValue());
+                    statement.setTimestamp(2, updatedAt);
+                    statement.setLong(3, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
 }
@@ -24,4 +24,7 @@ public interface WishListRepository extends JpaRepository<WishList, Long> {
     @Query("SELECT w.product.id FROM WishList w WHERE w.member.id = :memberId")
     List<Long> findProductIdsByMemberId(@Param("memberId") Long memberId);
 
+    @Query("SELECT w.product.id FROM WishList w WHERE w.member.id = :memberId AND w.product.id IN :productIds")
+    List<Long> findProductIdsByMemberIdAndProductIdIn(@Param("memberId") Long memberId, @Param("productIds") List<Long> productIds);
+
 }
@@ -0,0 +1,39 @@
+package home.project.schedule;
+
+import home.project.service.product.CatalogCacheWarmer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class CatalogCacheWarmupScheduler {
+
+    private final CatalogCacheWarmer catalogCacheWarmer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmOnStartup() {
+        try {
+            catalogCacheWarmer.warm();
+        } catch (Exception e) {
+            log.error("Catalog cache warm-up on startup failed", e);
+        }
+    }
+
+    // 만료되어 비어 있는 인기 목록 페이지를 요청이 들어오기 전에 다시 채웁니다. 살아 있는 값은 캐시에서 그대로 읽고 넘어갑니다.
+    @Scheduled(fixedDelayString = "${cache.warmup.interval-ms:600000}",
+            initialDelayString = "${cache.warmup.interval-ms:600000}")
+    public void rewarm() {
+        try {
+            catalogCacheWarmer.warm();
+        } catch (Exception e) {
+            log.error("Scheduled catalog cache warm-up failed", e);
+        }
+    }
+}
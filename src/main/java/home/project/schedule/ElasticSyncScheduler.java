@@ -1,5 +1,6 @@
 package home.project.schedule;
 
+import home.project.config.elasticserch.UpdatedAtBackfill;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -7,6 +8,8 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -18,16 +21,28 @@ import org.springframework.stereotype.Component;
 public class ElasticSyncScheduler {
 
     private final JobLauncher jobLauncher;
-    private final Job elasticSyncJob;
+    private final Job elasticIncrementalSyncJob;
+    private final UpdatedAtBackfill updatedAtBackfill;
 
-    @Scheduled(cron = "0 0 1 * * *") // 매일 새벽 1시
+    // updated_at 이 비어 있는 행은 증분 구간에 걸리지 않으므로, 첫 증분 동기화 전에 채워 둡니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillUpdatedAtOnStartup() {
+        try {
+            updatedAtBackfill.backfill();
+        } catch (Exception e) {
+            log.error("updated_at backfill on startup failed", e);
+        }
+    }
+
+    // 마지막 성공 이후 변경분만 반영. 전체 재색인은 ElasticSyncController 에서 실행합니다.
+    @Scheduled(cron = "${elasticsearch.sync.incremental-cron:0 */10 * * * *}")
     public void syncToElastic() {
         try {
             JobParameters jobParameters = new JobParametersBuilder()
                     .addLong("time", System.currentTimeMillis())
                     .toJobParameters();
 
-            JobExecution execution = jobLauncher.run(elasticSyncJob, jobParameters);
+            JobExecution execution = jobLauncher.run(elasticIncrementalSyncJob, jobParameters);
             log.info("Batch job completed with status: {}", execution.getStatus());
 
         } catch (Exception e) {
@@ -0,0 +1,32 @@
+package home.project.schedule;
+
+import home.project.service.integration.ElasticsearchBulkIndexer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ElasticsearchBulkFlushScheduler {
+
+    private final ElasticsearchBulkIndexer elasticsearchBulkIndexer;
+
+    @Scheduled(fixedDelayString = "${elasticsearch.bulk.flush-interval-ms:1000}")
+    public void flushBulkIndexer() {
+        try {
+            elasticsearchBulkIndexer.flushAll();
+        } catch (Exception e) {
+            log.error("Elasticsearch bulk flush failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushBeforeShutdown() {
+        flushBulkIndexer();
+    }
+}
@@ -0,0 +1,37 @@
+package home.project.schedule;
+
+import home.project.service.integration.ElasticsearchOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ElasticsearchOutboxScheduler {
+
+    private final ElasticsearchOutboxRelay elasticsearchOutboxRelay;
+
+    @Scheduled(fixedDelayString = "${elasticsearch.outbox.relay-interval-ms:1000}")
+    public void relayOutbox() {
+        try {
+            // 밀린 행이 있으면 배치가 빌 때까지 이어서 처리
+            while (elasticsearchOutboxRelay.relay()) {
+            }
+        } catch (Exception e) {
+            log.error("Elasticsearch outbox relay failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${elasticsearch.outbox.metrics-interval-ms:30000}")
+    public void updateOutboxMetrics() {
+        try {
+            elasticsearchOutboxRelay.updateMetrics();
+        } catch (Exception e) {
+            log.warn("Failed to update Elasticsearch outbox metrics", e);
+        }
+    }
+}
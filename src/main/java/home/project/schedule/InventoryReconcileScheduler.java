@@ -0,0 +1,26 @@
+package home.project.schedule;
+
+import home.project.service.order.InventoryReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class InventoryReconcileScheduler {
+
+    private final InventoryReservationService inventoryReservationService;
+
+    @Scheduled(fixedDelayString = "${inventory.reservation.reconcile-interval-ms:5000}")
+    public void reconcileInventory() {
+        try {
+            inventoryReservationService.reconcile();
+        } catch (Exception e) {
+            log.error("Inventory reconcile failed", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package home.project.schedule;
+
+import home.project.service.product.SoldQuantityCounterService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class SoldQuantityFlushScheduler {
+
+    private final SoldQuantityCounterService soldQuantityCounterService;
+
+    @Scheduled(fixedDelayString = "${product.sold-quantity.flush-interval-ms:3000}")
+    public void flushSoldQuantity() {
+        try {
+            soldQuantityCounterService.flush();
+        } catch (Exception e) {
+            log.error("Sold quantity flush failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushBeforeShutdown() {
+        flushSoldQuantity();
+    }
+}
@@ -0,0 +1,25 @@
+package home.project.schedule;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 폐기 목록을 Redis 에서 한 번이라도 읽기 전까지 OUT_OF_SERVICE 를 돌려줍니다.
+ * readiness 그룹에 포함되어 있어, 기동 시 읽기에 실패한 노드는 다음 동기화가 성공할 때까지 트래픽을 받지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationHealthIndicator implements HealthIndicator {
+
+    private final TokenRevocationSyncScheduler tokenRevocationSyncScheduler;
+
+    @Override
+    public Health health() {
+        if (tokenRevocationSyncScheduler.isLoaded()) {
+            return Health.up().build();
+        }
+        return Health.outOfService().withDetail("reason", "revoked token list not loaded").build();
+    }
+}
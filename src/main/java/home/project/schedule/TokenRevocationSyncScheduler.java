@@ -0,0 +1,47 @@
+package home.project.schedule;
+
+import home.project.service.security.TokenRevocationService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class TokenRevocationSyncScheduler {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private volatile boolean loaded;
+
+    // 웹 서버가 요청을 받기 전에 폐기 목록을 읽어, 기동 직후 폐기된 토큰이 통과하지 않게 합니다.
+    @PostConstruct
+    public void loadOnStartup() {
+        try {
+            tokenRevocationService.synchronize();
+            loaded = true;
+        } catch (Exception e) {
+            log.error("Loading revoked tokens on startup failed", e);
+        }
+    }
+
+    // 구독이 끊긴 동안 놓친 폐기 알림을 Redis 의 원본 목록으로 따라잡고, 만료된 항목을 정리합니다.
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:60000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:60000}")
+    public void synchronize() {
+        try {
+            tokenRevocationService.synchronize();
+            loaded = true;
+        } catch (Exception e) {
+            log.error("Scheduled revoked token synchronization failed", e);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
@@ -7,6 +7,7 @@ import home.project.domain.member.Member;
 import home.project.domain.member.RoleType;
 import home.project.domain.order.Orders;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateQnARequestDTO;
 import home.project.dto.responseDTO.QnADetailResponse;
 import home.project.dto.responseDTO.QnAResponse;
@@ -14,7 +15,7 @@ import home.project.dto.responseDTO.ReviewDetailResponse;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.repository.common.QnARepository;
 import home.project.repository.order.OrderRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.order.OrderService;
 import home.project.service.product.ProductService;
 import home.project.service.util.Converter;
@@ -22,8 +23,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,7 +34,7 @@ import java.time.LocalDateTime;
 public class QnAServiceImpl implements QnAService{
     private final QnARepository qnARepository;
     private final OrderRepository orderRepository;
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
     private final ProductService productService;
     private final OrderService orderService;
     private final Converter converter;
@@ -45,9 +44,7 @@ public class QnAServiceImpl implements QnAService{
     @Transactional
     public QnADetailResponse join(CreateQnARequestDTO createQnARequestDTO){
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        Member member = currentMemberResolver.currentMemberReference();
 
         Product product = null;
         Orders order = null;
@@ -87,17 +84,15 @@ public class QnAServiceImpl implements QnAService{
 
     @Override
     public Page<QnAResponse> findAll(Pageable pageable) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
 
         Page<QnA> pagedQnA = qnARepository.findAll(pageable);
 
-        if (member.getRole() == RoleType.center) {
+        if (member.role() == RoleType.center) {
         return converter.convertFromPagedQnAToPagedQnAResponse(pagedQnA);
         }
-        else if (member.getRole() == RoleType.admin) {
-            pagedQnA = qnARepository.findBySellerIdUsingMemberProduct(member.getId(), pageable);
+        else if (member.role() == RoleType.admin) {
+            pagedQnA = qnARepository.findBySellerIdUsingMemberProduct(member.id(), pageable);
         }
 
         return converter.convertFromPagedQnAToPagedQnAResponse(pagedQnA);
@@ -121,11 +116,9 @@ public class QnAServiceImpl implements QnAService{
     @Override
     public Page<QnAResponse> findAllMyQnA(Pageable pageable){
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
 
-        Page<QnA> pagedQnA = qnARepository.findAllByMemberId(member.getId(), pageable);
+        Page<QnA> pagedQnA = qnARepository.findAllByMemberId(member.id(), pageable);
 
         return converter.convertFromPagedQnAToPagedQnAResponse(pagedQnA);
     }
@@ -139,9 +132,7 @@ public class QnAServiceImpl implements QnAService{
     @Override
     @Transactional
     public QnADetailResponse addAnswer(Long qnAId, String answer) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member answerer = memberService.findByEmail(email);
+        Member answerer = currentMemberResolver.currentMemberReference();
 
         QnA qnA = findById(qnAId);
 
@@ -160,9 +151,7 @@ public class QnAServiceImpl implements QnAService{
     @Override
     @Transactional
     public QnADetailResponse updateAnswer(Long qnAId, String answer) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member answerer = memberService.findByEmail(email);
+        MemberSnapshot answerer = currentMemberResolver.currentMember();
 
         QnA qnA = findById(qnAId);
 
@@ -170,7 +159,7 @@ public class QnAServiceImpl implements QnAService{
             throw new IllegalStateException("답변 완료 상태의 QnA만 수정할 수 있습니다.");
         }
 
-        if (!qnA.getAnswerer().getId().equals(answerer.getId())) {
+        if (!qnA.getAnswerer().getId().equals(answerer.id())) {
             throw new IllegalStateException("답변 작성자만 수정할 수 있습니다.");
         }
 
@@ -183,9 +172,7 @@ public class QnAServiceImpl implements QnAService{
     @Override
     @Transactional
     public void deleteAnswer(Long qnAId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member answerer = memberService.findByEmail(email);
+        MemberSnapshot answerer = currentMemberResolver.currentMember();
 
         QnA qnA = findById(qnAId);
 
@@ -193,7 +180,7 @@ public class QnAServiceImpl implements QnAService{
             throw new IllegalStateException("답변 완료 상태의 QnA만 삭제할 수 있습니다.");
         }
 
-        if (!qnA.getAnswerer().getId().equals(answerer.getId())) {
+        if (!qnA.getAnswerer().getId().equals(answerer.id())) {
             throw new IllegalStateException("답변 작성자만 삭제할 수 있습니다.");
         }
 
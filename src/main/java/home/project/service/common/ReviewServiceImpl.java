@@ -5,13 +5,14 @@ import home.project.domain.delivery.DeliveryStatusType;
 import home.project.domain.member.Member;
 import home.project.domain.order.Orders;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateReviewRequestDTO;
 import home.project.dto.responseDTO.ReviewDetailResponse;
 import home.project.dto.responseDTO.ReviewProductResponse;
 import home.project.dto.responseDTO.ReviewResponse;
 import home.project.repository.common.ReviewRepository;
 import home.project.repository.order.OrderRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.order.OrderService;
 import home.project.service.product.ProductService;
 import home.project.service.util.Converter;
@@ -20,8 +21,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -34,7 +33,7 @@ import java.util.stream.Collectors;
 @Service
 @Transactional(readOnly = true)
 public class ReviewServiceImpl implements ReviewService{
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
     private final ProductService productService;
     private final OrderService orderService;
     private final ReviewRepository reviewRepository;
@@ -45,11 +44,9 @@ public class ReviewServiceImpl implements ReviewService{
 
     @Override
     public Page<ReviewProductResponse> getReviewableProducts(Pageable pageable) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
 
-        Page<Orders> pagedOrders = orderRepository.findByMemberId(member.getId(), pageable);
+        Page<Orders> pagedOrders = orderRepository.findByMemberId(member.id(), pageable);
 
         List<ReviewProductResponse> reviewProductResponses = pagedOrders.stream()
                 .filter(order -> order.getShipping() != null && order.getShipping().getDeliveryStatus() == DeliveryStatusType.PURCHASE_CONFIRMED)
@@ -79,9 +76,7 @@ public class ReviewServiceImpl implements ReviewService{
     @Transactional
     public ReviewDetailResponse join(Long productOrderId, CreateReviewRequestDTO createReviewRequestDTO , List<MultipartFile> imageUrls) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        Member member = currentMemberResolver.currentMemberReference();
 
         Product product = productService.findByProductIdAndConfirmHasPurchase(productOrderId);
 
@@ -110,11 +105,9 @@ public class ReviewServiceImpl implements ReviewService{
     @Override
     public Page<ReviewResponse> findAllMyReview(Pageable pageable){
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
 
-        Page<Review> pagedReview = reviewRepository.findAllByMemberId(member.getId(), pageable);
+        Page<Review> pagedReview = reviewRepository.findAllByMemberId(member.id(), pageable);
 
         return converter.convertFromPagedReviewToPagedReviewResponse(pagedReview);
     }
@@ -0,0 +1,221 @@
+package home.project.service.integration;
+
+import home.project.repository.outbox.ElasticsearchOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 문서 변경을 인덱스별로 모아 두었다가 색인과 삭제를 함께 _bulk 요청 한 번으로 반영하는 버퍼입니다.
+ * 같은 id 는 마지막 변경만 남기며, 삭제도 tombstone 으로 같은 자리에 들어가므로 앞서 쌓인 색인을 덮어씁니다.
+ * 건수/바이트 기준을 넘거나 스케줄러가 주기적으로 호출하면 비우고, 버퍼 전체가 상한을 넘으면 호출한 스레드가 직접 flush 합니다.
+ *
+ * 인덱스마다 flush 를 하나씩만 돌리므로, 전송 중이거나 실패해 다시 넣은 색인이 나중에 들어온 삭제보다 늦게 반영되지 않습니다.
+ * 각 변경은 자신을 만든 아웃박스 행 id 를 함께 들고 있다가, Elasticsearch 에 반영된 뒤에야 그 행을 지웁니다.
+ * 버퍼에 있는 동안 JVM 이 죽어도 행은 남아 있으므로 임대 시간이 지나면 릴레이가 다시 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchBulkIndexer {
+
+    private final IndexToElasticsearch indexToElasticsearch;
+    private final ElasticsearchOutboxRepository elasticsearchOutboxRepository;
+
+    private final Map<Class<?>, Buffer> buffers = new HashMap<>();
+    private final Map<Class<?>, ReentrantLock> flushLocks = new ConcurrentHashMap<>();
+    private long bufferedBytes;
+
+    @Value("${elasticsearch.bulk.max-actions:500}")
+    private int maxActions;
+
+    @Value("${elasticsearch.bulk.max-bytes:5242880}")
+    private long maxBytes;
+
+    @Value("${elasticsearch.bulk.max-buffered-bytes:20971520}")
+    private long maxBufferedBytes;
+
+    /**
+     * 문서 색인을 버퍼에 넣습니다.
+     *
+     * @param outboxIds 이 변경을 만든 아웃박스 행 id. 반영이 끝나면 삭제합니다.
+     */
+    public <T> void add(T document, Class<T> documentClass, Collection<Long> outboxIds) {
+        IndexQuery indexQuery = indexToElasticsearch.toIndexQuery(document, documentClass);
+        put(documentClass, new Entry(indexQuery.getId(), indexQuery, outboxIds));
+    }
+
+    /**
+     * 문서 삭제를 tombstone 으로 버퍼에 넣습니다. 같은 id 로 쌓여 있던 색인은 전송되지 않습니다.
+     *
+     * @param outboxIds 이 변경을 만든 아웃박스 행 id. 반영이 끝나면 삭제합니다.
+     */
+    public void delete(Class<?> documentClass, Long documentId, Collection<Long> outboxIds) {
+        put(documentClass, new Entry(String.valueOf(documentId), null, outboxIds));
+    }
+
+    public void flushAll() {
+        List<Class<?>> documentClasses;
+        synchronized (this) {
+            documentClasses = new ArrayList<>(buffers.keySet());
+        }
+        for (Class<?> documentClass : documentClasses) {
+            flush(documentClass);
+        }
+    }
+
+    public void flush(Class<?> documentClass) {
+        ReentrantLock lock = flushLocks.computeIfAbsent(documentClass, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            List<Entry> pending;
+            synchronized (this) {
+                Buffer buffer = buffers.remove(documentClass);
+                if (buffer == null || buffer.entries.isEmpty()) {
+                    return;
+                }
+                pending = new ArrayList<>(buffer.entries.values());
+                bufferedBytes -= buffer.bytes;
+            }
+
+            try {
+                send(documentClass, pending);
+            } catch (Exception e) {
+                log.error("Bulk indexing of {} {} changes failed", pending.size(), documentClass.getSimpleName(), e);
+                requeue(documentClass, pending);
+                return;
+            }
+            acknowledge(pending);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public synchronized int size() {
+        return buffers.values().stream().mapToInt(buffer -> buffer.entries.size()).sum();
+    }
+
+    private void put(Class<?> documentClass, Entry entry) {
+        boolean flushClass;
+        boolean flushAll;
+        synchronized (this) {
+            Buffer buffer = buffers.computeIfAbsent(documentClass, key -> new Buffer());
+            Entry previous = buffer.remove(entry.id);
+            if (previous != null) {
+                // 덮어쓴 변경의 아웃박스 행은 새 변경이 반영될 때 함께 지웁니다.
+                bufferedBytes -= previous.size();
+                entry.outboxIds.addAll(previous.outboxIds);
+            }
+            buffer.put(entry);
+            bufferedBytes += entry.size();
+
+            flushClass = buffer.entries.size() >= maxActions || buffer.bytes >= maxBytes;
+            flushAll = bufferedBytes >= maxBufferedBytes;
+        }
+
+        if (flushAll) {
+            flushAll();
+        } else if (flushClass) {
+            flush(documentClass);
+        }
+    }
+
+    // 색인과 삭제(tombstone)를 같은 _bulk 요청으로 보냅니다.
+    private void send(Class<?> documentClass, List<Entry> pending) throws IOException {
+        List<IndexQuery> indexQueries = new ArrayList<>();
+        List<String> deleteIds = new ArrayList<>();
+        for (Entry entry : pending) {
+            if (entry.isDelete()) {
+                deleteIds.add(entry.id);
+            } else {
+                indexQueries.add(entry.indexQuery);
+            }
+        }
+        indexToElasticsearch.bulk(documentClass, indexQueries, deleteIds);
+    }
+
+    // 반영이 끝난 변경의 아웃박스 행을 지웁니다. 실패해도 임대 시간 뒤 같은 내용으로 다시 반영될 뿐이므로 로그만 남깁니다.
+    private void acknowledge(List<Entry> sent) {
+        List<Long> outboxIds = new ArrayList<>();
+        for (Entry entry : sent) {
+            outboxIds.addAll(entry.outboxIds);
+        }
+        if (outboxIds.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchOutboxRepository.deleteAllByIdInBatch(outboxIds);
+        } catch (Exception e) {
+            log.warn("Failed to remove {} relayed outbox rows; they will be relayed again", outboxIds.size(), e);
+        }
+    }
+
+    // 실패한 변경은 그 사이 들어온 새 변경이 없을 때만, 버퍼 상한 안에서 다시 넣습니다. flush 잠금 안에서만 호출합니다.
+    private synchronized void requeue(Class<?> documentClass, List<Entry> failed) {
+        Buffer buffer = buffers.computeIfAbsent(documentClass, key -> new Buffer());
+        int dropped = 0;
+        for (Entry entry : failed) {
+            Entry newer = buffer.entries.get(entry.id);
+            if (newer != null) {
+                newer.outboxIds.addAll(entry.outboxIds);
+                continue;
+            }
+            if (bufferedBytes + entry.size() > maxBufferedBytes) {
+                dropped++;
+                continue;
+            }
+            buffer.put(entry);
+            bufferedBytes += entry.size();
+        }
+        if (dropped > 0) {
+            log.warn("Dropped {} {} changes from bulk buffer; their outbox rows will be relayed again", dropped, documentClass.getSimpleName());
+        }
+    }
+
+    // 문서 하나에 대한 마지막 변경. indexQuery 가 없으면 삭제(tombstone)입니다.
+    private static class Entry {
+        private final String id;
+        private final IndexQuery indexQuery;
+        private final Set<Long> outboxIds;
+
+        private Entry(String id, IndexQuery indexQuery, Collection<Long> outboxIds) {
+            this.id = id;
+            this.indexQuery = indexQuery;
+            this.outboxIds = new HashSet<>(outboxIds);
+        }
+
+        private boolean isDelete() {
+            return indexQuery == null;
+        }
+
+        private long size() {
+            return isDelete() ? id.length() : indexQuery.getSource().length();
+        }
+    }
+
+    // 인덱스 하나에 대한 버퍼. id 별 마지막 변경과 그 크기 합계를 함께 관리합니다.
+    private static class Buffer {
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+        private long bytes;
+
+        private void put(Entry entry) {
+            entries.put(entry.id, entry);
+            bytes += entry.size();
+        }
+
+        private Entry remove(String id) {
+            Entry removed = entries.remove(id);
+            if (removed != null) {
+                bytes -= removed.size();
+            }
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package home.project.service.integration;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 문서 클래스의 인덱스 이름(products, orders 등)을 별칭으로 두고, 실제 데이터는 버전이 붙은 인덱스(products_v7)에 저장합니다.
+ * 전체 재색인은 새 버전 인덱스에 복제본/refresh 를 끈 채로 적재한 뒤, 설정을 되돌리고 별칭을 원자적으로 옮긴 다음 이전 인덱스를 지웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchIndexManager {
+
+    private static final String SETTINGS_PATH = "elasticsearch/productsettings.json";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+
+    @Value("${elasticsearch.index.replicas:1}")
+    private int replicas;
+
+    @Value("${elasticsearch.index.refresh-interval:1s}")
+    private String refreshInterval;
+
+    public String aliasOf(Class<?> documentClass) {
+        return elasticsearchOperations.getIndexCoordinatesFor(documentClass).getIndexName();
+    }
+
+    /**
+     * 별칭도 인덱스도 없을 때 첫 버전 인덱스를 만들고 별칭을 연결합니다.
+     */
+    public void createInitialIndex(Class<?> documentClass) {
+        String alias = aliasOf(documentClass);
+        String index = createVersionedIndex(documentClass, false);
+        elasticsearchOperations.indexOps(IndexCoordinates.of(index)).alias(new AliasActions(
+                new AliasAction.Add(AliasActionParameters.builder().withIndices(index).withAliases(alias).build())));
+        log.info("Created index {} with alias {}", index, alias);
+    }
+
+    /**
+     * 재색인용 새 버전 인덱스를 만듭니다. 적재하는 동안에는 복제본과 refresh 를 끕니다.
+     */
+    public String createIndexForReload(Class<?> documentClass) {
+        String index = createVersionedIndex(documentClass, true);
+        log.info("Created index {} for reload", index);
+        return index;
+    }
+
+    /**
+     * 적재가 끝난 인덱스의 설정을 운영 값으로 되돌리고 별칭을 옮긴 뒤 이전 인덱스를 삭제합니다.
+     */
+    public void promote(Class<?> documentClass, String index) throws IOException {
+        String alias = aliasOf(documentClass);
+
+        elasticsearchClient.indices().putSettings(request -> request
+                .index(index)
+                .settings(settings -> settings
+                        .numberOfReplicas(String.valueOf(replicas))
+                        .refreshInterval(time -> time.time(refreshInterval))));
+        elasticsearchOperations.indexOps(IndexCoordinates.of(index)).refresh();
+
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder().withIndices(index).withAliases(alias).build()));
+
+        Set<String> previousIndices = new HashSet<>();
+        if (isConcreteIndex(alias)) {
+            // 별칭 도입 전의 실제 인덱스는 같은 요청 안에서 지워야 같은 이름의 별칭을 붙일 수 있습니다.
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(alias).build()));
+        } else {
+            previousIndices.addAll(indicesOfAlias(alias));
+            previousIndices.remove(index);
+            for (String previous : previousIndices) {
+                actions.add(new AliasAction.Remove(AliasActionParameters.builder().withIndices(previous).withAliases(alias).build()));
+            }
+        }
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of(index)).alias(new AliasActions(actions.toArray(new AliasAction[0])));
+        log.info("Alias {} now points to {}", alias, index);
+
+        for (String previous : previousIndices) {
+            elasticsearchOperations.indexOps(IndexCoordinates.of(previous)).delete();
+            log.info("Deleted previous index {}", previous);
+        }
+    }
+
+    /**
+     * 실패한 재색인의 인덱스를 지웁니다. 별칭이 가리키는 인덱스는 지우지 않습니다.
+     */
+    public void discard(Class<?> documentClass, String index) {
+        try {
+            if (indicesOfAlias(aliasOf(documentClass)).contains(index)) {
+                return;
+            }
+            elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete();
+            log.info("Discarded index {}", index);
+        } catch (Exception e) {
+            log.error("Failed to discard index {}", index, e);
+        }
+    }
+
+    private String createVersionedIndex(Class<?> documentClass, boolean forReload) {
+        String alias = aliasOf(documentClass);
+        String index = alias + "_v" + nextVersion(alias);
+
+        Map<String, Object> settings = new LinkedHashMap<>(loadSettings());
+        settings.put("number_of_replicas", forReload ? 0 : replicas);
+        settings.put("refresh_interval", forReload ? "-1" : refreshInterval);
+
+        IndexOperations indexOperations = elasticsearchOperations.indexOps(IndexCoordinates.of(index));
+        indexOperations.create(settings, indexOperations.createMapping(documentClass));
+        return index;
+    }
+
+    private long nextVersion(String alias) {
+        try {
+            String prefix = alias + "_v";
+            return elasticsearchClient.indices().get(request -> request.index(prefix + "*")).result().keySet().stream()
+                    .map(name -> name.substring(prefix.length()))
+                    .filter(version -> version.chars().allMatch(Character::isDigit) && !version.isEmpty())
+                    .mapToLong(Long::parseLong)
+                    .max()
+                    .orElse(0L) + 1;
+        } catch (IOException e) {
+            throw new IllegalStateException(alias + " 인덱스 버전을 조회하지 못했습니다.", e);
+        }
+    }
+
+    private boolean isConcreteIndex(String name) {
+        try {
+            return elasticsearchClient.indices().get(request -> request.index(name).ignoreUnavailable(true))
+                    .result().containsKey(name);
+        } catch (IOException e) {
+            throw new IllegalStateException(name + " 인덱스를 조회하지 못했습니다.", e);
+        }
+    }
+
+    private Set<String> indicesOfAlias(String alias) {
+        try {
+            if (!elasticsearchClient.indices().existsAlias(request -> request.name(alias)).value()) {
+                return Set.of();
+            }
+            return new HashSet<>(elasticsearchClient.indices().getAlias(request -> request.name(alias)).result().keySet());
+        } catch (IOException e) {
+            throw new IllegalStateException(alias + " 별칭을 조회하지 못했습니다.", e);
+        }
+    }
+
+    private Map<String, Object> loadSettings() {
+        try (InputStream inputStream = new ClassPathResource(SETTINGS_PATH).getInputStream()) {
+            return Document.parse(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(SETTINGS_PATH + " 를 읽지 못했습니다.", e);
+        }
+    }
+}
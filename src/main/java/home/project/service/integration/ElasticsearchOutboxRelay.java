@@ -0,0 +1,263 @@
+package home.project.service.integration;
+
+import home.project.domain.elasticsearch.CouponDocument;
+import home.project.domain.elasticsearch.MemberDocument;
+import home.project.domain.elasticsearch.OrdersDocument;
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.domain.member.Member;
+import home.project.domain.order.Orders;
+import home.project.domain.outbox.ElasticsearchOutbox;
+import home.project.domain.outbox.OutboxDocumentType;
+import home.project.domain.outbox.OutboxOperation;
+import home.project.domain.product.Coupon;
+import home.project.domain.product.Product;
+import home.project.repository.member.MemberRepository;
+import home.project.repository.order.OrderRepository;
+import home.project.repository.outbox.ElasticsearchOutboxRepository;
+import home.project.repository.product.ProductRepository;
+import home.project.repository.promotion.CouponRepository;
+import home.project.service.util.Converter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 아웃박스에 쌓인 변경을 id 순서대로 읽어 Elasticsearch 에 bulk 로 반영합니다.
+ * 같은 문서에 대한 변경은 마지막 것만 반영하고, 실패한 행은 지수 백오프로 재시도합니다.
+ * 행은 FOR UPDATE SKIP LOCKED 로 가져오므로 여러 노드가 함께 돌아도 같은 행을 두 번 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ElasticsearchOutboxRelay {
+
+    private static final long MAX_BACKOFF_SECONDS = 300;
+
+    private final ElasticsearchOutboxRepository elasticsearchOutboxRepository;
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final CouponRepository couponRepository;
+    private final Converter converter;
+    private final IndexToElasticsearch indexToElasticsearch;
+    private final ElasticsearchBulkIndexer elasticsearchBulkIndexer;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    @Value("${elasticsearch.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 가져간 행을 다른 노드가 다시 가져가지 않도록 재시도 시각을 미뤄 두는 시간. Elasticsearch 호출 시간보다 길어야 합니다.
+    @Value("${elasticsearch.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    // 버퍼링 색인을 사용하는 문서 타입. 버퍼로 넘긴 행은 임대 상태로 남겨 두고, 버퍼가 반영한 뒤에 지웁니다.
+    @Value("${elasticsearch.bulk.buffered-types:}")
+    private Set<OutboxDocumentType> bufferedTypes;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("elasticsearch.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 미반영 아웃박스 행의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("elasticsearch.outbox.pending", pendingCount, AtomicLong::get)
+                .description("미반영 아웃박스 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재시도 시각이 지난 아웃박스 행을 한 배치만큼 반영합니다.
+     *
+     * 짧은 트랜잭션에서 행을 잠가 가져오고 임대 시간만큼 재시도 시각을 미뤄 다른 노드가 가져가지 못하게 한 뒤,
+     * 같은 트랜잭션에서 문서를 만들어 둡니다. Elasticsearch 호출은 트랜잭션 밖에서 하고, 결과는 다시 짧은 트랜잭션으로 기록합니다.
+     * 호출 도중 노드가 죽으면 임대 시간이 지난 뒤 다른 노드가 다시 처리합니다.
+     * 버퍼링 대상 타입은 버퍼에 넘긴 행을 지우지 않고 임대 상태로 두며, {@link ElasticsearchBulkIndexer} 가 반영한 뒤 지웁니다.
+     *
+     * @return 배치가 가득 차 더 처리할 행이 남아 있을 수 있으면 true
+     */
+    public boolean relay() {
+        LocalDateTime now = LocalDateTime.now();
+        Claim claim = transactionTemplate.execute(status -> claim(now));
+
+        if (claim != null && !claim.batch().isEmpty()) {
+            Set<OutboxDocumentType> failedTypes = EnumSet.noneOf(OutboxDocumentType.class);
+            failedTypes.addAll(claim.failedTypes());
+            Set<Long> bufferedOutboxIds = new HashSet<>();
+            claim.changes().forEach((type, changes) -> {
+                try {
+                    if (bufferedTypes.contains(type)) {
+                        bufferedOutboxIds.addAll(buffer(changes));
+                    } else {
+                        send(changes);
+                    }
+                } catch (Exception e) {
+                    log.error("Elasticsearch outbox relay failed for {}", type, e);
+                    failedTypes.add(type);
+                }
+            });
+            transactionTemplate.execute(status -> {
+                complete(claim.batch(), failedTypes, bufferedOutboxIds, now);
+                return null;
+            });
+        }
+
+        return claim != null && claim.batch().size() == batchSize;
+    }
+
+    private Claim claim(LocalDateTime now) {
+        List<ElasticsearchOutbox> batch = elasticsearchOutboxRepository.findDueForUpdateSkipLocked(now, batchSize);
+        if (batch.isEmpty()) {
+            return new Claim(batch, Map.of(), Set.of());
+        }
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        batch.forEach(outbox -> outbox.setNextAttemptAt(leaseUntil));
+
+        // id 순으로 읽었으므로 나중 행이 앞의 행을 덮어써 문서별 마지막 변경만 남습니다.
+        Map<OutboxDocumentType, Map<Long, OutboxOperation>> latest = new EnumMap<>(OutboxDocumentType.class);
+        Map<OutboxDocumentType, Map<Long, List<Long>>> outboxIds = new EnumMap<>(OutboxDocumentType.class);
+        for (ElasticsearchOutbox outbox : batch) {
+            latest.computeIfAbsent(outbox.getDocumentType(), type -> new LinkedHashMap<>())
+                    .put(outbox.getDocumentId(), outbox.getOperation());
+            outboxIds.computeIfAbsent(outbox.getDocumentType(), type -> new HashMap<>())
+                    .computeIfAbsent(outbox.getDocumentId(), id -> new ArrayList<>())
+                    .add(outbox.getId());
+        }
+
+        // 지연 로딩 연관을 읽어야 하므로 문서 변환까지는 트랜잭션 안에서 끝냅니다.
+        Map<OutboxDocumentType, Changes<?>> changes = new EnumMap<>(OutboxDocumentType.class);
+        Set<OutboxDocumentType> failedTypes = EnumSet.noneOf(OutboxDocumentType.class);
+        latest.forEach((type, operations) -> {
+            try {
+                changes.put(type, prepare(type, operations, outboxIds.get(type)));
+            } catch (Exception e) {
+                log.error("Failed to load documents for Elasticsearch outbox relay: {}", type, e);
+                failedTypes.add(type);
+            }
+        });
+        return new Claim(batch, changes, failedTypes);
+    }
+
+    private Changes<?> prepare(OutboxDocumentType type, Map<Long, OutboxOperation> operations,
+                               Map<Long, List<Long>> outboxIds) {
+        List<Long> indexIds = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+        operations.forEach((id, operation) -> (operation == OutboxOperation.INDEX ? indexIds : deleteIds).add(id));
+
+        return switch (type) {
+            case MEMBER -> load(indexIds, deleteIds, memberRepository::findAllById, Member::getId,
+                    converter::convertFromMemberToMemberDocument, MemberDocument.class, outboxIds);
+            case PRODUCT -> load(indexIds, deleteIds, productRepository::findAllById, Product::getId,
+                    converter::convertFromProductToProductDocument, ProductDocument.class, outboxIds);
+            case ORDER -> load(indexIds, deleteIds, orderRepository::findAllById, Orders::getId,
+                    converter::convertFromOrderToOrdersDocument, OrdersDocument.class, outboxIds);
+            case COUPON -> load(indexIds, deleteIds, couponRepository::findAllById, Coupon::getId,
+                    converter::convertFromCouponToCouponDocument, CouponDocument.class, outboxIds);
+        };
+    }
+
+    private <E, D> Changes<D> load(List<Long> indexIds, List<Long> deleteIds,
+                                   Function<List<Long>, List<E>> loader, Function<E, Long> idOf,
+                                   Function<E, D> toDocument, Class<D> documentClass,
+                                   Map<Long, List<Long>> outboxIds) {
+        Map<Long, D> documents = new LinkedHashMap<>();
+        if (!indexIds.isEmpty()) {
+            for (E entity : loader.apply(indexIds)) {
+                documents.put(idOf.apply(entity), toDocument.apply(entity));
+            }
+        }
+        return new Changes<>(documentClass, documents, deleteIds, outboxIds);
+    }
+
+    // 색인과 삭제를 같은 _bulk 요청으로 보냅니다.
+    private <D> void send(Changes<D> changes) throws IOException {
+        List<IndexQuery> indexQueries = new ArrayList<>(changes.documents().size());
+        for (D document : changes.documents().values()) {
+            indexQueries.add(indexToElasticsearch.toIndexQuery(document, changes.documentClass()));
+        }
+        List<String> deleteIds = changes.deleteIds().stream().map(String::valueOf).toList();
+        indexToElasticsearch.bulk(changes.documentClass(), indexQueries, deleteIds);
+    }
+
+    // 버퍼에 넘긴 변경의 아웃박스 행 id 를 돌려줍니다. 그 사이 원본이 삭제돼 넘기지 못한 행은 처리한 것으로 봅니다.
+    private <D> Set<Long> buffer(Changes<D> changes) {
+        Set<Long> buffered = new HashSet<>();
+        changes.documents().forEach((id, document) -> {
+            List<Long> rows = changes.outboxIds().get(id);
+            elasticsearchBulkIndexer.add(document, changes.documentClass(), rows);
+            buffered.addAll(rows);
+        });
+        for (Long id : changes.deleteIds()) {
+            List<Long> rows = changes.outboxIds().get(id);
+            elasticsearchBulkIndexer.delete(changes.documentClass(), id, rows);
+            buffered.addAll(rows);
+        }
+        return buffered;
+    }
+
+    private void complete(List<ElasticsearchOutbox> batch, Set<OutboxDocumentType> failedTypes,
+                          Set<Long> bufferedOutboxIds, LocalDateTime now) {
+        List<Long> doneIds = new ArrayList<>();
+        List<ElasticsearchOutbox> failed = new ArrayList<>();
+        for (ElasticsearchOutbox outbox : batch) {
+            if (bufferedOutboxIds.contains(outbox.getId())) {
+                continue;
+            }
+            if (failedTypes.contains(outbox.getDocumentType())) {
+                int attempts = outbox.getAttempts() + 1;
+                outbox.setAttempts(attempts);
+                outbox.setNextAttemptAt(now.plusSeconds(backoffSeconds(attempts)));
+                failed.add(outbox);
+            } else {
+                doneIds.add(outbox.getId());
+            }
+        }
+        if (!doneIds.isEmpty()) {
+            elasticsearchOutboxRepository.deleteAllByIdInBatch(doneIds);
+        }
+        if (!failed.isEmpty()) {
+            elasticsearchOutboxRepository.saveAll(failed);
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        return Math.min(1L << Math.min(attempts, 30), MAX_BACKOFF_SECONDS);
+    }
+
+    /**
+     * 미반영 행 수와 가장 오래된 행의 대기 시간을 다시 잽니다.
+     * 전체 COUNT(*) 가 필요하므로 릴레이 루프와 별도로 느린 주기로 호출합니다.
+     */
+    public void updateMetrics() {
+        LocalDateTime now = LocalDateTime.now();
+        pendingCount.set(elasticsearchOutboxRepository.count());
+        lagSeconds.set(elasticsearchOutboxRepository.findFirstByOrderByIdAsc()
+                .map(oldest -> Math.max(Duration.between(oldest.getCreatedAt(), now).getSeconds(), 0))
+                .orElse(0L));
+    }
+
+    // 트랜잭션 안에서 가져온 행과, 트랜잭션 밖에서 보낼 문서 타입별 변경
+    private record Claim(List<ElasticsearchOutbox> batch, Map<OutboxDocumentType, Changes<?>> changes,
+                         Set<OutboxDocumentType> failedTypes) {
+    }
+
+    private record Changes<D>(Class<D> documentClass, Map<Long, D> documents, List<Long> deleteIds,
+                              Map<Long, List<Long>> outboxIds) {
+    }
+}
@@ -0,0 +1,32 @@
+package home.project.service.integration;
+
+import home.project.domain.outbox.ElasticsearchOutbox;
+import home.project.domain.outbox.ElasticsearchTombstone;
+import home.project.domain.outbox.OutboxDocumentType;
+import home.project.domain.outbox.OutboxOperation;
+import home.project.repository.outbox.ElasticsearchOutboxRepository;
+import home.project.repository.outbox.ElasticsearchTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 호출한 쪽의 트랜잭션 안에서 Elasticsearch 반영 요청을 아웃박스에 기록합니다.
+ * 실제 색인은 {@link ElasticsearchOutboxRelay} 가 커밋된 행만 읽어 처리하므로 DB 와 검색 인덱스가 어긋나지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ElasticsearchOutboxService {
+
+    private final ElasticsearchOutboxRepository elasticsearchOutboxRepository;
+    private final ElasticsearchTombstoneRepository elasticsearchTombstoneRepository;
+
+    public void enqueueIndex(OutboxDocumentType documentType, Long documentId) {
+        elasticsearchOutboxRepository.save(new ElasticsearchOutbox(documentType, documentId, OutboxOperation.INDEX));
+    }
+
+    public void enqueueDelete(OutboxDocumentType documentType, Long documentId) {
+        elasticsearchOutboxRepository.save(new ElasticsearchOutbox(documentType, documentId, OutboxOperation.DELETE));
+        // 증분 동기화가 릴레이와 별개로 삭제를 반영할 수 있도록 남겨 둡니다.
+        elasticsearchTombstoneRepository.save(new ElasticsearchTombstone(documentType, documentId));
+    }
+}
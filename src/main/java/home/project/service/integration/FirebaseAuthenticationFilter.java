@@ -1,5 +1,6 @@
 package home.project.service.integration;
 
+import home.project.config.security.SecurityPathMatchers;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,10 +12,9 @@ import org.springframework.security.web.authentication.AbstractAuthenticationPro
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import java.io.IOException;
-import java.util.List;
 
 public class FirebaseAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
-    private List<String> permitAllPaths;
+    private SecurityPathMatchers permitAllMatchers;
 
     public FirebaseAuthenticationFilter(AuthenticationManager authenticationManager) {
         // 소셜 로그인 관련 URL 패턴만 지정
@@ -30,8 +30,7 @@ public class FirebaseAuthenticationFilter extends AbstractAuthenticationProcessi
             return false;
         }
 
-        return permitAllPaths == null || permitAllPaths.stream()
-                .noneMatch(pattern -> new AntPathRequestMatcher(pattern).matches(request));
+        return permitAllMatchers == null || !permitAllMatchers.isPermitAll(request);
     }
 
     @Override
@@ -54,7 +53,7 @@ public class FirebaseAuthenticationFilter extends AbstractAuthenticationProcessi
         chain.doFilter(request, response);
     }
 
-    public void setPermitAllPaths(List<String> permitAllPaths) {
-        this.permitAllPaths = permitAllPaths;
+    public void setPermitAllMatchers(SecurityPathMatchers permitAllMatchers) {
+        this.permitAllMatchers = permitAllMatchers;
     }
 }
\ No newline at end of file
@@ -1,51 +1,38 @@
 package home.project.service.integration;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.json.JsonData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.ElasticsearchPersistentEntity;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
 public class IndexToElasticsearch {
     private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchIndexManager elasticsearchIndexManager;
+    private final ElasticsearchClient elasticsearchClient;
 
-    public <T> void indexDocumentToElasticsearch(T document, Class<T> documentClass) {
-        IndexOperations indexOperations = elasticsearchOperations.indexOps(documentClass);
+    // 존재가 확인된 인덱스의 문서 클래스. 매 저장마다 exists 요청을 보내지 않도록 캐시합니다.
+    private final Set<Class<?>> existingIndices = ConcurrentHashMap.newKeySet();
 
+    public <T> void indexDocumentToElasticsearch(T document, Class<T> documentClass) {
         try {
-            if (!indexOperations.exists()) {
-                // 기존 인덱스가 있다면 삭제
-                indexOperations.delete();
-
-                // 설정 생성
-                Map<String, Object> settings = Map.of(
-                        "index", Map.of(
-                                "analysis", Map.of(
-                                        "tokenizer", Map.of(
-                                                "nori_tokenizer", Map.of(
-                                                        "type", "nori_tokenizer",
-                                                        "decompound_mode", "mixed"
-                                                )
-                                        ),
-                                        "analyzer", Map.of(
-                                                "korean", Map.of(
-                                                        "type", "custom",
-                                                        "tokenizer", "nori_tokenizer",
-                                                        "filter", List.of("lowercase", "trim")
-                                                )
-                                        )
-                                )
-                        )
-                );
-
-                // 인덱스 설정과 함께 생성
-                indexOperations.create(settings);
-                indexOperations.putMapping(indexOperations.createMapping(documentClass));
-            }
+            createIndexIfMissing(documentClass);
 
             // Elasticsearch에 문서 색인
             elasticsearchOperations.save(document);
@@ -56,6 +43,74 @@ public class IndexToElasticsearch {
             throw e;
         }
     }
+
+    public <T> void indexDocumentsToElasticsearch(List<T> documents, Class<T> documentClass) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        createIndexIfMissing(documentClass);
+
+        // 여러 문서를 bulk 요청 한 번으로 색인
+        elasticsearchOperations.save(documents);
+    }
+
+    /**
+     * 색인과 삭제를 _bulk 요청 한 번으로 보냅니다. 항목 하나라도 실패하면 예외를 던지며, 이미 없는 문서의 삭제는 성공으로 봅니다.
+     */
+    public void bulk(Class<?> documentClass, List<IndexQuery> indexQueries, Collection<String> deleteIds) throws IOException {
+        if (indexQueries.isEmpty() && deleteIds.isEmpty()) {
+            return;
+        }
+        createIndexIfMissing(documentClass);
+        String index = elasticsearchOperations.getIndexCoordinatesFor(documentClass).getIndexName();
+
+        List<BulkOperation> operations = new ArrayList<>(indexQueries.size() + deleteIds.size());
+        for (IndexQuery indexQuery : indexQueries) {
+            operations.add(BulkOperation.of(operation -> operation.index(request -> request
+                    .index(index)
+                    .id(indexQuery.getId())
+                    .document(JsonData.fromJson(indexQuery.getSource())))));
+        }
+        for (String id : deleteIds) {
+            operations.add(BulkOperation.of(operation -> operation.delete(request -> request.index(index).id(id))));
+        }
+
+        BulkResponse response = elasticsearchClient.bulk(request -> request.operations(operations));
+        if (response.errors()) {
+            List<String> failures = response.items().stream()
+                    .filter(item -> item.error() != null)
+                    .map(item -> item.id() + ": " + item.error().reason())
+                    .toList();
+            throw new IllegalStateException("Bulk request to " + index + " failed for " + failures.size() + " items: " + failures);
+        }
+    }
+
+    // 문서를 매핑에 맞춰 JSON 으로 변환해 bulk 요청에 넣을 색인 요청을 만듭니다.
+    <T> IndexQuery toIndexQuery(T document, Class<T> documentClass) {
+        ElasticsearchConverter converter = elasticsearchOperations.getElasticsearchConverter();
+        ElasticsearchPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(documentClass);
+        Object id = entity.getIdentifierAccessor(document).getRequiredIdentifier();
+
+        Document source = Document.create();
+        converter.write(document, source);
+
+        return new IndexQueryBuilder()
+                .withId(String.valueOf(id))
+                .withSource(source.toJson())
+                .build();
+    }
+
+    <T> void createIndexIfMissing(Class<T> documentClass) {
+        if (existingIndices.contains(documentClass)) {
+            return;
+        }
+        // 별칭 또는 인덱스가 있으면 그대로 사용하고, 없을 때만 버전 인덱스를 만들어 별칭을 연결합니다.
+        if (!elasticsearchOperations.indexOps(documentClass).exists()) {
+            elasticsearchIndexManager.createInitialIndex(documentClass);
+        }
+        existingIndices.add(documentClass);
+    }
+
     public <T> void deleteDocumentFromElasticsearch(Long documentId, Class<T> documentClass) {
         try {
             // Long 타입의 ID를 String으로 변환하여 Elasticsearch에서 문서 삭제
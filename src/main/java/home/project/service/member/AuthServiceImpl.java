@@ -1,5 +1,6 @@
 package home.project.service.member;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.member.Member;
 import home.project.domain.member.RoleType;
 import home.project.dto.requestDTO.LoginRequestDTO;
@@ -7,6 +8,7 @@ import home.project.dto.responseDTO.RoleResponse;
 import home.project.dto.responseDTO.TokenResponse;
 import home.project.repository.member.MemberRepository;
 import home.project.service.security.JwtTokenProvider;
+import home.project.service.security.LoginRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,10 +18,13 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 import static home.project.domain.member.RoleType.*;
 
 
@@ -33,18 +38,29 @@ public class AuthServiceImpl implements AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberService memberService;
     private final MemberRepository memberRepository;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Override
     public TokenResponse login(LoginRequestDTO loginRequestDTO) {
-        UserDetails member = userDetailsService.loadUserByUsername(loginRequestDTO.getEmail());
+        loginRateLimiter.checkLogin(loginRequestDTO.getEmail());
+
+        UserDetails member;
+        try {
+            member = userDetailsService.loadUserByUsername(loginRequestDTO.getEmail());
+        } catch (UsernameNotFoundException e) {
+            loginRateLimiter.recordLoginFailure(loginRequestDTO.getEmail());
+            throw e;
+        }
+        // BCrypt 는 여기서 한 번만 확인합니다. authenticationManager 를 다시 거치면 같은 해시를 두 번 계산합니다.
         if (!passwordEncoder.matches(loginRequestDTO.getPassword(), member.getPassword())) {
+            loginRateLimiter.recordLoginFailure(loginRequestDTO.getEmail());
             throw new BadCredentialsException("비밀번호를 확인해주세요.");
         }
-        Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(loginRequestDTO.getEmail(), loginRequestDTO.getPassword()));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(member, null, member.getAuthorities());
         TokenResponse TokenResponse = jwtTokenProvider.generateToken(authentication);
 
-        Long id = memberService.findByEmail(loginRequestDTO.getEmail()).getId();
-        RoleType role = memberService.findById(id).getRole();
+        RoleType role = memberService.findByEmail(loginRequestDTO.getEmail()).getRole();
         TokenResponse.setRole(role);
         return TokenResponse;
     }
@@ -84,6 +100,7 @@ public class AuthServiceImpl implements AuthService {
         member.setRole(authority);
 
         memberRepository.save(member);
+        cacheTagInvalidator.evictTags(MemberCacheTagResolver.CACHE_NAME, Set.of(MemberCacheTagResolver.memberTag(id)));
     }
 
     @Override
@@ -0,0 +1,60 @@
+package home.project.service.member;
+
+import home.project.domain.member.Member;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 로그인한 회원을 요청당 한 번만 조회합니다.
+ * 조회 결과는 요청 속성에 보관해 같은 요청의 다른 서비스 호출이 다시 쓰고, 요청 사이에서는 이메일을 키로 한 짧은 TTL 캐시를 거칩니다.
+ * 스케줄러나 Kafka 리스너처럼 HTTP 요청 밖에서 호출되면 요청 속성 없이 캐시만 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberResolver {
+
+    private static final String ANONYMOUS_USER = "anonymousUser";
+    private static final String ATTRIBUTE_NAME = CurrentMemberResolver.class.getName() + ".member";
+
+    private final MemberService memberService;
+
+    public String currentEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : ANONYMOUS_USER;
+    }
+
+    public boolean isAnonymous() {
+        return ANONYMOUS_USER.equals(currentEmail());
+    }
+
+    /**
+     * 현재 회원의 요약 정보입니다. 등록되지 않은 이메일이면 IdNotFoundException 을 던집니다.
+     */
+    public MemberSnapshot currentMember() {
+        String email = currentEmail();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST) instanceof MemberSnapshot member
+                && member.email().equals(email)) {
+            return member;
+        }
+
+        MemberSnapshot member = memberService.findSnapshotByEmail(email);
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(ATTRIBUTE_NAME, member, RequestAttributes.SCOPE_REQUEST);
+        }
+        return member;
+    }
+
+    /**
+     * 연관관계 설정용 현재 회원 참조입니다. 회원 테이블을 조회하지 않는 프록시를 돌려줍니다.
+     */
+    public Member currentMemberReference() {
+        return memberService.getReferenceById(currentMember().id());
+    }
+}
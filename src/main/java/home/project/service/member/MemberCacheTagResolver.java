@@ -0,0 +1,28 @@
+package home.project.service.member;
+
+import home.project.config.redis.CacheTagResolver;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * member 캐시 값에 회원 ID 태그를 붙입니다. 캐시 키는 이메일이라, 이메일을 모르는 곳에서도 ID 로 지울 수 있게 합니다.
+ */
+@Component
+public class MemberCacheTagResolver implements CacheTagResolver {
+
+    public static final String CACHE_NAME = "member";
+
+    public static String memberTag(Long memberId) {
+        return "member:" + memberId;
+    }
+
+    @Override
+    public Set<String> resolveTags(String cacheName, String key, Object value) {
+        if (CACHE_NAME.equals(cacheName) && value instanceof MemberSnapshot member) {
+            return Set.of(memberTag(member.id()));
+        }
+        return Set.of();
+    }
+}
@@ -1,6 +1,7 @@
 package home.project.service.member;
 
 import home.project.domain.member.Member;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateMemberRequestDTO;
 import home.project.dto.requestDTO.CreateSocialMemberRequestDTO;
 import home.project.dto.requestDTO.UpdateMemberRequestDTO;
@@ -23,6 +24,10 @@ public interface MemberService {
 
     Member findByEmail(String email);
 
+    MemberSnapshot findSnapshotByEmail(String email);
+
+    Member getReferenceById(Long memberId);
+
     Page<Member> findAll(Pageable pageable);
 
     Page<MemberResponse> findAllReturnPagedMemberResponse(Pageable pageable);
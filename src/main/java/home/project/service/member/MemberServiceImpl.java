@@ -3,6 +3,8 @@ package home.project.service.member;
 import home.project.domain.elasticsearch.MemberDocument;
 import home.project.domain.member.Member;
 import home.project.domain.member.RoleType;
+import home.project.domain.outbox.OutboxDocumentType;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateMemberRequestDTO;
 import home.project.dto.requestDTO.CreateSocialMemberRequestDTO;
 import home.project.dto.requestDTO.UpdateMemberRequestDTO;
@@ -10,48 +12,57 @@ import home.project.dto.requestDTO.VerifyUserRequestDTO;
 import home.project.dto.responseDTO.MemberResponse;
 import home.project.dto.responseDTO.MemberResponseForUser;
 import home.project.dto.responseDTO.TokenResponse;
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.exceptions.exception.NoChangeException;
 import home.project.repository.member.MemberRepository;
 import home.project.repositoryForElasticsearch.MemberElasticsearchRepository;
 import home.project.service.util.Converter;
 import home.project.service.common.EmailService;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
 import home.project.service.security.JwtTokenProvider;
+import home.project.service.security.LoginRateLimiter;
 import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
 public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final UserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
     private final Converter converter;
-    private final IndexToElasticsearch indexToElasticsearch;
-    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchOutboxService elasticsearchOutboxService;
     private final MemberElasticsearchRepository memberElasticsearchRepository;
     private final EmailService emailService;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final LoginRateLimiter loginRateLimiter;
+    // CurrentMemberResolver 가 MemberService 에 의존하므로 순환 참조를 피해 지연 조회합니다.
+    private final ObjectProvider<CurrentMemberResolver> currentMemberResolver;
 
 
 
     @Override
     @Transactional
     public TokenResponse join(CreateMemberRequestDTO createMemberRequestDTO) {
+        loginRateLimiter.checkSignup();
 
         if (!createMemberRequestDTO.getPassword().equals(createMemberRequestDTO.getPasswordConfirm())) {
             throw new IllegalStateException("비밀번호와 비밀번호 확인이 일치하지 않습니다.");
@@ -70,16 +81,11 @@ public class MemberServiceImpl implements MemberService {
         Member member = converter.convertFromCreateMemberRequestDTOToMember(createMemberRequestDTO);
         memberRepository.save(member);
 
-        MemberDocument memberDocument = converter.convertFromMemberToMemberDocument(member);
-        try {
-            indexToElasticsearch.indexDocumentToElasticsearch(memberDocument, MemberDocument.class);
-        } catch (Exception e) {
-            System.out.println("에러 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.MEMBER, member.getId());
 
-        Authentication authentication =
-                authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(createMemberRequestDTO.getEmail(), createMemberRequestDTO.getPassword()));
+        // 방금 인코딩한 비밀번호를 다시 BCrypt 로 확인할 필요는 없으므로 저장된 회원으로 바로 인증 객체를 만듭니다.
+        UserDetails userDetails = userDetailsService.loadUserByUsername(member.getEmail());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         TokenResponse TokenResponse = jwtTokenProvider.generateToken(authentication);
 
         RoleType savedRole = findById(member.getId()).getRole();
@@ -111,10 +117,7 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public MemberResponse memberInfo() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Long memberId = findByEmail(email).getId();
-        Member member = findById(memberId);
+        Member member = findById(currentMemberResolver.getObject().currentMember().id());
         return converter.convertFromMemberToMemberResponse(member);
     }
 
@@ -130,6 +133,17 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new IdNotFoundException(email + "(으)로 등록된 회원이 없습니다."));
     }
 
+    @Override
+    @Cacheable(cacheNames = MemberCacheTagResolver.CACHE_NAME, key = "'member:email:' + #email", sync = true)
+    public MemberSnapshot findSnapshotByEmail(String email) {
+        return MemberSnapshot.from(findByEmail(email));
+    }
+
+    @Override
+    public Member getReferenceById(Long memberId) {
+        return memberRepository.getReferenceById(memberId);
+    }
+
     @Override
     public Page<Member> findAll(Pageable pageable) {
         return memberRepository.findAll(pageable);
@@ -229,8 +243,8 @@ public class MemberServiceImpl implements MemberService {
 
         Member updatedMember = memberRepository.save(existingMember);
 
-        MemberDocument memberDocument = converter.convertFromMemberToMemberDocument(existingMember);
-        indexToElasticsearch.indexDocumentToElasticsearch(memberDocument, MemberDocument.class);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.MEMBER, existingMember.getId());
+        evictMemberSnapshot(existingMember.getId());
 
         return new MemberResponseForUser(
                 updatedMember.getId(),
@@ -253,7 +267,8 @@ public class MemberServiceImpl implements MemberService {
     public String deleteById(Long memberId) {
         String email = findById(memberId).getEmail();
         memberRepository.deleteById(memberId);
-        elasticsearchOperations.delete(String.valueOf(memberId), MemberDocument.class);
+        elasticsearchOutboxService.enqueueDelete(OutboxDocumentType.MEMBER, memberId);
+        evictMemberSnapshot(memberId);
 
         return email;
     }
@@ -266,10 +281,16 @@ public class MemberServiceImpl implements MemberService {
             throw new JwtException("유효하지 않은 본인인증 토큰입니다. 본인인증을 다시 진행해주세요.");
         }
         memberRepository.deleteById(memberId);
-        elasticsearchOperations.delete(String.valueOf(memberId), MemberDocument.class);
+        elasticsearchOutboxService.enqueueDelete(OutboxDocumentType.MEMBER, memberId);
+        evictMemberSnapshot(memberId);
         return email;
     }
 
+    // 이메일, 권한, 등급이 바뀌거나 탈퇴한 회원의 요약 캐시를 커밋 후 지웁니다.
+    private void evictMemberSnapshot(Long memberId) {
+        cacheTagInvalidator.evictTags(MemberCacheTagResolver.CACHE_NAME, Set.of(MemberCacheTagResolver.memberTag(memberId)));
+    }
+
     @Override
     @Transactional
     public MemberResponse updatePoint(Long memberId, Long point){
@@ -277,8 +298,7 @@ public class MemberServiceImpl implements MemberService {
         Long newPoint = member.getPoint() + point;
         member.setPoint(newPoint);
         memberRepository.save(member);
-        MemberDocument memberDocument = converter.convertFromMemberToMemberDocument(member);
-        indexToElasticsearch.indexDocumentToElasticsearch(memberDocument, MemberDocument.class);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.MEMBER, member.getId());
         return converter.convertFromMemberToMemberResponse(member);
     }
 
@@ -3,13 +3,14 @@ package home.project.service.notification;
 import home.project.domain.notification.NotificationType;
 import home.project.domain.member.Member;
 import home.project.domain.notification.Notification;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateNotificationRequestDTO;
 import home.project.dto.responseDTO.NotificationDetailResponse;
 import home.project.dto.responseDTO.NotificationResponse;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.repository.notification.NotificationRepository;
 import home.project.response.CustomResponseEntity;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.util.Converter;
 import home.project.service.util.PageUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,8 +29,6 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -39,7 +38,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 @Transactional(readOnly = true)
 public class NotificationServiceImpl implements NotificationService {
 
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
     private final NotificationRepository notificationRepository;
     private final Converter converter;
 
@@ -47,9 +46,7 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     public NotificationResponse createNotification(CreateNotificationRequestDTO createNotificationRequestDTO) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        Member member = currentMemberResolver.currentMemberReference();
 
         Notification notification = new Notification();
         notification.setMember(member);
@@ -64,9 +61,7 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     public NotificationResponse createCouponNotification(String description) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        Member member = currentMemberResolver.currentMemberReference();
 
         Notification notification = new Notification();
         notification.setMember(member);
@@ -82,16 +77,14 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     public String readNotification(Long notificationId) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
-        Long memberId = member.getId();
+        MemberSnapshot member = currentMemberResolver.currentMember();
+        Long memberId = member.id();
 
         Notification notification = notificationRepository.findByIdAndMemberId(notificationId,memberId).orElseThrow(() -> new EntityNotFoundException("알림을 찾을 수 없습니다."));
 
         notification.setRead(true);
         notificationRepository.save(notification);
-        return email;
+        return member.email();
     }
 
 
@@ -111,10 +104,8 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public Page<NotificationResponse> findAllByMemberId(Pageable pageable) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
-        Long memberId = member.getId();
+        MemberSnapshot member = currentMemberResolver.currentMember();
+        Long memberId = member.id();
 
         Page<Notification> pagedNotifications = notificationRepository.findAllByMemberId(pageable, memberId);
 
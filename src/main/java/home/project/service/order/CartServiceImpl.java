@@ -17,7 +17,7 @@ import home.project.repository.order.OrderRepository;
 import home.project.repository.order.ProductCartRepository;
 import home.project.repository.promotion.MemberCouponRepository;
 import home.project.repository.shipping.ShippingRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.product.ProductService;
 import home.project.service.promotion.CouponService;
 import home.project.service.util.Converter;
@@ -25,8 +25,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,7 +36,7 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CartServiceImpl implements CartService{
     private final CartRepository cartRepository;
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
     private final ProductService productService;
     private final Converter converter;
     private final ProductCartRepository productCartRepository;
@@ -48,9 +46,7 @@ public class CartServiceImpl implements CartService{
     @Transactional
     public CartResponse join(Long productId, Integer quantity){
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        Member member = currentMemberResolver.currentMemberReference();
 
         Cart cart = new Cart();
         cart.setMember(member);
@@ -86,9 +82,7 @@ public class CartServiceImpl implements CartService{
 
     @Override
     public Page<ProductSimpleResponseForCart> findAllByMemberId(Pageable pageable) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Long memberId = memberService.findByEmail(email).getId();
+        Long memberId = currentMemberResolver.currentMember().id();
 
         Page<ProductCart> productCarts = productCartRepository.findByCart_Member_Id(memberId, pageable);
         return converter.convertFromListedProductCartToPagedProductSimpleResponseForCart(productCarts);
@@ -98,11 +92,9 @@ public class CartServiceImpl implements CartService{
     @Transactional
     public String deleteByProductId(Long productId) {
         // 현재 로그인한 사용자 정보 가져오기
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Long memberId = memberService.findByEmail(email).getId();
+        Long memberId = currentMemberResolver.currentMember().id();
 
-        String name = productService.findById(productId).getName();
+        String name = productService.findSnapshotById(productId).name();
         productCartRepository.deleteByProductIdAndCart_MemberId(productId, memberId);
         return name;
     }
@@ -0,0 +1,18 @@
+package home.project.service.order;
+
+import home.project.dto.requestDTO.ProductDTOForOrder;
+
+import java.util.List;
+
+public interface InventoryReservationService {
+
+    boolean reserve(List<ProductDTOForOrder> productOrders);
+
+    void commit(String reservationId);
+
+    void release(String reservationId);
+
+    void adjustStock(Long productId, long delta);
+
+    void reconcile();
+}
@@ -0,0 +1,300 @@
+package home.project.service.order;
+
+import home.project.config.redis.CacheTagInvalidator;
+import home.project.domain.product.Product;
+import home.project.dto.requestDTO.ProductDTOForOrder;
+import home.project.exceptions.exception.IdNotFoundException;
+import home.project.repository.product.ProductRepository;
+import home.project.service.product.ProductCacheTagResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 재고 카운터를 이용해 주문 재고를 예약합니다.
+ * 주문 트랜잭션이 커밋되면 예약이 확정되고, 롤백되거나 TTL 이 지나면 예약한 수량이 복구됩니다.
+ * 확정된 수량은 {@link #reconcile()} 에서 모아서 product 테이블에 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryReservationServiceImpl implements InventoryReservationService {
+
+    // 스크립트 하나가 여러 키를 함께 다루므로 Redis Cluster 에서도 같은 슬롯에 모이도록 해시 태그를 붙입니다.
+    static final String STOCK_KEY_PREFIX = "{inventory}:stock:";
+    static final String RESERVATION_KEY_PREFIX = "{inventory}:reservation:";
+    static final String PENDING_KEY = "{inventory}:reservations:pending";
+    // 예약 ID 별 예약 수량("상품ID:수량,..."). 예약 해시와 달리 만료되지 않으며 확정/취소 시 지웁니다.
+    static final String RESERVATION_ITEMS_KEY = "{inventory}:reservations:items";
+    static final String SETTLED_KEY = "{inventory}:settled";
+    // 해시 태그를 붙이기 전 키. 배포 전에 확정된 수량이 남아 있을 수 있어 함께 비웁니다.
+    static final String LEGACY_SETTLED_KEY = "inventory:settled";
+
+    // 커밋 직전 확인부터 확정까지 걸리는 시간보다 넉넉하게 잡은 만료 연장 시간
+    private static final long CLAIM_EXTENSION_MILLIS = 60_000;
+
+    private static final DefaultRedisScript<Long> RESERVE_SCRIPT = script("redis/inventory-reserve.lua", Long.class);
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = script("redis/inventory-claim.lua", Long.class);
+    private static final DefaultRedisScript<Long> COMMIT_SCRIPT = script("redis/inventory-commit.lua", Long.class);
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = script("redis/inventory-release.lua", Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> DRAIN_SCRIPT = script("redis/inventory-drain.lua", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductRepository productRepository;
+    private final CacheTagInvalidator cacheTagInvalidator;
+
+    @Value("${inventory.reservation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${inventory.reservation.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Override
+    public boolean reserve(List<ProductDTOForOrder> productOrders) {
+        if (!enabled) {
+            return false;
+        }
+
+        // 같은 상품이 여러 줄에 있으면 수량을 합쳐 한 번에 예약
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        for (ProductDTOForOrder productOrder : productOrders) {
+            if (productOrder.getQuantity() == null || productOrder.getQuantity() <= 0) {
+                throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다.");
+            }
+            quantities.merge(productOrder.getProductId(), productOrder.getQuantity().longValue(), Long::sum);
+        }
+
+        String reservationId = UUID.randomUUID().toString();
+        Long result = executeReserve(reservationId, quantities);
+        if (result != null && result < 0) {
+            quantities.keySet().forEach(this::loadStockCounter);
+            result = executeReserve(reservationId, quantities);
+        }
+        if (result == null || result == 0) {
+            throw new DataIntegrityViolationException("재고가 부족합니다.");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // 여기서 던진 예외는 주문 트랜잭션을 롤백시키므로, 만료된 예약으로 주문이 커밋되지 않습니다.
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    claim(reservationId);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        try {
+                            commit(reservationId);
+                        } catch (Exception e) {
+                            log.error("Failed to commit inventory reservation {}", reservationId, e);
+                        }
+                    } else {
+                        release(reservationId);
+                    }
+                }
+            });
+        } else {
+            commit(reservationId);
+        }
+        return true;
+    }
+
+    @Override
+    public void commit(String reservationId) {
+        Long committed = stringRedisTemplate.execute(COMMIT_SCRIPT,
+                List.of(RESERVATION_KEY_PREFIX + reservationId, PENDING_KEY, SETTLED_KEY, RESERVATION_ITEMS_KEY),
+                reservationId);
+        if (committed == null || committed == 0) {
+            throw new DataIntegrityViolationException("재고 예약 시간이 만료되었습니다. 다시 주문해주세요.");
+        }
+    }
+
+    @Override
+    public void release(String reservationId) {
+        try {
+            // 예약 수량은 예약 시 한 번만 쓰이므로 먼저 상품 ID 를 읽어 재고 카운터 키를 모두 KEYS 로 넘깁니다.
+            String reservationKey = RESERVATION_KEY_PREFIX + reservationId;
+            List<String> keys = new ArrayList<>(List.of(reservationKey, PENDING_KEY, RESERVATION_ITEMS_KEY));
+            List<String> args = new ArrayList<>(List.of(reservationId));
+            reservedProductIds(reservationId).forEach(productId -> {
+                keys.add(STOCK_KEY_PREFIX + productId);
+                args.add(productId);
+            });
+            stringRedisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.error("Failed to release inventory reservation {}", reservationId, e);
+        }
+    }
+
+    // 만료되지 않는 예약 항목에서 상품 ID 를 읽고, 항목을 쓰기 전에 만든 예약이면 예약 해시에서 읽습니다.
+    private Set<String> reservedProductIds(String reservationId) {
+        Set<String> productIds = new LinkedHashSet<>();
+        Object items = stringRedisTemplate.opsForHash().get(RESERVATION_ITEMS_KEY, reservationId);
+        if (items != null) {
+            for (String item : items.toString().split(",")) {
+                productIds.add(item.substring(0, item.indexOf(':')));
+            }
+            return productIds;
+        }
+        Set<Object> legacyProductIds = stringRedisTemplate.opsForHash().keys(RESERVATION_KEY_PREFIX + reservationId);
+        if (legacyProductIds != null) {
+            legacyProductIds.forEach(productId -> productIds.add(productId.toString()));
+        }
+        return productIds;
+    }
+
+    private void claim(String reservationId) {
+        Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                List.of(RESERVATION_KEY_PREFIX + reservationId, PENDING_KEY),
+                reservationId, String.valueOf(System.currentTimeMillis()), String.valueOf(CLAIM_EXTENSION_MILLIS));
+        if (claimed == null || claimed == 0) {
+            throw new DataIntegrityViolationException("재고 예약 시간이 만료되었습니다. 다시 주문해주세요.");
+        }
+    }
+
+    @Override
+    public void adjustStock(Long productId, long delta) {
+        if (!enabled || delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementStockCounter(productId, delta);
+                }
+            });
+        } else {
+            incrementStockCounter(productId, delta);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<String> expired = stringRedisTemplate.opsForZSet()
+                .rangeByScore(PENDING_KEY, 0, System.currentTimeMillis());
+        if (expired != null) {
+            expired.forEach(this::release);
+        }
+
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        drainSettled(SETTLED_KEY, quantities);
+        drainSettled(LEGACY_SETTLED_KEY, quantities);
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> mismatched = new LinkedHashMap<>();
+        // DB 반영이 롤백되면 꺼낸 수량을 모두, 커밋되면 반영하지 못한 수량만 확정 수량 해시에 돌려놓음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                requeueSettled(status == STATUS_COMMITTED ? mismatched : quantities);
+            }
+        });
+
+        quantities.forEach((productId, quantity) -> {
+            if (productRepository.decreaseStockAndIncreaseSoldQuantity(productId, quantity) == 0) {
+                mismatched.put(productId, quantity);
+            }
+        });
+        if (!mismatched.isEmpty()) {
+            // 수량을 버리지 않고 다음 실행에서 다시 시도하며, 계속 남아 있으면 운영자가 재고를 맞춰야 함
+            log.error("Inventory counters out of sync with product table, settled quantities kept for retry: {}", mismatched);
+        }
+        Set<Long> reconciled = new HashSet<>(quantities.keySet());
+        reconciled.removeAll(mismatched.keySet());
+        if (!reconciled.isEmpty()) {
+            // 재고/판매량이 바뀐 상품의 스냅샷과 상세/목록 캐시를 커밋 후 지움
+            cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, ProductCacheTagResolver.productTags(reconciled));
+        }
+        log.info("Reconciled settled inventory for {} products", reconciled.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainSettled(String settledKey, Map<Long, Long> quantities) {
+        List<Object> settled = stringRedisTemplate.execute(DRAIN_SCRIPT, List.of(settledKey));
+        if (settled == null) {
+            return;
+        }
+        for (int i = 0; i + 1 < settled.size(); i += 2) {
+            quantities.merge(Long.valueOf(settled.get(i).toString()), Long.valueOf(settled.get(i + 1).toString()), Long::sum);
+        }
+    }
+
+    private void requeueSettled(Map<Long, Long> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            try {
+                stringRedisTemplate.opsForHash().increment(SETTLED_KEY, String.valueOf(productId), quantity);
+            } catch (Exception e) {
+                log.error("Failed to requeue settled inventory for product {} (quantity {})", productId, quantity, e);
+            }
+        });
+    }
+
+    private Long executeReserve(String reservationId, Map<Long, Long> quantities) {
+        long ttlMillis = ttlSeconds * 1000;
+        List<String> keys = new ArrayList<>();
+        keys.add(RESERVATION_KEY_PREFIX + reservationId);
+        keys.add(PENDING_KEY);
+        keys.add(RESERVATION_ITEMS_KEY);
+        List<String> args = new ArrayList<>();
+        args.add(reservationId);
+        args.add(String.valueOf(System.currentTimeMillis() + ttlMillis));
+        // 만료 처리는 ZSET 으로 하므로 예약 해시는 여유를 두고 정리
+        args.add(String.valueOf(ttlMillis * 2));
+        quantities.forEach((productId, quantity) -> {
+            keys.add(STOCK_KEY_PREFIX + productId);
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+        return stringRedisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+    }
+
+    private void incrementStockCounter(Long productId, long delta) {
+        // 카운터가 아직 적재되지 않은 상품은 다음 예약 시 DB 값으로 적재되므로 건드리지 않음
+        String key = STOCK_KEY_PREFIX + productId;
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            stringRedisTemplate.opsForValue().increment(key, delta);
+        }
+    }
+
+    private void loadStockCounter(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IdNotFoundException(productId + "(으)로 등록된 상품이 없습니다."));
+        stringRedisTemplate.opsForValue().setIfAbsent(STOCK_KEY_PREFIX + productId, String.valueOf(product.getStock()));
+    }
+
+    private static <T> DefaultRedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+}
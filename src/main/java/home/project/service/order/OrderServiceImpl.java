@@ -1,12 +1,13 @@
 package home.project.service.order;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.delivery.DeliveryStatusType;
 import home.project.domain.delivery.Shipping;
-import home.project.domain.elasticsearch.MemberDocument;
 import home.project.domain.elasticsearch.OrdersDocument;
 import home.project.domain.member.Member;
 import home.project.domain.member.MemberGradeType;
 import home.project.domain.order.Orders;
+import home.project.domain.outbox.OutboxDocumentType;
 import home.project.domain.product.Coupon;
 import home.project.domain.product.MemberCoupon;
 import home.project.domain.product.Product;
@@ -21,15 +22,17 @@ import home.project.repository.order.OrderRepository;
 import home.project.repository.order.ProductOrderRepository;
 import home.project.repository.promotion.MemberCouponRepository;
 import home.project.repositoryForElasticsearch.OrdersElasticsearchRepository;
+import home.project.service.member.CurrentMemberResolver;
+import home.project.service.member.MemberCacheTagResolver;
 import home.project.service.member.MemberService;
 import home.project.service.product.ProductService;
+import home.project.service.product.SoldQuantityCounterService;
 import home.project.service.promotion.CouponService;
 import home.project.service.util.Converter;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -38,6 +41,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -51,16 +55,22 @@ public class OrderServiceImpl implements OrderService{
     private final MemberCouponRepository memberCouponRepository;
     private final CouponService couponService;
     private final Converter converter;
-    private final IndexToElasticsearch indexToElasticsearch;
+    private final ElasticsearchOutboxService elasticsearchOutboxService;
     private final OrdersElasticsearchRepository ordersElasticsearchRepository;
-    private final ElasticsearchOperations elasticsearchOperations;
     private final ProductOrderRepository productOrderRepository;
+    private final InventoryReservationService inventoryReservationService;
+    private final SoldQuantityCounterService soldQuantityCounterService;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final CurrentMemberResolver currentMemberResolver;
 
 
     @Override
     @Transactional
     public OrderResponse join(CreateOrderRequestDTO createOrderRequestDTO){
 
+        // Redis 재고 예약이 켜져 있으면 DB 를 건드리기 전에 재고 부족 주문을 거절
+        boolean reserved = inventoryReservationService.reserve(createOrderRequestDTO.getProductOrders());
+
         Shipping shipping = converter.convertFromCreateOrderRequestDTOToShipping(createOrderRequestDTO);
 
         Orders orders = new Orders();
@@ -73,11 +83,10 @@ public class OrderServiceImpl implements OrderService{
 
         long amount = 0L;
         for (ProductDTOForOrder productDTO : createOrderRequestDTO.getProductOrders()) {
-            Product product = productService.findById(productDTO.getProductId());
-
-            productService.decreaseStock(productDTO.getProductId(), productDTO.getQuantity().longValue());
-            productService.increaseSoldQuantity(productDTO.getProductId(), productDTO.getQuantity().longValue());
-
+            // 예약된 수량은 스케줄러가 모아서 반영하고, 그렇지 않으면 조건부 UPDATE 한 번으로 처리 (재고 부족 시 예외)
+            Product product = reserved
+                    ? productService.getReferenceById(productDTO.getProductId())
+                    : productService.decreaseStockAndIncreaseSoldQuantity(productDTO.getProductId(), productDTO.getQuantity().longValue());
 
             ProductOrder productOrder = new ProductOrder();
             productOrder.setProduct(product);
@@ -126,6 +135,7 @@ public class OrderServiceImpl implements OrderService{
 
 
         long newAccumulatePurchase = member.getAccumulatedPurchase()+amount;
+        MemberGradeType previousGrade = member.getGrade();
         if (newAccumulatePurchase < 0) {
             member.setGrade(MemberGradeType.BRONZE);
         } else if (newAccumulatePurchase >= 10000 && newAccumulatePurchase < 200000) {
@@ -149,20 +159,10 @@ public class OrderServiceImpl implements OrderService{
         memberRepository.save(member);
         orderRepository.save(orders);
 
-        OrdersDocument ordersDocument = converter.convertFromOrderToOrdersDocument(orders);
-        try {
-            indexToElasticsearch.indexDocumentToElasticsearch(ordersDocument, OrdersDocument.class);
-        } catch (Exception e) {
-            System.out.println("에러 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
-
-        MemberDocument memberDocument = converter.convertFromMemberToMemberDocument(member);
-        try {
-            indexToElasticsearch.indexDocumentToElasticsearch(memberDocument, MemberDocument.class);
-        } catch (Exception e) {
-            System.out.println("에러 발생: " + e.getMessage());
-            e.printStackTrace();
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.ORDER, orders.getId());
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.MEMBER, member.getId());
+        if (member.getGrade() != previousGrade) {
+            cacheTagInvalidator.evictTags(MemberCacheTagResolver.CACHE_NAME, Set.of(MemberCacheTagResolver.memberTag(member.getId())));
         }
 /*
         kafkaEventProducerService.sendOrderEvent(new OrderEventDTO("orders-events", orders.getOrderDate(), orders.getMember().getId(), orders.getShipping().getId(), productOrderIds));
@@ -199,12 +199,7 @@ public class OrderServiceImpl implements OrderService{
 
     @Override
     public Page<OrderResponse> findByMemberId(Pageable pageable){
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-
-        Long memberId = memberRepository.findByEmail(email).orElseThrow(() -> new IdNotFoundException(email + "(으)로 등록된 회원이 없습니다.")).getId();
-
+        Long memberId = currentMemberResolver.currentMember().id();
         return converter.convertFromPagedOrderToPagedOrderResponse(orderRepository.findByMemberId(memberId, pageable));
     }
 
@@ -233,6 +228,7 @@ public class OrderServiceImpl implements OrderService{
         String orderNum = order.getOrderNum();
 
         Member member = order.getMember();
+        MemberGradeType previousGrade = member.getGrade();
         long orderAmount = order.getAmount();
 
         long newAccumulatedPurchase = Math.max(member.getAccumulatedPurchase() - orderAmount, 0);
@@ -252,14 +248,18 @@ public class OrderServiceImpl implements OrderService{
             Product product = productOrder.getProduct();
             int quantity = productOrder.getQuantity();
             productService.increaseStock(product.getId(), (long) quantity);
-            productService.decreaseSoldQuantity(product.getId(), (long) quantity);
+            soldQuantityCounterService.decrease(product.getId(), quantity);
 
         }
 
         orderRepository.deleteById(orderId);
         memberRepository.save(member);
 
-        elasticsearchOperations.delete(String.valueOf(orderId), OrdersDocument.class);
+        elasticsearchOutboxService.enqueueDelete(OutboxDocumentType.ORDER, orderId);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.MEMBER, member.getId());
+        if (member.getGrade() != previousGrade) {
+            cacheTagInvalidator.evictTags(MemberCacheTagResolver.CACHE_NAME, Set.of(MemberCacheTagResolver.memberTag(member.getId())));
+        }
 
         return orderNum;
     }
@@ -277,13 +277,7 @@ public class OrderServiceImpl implements OrderService{
                 throw new IllegalStateException("배송이 완료된 상품만 구매 확정이 가능합니다.");
             }
         }
-        OrdersDocument ordersDocument = converter.convertFromOrderToOrdersDocument(order);
-        try {
-            indexToElasticsearch.indexDocumentToElasticsearch(ordersDocument, OrdersDocument.class);
-        } catch (Exception e) {
-            System.out.println("에러 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.ORDER, order.getId());
 
         orderRepository.save(order);
     }
@@ -1,5 +1,6 @@
 package home.project.service.order;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.delivery.DeliveryStatusType;
 import home.project.domain.delivery.Shipping;
 import home.project.domain.member.Member;
@@ -13,8 +14,10 @@ import home.project.repository.member.MemberRepository;
 import home.project.repository.order.OrderRepository;
 import home.project.repository.order.ProductOrderRepository;
 import home.project.repository.shipping.ShippingRepository;
+import home.project.service.member.MemberCacheTagResolver;
 import home.project.service.member.MemberService;
 import home.project.service.product.ProductService;
+import home.project.service.product.SoldQuantityCounterService;
 import home.project.service.util.Converter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -27,6 +30,7 @@ import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
@@ -41,6 +45,8 @@ public class ShippingServiceImpl implements ShippingService{
     private final OrderRepository orderRepository;
     private final ProductOrderRepository productOrderRepository;
     private final OrderService orderService;
+    private final SoldQuantityCounterService soldQuantityCounterService;
+    private final CacheTagInvalidator cacheTagInvalidator;
 
     @Override
     @Transactional
@@ -91,6 +97,7 @@ public class ShippingServiceImpl implements ShippingService{
     }
 
     private void updateMemberGrade(Member member, long accumulatedPurchase) {
+        MemberGradeType previousGrade = member.getGrade();
         if (accumulatedPurchase < 10000) {
             member.setGrade(MemberGradeType.BRONZE);
         } else if (accumulatedPurchase < 200000) {
@@ -100,6 +107,10 @@ public class ShippingServiceImpl implements ShippingService{
         } else {
             member.setGrade(MemberGradeType.PLATINUM);
         }
+        // 등급이 바뀌면 요청마다 쓰는 회원 요약 캐시를 커밋 후 지웁니다.
+        if (member.getGrade() != previousGrade) {
+            cacheTagInvalidator.evictTags(MemberCacheTagResolver.CACHE_NAME, Set.of(MemberCacheTagResolver.memberTag(member.getId())));
+        }
     }
 
     private void updateMemberPoints(Member member, Orders order) {
@@ -120,7 +131,7 @@ public class ShippingServiceImpl implements ShippingService{
             Product product = productOrder.getProduct();
             int quantity = productOrder.getQuantity();
             productService.increaseStock(product.getId(), (long) quantity);
-            productService.decreaseSoldQuantity(product.getId(), (long) quantity);
+            soldQuantityCounterService.decrease(product.getId(), quantity);
         }
     }
 
@@ -3,10 +3,12 @@ package home.project.service.order;
 import home.project.domain.common.WishList;
 import home.project.domain.member.Member;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
 import home.project.dto.responseDTO.ProductResponse;
 import home.project.dto.responseDTO.WishListResponse;
 import home.project.repository.product.WishListRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.product.ProductService;
 import home.project.service.util.Converter;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +20,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -26,15 +31,13 @@ public class WishListServiceImpl implements WishListService {
 
     private final WishListRepository wishListRepository;
     private final ProductService productService;
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
     private final Converter converter;
 
     @Transactional
     @Override
     public WishListResponse addToWishList(Long productId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        Member member = currentMemberResolver.currentMemberReference();
         Product product = productService.findById(productId);
 
         // 이미 위시리스트에 있는지 확인
@@ -57,12 +60,10 @@ public class WishListServiceImpl implements WishListService {
     @Transactional
     @Override
     public WishListResponse removeFromWishList(Long productId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
         Product product = productService.findById(productId);
 
-        WishList wishList = wishListRepository.findByMemberIdAndProductId(member.getId(), product.getId());
+        WishList wishList = wishListRepository.findByMemberIdAndProductId(member.id(), product.getId());
         if (wishList == null) {
             return new WishListResponse(null, productId, false, "위시리스트에 존재하지 않습니다.");
         }
@@ -108,12 +109,15 @@ public class WishListServiceImpl implements WishListService {
     @Override
     public Page<ProductResponse> findAllMyWishList(Pageable pageable){
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
 
-        Page<WishList> pagedWishList = wishListRepository.findAllByMemberId(member.getId(), pageable);
-        return converter.convertFromPagedWishListToProductResponseResponse(pagedWishList);
+        Page<WishList> pagedWishList = wishListRepository.findAllByMemberId(member.id(), pageable);
+        // 상품 정보는 페이지의 상품 id 로 캐시에서 한 번에 가져옵니다.
+        List<Long> productIds = pagedWishList.getContent().stream()
+                .map(wishList -> wishList.getProduct().getId())
+                .collect(Collectors.toList());
+        Map<Long, ProductSnapshot> products = productService.findAllByIds(productIds);
+        return converter.convertFromPagedWishListToProductResponseResponse(pagedWishList, products);
     }
 
 }
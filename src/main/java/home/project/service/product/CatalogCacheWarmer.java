@@ -0,0 +1,67 @@
+package home.project.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 카탈로그에서 가장 많이 읽히는 목록(신상품, 판매량순, 브랜드, 카테고리)의 앞 페이지를 미리 캐시에 올립니다.
+ * 컨트롤러와 같은 Pageable(정렬 없음, 0부터 시작)로 캐시된 메서드를 호출하므로 실제 요청과 같은 키가 채워집니다.
+ * 처음 한 번 데우기가 끝나기 전까지는 readiness 를 내려 두어, 새 노드가 빈 캐시로 트래픽을 받지 않게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogCacheWarmer {
+
+    private final ProductPageReader productPageReader;
+    private final ProductService productService;
+    private final CategoryService categoryService;
+
+    @Value("${cache.warmup.pages:3}")
+    private int pages;
+
+    @Value("${cache.warmup.page-size:5}")
+    private int pageSize;
+
+    private volatile boolean warmedUp;
+
+    /**
+     * 설정된 페이지 수만큼 목록을 조회해 캐시를 채웁니다.
+     * 항목 하나가 실패해도 나머지는 계속 데우며, 실패한 항목은 첫 요청 때 평소처럼 계산됩니다.
+     *
+     * @return 캐시를 채운 페이지 수
+     */
+    public int warm() {
+        long startedAt = System.currentTimeMillis();
+        int warmed = 0;
+        for (int page = 0; page < pages; page++) {
+            Pageable pageable = PageRequest.of(page, pageSize);
+            warmed += warmPage("findNewProduct", pageable, () -> productPageReader.findNewProduct(pageable));
+            warmed += warmPage("findAllBySoldQuantity", pageable, () -> productService.findAllBySoldQuantity(pageable));
+            warmed += warmPage("brandList", pageable, () -> productService.brandList(pageable));
+            warmed += warmPage("findAllCategory", pageable, () -> categoryService.findAllCategory(pageable));
+        }
+        // 일부가 실패해도 캐시가 없을 때처럼 동작할 뿐이므로 트래픽은 받기 시작합니다.
+        warmedUp = true;
+        log.info("Catalog cache warmed: {} pages in {} ms", warmed, System.currentTimeMillis() - startedAt);
+        return warmed;
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    private int warmPage(String target, Pageable pageable, Runnable loader) {
+        try {
+            loader.run();
+            return 1;
+        } catch (Exception e) {
+            log.warn("Failed to warm {} page {}", target, pageable.getPageNumber(), e);
+            return 0;
+        }
+    }
+}
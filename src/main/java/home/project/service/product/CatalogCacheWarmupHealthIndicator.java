@@ -0,0 +1,25 @@
+package home.project.service.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카탈로그 캐시를 처음 데우기 전까지 OUT_OF_SERVICE 를 돌려줍니다.
+ * readiness 그룹에 포함되어 있어, 로드밸런서는 데우기가 끝난 노드에만 트래픽을 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CatalogCacheWarmer catalogCacheWarmer;
+
+    @Override
+    public Health health() {
+        if (catalogCacheWarmer.isWarmedUp()) {
+            return Health.up().build();
+        }
+        return Health.outOfService().withDetail("reason", "catalog cache warm-up in progress").build();
+    }
+}
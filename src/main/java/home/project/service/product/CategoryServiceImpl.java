@@ -12,6 +12,9 @@ import home.project.repository.product.ProductRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = "category", keyGenerator = "cacheKeyGenerator")
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
@@ -30,6 +34,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @CacheEvict(allEntries = true)
     public void join(CreateCategoryRequestDTO createCategoryRequestDTO) {
         boolean codeExists = categoryRepository.existsByCode(createCategoryRequestDTO.getCode());
         boolean nameExists = categoryRepository.existsByName(createCategoryRequestDTO.getName());
@@ -63,6 +68,7 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Cacheable(sync = true)
     public Page<CategoryResponse> findAllCategory(Pageable pageable) {
         Page<Category> pagedCategory = categoryRepository.findAll(pageable);
         return convertFromPagedCategoryToPagedCategoryResponse(pagedCategory);
@@ -84,6 +90,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @CacheEvict(allEntries = true)
     public CategoryResponse update(UpdateCategoryRequestDTO updateCategoryRequestDTO) {
         Category existingCategory = findById(updateCategoryRequestDTO.getId());
 
@@ -174,6 +181,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     @Transactional
+    @CacheEvict(allEntries = true)
     public void delete(Long categoryId) {
         findById(categoryId);
         categoryRepository.deleteById(categoryId);
@@ -0,0 +1,125 @@
+package home.project.service.product;
+
+import home.project.config.redis.CacheTagResolver;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.dto.responseDTO.*;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * product 캐시에 저장되는 값에 상품 ID, 브랜드, 카테고리 태그를 붙입니다.
+ * 페이지 값에는 어떤 목록 메서드의 결과인지도 "listing:메서드명" 태그로 남겨, 새 상품 등록 시 필터 없는 목록만 골라 지울 수 있게 합니다.
+ */
+@Component
+public class ProductCacheTagResolver implements CacheTagResolver {
+
+    public static final String CACHE_NAME = "product";
+
+    // 필터 없이 전체 상품을 대상으로 하는 목록. 새 상품이 어느 페이지에든 끼어들 수 있습니다.
+    private static final List<String> UNFILTERED_LISTINGS = List.of(
+            "findAll", "findNewProduct", "findAllForManaging", "adminFindNewProduct",
+            "findAllBySoldQuantity", "findAllByIdReturnProductResponseForManager", "brandList");
+
+    public static String productTag(Long productId) {
+        return "product:" + productId;
+    }
+
+    public static Set<String> productTags(Collection<Long> productIds) {
+        Set<String> tags = new HashSet<>();
+        productIds.forEach(productId -> tags.add(productTag(productId)));
+        return tags;
+    }
+
+    public static String brandTag(String brand) {
+        return "brand:" + brand;
+    }
+
+    public static String categoryTag(String categoryCode) {
+        return "category:" + categoryCode;
+    }
+
+    public static String listingTag(String methodName) {
+        return "listing:" + methodName;
+    }
+
+    /**
+     * 새 상품이 등록됐을 때 지워야 하는 태그입니다.
+     */
+    public static Set<String> tagsForNewProduct(String brand, String categoryCode) {
+        Set<String> tags = new HashSet<>();
+        UNFILTERED_LISTINGS.forEach(methodName -> tags.add(listingTag(methodName)));
+        tags.add(brandTag(brand));
+        tags.add(categoryTag(categoryCode));
+        return tags;
+    }
+
+    /**
+     * 상품이 수정되거나 삭제됐을 때 지워야 하는 태그입니다.
+     * 상품이 담긴 페이지와 함께, 브랜드나 카테고리가 바뀌어 새로 들어가게 될 목록도 지웁니다.
+     */
+    public static Set<String> tagsForChangedProduct(Long productId, String brand, String categoryCode) {
+        Set<String> tags = new HashSet<>();
+        addTags(tags, productId, brand, categoryCode);
+        return tags;
+    }
+
+    @Override
+    public Set<String> resolveTags(String cacheName, String key, Object value) {
+        if (!CACHE_NAME.equals(cacheName)) {
+            return Set.of();
+        }
+
+        Set<String> tags = new HashSet<>();
+        if (value instanceof Page<?> page) {
+            int separator = key.indexOf(':');
+            if (separator > 0) {
+                tags.add(listingTag(key.substring(0, separator)));
+            }
+            page.getContent().forEach(item -> addItemTags(tags, item));
+        } else if (value instanceof Collection<?> items) {
+            items.forEach(item -> addItemTags(tags, item));
+        } else {
+            addItemTags(tags, value);
+        }
+        return tags;
+    }
+
+    private void addItemTags(Set<String> tags, Object item) {
+        if (item instanceof ProductSimpleResponse response) {
+            addTags(tags, response.getId(), response.getBrand(), null);
+        } else if (item instanceof ProductResponse response) {
+            addTags(tags, response.getId(), response.getBrand(), response.getCategory());
+        } else if (item instanceof ProductResponseForManager response) {
+            addTags(tags, response.getId(), response.getBrand(), response.getCategory());
+        } else if (item instanceof ProductSimpleResponseForManager response) {
+            addTags(tags, response.getId(), response.getBrand(), null);
+        } else if (item instanceof ProductWithQnAAndReviewResponse response) {
+            addTags(tags, response.getId(), response.getBrand(), response.getCategory());
+        } else if (item instanceof ProductWithQnAAndReviewResponseForManager response) {
+            addTags(tags, response.getId(), response.getBrand(), response.getCategory());
+        } else if (item instanceof ProductSnapshot product) {
+            addTags(tags, product.id(), product.brand(),
+                    product.category() != null ? product.category().code() : null);
+        } else if (item instanceof String brand) {
+            // brandList 의 항목
+            tags.add(brandTag(brand));
+        }
+    }
+
+    private static void addTags(Set<String> tags, Long productId, String brand, String categoryCode) {
+        if (productId != null) {
+            tags.add(productTag(productId));
+        }
+        if (brand != null) {
+            tags.add(brandTag(brand));
+        }
+        if (categoryCode != null) {
+            tags.add(categoryTag(categoryCode));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package home.project.service.product;
+
+import home.project.domain.common.QnA;
+import home.project.domain.common.Review;
+import home.project.domain.product.Product;
+import home.project.dto.responseDTO.ProductWithQnAAndReviewResponse;
+import home.project.exceptions.exception.IdNotFoundException;
+import home.project.repository.common.QnARepository;
+import home.project.repository.common.ReviewRepository;
+import home.project.repository.product.ProductRepository;
+import home.project.service.util.Converter;
+import home.project.service.util.PageUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자와 무관한 상품 상세(최근 QnA, 리뷰 포함)를 조회하고 캐시합니다.
+ * 좋아요 여부는 항상 false 이며, 로그인 사용자의 좋아요 표시는 ProductServiceImpl 이 응답 시점에 복사본에 덧씌웁니다.
+ * 캐시된 인스턴스는 여러 요청이 공유하므로 호출하는 쪽에서 수정하면 안 됩니다.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+@CacheConfig(cacheNames = "product", keyGenerator = "cacheKeyGenerator")
+public class ProductDetailReader {
+    private final ProductRepository productRepository;
+    private final QnARepository qnARepository;
+    private final ReviewRepository reviewRepository;
+    private final PageUtil pageUtil;
+    private final Converter converter;
+
+    @Cacheable(key = "'product:detail:' + #productId", sync = true)
+    public ProductWithQnAAndReviewResponse findDetail(Long productId) {
+        if (productId == null) {
+            throw new IllegalStateException("id가 입력되지 않았습니다.");
+        }
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IdNotFoundException(productId + "(으)로 등록된 상품이 없습니다."));
+
+        Pageable pageable = pageUtil.pageable(PageRequest.of(1, 5));
+        Page<QnA> qnAs = qnARepository.findAllByProductId(productId, pageable);
+        Page<Review> reviews = reviewRepository.findAllByProductId(productId, pageable);
+        return converter.convertFromProductToProductWithQnAAndReviewResponse(product, qnAs, reviews);
+    }
+}
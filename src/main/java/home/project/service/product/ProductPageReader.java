@@ -0,0 +1,64 @@
+package home.project.service.product;
+
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.dto.responseDTO.ProductSimpleResponse;
+import home.project.repository.product.ProductRepository;
+import home.project.repositoryForElasticsearch.ProductElasticsearchRepository;
+import home.project.service.util.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자와 무관한 상품 목록 페이지를 조회하고 캐시합니다.
+ * 좋아요 여부는 모두 false 로 채워지며, 로그인 사용자의 좋아요 표시는 ProductServiceImpl 이 응답 시점에 덧씌웁니다.
+ * 캐시된 페이지는 여러 요청이 같은 인스턴스를 공유할 수 있으므로 호출하는 쪽에서 수정하면 안 됩니다.
+ * 트래픽이 몰리는 목록이라 sync 조회로 캐시 미스 시 노드당 한 요청만 계산하게 합니다.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+@CacheConfig(cacheNames = "product", keyGenerator = "cacheKeyGenerator")
+public class ProductPageReader {
+    private final ProductRepository productRepository;
+    private final ProductElasticsearchRepository productElasticsearchRepository;
+    private final Converter converter;
+    private final ProductSnapshotReader productSnapshotReader;
+
+    @Cacheable(sync = true)
+    public Page<ProductSimpleResponse> findAll(Pageable pageable) {
+        Page<Product> pagedProduct = productRepository.findAll(pageable);
+        return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct);
+    }
+
+    @Cacheable(sync = true)
+    public Page<ProductSimpleResponse> findNewProduct(Pageable pageable) {
+        Page<Product> pagedProduct = productRepository.findTop20LatestProducts(pageable);
+        return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct);
+    }
+
+    @Cacheable(sync = true)
+    public Page<ProductSimpleResponse> findProductsOnElastic(String brand, String category, String productName, String content, Pageable pageable) {
+        Page<ProductDocument> pagedDocuments = productElasticsearchRepository.findProducts(brand, category, productName, content, pageable);
+
+        List<Long> missingIds = pagedDocuments.getContent().stream()
+                .filter(productDocument -> !converter.isProductDocumentCompleteForSimpleResponse(productDocument))
+                .map(ProductDocument::getId)
+                .collect(Collectors.toList());
+        Map<Long, ProductSnapshot> fallbackProducts = missingIds.isEmpty()
+                ? Map.of()
+                : productSnapshotReader.findAllByIds(missingIds);
+
+        return converter.convertFromPagedProductDocumentToPagedProductSimpleResponse(pagedDocuments, fallbackProducts);
+    }
+}
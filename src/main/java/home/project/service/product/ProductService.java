@@ -1,6 +1,7 @@
 package home.project.service.product;
 
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.ProductSnapshot;
 import home.project.dto.requestDTO.CreateProductRequestDTO;
 import home.project.dto.requestDTO.UpdateProductRequestDTO;
 import home.project.dto.responseDTO.*;
@@ -8,7 +9,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 
 public interface ProductService {
@@ -17,6 +20,12 @@ public interface ProductService {
 
     Product findById(Long id);
 
+    ProductSnapshot findSnapshotById(Long productId);
+
+    Map<Long, ProductSnapshot> findAllByIds(Collection<Long> productIds);
+
+    Product getReferenceById(Long id);
+
     ProductWithQnAAndReviewResponse findByIdReturnProductResponse(Long productId);
 
     ProductWithQnAAndReviewResponseForManager findByIdReturnProductResponseForManager(Long productId);
@@ -61,6 +70,8 @@ public interface ProductService {
 
     ProductResponseForManager decreaseSoldQuantity(Long productId, Long stock);
 
+    Product decreaseStockAndIncreaseSoldQuantity(Long productId, Long quantity);
+
     Product findByProductIdAndConfirmHasPurchase(Long productOrderId);
 
     ProductResponse updateMyProduct(UpdateProductRequestDTO updateProductRequestDTO , MultipartFile mainImageFile, List<MultipartFile> descriptionImages);
@@ -1,19 +1,24 @@
 package home.project.service.product;
 
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.common.QnA;
 import home.project.domain.common.Review;
 import home.project.domain.elasticsearch.ProductDocument;
 import home.project.domain.member.Member;
 import home.project.domain.member.MemberProduct;
+import home.project.domain.outbox.OutboxDocumentType;
 import home.project.domain.product.Product;
 import home.project.domain.product.ProductOrder;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
 import home.project.dto.requestDTO.CreateProductRequestDTO;
 import home.project.dto.requestDTO.UpdateProductRequestDTO;
 import home.project.dto.responseDTO.*;
@@ -27,18 +32,19 @@ import home.project.repository.product.CategoryRepository;
 import home.project.repository.product.ProductRepository;
 import home.project.repository.product.WishListRepository;
 import home.project.repositoryForElasticsearch.ProductElasticsearchRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
+import home.project.service.order.InventoryReservationService;
 import home.project.service.util.Converter;
 import home.project.service.file.FileService;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
 import home.project.service.util.PageUtil;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -46,22 +52,26 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 @Transactional(readOnly = true)
-@CacheConfig(cacheNames = "product")
+@CacheConfig(cacheNames = "product", keyGenerator = "cacheKeyGenerator")
 public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ProductOrderRepository productOrderRepository;
     private final ProductElasticsearchRepository productElasticsearchRepository;
     private final Converter converter;
-    private final IndexToElasticsearch indexToElasticsearch;
-    private final ElasticsearchOperations elasticsearchOperations;
-    private final MemberService memberService;
+    private final ElasticsearchOutboxService elasticsearchOutboxService;
+    private final CurrentMemberResolver currentMemberResolver;
     private final MemberProductRepository memberProductRepository;
     private final PageUtil pageUtil;
     private final WishListRepository wishListRepository;
@@ -69,15 +79,19 @@ public class ProductServiceImpl implements ProductService {
     private final ReviewRepository reviewRepository;
     private final FileService fileService;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final InventoryReservationService inventoryReservationService;
+    private final ProductPageReader productPageReader;
+    private final ProductDetailReader productDetailReader;
+    private final ProductSnapshotReader productSnapshotReader;
+    private final CacheTagInvalidator cacheTagInvalidator;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
 
 
     @Override
     @Transactional
-    @CacheEvict(allEntries = true)
     public void join(CreateProductRequestDTO createProductRequestDTO, MultipartFile mainImageFile, List<MultipartFile> descriptionImages) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        Member member = currentMemberResolver.currentMemberReference();
 
         Long currentStock = createProductRequestDTO.getStock();
         Long currentSoldQuantity = createProductRequestDTO.getSoldQuantity();
@@ -133,38 +147,36 @@ public class ProductServiceImpl implements ProductService {
         memberProduct.setMember(member);
         memberProductRepository.save(memberProduct);
 
-        ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-        try {
-            indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
-        } catch (Exception e) {
-            System.out.println("에러 발생: " + e.getMessage());
-            e.printStackTrace();
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME,
+                ProductCacheTagResolver.tagsForNewProduct(product.getBrand(), product.getCategory().getCode()));
+        // 새 id 를 미리 조회해 남은 음수 캐시는 태그가 없으므로 키로 직접 지웁니다. 트랜잭션 인식 캐시라 커밋 뒤에 지워집니다.
+        Cache productCache = cacheManager.getCache(ProductCacheTagResolver.CACHE_NAME);
+        if (productCache != null) {
+            productCache.evict("product:" + product.getId());
+            productCache.evict("product:detail:" + product.getId());
         }
     }
     @Override
-    @Cacheable(key = "'product:detail:' + #productId", unless = "#result == null")
     public ProductWithQnAAndReviewResponse findByIdReturnProductResponse(Long productId) {
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        Pageable pageable = pageUtil.pageable(PageRequest.of(1, 5));
-        Page<QnA> qnAs = qnARepository.findAllByProductId(productId, pageable);
-        Page<Review> reviews = reviewRepository.findAllByProductId(productId, pageable);
-
-        String email = authentication.getName();
-        if (email.equals("anonymousUser")){
-            return converter.convertFromProductToProductWithQnAAndReviewResponse(findById(productId), qnAs, reviews);
+        // 상세는 모든 사용자가 같은 캐시 항목을 쓰므로 좋아요 여부는 여기서 복사본에만 표시합니다.
+        ProductWithQnAAndReviewResponse shared = productDetailReader.findDetail(productId);
+        if (currentMemberResolver.isAnonymous()) {
+            return shared;
         }
 
-        Member member = memberService.findByEmail(email);
-
-        Product product = findById(productId);
-        List<Long> likedProductIds = wishListRepository.findProductIdsByMemberId(member.getId());
-
+        MemberSnapshot member = currentMemberResolver.currentMember();
+        boolean liked = !wishListRepository.findProductIdsByMemberIdAndProductIdIn(member.id(), List.of(productId)).isEmpty();
+        if (!liked) {
+            return shared;
+        }
 /*
         kafkaEventProducerService.sendProductViewLog(productId);
 */
-        return converter.convertFromProductToProductWithQnAAndReviewResponse2(product,likedProductIds, qnAs, reviews);
+        return new ProductWithQnAAndReviewResponse(shared.getId(), shared.getName(), shared.getBrand(),
+                shared.getCategory(), shared.getProductNum(), shared.getPrice(), shared.getDiscountRate(),
+                shared.getDescription(), shared.getMainImageFile(), true, shared.getSize(), shared.getColor(),
+                shared.getProductCouponResponses(), shared.getQnADetailResponses(), shared.getReviewDetailResponses());
     }
 
     @Override
@@ -178,7 +190,6 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'product:' + #productId", unless = "#result == null")
     public Product findById(Long productId) {
         if (productId == null) {
             throw new IllegalStateException("id가 입력되지 않았습니다.");
@@ -189,29 +200,29 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'productNum:' + #productNum", unless = "#result == null")
-    public Product findByProductNum(String productNum){
-        return productRepository.findByProductNum(productNum);
+    @Cacheable(key = "'product:' + #productId", sync = true)
+    public ProductSnapshot findSnapshotById(Long productId) {
+        return ProductSnapshot.from(findById(productId));
     }
 
     @Override
-    @Cacheable(key = "'products:page:' + #pageable.pageNumber", unless = "#result == null")
-    public Page<ProductSimpleResponse> findAll(Pageable pageable) {
-        Page<Product> pagedProduct = productRepository.findAll(pageable);
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        String email = authentication.getName();
-        if (email.equals("anonymousUser")){
-
-            return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct);
-        }
+    public Map<Long, ProductSnapshot> findAllByIds(Collection<Long> productIds) {
+        return productSnapshotReader.findAllByIds(productIds);
+    }
 
-        Member member = memberService.findByEmail(email);
+    @Override
+    public Product getReferenceById(Long productId) {
+        return productRepository.getReferenceById(productId);
+    }
 
-        List<Long> likedProductIds = wishListRepository.findProductIdsByMemberId(member.getId());
+    @Override
+    public Product findByProductNum(String productNum){
+        return productRepository.findByProductNum(productNum);
+    }
 
-        return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct,likedProductIds);
+    @Override
+    public Page<ProductSimpleResponse> findAll(Pageable pageable) {
+        return applyLikedStatus(productPageReader.findAll(pageable));
     }
 
     /*public Product getProductWithLikeStatus(Long memberId, Long productId) {
@@ -239,46 +250,27 @@ public class ProductServiceImpl implements ProductService {
 
 
     @Override
-    @Cacheable(key = "'products:managing:all:' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<ProductResponseForManager> findAllForManaging(Pageable pageable) {
         Page<Product> pagedProduct = productRepository.findAll(pageable);
         return converter.convertFromPagedProductToPagedProductResponseForManaging(pagedProduct);
     }
 
     @Override
-    @Cacheable(key = "'products:admin:new:' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<ProductSimpleResponseForManager> adminFindNewProduct(Pageable pageable) {
         Page<Product> pagedProduct = productRepository.findTop20LatestProducts(pageable);
         return converter.convertFromPagedProductToPagedProductSimpleResponseForManager(pagedProduct);
     }
 
     @Override
-    @Cacheable(key = "'products:new:' + #pageable.pageNumber", unless = "#result == null")
     public Page<ProductSimpleResponse> findNewProduct(Pageable pageable) {
-        Page<Product> pagedProduct = productRepository.findTop20LatestProducts(pageable);
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        String email = authentication.getName();
-        if (email.equals("anonymousUser")){
-
-            return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct);
-        }
-
-        Member member = memberService.findByEmail(email);
-
-        List<Long> likedProductIds = wishListRepository.findProductIdsByMemberId(member.getId());
-
-        return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct,likedProductIds);
+        return applyLikedStatus(productPageReader.findNewProduct(pageable));
     }
 
     @Override
-    @Cacheable(key = "'products:new:' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<ProductResponse> findProducts(String brand, String category, String productName, String content, String color, String size, Pageable pageable) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
-
         String categoryCode = null;
 
 
@@ -288,32 +280,12 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'products:elastic:' + #brand + ':' + #category + ':' + #productName + ':' + #content + ':' + #pageable.pageNumber", unless = "#result == null")
     public Page<ProductSimpleResponse> findProductsOnElastic(String brand, String category, String productName, String content, Pageable pageable) {
-
-
-        Page<ProductDocument> pagedDocuments = productElasticsearchRepository.findProducts(brand, category, productName, content, pageable);
-
-        Page<Product> pagedProduct = pagedDocuments.map(doc -> findById(doc.getId()));
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        String email = authentication.getName();
-        if (email.equals("anonymousUser")){
-
-            return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct);
-        }
-
-        Member member = memberService.findByEmail(email);
-
-        List<Long> likedProductIds = wishListRepository.findProductIdsByMemberId(member.getId());
-
-        return converter.convertFromPagedProductToPagedProductSimpleResponse(pagedProduct,likedProductIds);
-
+        return applyLikedStatus(productPageReader.findProductsOnElastic(brand, category, productName, content, pageable));
     }
 
     @Override
-    @Cacheable(key = "'products:managing:' + #brand + ':' + #category + ':' + #productName + ':' + #content + ':' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<ProductResponseForManager> findProductsForManaging(String brand, String category, String productName, String content,String color, String size,  Pageable pageable) {
         String categoryCode = null;
 
@@ -323,25 +295,29 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'products:elastic:managing:' + #brand + ':' + #category + ':' + #productName + ':' + #content + ':' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<ProductResponseForManager> findProductsOnElasticForManaging(String brand, String category, String productName, String content, Pageable pageable) {
         String categoryCode = null;
 
         Page<ProductDocument> pagedDocuments = productElasticsearchRepository.findProducts(brand, categoryCode, productName, content, pageable);
 
-        Page<Product> pagedProduct = pagedDocuments.map(productDocument -> findById(productDocument.getId()));
+        Map<Long, ProductSnapshot> fallbackProducts = findProductsMissingFromDocuments(pagedDocuments.getContent(), converter::isProductDocumentCompleteForManagerResponse);
 
-        return converter.convertFromPagedProductToPagedProductResponseForManaging(pagedProduct);
+        return new PageImpl<>(
+                converter.convertFromListedProductDocumentToListedProductResponseForManager(pagedDocuments.getContent(), fallbackProducts),
+                pageable,
+                pagedDocuments.getTotalElements()
+        );
     }
 
     @Override
-    @Cacheable(key = "'products:managing:' + #brand + ':' + #category + ':' + #productName + ':' + #content + ':' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<ProductResponseForManager> findProductsForManaging(String brand, String category, String productName, String content, Pageable pageable) {
         return null;
     }
 
     @Override
-    @Cacheable(key = "'products:sold:' + #brand + ':' + #category + ':' + #productName + ':' + #content + ':' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<ProductResponseForManager> findSoldProducts(String brand, String category, String productName, String content, String color, String size, Pageable pageable) {
         String categoryCode = null;
 
@@ -351,14 +327,14 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'products:bestsellers:' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(sync = true)
     public Page<ProductResponse> findAllBySoldQuantity(Pageable pageable) {
         Page<Product> pagedProduct = productRepository.findAllBySoldQuantity(pageable);
         return converter.convertFromPagedProductToPagedProductResponse(pagedProduct);
     }
 
     @Override
-    @Cacheable(key = "'brands:list:' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(unless = "#result == null")
     public Page<String> brandList(Pageable pageable) {
         Page<Product> pagedProduct = productRepository.findAllByOrderByBrandAsc(pageable);
         return converter.convertFromPagedProductToPagedBrand(pagedProduct);
@@ -366,7 +342,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #updateProductRequestDTO.id")
+    @CacheEvict(key = "'product:' + #updateProductRequestDTO.id")
     public ProductResponse update(UpdateProductRequestDTO updateProductRequestDTO,MultipartFile mainImageFile, List<MultipartFile> descriptionImages) {
 
         boolean isCategoryModified = false;
@@ -413,6 +389,7 @@ public class ProductServiceImpl implements ProductService {
             if (updateProductRequestDTO.getStock() < 0) {
                 throw new IllegalStateException("재고가 음수일 수 없습니다.");
             }
+            inventoryReservationService.adjustStock(existingProduct.getId(), updateProductRequestDTO.getStock() - existingProduct.getStock());
             existingProduct.setStock(updateProductRequestDTO.getStock());
         }
 
@@ -473,8 +450,9 @@ public class ProductServiceImpl implements ProductService {
 
         Product product = productRepository.save(existingProduct);
 
-        ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-        indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME,
+                ProductCacheTagResolver.tagsForChangedProduct(product.getId(), product.getBrand(), product.getCategory().getCode()));
 
         return converter.convertFromProductToProductResponse(product);
     }
@@ -487,13 +465,14 @@ public class ProductServiceImpl implements ProductService {
         Product product =findById(productId);
         String name = product.getName();
         productRepository.deleteById(productId);
-        elasticsearchOperations.delete(String.valueOf(productId), ProductDocument.class);
+        elasticsearchOutboxService.enqueueDelete(OutboxDocumentType.PRODUCT, productId);
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
         return name;
     }
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #productId")
+    @CacheEvict(key = "'product:' + #productId")
     public ProductResponseForManager increaseStock(Long productId, Long stock) {
         if (stock < 0) {
             throw new IllegalStateException("재고가 음수일 수 없습니다.");
@@ -503,14 +482,15 @@ public class ProductServiceImpl implements ProductService {
         Long newStock = currentStock + stock;
         product.setStock(newStock);
         productRepository.save(product);
-        ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-        indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+        inventoryReservationService.adjustStock(productId, stock);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
         return converter.convertFromProductToProductResponseForManaging(product);
     }
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #productId")
+    @CacheEvict(key = "'product:' + #productId")
     public ProductResponseForManager decreaseStock(Long productId, Long stock) {
         Product product = findById(productId);
         Long currentStock = product.getStock();
@@ -520,14 +500,15 @@ public class ProductServiceImpl implements ProductService {
         }
         product.setStock(newStock);
         productRepository.save(product);
-        ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-        indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+        inventoryReservationService.adjustStock(productId, newStock - currentStock);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
         return converter.convertFromProductToProductResponseForManaging(product);
     }
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #productId")
+    @CacheEvict(key = "'product:' + #productId")
     public ProductResponseForManager increaseSoldQuantity(Long productId, Long quantity) {
         if (quantity < 0) {
             throw new IllegalArgumentException("증가시킬 판매 수량은 음수일 수 없습니다.");
@@ -537,14 +518,14 @@ public class ProductServiceImpl implements ProductService {
         Long newSoldQuantity = currentSoldQuantity + quantity;
         product.setSoldQuantity(newSoldQuantity);
         productRepository.save(product);
-        ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-        indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
         return converter.convertFromProductToProductResponseForManaging(product);
     }
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #productId")
+    @CacheEvict(key = "'product:' + #productId")
     public ProductResponseForManager decreaseSoldQuantity(Long productId, Long quantity) {
         if (quantity < 0) {
             throw new IllegalArgumentException("감소시킬 판매 수량은 음수일 수 없습니다.");
@@ -557,11 +538,34 @@ public class ProductServiceImpl implements ProductService {
         Long newSoldQuantity = currentSoldQuantity - quantity;
         product.setSoldQuantity(newSoldQuantity);
         productRepository.save(product);
-        ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-        indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
         return converter.convertFromProductToProductResponseForManaging(product);
     }
 
+    @Override
+    @Transactional
+    @CacheEvict(key = "'product:' + #productId")
+    public Product decreaseStockAndIncreaseSoldQuantity(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다.");
+        }
+        int updatedRows = productRepository.decreaseStockAndIncreaseSoldQuantity(productId, quantity);
+        if (updatedRows == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new IdNotFoundException(productId + "(으)로 등록된 상품이 없습니다.");
+            }
+            throw new DataIntegrityViolationException("재고가 부족합니다.");
+        }
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, productId);
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
+        // 네이티브 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 이미 읽어 둔 상품이 있으면 바뀐 재고/판매량으로 다시 읽습니다.
+        // clearAutomatically 는 주문 트랜잭션에서 함께 다루는 회원/주문 엔티티까지 분리하므로 쓰지 않습니다.
+        Product product = productRepository.getReferenceById(productId);
+        entityManager.refresh(product);
+        return product;
+    }
+
 
     private String reCreateProductNum(String oldProductNum, UpdateProductRequestDTO updateProductRequestDTO){
         String frontOfOldProductNum = oldProductNum.substring(0,12);
@@ -571,12 +575,8 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'product:purchase:' + #productId", unless = "#result == null")
     public Product findByProductIdAndConfirmHasPurchase(Long productId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
-        Long memberId = member.getId();
+        Long memberId = currentMemberResolver.currentMember().id();
 
         List<ProductOrder> listedProductOrder = productOrderRepository.findAllByProductId(productId);
         if(listedProductOrder.isEmpty()) {
@@ -597,57 +597,54 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'products:manager:' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(keyGenerator = "principalCacheKeyGenerator", unless = "#result == null")
     public Page<ProductSimpleResponseForManager> findAllByIdReturnProductResponseForManager(Pageable pageable) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Page<MemberProduct> memberProducts = memberProductRepository.findAllByMemberId(memberService.findByEmail(email).getId(), pageable);
+        Page<MemberProduct> memberProducts = memberProductRepository.findAllByMemberId(currentMemberResolver.currentMember().id(), pageable);
         return converter.convertFromPagedMemberProductToPagedProductSimpleResponseForManager(memberProducts);
     }
 
 
     @Override
-    @Cacheable(key = "'products:elastic:admin:' + #brand + ':' + #category + ':' + #productName + ':' + #content + ':' + #pageable.pageNumber", unless = "#result == null")
+    @Cacheable(keyGenerator = "principalCacheKeyGenerator", unless = "#result == null")
     public Page<ProductResponseForManager> findProductsOnElasticForAdmin(String brand, String category, String productName, String content, Pageable pageable) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
 
         Page<ProductDocument> pagedDocuments = productElasticsearchRepository.findProducts(brand, category, productName, content, pageable);
 
         // CENTER 권한인 경우 모든 제품 검색 가능
         if (authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_CENTER"))) {
-            List<Product> allProducts = pagedDocuments
-                    .map(productDocument -> findById(productDocument.getId()))
-                    .getContent();
-            return converter.convertFromPagedProductToPagedProductResponseForManaging(
-                    new PageImpl<>(
-                            allProducts,
-                            pageable,
-                            pagedDocuments.getTotalElements()
-                    )
+            Map<Long, ProductSnapshot> fallbackProducts = findProductsMissingFromDocuments(pagedDocuments.getContent(), converter::isProductDocumentCompleteForManagerResponse);
+            return new PageImpl<>(
+                    converter.convertFromListedProductDocumentToListedProductResponseForManager(pagedDocuments.getContent(), fallbackProducts),
+                    pageable,
+                    pagedDocuments.getTotalElements()
             );
         }
 
-        // ADMIN(판매자)인 경우 자신이 등록한 제품만 검색
-        List<Product> filteredProducts = pagedDocuments
-                .map(productDocument -> findById(productDocument.getId()))
-                .getContent()
+        // ADMIN(판매자)인 경우 자신이 등록한 제품만 검색. 소유 여부는 페이지의 상품 id 로 한 번에 조회합니다.
+        List<Long> documentIds = pagedDocuments.getContent().stream()
+                .map(ProductDocument::getId)
+                .collect(Collectors.toList());
+        Set<Long> ownedProductIds = documentIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(memberProductRepository.findProductIdsByMemberIdAndProductIdIn(member.id(), documentIds));
+        List<ProductDocument> filteredDocuments = pagedDocuments.getContent()
                 .stream()
-                .filter(product -> memberProductRepository.existsByMemberIdAndProductId(member.getId(), product.getId()))
+                .filter(productDocument -> ownedProductIds.contains(productDocument.getId()))
                 .collect(Collectors.toList());
 
-        return converter.convertFromPagedProductToPagedProductResponseForManaging(
-                new PageImpl<>(
-                        filteredProducts,
-                        pageable,
-                        filteredProducts.size()
-                )
+        Map<Long, ProductSnapshot> fallbackProducts = findProductsMissingFromDocuments(filteredDocuments, converter::isProductDocumentCompleteForManagerResponse);
+
+        return new PageImpl<>(
+                converter.convertFromListedProductDocumentToListedProductResponseForManager(filteredDocuments, fallbackProducts),
+                pageable,
+                filteredDocuments.size()
         );
     }
 
-    @CachePut(key = "'product:' + #updateProductRequestDTO.id")
+    @CacheEvict(key = "'product:' + #updateProductRequestDTO.id")
     @Override
     @Transactional
     public ProductResponse updateMyProduct(UpdateProductRequestDTO updateProductRequestDTO , MultipartFile mainImageFile, List<MultipartFile> descriptionImages) {
@@ -661,11 +658,9 @@ public class ProductServiceImpl implements ProductService {
     }
 
     public boolean confirmProductOwnership(String productName, String brand) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
         Pageable pageable = pageUtil.pageable(PageRequest.of(1, 5));
         Page<MemberProduct> memberProducts = memberProductRepository
-                .findAllByMemberId(memberService.findByEmail(email).getId(), pageable);
+                .findAllByMemberId(currentMemberResolver.currentMember().id(), pageable);
 
         return memberProducts.stream()
                 .anyMatch(memberProduct ->
@@ -682,7 +677,8 @@ public class ProductServiceImpl implements ProductService {
         String name = product.getName();
         if (confirmProductOwnership(name, product.getBrand())) {
             productRepository.deleteById(productId);
-            elasticsearchOperations.delete(String.valueOf(productId), ProductDocument.class);
+            elasticsearchOutboxService.enqueueDelete(OutboxDocumentType.PRODUCT, productId);
+            cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
             return name;
         }
         throw new IllegalArgumentException("귀사의 상품이 맞는지 확인해주세요.");
@@ -690,7 +686,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #productId")
+    @CacheEvict(key = "'product:' + #productId")
     public ProductResponseForManager increaseStockForAdmin(Long productId, Long stock) {
         if (stock < 0) {
             throw new IllegalStateException("재고가 음수일 수 없습니다.");
@@ -701,8 +697,9 @@ public class ProductServiceImpl implements ProductService {
             Long newStock = currentStock + stock;
             product.setStock(newStock);
             productRepository.save(product);
-            ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-            indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+            inventoryReservationService.adjustStock(productId, stock);
+            elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+            cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
             return converter.convertFromProductToProductResponseForManaging(product);
         }
         throw new IllegalArgumentException("귀사의 상품이 맞는지 확인해주세요.");
@@ -711,7 +708,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #productId")
+    @CacheEvict(key = "'product:' + #productId")
     public ProductResponseForManager decreaseStockForAdmin(Long productId, Long stock) {
         Product product = findById(productId);
         if (confirmProductOwnership(product.getName(), product.getBrand())) {
@@ -722,8 +719,9 @@ public class ProductServiceImpl implements ProductService {
             }
             product.setStock(newStock);
             productRepository.save(product);
-            ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-            indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+            inventoryReservationService.adjustStock(productId, newStock - currentStock);
+            elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+            cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
             return converter.convertFromProductToProductResponseForManaging(product);
         }
         throw new IllegalArgumentException("귀사의 상품이 맞는지 확인해주세요.");
@@ -731,7 +729,7 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     @Transactional
-    @CachePut(key = "'product:' + #productId")
+    @CacheEvict(key = "'product:' + #productId")
     public ProductResponseForManager increaseSoldQuantityForAdmin(Long productId, Long quantity) {
         if (quantity < 0) {
             throw new IllegalArgumentException("증가시킬 판매 수량은 음수일 수 없습니다.");
@@ -742,8 +740,8 @@ public class ProductServiceImpl implements ProductService {
             Long newSoldQuantity = currentSoldQuantity + quantity;
             product.setSoldQuantity(newSoldQuantity);
             productRepository.save(product);
-            ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-            indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+            elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+            cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
             return converter.convertFromProductToProductResponseForManaging(product);
         }
 
@@ -765,8 +763,8 @@ public class ProductServiceImpl implements ProductService {
             Long newSoldQuantity = currentSoldQuantity - quantity;
             product.setSoldQuantity(newSoldQuantity);
             productRepository.save(product);
-            ProductDocument productDocument = converter.convertFromProductToProductDocument(product);
-            indexToElasticsearch.indexDocumentToElasticsearch(productDocument, ProductDocument.class);
+            elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.PRODUCT, product.getId());
+            cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(productId)));
             return converter.convertFromProductToProductResponseForManaging(product);
         }
 
@@ -775,7 +773,6 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    @Cacheable(key = "'product:order:' + #productOrderId", unless = "#result == null")
     public Product findByProductOrderNumForAdmin(Long productOrderId) {
         ProductOrder productOrder = productOrderRepository.findById(productOrderId)
                 .orElseThrow(() -> new IdNotFoundException(productOrderId + "(으)로 등록된 주문서가 없습니다."));
@@ -788,4 +785,41 @@ public class ProductServiceImpl implements ProductService {
 
     }
 
-}
\ No newline at end of file
+    // 검색 문서에 응답 필드가 빠진 상품만 모아 한 번의 캐시 MGET(미스는 findAllById)으로 조회합니다.
+    private Map<Long, ProductSnapshot> findProductsMissingFromDocuments(List<ProductDocument> documents, Predicate<ProductDocument> isComplete) {
+        List<Long> missingIds = documents.stream()
+                .filter(productDocument -> !isComplete.test(productDocument))
+                .map(ProductDocument::getId)
+                .collect(Collectors.toList());
+        if (missingIds.isEmpty()) {
+            return Map.of();
+        }
+        return productSnapshotReader.findAllByIds(missingIds);
+    }
+
+    /**
+     * 공유 캐시에서 가져온 페이지에 로그인 사용자의 좋아요 여부를 덧씌웁니다.
+     * 캐시된 인스턴스는 건드리지 않고 복사본을 반환하며, 좋아요 조회는 해당 페이지의 상품 ID 로만 한정합니다.
+     */
+    private Page<ProductSimpleResponse> applyLikedStatus(Page<ProductSimpleResponse> sharedPage) {
+        if (currentMemberResolver.isAnonymous() || sharedPage.isEmpty()) {
+            return sharedPage;
+        }
+
+        MemberSnapshot member = currentMemberResolver.currentMember();
+        List<Long> productIds = sharedPage.getContent().stream()
+                .map(ProductSimpleResponse::getId)
+                .collect(Collectors.toList());
+        Set<Long> likedProductIds = new HashSet<>(wishListRepository.findProductIdsByMemberIdAndProductIdIn(member.id(), productIds));
+        if (likedProductIds.isEmpty()) {
+            return sharedPage;
+        }
+
+        List<ProductSimpleResponse> content = sharedPage.getContent().stream()
+                .map(response -> new ProductSimpleResponse(response.getId(), response.getName(), response.getBrand(),
+                        response.getPrice(), response.getDiscountRate(), response.getMainImageFile(),
+                        likedProductIds.contains(response.getId()), response.getColor()))
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, sharedPage.getPageable(), sharedPage.getTotalElements());
+    }
+}
@@ -0,0 +1,78 @@
+package home.project.service.product;
+
+import home.project.config.redis.BatchCacheAccessor;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.repository.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 여러 상품의 캐시 값을 한 번에 조회합니다.
+ * ProductService#findSnapshotById 와 같은 "product:{id}" 키를 쓰므로 단건 조회와 캐시를 공유합니다.
+ * Redis 는 MGET 한 번, DB 는 미스난 id 에 대한 findAllById 한 번, 다시 채우는 것은 파이프라인 한 번으로 끝납니다.
+ */
+@RequiredArgsConstructor
+@Service
+@Transactional(readOnly = true)
+public class ProductSnapshotReader {
+    private final ProductRepository productRepository;
+    private final BatchCacheAccessor batchCacheAccessor;
+
+    /**
+     * 요청한 순서대로 상품 id → 캐시 값을 돌려줍니다. 없는 상품의 id 는 결과에 넣지 않습니다.
+     */
+    public Map<Long, ProductSnapshot> findAllByIds(Collection<Long> productIds) {
+        List<Long> ids = productIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Object> cached = batchCacheAccessor.getAll(ProductCacheTagResolver.CACHE_NAME,
+                ids.stream().map(ProductSnapshotReader::snapshotKey).toList());
+
+        Map<Long, ProductSnapshot> snapshots = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            if (cached.get(snapshotKey(id)) instanceof ProductSnapshot snapshot) {
+                snapshots.put(id, snapshot);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<String, ProductSnapshot> loaded = new HashMap<>();
+            productRepository.findAllById(missingIds).forEach(product -> {
+                ProductSnapshot snapshot = ProductSnapshot.from(product);
+                snapshots.put(product.getId(), snapshot);
+                loaded.put(snapshotKey(product.getId()), snapshot);
+            });
+            batchCacheAccessor.putAll(ProductCacheTagResolver.CACHE_NAME, loaded);
+        }
+
+        Map<Long, ProductSnapshot> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            ProductSnapshot snapshot = snapshots.get(id);
+            if (snapshot != null) {
+                ordered.put(id, snapshot);
+            }
+        }
+        return ordered;
+    }
+
+    static String snapshotKey(Long productId) {
+        return "product:" + productId;
+    }
+}
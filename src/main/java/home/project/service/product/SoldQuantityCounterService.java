@@ -0,0 +1,8 @@
+package home.project.service.product;
+
+public interface SoldQuantityCounterService {
+
+    void decrease(Long productId, long quantity);
+
+    void flush();
+}
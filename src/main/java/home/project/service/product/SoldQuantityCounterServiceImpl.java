@@ -0,0 +1,109 @@
+package home.project.service.product;
+
+import home.project.config.redis.CacheTagInvalidator;
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.repository.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 판매량 감소분을 상품별 LongAdder 에 모아 두었다가 주기적으로 DB 와 Elasticsearch 에 한 번에 반영합니다.
+ * 판매량은 랭킹 용도로만 쓰이므로 수 초의 지연을 허용하고 주문 처리 중의 저장/색인을 없앱니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SoldQuantityCounterServiceImpl implements SoldQuantityCounterService {
+
+    private static final String SOLD_QUANTITY_SCRIPT =
+            "ctx._source.soldQuantity = Math.max(0, (ctx._source.soldQuantity == null ? 0 : ctx._source.soldQuantity) + params.delta)";
+
+    private final ProductRepository productRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CacheTagInvalidator cacheTagInvalidator;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 판매량 감소분을 쌓아 둡니다. 트랜잭션 안에서 호출되면 커밋된 뒤에만 쌓아, 롤백된 주문 취소가 판매량을 깎지 않게 합니다.
+     * 판매량 증가는 주문 시 재고 차감과 같은 UPDATE 에서 처리하므로 이 카운터를 거치지 않습니다.
+     */
+    @Override
+    public void decrease(Long productId, long quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("감소시킬 판매 수량은 음수일 수 없습니다.");
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(productId, -quantity);
+                }
+            });
+        } else {
+            add(productId, -quantity);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((productId, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta != 0) {
+                deltas.put(productId, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    updateSoldQuantityDocuments(deltas);
+                } else {
+                    // DB 반영에 실패한 증감분은 다음 주기에 다시 시도
+                    deltas.forEach(SoldQuantityCounterServiceImpl.this::add);
+                }
+            }
+        });
+
+        productRepository.addSoldQuantities(deltas);
+        // 상품 스냅샷과 상세/목록 캐시가 바뀐 판매량을 보이도록 커밋 후 지움
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, ProductCacheTagResolver.productTags(deltas.keySet()));
+    }
+
+    private void add(Long productId, long delta) {
+        counters.computeIfAbsent(productId, id -> new LongAdder()).add(delta);
+    }
+
+    private void updateSoldQuantityDocuments(Map<Long, Long> deltas) {
+        List<UpdateQuery> updateQueries = deltas.entrySet().stream()
+                .map(entry -> UpdateQuery.builder(String.valueOf(entry.getKey()))
+                        .withScript(SOLD_QUANTITY_SCRIPT)
+                        .withLang("painless")
+                        .withParams(Map.of("delta", entry.getValue()))
+                        .build())
+                .toList();
+        try {
+            elasticsearchOperations.bulkUpdate(updateQueries, ProductDocument.class);
+        } catch (Exception e) {
+            log.error("Failed to update sold quantity of {} products in Elasticsearch", deltas.size(), e);
+        }
+    }
+}
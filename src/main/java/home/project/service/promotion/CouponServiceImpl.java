@@ -1,8 +1,10 @@
 package home.project.service.promotion;
 
-import home.project.domain.elasticsearch.CouponDocument;
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.member.Member;
+import home.project.domain.outbox.OutboxDocumentType;
 import home.project.domain.product.*;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.AssignCouponToMemberRequestDTO;
 import home.project.dto.requestDTO.AssignCouponToProductRequestDTO;
 import home.project.dto.requestDTO.CreateCouponRequestDTO;
@@ -16,19 +18,17 @@ import home.project.repository.product.ProductRepository;
 import home.project.repository.promotion.CouponRepository;
 import home.project.repository.promotion.MemberCouponRepository;
 import home.project.repository.promotion.ProductCouponRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.notification.NotificationService;
 import home.project.service.notification.WebSocketNotificationService;
+import home.project.service.product.ProductCacheTagResolver;
 import home.project.service.util.Converter;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
 import home.project.service.util.StringBuilderUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,11 +48,11 @@ public class CouponServiceImpl implements CouponService{
     private final ProductRepository productRepository;
     private final Converter converter;
     private final SimpMessagingTemplate messagingTemplate;
-    private final MemberService memberService;
-    private final IndexToElasticsearch indexToElasticsearch;
-    private final ElasticsearchOperations elasticsearchOperations;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final ElasticsearchOutboxService elasticsearchOutboxService;
     private final WebSocketNotificationService webSocketNotificationService;
     private final NotificationService notificationService;
+    private final CacheTagInvalidator cacheTagInvalidator;
 
 
 
@@ -67,14 +67,7 @@ public class CouponServiceImpl implements CouponService{
         coupon.setEndDate(createCouponRequestDTO.getEndDate());
         couponRepository.save(coupon);
 
-        CouponDocument couponDocument = converter.convertFromCouponToCouponDocument(coupon);
-        try {
-            indexToElasticsearch.indexDocumentToElasticsearch(couponDocument, CouponDocument.class);
-
-        } catch (Exception e) {
-            System.out.println("에러 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.COUPON, coupon.getId());
 
         return converter.convertFromCouponToCouponResponse(coupon);
     }
@@ -92,13 +85,7 @@ public class CouponServiceImpl implements CouponService{
 
         couponRepository.save(coupon);
 
-        CouponDocument couponDocument = converter.convertFromCouponToCouponDocument(coupon);
-        try {
-            indexToElasticsearch.indexDocumentToElasticsearch(couponDocument, CouponDocument.class);
-        } catch (Exception e) {
-            System.out.println("에러 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
+        elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.COUPON, coupon.getId());
         return converter.convertFromCouponToCouponResponse(coupon);
 
     }
@@ -116,9 +103,7 @@ public class CouponServiceImpl implements CouponService{
 
     @Override
     public Page<CouponResponse> findAllByMemberIdReturnCouponResponse(Pageable pageable) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Long memberId = memberService.findByEmail(email).getId();
+        Long memberId = currentMemberResolver.currentMember().id();
         Page<Coupon> pagedCoupon = couponRepository.findAllByMemberId(memberId, pageable);
         return converter.convertFromPagedCouponToPagedCouponResponse(pagedCoupon);
     }
@@ -142,11 +127,9 @@ public class CouponServiceImpl implements CouponService{
 
     @Override
     public CouponResponse selectBestCouponForMember(Long productId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        Member member = memberService.findByEmail(email);
+        MemberSnapshot member = currentMemberResolver.currentMember();
 
-        List<Coupon> availableCoupons = couponRepository.findAvailableCoupons(member.getId(), productId);
+        List<Coupon> availableCoupons = couponRepository.findAvailableCoupons(member.id(), productId);
         Coupon bestCoupon = selectBestCoupon(availableCoupons);
 
         return bestCoupon != null ? converter.convertFromCouponToCouponResponse(bestCoupon) : null;
@@ -186,13 +169,7 @@ public class CouponServiceImpl implements CouponService{
 
             MemberCoupon savedMemberCoupon = memberCouponRepository.save(memberCoupon);
 
-            CouponDocument couponDocument = converter.convertFromCouponToCouponDocument(coupon);
-            try {
-                indexToElasticsearch.indexDocumentToElasticsearch(couponDocument, CouponDocument.class);
-            } catch (Exception e) {
-                System.out.println("에러 발생: " + e.getMessage());
-                e.printStackTrace();
-            }
+            elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.COUPON, coupon.getId());
 
             String notificationMessage = String.format(
                     "새로운 쿠폰이 발급되었습니다: %s",
@@ -225,6 +202,9 @@ public class CouponServiceImpl implements CouponService{
         couponRepository.save(coupon);
 
         Page<Product> targetProducts = getTargetProducts(assignCouponToProductRequestDTO, pageable);
+        // 상품 스냅샷에 적용 가능한 쿠폰이 들어 있으므로 대상 상품의 캐시를 커밋 후 지움
+        cacheTagInvalidator.evictTags(ProductCacheTagResolver.CACHE_NAME, ProductCacheTagResolver.productTags(
+                targetProducts.getContent().stream().map(Product::getId).toList()));
 
         return targetProducts.map(product -> {
             ProductCoupon productCoupon = new ProductCoupon();
@@ -234,13 +214,7 @@ public class CouponServiceImpl implements CouponService{
 
             ProductCoupon savedProductCoupon = productCouponRepository.save(productCoupon);
 
-            CouponDocument couponDocument = converter.convertFromCouponToCouponDocument(coupon);
-            try {
-                indexToElasticsearch.indexDocumentToElasticsearch(couponDocument, CouponDocument.class);
-            } catch (Exception e) {
-                System.out.println("에러 발생: " + e.getMessage());
-                e.printStackTrace();
-            }
+            elasticsearchOutboxService.enqueueIndex(OutboxDocumentType.COUPON, coupon.getId());
 
 /*
             kafkaEventProducerService.sendCouponEvent(new CouponEventDTO("coupon_assigned_to_product", coupon.getId(), null, product.getId()));
@@ -296,7 +270,7 @@ public class CouponServiceImpl implements CouponService{
         String name = findById(couponId).getName();
         couponRepository.deleteById(couponId);
 
-        elasticsearchOperations.delete(String.valueOf(couponId), CouponDocument.class);
+        elasticsearchOutboxService.enqueueDelete(OutboxDocumentType.COUPON, couponId);
 
         return name;
     }
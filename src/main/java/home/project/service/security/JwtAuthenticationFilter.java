@@ -1,6 +1,7 @@
 package home.project.service.security;
 
 
+import home.project.config.security.SecurityPathMatchers;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -23,18 +24,12 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final SecurityPathMatchers securityPathMatchers;
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    // 건너뛸 경로는 security-permissions.properties 의 security.jwtExcluded 에서 관리합니다.
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return path.startsWith("/api/address-search") ||
-                path.startsWith("/swagger-ui") ||
-                path.startsWith("/swagger-ui/index.html") ||
-                path.startsWith("/v3/api-docs") ||
-                path.startsWith("/ws") ||
-                path.startsWith("/api/password-request") ||
-                path.startsWith("/api/auth/login") ||    // 추가
-                path.startsWith("/api/admin/auth/login"); // 추가;
+        return securityPathMatchers.isJwtExcluded(request);
     }
 
     @Override
@@ -52,8 +47,10 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         logger.debug("Authorization Header: {}", httpServletRequest.getHeader("Authorization"));
         logger.debug("Resolved token: {}", token);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        // 서명 검증은 verify 한 번으로 끝내고, 그 Claims 로 인증 정보를 만듭니다.
+        JwtTokenProvider.VerifiedToken verifiedToken = token != null ? jwtTokenProvider.verify(token) : null;
+        if (verifiedToken != null && verifiedToken.isValid()) {
+            Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken.claims());
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } else {
             logger.debug("No valid JWT token found");
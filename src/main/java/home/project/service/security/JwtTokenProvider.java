@@ -1,5 +1,8 @@
 package home.project.service.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import home.project.dto.responseDTO.TokenResponse;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -14,27 +17,52 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 
+/**
+ * JWT 발급과 검증을 담당합니다.
+ * 파서는 생성 시 한 번만 만들어 모든 스레드가 공유하고, 서명 검증을 통과한 토큰의 Claims 는
+ * 토큰 해시를 키로 만료 시각까지 보관해 같은 토큰이 다시 오면 서명 검증과 JSON 파싱을 건너뜁니다.
+ * 로그아웃 등으로 폐기된 토큰(jti)은 캐시 여부와 관계없이 {@link TokenRevocationRegistry} 로 걸러냅니다.
+ */
 @Service
 public class JwtTokenProvider {
+    static final String MEMBER_ID_CLAIM = "memberId";
+
     private final Key key;
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokens;
     private final Long ACCESS_TOKEN_VALIDATION_PERIOD = 60L * 60 * 24 * 14 * 1000;
     private final Long REFRESH_TOKEN_VALIDATION_PERIOD = 60L * 60 * 24 * 14 * 1000;
     private final Long VERIFICATION_TOKEN_VALIDATION_PERIOD = 60L * 60 * 24 * 14 * 1000;
     private final Long RESET_TOKEN_VALIDATION_PERIOD = 60L * 60 * 1000;
     // 2주 - 5분
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, UserDetailsService userDetailsService) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, UserDetailsService userDetailsService,
+                            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize,
+                            TokenRevocationRegistry tokenRevocationRegistry) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaximumSize)
+                .expireAfter(Expiry.creating((String tokenHash, Claims claims) -> untilExpiration(claims)))
+                .build();
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
     }
 
     public TokenResponse generateToken(Authentication authentication) {
@@ -52,20 +80,42 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(email)
-                .setId(id.toString())
+                .setId(UUID.randomUUID().toString())
+                .claim(MEMBER_ID_CLAIM, id.toString())
                 .setIssuedAt(new Date())
                 .setExpiration(expiresIn)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    /**
+     * 토큰을 한 번만 검증해 상태와 Claims 를 함께 돌려줍니다. 유효한 토큰만 캐시하며, 반환된 Claims 는 수정하면 안 됩니다.
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            return VerifiedToken.INVALID_TOKEN;
+        }
+        String tokenHash = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(tokenHash);
+        if (claims == null) {
+            try {
+                claims = jwtParser.parseClaimsJws(token).getBody();
+            } catch (ExpiredJwtException e) {
+                return VerifiedToken.EXPIRED_TOKEN;
+            } catch (JwtException | IllegalArgumentException e) {
+                return VerifiedToken.INVALID_TOKEN;
+            }
+            verifiedTokens.put(tokenHash, claims);
+        }
+
+        if (tokenRevocationRegistry.isRevoked(claims.getId())) {
+            return VerifiedToken.REVOKED_TOKEN;
         }
+        return new VerifiedToken(TokenStatus.VALID, claims);
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isValid();
     }
 
     public void validateTokenResult(String accessToken, String refreshToken) {
@@ -74,20 +124,11 @@ public class JwtTokenProvider {
     }
 
     public TokenStatus validateTokenDetail(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return TokenStatus.VALID;
-        } catch (ExpiredJwtException e) {
-            return TokenStatus.EXPIRED;
-        } catch (JwtException e) {
-            return TokenStatus.INVALID;
-        }
+        return verify(token).status();
     }
 
     public TokenResponse refreshAccessToken(String refreshToken) {
-        throwExceptionForInvalidToken(validateTokenDetail(refreshToken), "Refresh");
-
-        Claims claims = parseClaims(refreshToken);
+        Claims claims = parseClaims(refreshToken, "Refresh");
         String username = claims.getSubject();
         String authorities = claims.get("auth", String.class);
 
@@ -98,8 +139,13 @@ public class JwtTokenProvider {
     }
 
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken, ""));
+    }
 
+    /**
+     * {@link #verify(String)} 로 이미 검증한 Claims 에서 인증 정보를 만듭니다.
+     */
+    public Authentication getAuthentication(Claims claims) {
         if (claims.get("auth") == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
@@ -114,31 +160,37 @@ public class JwtTokenProvider {
     }
 
     public String getIdFromVerificationToken(String token) {
-        throwExceptionForInvalidToken(validateTokenDetail(token), "Verification");
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getId();
+        Claims claims = parseClaims(token, "Verification");
+        String memberId = claims.get(MEMBER_ID_CLAIM, String.class);
+        // 회원 id 를 jti 에 담아 발급했던 이전 토큰은 유효기간이 끝날 때까지 jti 로 읽습니다.
+        return memberId != null ? memberId : claims.getId();
     }
 
     public String getEmailFromToken(String token) {
-        throwExceptionForInvalidToken(validateTokenDetail(token), "");
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token, "").getSubject();
+    }
 
-        return claims.getSubject();
+    private Claims parseClaims(String token, String tokenType) {
+        VerifiedToken verifiedToken = verify(token);
+        throwExceptionForInvalidToken(verifiedToken.status(), tokenType);
+        return verifiedToken.claims();
     }
 
-    private Claims parseClaims(String accessToken) {
-        throwExceptionForInvalidToken(validateTokenDetail(accessToken), "");
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+    private static Duration untilExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(Math.max(0, expiration.getTime() - getNow()));
+    }
 
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 
     static long getNow() {
@@ -148,6 +200,7 @@ public class JwtTokenProvider {
     private String buildToken(String subject, String authorities, long now, long validityPeriod) {
         return Jwts.builder()
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .claim("auth", authorities)
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + validityPeriod))
@@ -175,6 +228,8 @@ public class JwtTokenProvider {
                 return;
             case EXPIRED:
                 throw new JwtException("만료된 " + tokenType + " token입니다. 다시 로그인 해주세요.");
+            case REVOKED:
+                throw new JwtException("로그아웃된 " + tokenType + " token입니다. 다시 로그인 해주세요.");
             case INVALID:
             default:
                 throw new JwtException("유효하지 않은 " + tokenType + " token입니다.");
@@ -192,7 +247,19 @@ public class JwtTokenProvider {
     public enum TokenStatus {
         VALID,
         INVALID,
-        EXPIRED
+        EXPIRED,
+        REVOKED
+    }
+
+    public record VerifiedToken(TokenStatus status, Claims claims) {
+
+        private static final VerifiedToken INVALID_TOKEN = new VerifiedToken(TokenStatus.INVALID, null);
+        private static final VerifiedToken EXPIRED_TOKEN = new VerifiedToken(TokenStatus.EXPIRED, null);
+        private static final VerifiedToken REVOKED_TOKEN = new VerifiedToken(TokenStatus.REVOKED, null);
+
+        public boolean isValid() {
+            return status == TokenStatus.VALID;
+        }
     }
 
     public String generateResetToken(String email) {
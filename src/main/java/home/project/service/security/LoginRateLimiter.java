@@ -0,0 +1,162 @@
+package home.project.service.security;
+
+import home.project.exceptions.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 로그인/회원가입 요청을 BCrypt 에 닿기 전에 Redis 토큰 버킷으로 제한합니다.
+ *
+ * 로그인은 요청마다 IP 별 버킷을 차감하고, 계정 버킷 두 개는 남아 있는지만 확인합니다. 계정 버킷은 비밀번호 확인에 실패했을 때만 차감합니다.
+ * (계정, IP) 버킷은 한 곳에서의 반복 추측을 작게 묶고, 계정 버킷은 IP 를 바꿔 가며 보내는 추측을 모든 IP 를 합쳐 묶습니다.
+ * 계정 버킷은 본인 로그인이 쉽게 막히지 않도록 더 크게 잡습니다.
+ * Redis 에 문제가 있으면 로그인을 막지 않도록 제한 없이 통과시킵니다. BCrypt 동시 실행 수는
+ * {@link BoundedPasswordEncoder} 가 따로 묶어 두므로 이때도 서버가 무너지지는 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+
+    static final String LOGIN_IP_KEY_PREFIX = "ratelimit:login:ip:";
+    static final String LOGIN_ACCOUNT_KEY_PREFIX = "ratelimit:login:account:";
+    static final String LOGIN_ACCOUNT_IP_KEY_PREFIX = "ratelimit:login:account-ip:";
+    static final String SIGNUP_IP_KEY_PREFIX = "ratelimit:signup:ip:";
+
+    private static final DefaultRedisScript<Long> TOKEN_BUCKET_SCRIPT = script("redis/token-bucket.lua", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.rate-limit.login.ip.capacity:20}")
+    private long loginIpCapacity;
+
+    @Value("${security.rate-limit.login.ip.refill-per-minute:10}")
+    private long loginIpRefillPerMinute;
+
+    @Value("${security.rate-limit.login.account.capacity:30}")
+    private long loginAccountCapacity;
+
+    @Value("${security.rate-limit.login.account.refill-per-minute:5}")
+    private long loginAccountRefillPerMinute;
+
+    @Value("${security.rate-limit.login.account-ip.capacity:5}")
+    private long loginAccountIpCapacity;
+
+    @Value("${security.rate-limit.login.account-ip.refill-per-minute:1}")
+    private long loginAccountIpRefillPerMinute;
+
+    @Value("${security.rate-limit.signup.ip.capacity:5}")
+    private long signupIpCapacity;
+
+    @Value("${security.rate-limit.signup.ip.refill-per-minute:1}")
+    private long signupIpRefillPerMinute;
+
+    // 충전량이 0 이면 버킷이 영영 차지 않고 스크립트의 만료 시간 계산도 0 으로 나누게 되므로 기동할 때 막습니다.
+    @PostConstruct
+    void validate() {
+        requirePositive("security.rate-limit.login.ip.capacity", loginIpCapacity);
+        requirePositive("security.rate-limit.login.ip.refill-per-minute", loginIpRefillPerMinute);
+        requirePositive("security.rate-limit.login.account.capacity", loginAccountCapacity);
+        requirePositive("security.rate-limit.login.account.refill-per-minute", loginAccountRefillPerMinute);
+        requirePositive("security.rate-limit.login.account-ip.capacity", loginAccountIpCapacity);
+        requirePositive("security.rate-limit.login.account-ip.refill-per-minute", loginAccountIpRefillPerMinute);
+        requirePositive("security.rate-limit.signup.ip.capacity", signupIpCapacity);
+        requirePositive("security.rate-limit.signup.ip.refill-per-minute", signupIpRefillPerMinute);
+    }
+
+    /**
+     * 비밀번호를 확인하기 전에 호출합니다. IP 버킷을 차감하고, (계정, IP) 버킷과 계정 버킷은 비어 있는지만 확인합니다.
+     */
+    public void checkLogin(String email) {
+        String ip = clientIp();
+        String account = normalize(email);
+        long rejected = consume(
+                List.of(LOGIN_IP_KEY_PREFIX + ip, LOGIN_ACCOUNT_IP_KEY_PREFIX + account + ":" + ip, LOGIN_ACCOUNT_KEY_PREFIX + account),
+                loginIpCapacity, loginIpRefillPerMinute, 1,
+                loginAccountIpCapacity, loginAccountIpRefillPerMinute, 0,
+                loginAccountCapacity, loginAccountRefillPerMinute, 0);
+        if (rejected == 1) {
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (rejected != 0) {
+            throw new TooManyRequestsException("이 계정의 로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 비밀번호 확인에 실패했을 때 호출해 (계정, IP) 버킷과 계정 버킷을 함께 차감합니다.
+     */
+    public void recordLoginFailure(String email) {
+        String account = normalize(email);
+        consume(List.of(LOGIN_ACCOUNT_IP_KEY_PREFIX + account + ":" + clientIp(), LOGIN_ACCOUNT_KEY_PREFIX + account),
+                loginAccountIpCapacity, loginAccountIpRefillPerMinute, 1,
+                loginAccountCapacity, loginAccountRefillPerMinute, 1);
+    }
+
+    public void checkSignup() {
+        long rejected = consume(List.of(SIGNUP_IP_KEY_PREFIX + clientIp()), signupIpCapacity, signupIpRefillPerMinute, 1);
+        if (rejected != 0) {
+            throw new TooManyRequestsException("회원가입 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 버킷마다 (용량, 분당 충전량, 차감량) 을 받습니다. 거절한 버킷의 순번(1부터)을 돌려주고, 허용했거나 확인할 수 없으면 0 을 돌려줍니다.
+    private long consume(List<String> keys, long... capacityRefillAndCost) {
+        if (!enabled) {
+            return 0;
+        }
+        Object[] args = new Object[capacityRefillAndCost.length + 1];
+        args[0] = String.valueOf(System.currentTimeMillis());
+        for (int i = 0; i < capacityRefillAndCost.length; i++) {
+            args[i + 1] = String.valueOf(capacityRefillAndCost[i]);
+        }
+        try {
+            Long rejected = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, keys, args);
+            return rejected == null ? 0 : rejected;
+        } catch (Exception e) {
+            log.warn("Rate limit check skipped, redis unavailable: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void requirePositive(String property, long value) {
+        if (value <= 0) {
+            throw new IllegalStateException(property + " 는 0 보다 커야 합니다: " + value);
+        }
+    }
+
+    private static String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return "unknown";
+    }
+
+    private static <T> DefaultRedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+}
@@ -0,0 +1,34 @@
+package home.project.service.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * /api/logout 요청의 Authorization 헤더(액세스 토큰)와 refreshToken 파라미터(리프레시 토큰)를 폐기합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationLogoutHandler implements LogoutHandler {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            tokenRevocationService.revoke(bearerToken.substring(BEARER_PREFIX.length()));
+        }
+
+        String refreshToken = request.getParameter("refreshToken");
+        if (StringUtils.hasText(refreshToken)) {
+            tokenRevocationService.revoke(refreshToken);
+        }
+    }
+}
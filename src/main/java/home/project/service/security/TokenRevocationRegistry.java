@@ -0,0 +1,73 @@
+package home.project.service.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 노드가 알고 있는 폐기 토큰 목록입니다. Redis 의 폐기 목록을 {@link TokenRevocationService} 가 복제해 채웁니다.
+ *
+ * 요청마다 호출되는 {@link #isRevoked(String)} 는 대부분 Bloom filter 의 비트 확인만으로 끝나고,
+ * Bloom filter 가 있다고 답한 경우에만 정확한 집합(jti → 만료 시각)으로 오탐을 걸러냅니다.
+ * 만료된 토큰은 어차피 서명 검증에서 거부되므로 {@link #purgeExpired()} 에서 지우고 Bloom filter 를 다시 만듭니다.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final double falsePositiveRate;
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private volatile RevokedTokenBloomFilter bloomFilter;
+
+    public TokenRevocationRegistry(@Value("${jwt.revocation.bloom.expected-insertions:100000}") int expectedInsertions,
+                                   @Value("${jwt.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new RevokedTokenBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revokedTokens.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 추가와 재구성이 겹치면 새 Bloom filter 에 빠지는 jti 가 생기므로 둘 다 이 객체로 잠급니다.
+    public synchronized void revoke(String tokenId, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.merge(tokenId, expiresAt, Math::max);
+        if (revokedTokens.size() > bloomFilter.capacity()) {
+            rebuild(revokedTokens.size() * 2);
+            return;
+        }
+        bloomFilter.put(tokenId);
+    }
+
+    /**
+     * 만료된 항목을 지우고 남은 항목으로 Bloom filter 를 다시 만듭니다. 지운 개수를 돌려줍니다.
+     */
+    public synchronized int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        int purged = before - revokedTokens.size();
+        if (purged > 0) {
+            rebuild(Math.max(bloomFilter.capacity(), revokedTokens.size() * 2));
+        }
+        return purged;
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    private void rebuild(int capacity) {
+        RevokedTokenBloomFilter rebuilt = new RevokedTokenBloomFilter(capacity, falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,104 @@
+package home.project.service.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 토큰 폐기(로그아웃)를 Redis 에 기록하고 모든 노드의 {@link TokenRevocationRegistry} 로 복제합니다.
+ *
+ * Redis 의 정렬 집합(jti → 만료 시각)이 원본이며, 폐기 즉시 채널로 알려 다른 노드가 로컬 목록에 추가합니다.
+ * 메시지를 놓친 노드는 {@link #synchronize()} 가 주기적으로 정렬 집합을 다시 읽어 따라잡습니다.
+ * 요청 처리 경로에서는 Redis 를 조회하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+
+    static final String REVOKED_KEY = "jwt:revoked";
+    static final String REVOCATION_CHANNEL = "jwt:revocation";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * 토큰을 남은 유효 기간 동안 폐기합니다. 이미 만료됐거나 유효하지 않은 토큰, jti 가 없는 이전 토큰은 무시하고 false 를 돌려줍니다.
+     */
+    public boolean revoke(String token) {
+        JwtTokenProvider.VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+        if (!verifiedToken.isValid()) {
+            return false;
+        }
+        Claims claims = verifiedToken.claims();
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return false;
+        }
+        revoke(claims.getId(), claims.getExpiration().getTime());
+        return true;
+    }
+
+    void revoke(String tokenId, long expiresAt) {
+        // Redis 가 실패해도 이 노드에서는 바로 거부되도록 로컬 목록부터 갱신합니다.
+        tokenRevocationRegistry.revoke(tokenId, expiresAt);
+        try {
+            stringRedisTemplate.opsForZSet().add(REVOKED_KEY, tokenId, expiresAt);
+            stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId + "|" + expiresAt);
+        } catch (Exception e) {
+            log.error("Failed to record token revocation in redis: {}", tokenId, e);
+        }
+    }
+
+    /**
+     * Redis 에서 만료된 항목을 지우고, 남은 폐기 목록을 로컬 목록에 합칩니다. 합친 개수를 돌려줍니다.
+     */
+    public int synchronize() {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, now);
+        Set<ZSetOperations.TypedTuple<String>> revoked = stringRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+
+        int merged = 0;
+        if (revoked != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : revoked) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    tokenRevocationRegistry.revoke(tuple.getValue(), tuple.getScore().longValue());
+                    merged++;
+                }
+            }
+        }
+        tokenRevocationRegistry.purgeExpired();
+        return merged;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length < 2) {
+            return;
+        }
+        try {
+            tokenRevocationRegistry.revoke(parts[0], Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token revocation message: {}", parts[1]);
+        }
+    }
+}
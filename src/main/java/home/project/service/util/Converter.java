@@ -18,6 +18,8 @@ import home.project.domain.order.Cart;
 import home.project.domain.order.Orders;
 import home.project.domain.product.*;
 import home.project.domain.promotion.Event;
+import home.project.dto.cacheDTO.ProductCouponSnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
 import home.project.dto.requestDTO.*;
 import home.project.dto.responseDTO.*;
 import home.project.exceptions.exception.IdNotFoundException;
@@ -34,6 +36,7 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -269,6 +272,27 @@ public class Converter {
         );
     }
 
+    public ProductResponseForManager convertFromProductSnapshotToProductResponseForManaging(ProductSnapshot product){
+        return new ProductResponseForManager(
+                product.id(),
+                product.name(),
+                product.brand(),
+                product.category() != null ? product.category().code() : null,
+                product.productNum(),
+                product.stock(),
+                product.soldQuantity(),
+                product.price(),
+                product.discountRate(),
+                product.defectiveStock(),
+                product.description(),
+                product.createAt(),
+                product.mainImageFile(),
+                product.size(),
+                product.color(),
+                convertFromListedProductCouponSnapshotToProductCouponResponse(product.productNum(), product.productCoupons())
+        );
+    }
+
     public ProductWithQnAAndReviewResponseForManager convertFromProductToProductWithQnAAndReviewResponseForManager(Product product, Page<QnA> qnAs, Page<Review> reviews){
         return new ProductWithQnAAndReviewResponseForManager(
                 product.getId(),
@@ -410,6 +434,100 @@ public class Converter {
         ));
     }
 
+    // 검색 문서만으로 ProductSimpleResponse 를 만들 수 있는지 여부
+    public boolean isProductDocumentCompleteForSimpleResponse(ProductDocument productDocument) {
+        return productDocument.getName() != null
+                && productDocument.getBrand() != null
+                && productDocument.getPrice() != null;
+    }
+
+    // 검색 문서만으로 ProductResponseForManager 를 만들 수 있는지 여부
+    public boolean isProductDocumentCompleteForManagerResponse(ProductDocument productDocument) {
+        return isProductDocumentCompleteForSimpleResponse(productDocument)
+                && productDocument.getProductNum() != null
+                && productDocument.getStock() != null
+                && productDocument.getCategory() != null
+                && productDocument.getCategory().getCode() != null;
+    }
+
+    /**
+     * 검색 결과 문서로 응답을 만듭니다. 필드가 빠진 문서는 fallbackProducts 에서 같은 id 의 상품을 찾아 대신 사용합니다.
+     * 회원과 무관하게 캐시되는 응답이므로 좋아요 여부는 항상 false 입니다.
+     */
+    public Page<ProductSimpleResponse> convertFromPagedProductDocumentToPagedProductSimpleResponse(Page<ProductDocument> pagedDocuments, Map<Long, ProductSnapshot> fallbackProducts) {
+        return pagedDocuments.map(productDocument -> {
+            ProductSnapshot product = fallbackProducts.get(productDocument.getId());
+            if (product != null) {
+                return new ProductSimpleResponse(
+                        product.id(),
+                        product.name(),
+                        product.brand(),
+                        product.price(),
+                        product.discountRate(),
+                        product.mainImageFile(),
+                        false,
+                        product.color()
+                );
+            }
+            return new ProductSimpleResponse(
+                    productDocument.getId(),
+                    productDocument.getName(),
+                    productDocument.getBrand(),
+                    productDocument.getPrice(),
+                    productDocument.getDiscountRate(),
+                    productDocument.getMainImageFile(),
+                    false,
+                    productDocument.getColor()
+            );
+        });
+    }
+
+    public List<ProductResponseForManager> convertFromListedProductDocumentToListedProductResponseForManager(List<ProductDocument> productDocuments, Map<Long, ProductSnapshot> fallbackProducts) {
+        return productDocuments.stream()
+                .map(productDocument -> {
+                    ProductSnapshot product = fallbackProducts.get(productDocument.getId());
+                    if (product != null) {
+                        return convertFromProductSnapshotToProductResponseForManaging(product);
+                    }
+                    return convertFromProductDocumentToProductResponseForManager(productDocument);
+                })
+                .collect(Collectors.toList());
+    }
+
+    public ProductResponseForManager convertFromProductDocumentToProductResponseForManager(ProductDocument productDocument) {
+        List<ProductCouponResponse> productCouponResponses = productDocument.getProductCoupons() == null
+                ? new ArrayList<>()
+                : productDocument.getProductCoupons().stream()
+                .map(productCoupon -> new ProductCouponResponse(
+                        productCoupon.getId(),
+                        productDocument.getProductNum(),
+                        productCoupon.getCoupon() != null ? productCoupon.getCoupon().getId() : null,
+                        productCoupon.getIssuedAt(),
+                        productCoupon.getUsedAt(),
+                        productCoupon.isUsed()
+                ))
+                .collect(Collectors.toList());
+
+        return new ProductResponseForManager(
+                productDocument.getId(),
+                productDocument.getName(),
+                productDocument.getBrand(),
+                productDocument.getCategory() != null ? productDocument.getCategory().getCode() : null,
+                productDocument.getProductNum(),
+                productDocument.getStock(),
+                productDocument.getSoldQuantity(),
+                productDocument.getPrice(),
+                productDocument.getDiscountRate(),
+                productDocument.getDefectiveStock(),
+                productDocument.getDescription(),
+                productDocument.getCreateAt(),
+                productDocument.getMainImageFile(),
+                productDocument.getSize(),
+                productDocument.getColor(),
+                productCouponResponses
+        );
+    }
+
 
     public ProductResponse convertFromProductToProductResponse(Product product) {
         return new ProductResponse(
@@ -563,6 +681,23 @@ public class Converter {
                 .collect(Collectors.toList());
     }
 
+    public List<ProductCouponResponse> convertFromListedProductCouponSnapshotToProductCouponResponse(String productNum, List<ProductCouponSnapshot> productCoupons){
+        if (productCoupons == null) {
+            return new ArrayList<>();
+        }
+
+        return productCoupons.stream()
+                .map(productCoupon -> new ProductCouponResponse(
+                        productCoupon.id(),
+                        productNum,
+                        productCoupon.couponId(),
+                        productCoupon.issuedAt(),
+                        productCoupon.usedAt(),
+                        productCoupon.used()
+                ))
+                .collect(Collectors.toList());
+    }
+
     public CouponResponse convertFromCouponToCouponResponse(Coupon coupon){
         return new CouponResponse(
                 coupon.getId(),
@@ -822,8 +957,35 @@ public class Converter {
         ));
     }
 
-    public Page<ProductResponse> convertFromPagedWishListToProductResponseResponse(Page<WishList> pagedWishList) {
-        return pagedWishList.map(wishList -> new ProductResponse(
+    /**
+     * 위시리스트 페이지를 상품 응답으로 만듭니다. 상품 정보는 한 번에 조회한 캐시 값(products)을 쓰고,
+     * 그 사이 지워져 캐시 값이 없는 상품만 위시리스트의 연관 엔티티로 채웁니다.
+     */
+    public Page<ProductResponse> convertFromPagedWishListToProductResponseResponse(Page<WishList> pagedWishList, Map<Long, ProductSnapshot> products) {
+        return pagedWishList.map(wishList -> {
+            ProductSnapshot product = products.get(wishList.getProduct().getId());
+            if (product == null) {
+                return convertFromWishListToProductResponse(wishList);
+            }
+            return new ProductResponse(
+                    product.id(),
+                    product.name(),
+                    product.brand(),
+                    product.category() != null ? product.category().code() : null,
+                    product.productNum(),
+                    product.price(),
+                    product.discountRate(),
+                    product.description(),
+                    product.mainImageFile(),
+                    wishList.isLiked(),
+                    product.size(),
+                    product.color(),
+                    convertFromListedProductCouponSnapshotToProductCouponResponse(product.productNum(), product.productCoupons()));
+        });
+    }
+
+    private ProductResponse convertFromWishListToProductResponse(WishList wishList) {
+        return new ProductResponse(
                 wishList.getProduct().getId(),
                 wishList.getProduct().getName(),
                 wishList.getProduct().getBrand(),
@@ -836,8 +998,7 @@ public class Converter {
                 wishList.isLiked(),
                 wishList.getProduct().getSize(),
                 wishList.getProduct().getColor(),
-                convertFromListedProductCouponProductCouponResponse(wishList.getProduct().getProductCoupons()))
-        );
+                convertFromListedProductCouponProductCouponResponse(wishList.getProduct().getProductCoupons()));
     }
 
     public NotificationResponse convertFromNotificationToNotificationResponse(Notification notification){
@@ -27,12 +27,10 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             String authToken = accessor.getFirstNativeHeader("Authorization");
             if (authToken != null && authToken.startsWith("Bearer ")) {
                 String token = authToken.substring(7);
-                if (jwtTokenProvider.validateToken(token)) {
-                    // 토큰에서 사용자 정보 추출
-                    String email = jwtTokenProvider.getEmailFromToken(token);
-
+                JwtTokenProvider.VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+                if (verifiedToken.isValid()) {
                     // Spring Security의 인증 객체 생성
-                    Authentication auth = jwtTokenProvider.getAuthentication(token);
+                    Authentication auth = jwtTokenProvider.getAuthentication(verifiedToken.claims());
                     accessor.setUser(auth);  // WebSocket 세션에 인증 정보 설정
                 }
             }
@@ -0,0 +1,13 @@
+-- 주문 트랜잭션 커밋 직전에 예약이 아직 유효한지 확인하고, 확정될 때까지 만료 시각을 늦춥니다.
+-- 커밋 후 확정 전에 노드가 죽으면 늦춘 만료 시각이 지나 예약이 복구됩니다.
+-- KEYS[1]: 예약 해시, KEYS[2]: 대기 중인 예약 ZSET
+-- ARGV[1]: 예약 ID, ARGV[2]: 현재 시각(ms), ARGV[3]: 연장할 시간(ms)
+-- 반환값: 1 = 유효함, 0 = 이미 만료되었거나 처리된 예약
+local now = tonumber(ARGV[2])
+local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if not expiresAt or tonumber(expiresAt) <= now or redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+redis.call('ZADD', KEYS[2], 'XX', now + tonumber(ARGV[3]), ARGV[1])
+redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[3]) * 2)
+return 1
@@ -0,0 +1,24 @@
+-- 예약을 확정하고 수량을 DB 반영 대기 해시에 누적합니다.
+-- 예약 수량은 예약 항목 해시에서 읽고, 없으면 항목 해시를 쓰기 전에 만든 예약으로 보고 예약 해시에서 읽습니다.
+-- KEYS[1]: 예약 해시, KEYS[2]: 대기 중인 예약 ZSET, KEYS[3]: 확정 수량 해시, KEYS[4]: 예약 항목 해시
+-- ARGV[1]: 예약 ID
+-- 반환값: 확정된 상품 수 (0 이면 이미 만료되었거나 처리된 예약)
+local committed = 0
+local encoded = redis.call('HGET', KEYS[4], ARGV[1])
+
+if encoded then
+    for productId, quantity in string.gmatch(encoded, '([^,:]+):([^,]+)') do
+        redis.call('HINCRBY', KEYS[3], productId, quantity)
+        committed = committed + 1
+    end
+else
+    local items = redis.call('HGETALL', KEYS[1])
+    for i = 1, #items, 2 do
+        redis.call('HINCRBY', KEYS[3], items[i], items[i + 1])
+    end
+    committed = #items / 2
+end
+redis.call('DEL', KEYS[1])
+redis.call('HDEL', KEYS[4], ARGV[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+return committed
@@ -0,0 +1,5 @@
+-- 확정 수량 해시를 읽고 비웁니다. DB 반영 배치가 한 번에 가져가도록 원자적으로 처리합니다.
+-- KEYS[1]: 확정 수량 해시
+local items = redis.call('HGETALL', KEYS[1])
+redis.call('DEL', KEYS[1])
+return items
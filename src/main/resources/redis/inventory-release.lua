@@ -0,0 +1,31 @@
+-- 예약을 취소하고 예약했던 수량을 재고 카운터로 되돌립니다.
+-- 예약 해시가 TTL 로 먼저 지워졌어도 복구할 수 있도록 수량은 예약 항목 해시에서 읽고, 없을 때만 예약 해시에서 읽습니다.
+-- KEYS[1]: 예약 해시, KEYS[2]: 대기 중인 예약 ZSET, KEYS[3]: 예약 항목 해시, KEYS[4..]: 예약에 담긴 상품별 재고 카운터
+-- ARGV[1]: 예약 ID, ARGV[2..]: KEYS[4..] 와 같은 순서의 상품 ID
+-- 반환값: 복구된 상품 수 (0 이면 이미 처리된 예약)
+local quantities = {}
+local encoded = redis.call('HGET', KEYS[3], ARGV[1])
+if encoded then
+    for productId, quantity in string.gmatch(encoded, '([^,:]+):([^,]+)') do
+        quantities[productId] = quantity
+    end
+end
+
+local restored = 0
+for k = 4, #KEYS do
+    local productId = ARGV[k - 2]
+    local quantity
+    if encoded then
+        quantity = quantities[productId]
+    else
+        quantity = redis.call('HGET', KEYS[1], productId)
+    end
+    if quantity then
+        redis.call('INCRBY', KEYS[k], quantity)
+        restored = restored + 1
+    end
+end
+redis.call('DEL', KEYS[1])
+redis.call('HDEL', KEYS[3], ARGV[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+return restored
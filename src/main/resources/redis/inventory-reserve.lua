@@ -0,0 +1,28 @@
+-- 여러 상품의 재고를 한 번에 예약합니다. 하나라도 부족하면 아무것도 차감하지 않습니다.
+-- 예약 해시는 TTL 로 정리되므로, 예약 수량은 만료되지 않는 예약 항목 해시에도 "상품ID:수량,..." 형태로 남겨 둡니다.
+-- KEYS[1]: 예약 해시, KEYS[2]: 대기 중인 예약 ZSET, KEYS[3]: 예약 항목 해시, KEYS[4..]: 상품별 재고 카운터
+-- ARGV[1]: 예약 ID, ARGV[2]: 만료 시각(ms), ARGV[3]: 예약 해시 TTL(ms)
+-- ARGV[4..]: 상품 ID, 수량 쌍 (KEYS[4..] 와 같은 순서)
+-- 반환값: 1 = 예약 성공, 0 = 재고 부족, -1 = 재고 카운터가 아직 적재되지 않음
+for k = 4, #KEYS do
+    local stock = redis.call('GET', KEYS[k])
+    if not stock then
+        return -1
+    end
+    if tonumber(stock) < tonumber(ARGV[5 + (k - 4) * 2]) then
+        return 0
+    end
+end
+
+local items = {}
+for k = 4, #KEYS do
+    local productId = ARGV[4 + (k - 4) * 2]
+    local quantity = ARGV[5 + (k - 4) * 2]
+    redis.call('DECRBY', KEYS[k], quantity)
+    redis.call('HSET', KEYS[1], productId, quantity)
+    items[#items + 1] = productId .. ':' .. quantity
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+redis.call('HSET', KEYS[3], ARGV[1], table.concat(items, ','))
+redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+return 1
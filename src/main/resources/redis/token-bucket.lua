@@ -0,0 +1,32 @@
+-- 여러 토큰 버킷을 한 번에 확인하고 지정한 만큼 차감합니다. 하나라도 비어 있으면 아무 버킷도 차감하지 않습니다.
+-- KEYS[1..n]: 버킷 해시 (tokens, ts 필드)
+-- ARGV[1]: 현재 시각(ms), ARGV[2..]: 버킷마다 용량, 분당 충전량, 차감량 세 값 (차감량 0 은 남은 토큰만 확인)
+-- 반환값: 0 = 허용, k = k 번째 버킷이 비어 거절됨
+local now = tonumber(ARGV[1])
+local remaining = {}
+
+for i = 1, #KEYS do
+    local capacity = tonumber(ARGV[i * 3 - 1])
+    local refillPerMs = tonumber(ARGV[i * 3]) / 60000
+    local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+    local tokens = tonumber(bucket[1]) or capacity
+    local ts = tonumber(bucket[2]) or now
+
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * refillPerMs)
+    if tokens < 1 then
+        return i
+    end
+    remaining[i] = tokens
+end
+
+for i = 1, #KEYS do
+    local cost = tonumber(ARGV[i * 3 + 1])
+    if cost > 0 then
+        local capacity = tonumber(ARGV[i * 3 - 1])
+        local refillPerMs = tonumber(ARGV[i * 3]) / 60000
+        redis.call('HSET', KEYS[i], 'tokens', tostring(remaining[i] - cost), 'ts', tostring(now))
+        -- 가득 찰 때까지 걸리는 시간이 지나면 키가 없어도 같은 상태이므로 지웁니다. 충전량은 기동 시 0 보다 큰지 확인합니다.
+        redis.call('PEXPIRE', KEYS[i], math.ceil(capacity / refillPerMs))
+    end
+end
+return 0
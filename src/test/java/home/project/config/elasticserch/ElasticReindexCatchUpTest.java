@@ -0,0 +1,181 @@
+package home.project.config.elasticserch;
+
+import home.project.domain.elasticsearch.CouponDocument;
+import home.project.domain.elasticsearch.MemberDocument;
+import home.project.domain.elasticsearch.OrdersDocument;
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.domain.product.Product;
+import home.project.service.integration.ElasticsearchIndexManager;
+import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.util.Converter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 전체 재색인 도중 바뀐 상품이 별칭 전환 뒤 증분 단계에서 새 인덱스에 다시 반영되는지 확인합니다.
+ * 상품 조회는 증분 리더의 JPQL 조건(id 키셋, updatedAt 구간)을 그대로 흉내 내는 가짜 쿼리로 대신합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElasticReindexCatchUpTest {
+
+    @Mock
+    private ElasticsearchIndexManager elasticsearchIndexManager;
+    @Mock
+    private IndexToElasticsearch indexToElasticsearch;
+    @Mock
+    private Converter converter;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<Product> productQuery;
+
+    private ElasticReindexListener elasticReindexListener;
+    private ElasticSyncBatchConfig elasticSyncBatchConfig;
+    private ElasticIncrementalSyncBatchConfig elasticIncrementalSyncBatchConfig;
+
+    private final List<Product> productTable = new ArrayList<>();
+    private final Map<String, Object> queryParameters = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        elasticReindexListener = new ElasticReindexListener(elasticsearchIndexManager);
+        ReflectionTestUtils.setField(elasticReindexListener, "watermarkLagSeconds", 60L);
+        elasticSyncBatchConfig = new ElasticSyncBatchConfig(null, null, entityManagerFactory, null,
+                elasticsearchIndexManager, elasticReindexListener, converter, null, null, null, null, null);
+        elasticIncrementalSyncBatchConfig = new ElasticIncrementalSyncBatchConfig(null, null, entityManagerFactory,
+                null, converter, null, indexToElasticsearch);
+
+        when(elasticsearchIndexManager.createIndexForReload(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, Class.class).getSimpleName().toLowerCase() + "_v2");
+        when(converter.convertFromProductToProductDocument(any())).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            ProductDocument document = new ProductDocument();
+            document.setId(product.getId());
+            document.setStock(product.getStock());
+            return document;
+        });
+
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery(anyString(), eq(Product.class))).thenReturn(productQuery);
+        when(productQuery.setMaxResults(anyInt())).thenReturn(productQuery);
+        when(productQuery.setParameter(anyString(), any())).thenAnswer(invocation -> {
+            queryParameters.put(invocation.getArgument(0), invocation.getArgument(1));
+            return productQuery;
+        });
+        when(productQuery.getResultList()).thenAnswer(invocation -> {
+            long lastId = (Long) queryParameters.get("lastId");
+            LocalDateTime since = (LocalDateTime) queryParameters.get("since");
+            LocalDateTime until = (LocalDateTime) queryParameters.get("until");
+            return productTable.stream()
+                    .filter(product -> product.getId() > lastId)
+                    .filter(product -> product.getUpdatedAt() != null
+                            && product.getUpdatedAt().isAfter(since) && !product.getUpdatedAt().isAfter(until))
+                    .toList();
+        });
+    }
+
+    private Product product(long id, long stock, LocalDateTime updatedAt) {
+        Product product = new Product();
+        product.setId(id);
+        product.setStock(stock);
+        product.setUpdatedAt(updatedAt);
+        productTable.add(product);
+        return product;
+    }
+
+    // 증분 단계(productIncrementalStep)의 리더 → 변환 → 별칭 쓰기를 그대로 한 번 실행합니다.
+    private void runProductCatchUp(ExecutionContext jobContext) throws Exception {
+        JpaKeysetPagingItemReader<Product> reader = elasticIncrementalSyncBatchConfig.productIncrementalReader(
+                jobContext.getString(ElasticSyncWatermarkListener.SINCE_KEY),
+                jobContext.getString(ElasticSyncWatermarkListener.UNTIL_KEY));
+        reader.open(new ExecutionContext());
+        List<ProductDocument> documents = new ArrayList<>();
+        for (Product product = reader.read(); product != null; product = reader.read()) {
+            documents.add(converter.convertFromProductToProductDocument(product));
+        }
+        reader.close();
+        if (!documents.isEmpty()) {
+            elasticIncrementalSyncBatchConfig.productWriter().write(new Chunk<>(documents));
+        }
+    }
+
+    @Nested
+    @DisplayName("재색인 중 변경 반영 테스트")
+    class CatchUpTest {
+
+        @Test
+        @DisplayName("재색인 도중 재고가 바뀐 상품은 별칭 전환 뒤 바뀐 재고로 다시 색인된다")
+        void productChangedMidRebuildIsReplayedAfterSwap() throws Exception {
+            Product untouched = product(1L, 5L, LocalDateTime.now().minusDays(1));
+            Product ordered = product(2L, 10L, LocalDateTime.now().minusDays(1));
+            JobExecution jobExecution = new JobExecution(1L);
+            ExecutionContext jobContext = jobExecution.getExecutionContext();
+
+            elasticReindexListener.beforeJob(jobExecution);
+            // 재색인 스텝이 재고 10 으로 적재한 뒤, 주문의 재고 차감 UPDATE 가 updated_at 을 현재 시각으로 찍으며 반영됨
+            ordered.setStock(7L);
+            ordered.setUpdatedAt(LocalDateTime.now());
+            elasticSyncBatchConfig.promoteIndices(jobContext);
+            runProductCatchUp(jobContext);
+
+            InOrder inOrder = inOrder(elasticsearchIndexManager, indexToElasticsearch);
+            inOrder.verify(elasticsearchIndexManager).promote(ProductDocument.class, "productdocument_v2");
+            ArgumentCaptor<List<ProductDocument>> written = ArgumentCaptor.forClass(List.class);
+            inOrder.verify(indexToElasticsearch).indexDocumentsToElasticsearch(written.capture(), eq(ProductDocument.class));
+            assertThat(written.getValue()).singleElement().satisfies(document -> {
+                assertThat(document.getId()).isEqualTo(ordered.getId());
+                assertThat(document.getStock()).isEqualTo(7L);
+            });
+            assertThat(written.getValue()).extracting(ProductDocument::getId).doesNotContain(untouched.getId());
+        }
+
+        @Test
+        @DisplayName("별칭 전환은 모든 문서 클래스의 재색인 인덱스로 이뤄지고, 그 뒤에 구간 끝이 기록된다")
+        void promoteRecordsUntilAfterSwap() throws Exception {
+            JobExecution jobExecution = new JobExecution(1L);
+            ExecutionContext jobContext = jobExecution.getExecutionContext();
+            elasticReindexListener.beforeJob(jobExecution);
+            LocalDateTime beforePromote = LocalDateTime.now();
+
+            elasticSyncBatchConfig.promoteIndices(jobContext);
+
+            verify(elasticsearchIndexManager).promote(MemberDocument.class, "memberdocument_v2");
+            verify(elasticsearchIndexManager).promote(ProductDocument.class, "productdocument_v2");
+            verify(elasticsearchIndexManager).promote(OrdersDocument.class, "ordersdocument_v2");
+            verify(elasticsearchIndexManager).promote(CouponDocument.class, "coupondocument_v2");
+            LocalDateTime since = LocalDateTime.parse(jobContext.getString(ElasticSyncWatermarkListener.SINCE_KEY));
+            LocalDateTime until = LocalDateTime.parse(jobContext.getString(ElasticSyncWatermarkListener.UNTIL_KEY));
+            assertThat(since).isBefore(beforePromote);
+            assertThat(until).isAfterOrEqualTo(beforePromote);
+        }
+    }
+}
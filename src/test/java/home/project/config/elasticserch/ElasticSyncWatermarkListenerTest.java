@@ -0,0 +1,165 @@
+package home.project.config.elasticserch;
+
+import home.project.repository.outbox.ElasticsearchTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElasticSyncWatermarkListenerTest {
+
+    private static final String JOB_NAME = "elasticIncrementalSyncJob";
+
+    @Mock
+    private JobExplorer jobExplorer;
+    @Mock
+    private ElasticsearchTombstoneRepository elasticsearchTombstoneRepository;
+
+    private ElasticSyncWatermarkListener listener;
+
+    // 최근 실행부터 담기며, findJobInstancesByJobName 의 start/count 로 잘라 돌려줍니다.
+    private final List<JobInstance> jobInstances = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        listener = new ElasticSyncWatermarkListener(jobExplorer, elasticsearchTombstoneRepository);
+        ReflectionTestUtils.setField(listener, "watermarkLagSeconds", 60L);
+        ReflectionTestUtils.setField(listener, "tombstoneRetentionDays", 7L);
+
+        when(jobExplorer.findJobInstancesByJobName(eq(JOB_NAME), anyInt(), anyInt())).thenAnswer(invocation -> {
+            int start = invocation.getArgument(1);
+            int count = invocation.getArgument(2);
+            return jobInstances.subList(Math.min(start, jobInstances.size()), Math.min(start + count, jobInstances.size()));
+        });
+        when(jobExplorer.getJobExecutions(any())).thenReturn(List.of());
+    }
+
+    private JobInstance pastRun(long id, BatchStatus status, LocalDateTime until) {
+        JobInstance jobInstance = new JobInstance(id, JOB_NAME);
+        JobExecution execution = new JobExecution(jobInstance, id, new JobParameters());
+        execution.setStatus(status);
+        execution.getExecutionContext().putString(ElasticSyncWatermarkListener.UNTIL_KEY, until.toString());
+        when(jobExplorer.getJobExecutions(jobInstance)).thenReturn(List.of(execution));
+        jobInstances.add(jobInstance);
+        return jobInstance;
+    }
+
+    private JobExecution currentRun() {
+        return new JobExecution(new JobInstance(1_000L, JOB_NAME), 1_000L, new JobParameters());
+    }
+
+    private LocalDateTime since(JobExecution execution) {
+        return LocalDateTime.parse(execution.getExecutionContext().getString(ElasticSyncWatermarkListener.SINCE_KEY));
+    }
+
+    private LocalDateTime until(JobExecution execution) {
+        return LocalDateTime.parse(execution.getExecutionContext().getString(ElasticSyncWatermarkListener.UNTIL_KEY));
+    }
+
+    @Nested
+    @DisplayName("구간 계산 테스트")
+    class BeforeJobTest {
+
+        @Test
+        @DisplayName("성공한 실행이 없으면 1970 년부터 현재 시각 - 지연 시간까지를 구간으로 잡는다")
+        void firstRunSyncsEverything() {
+            JobExecution execution = currentRun();
+            LocalDateTime before = LocalDateTime.now();
+
+            listener.beforeJob(execution);
+
+            assertThat(since(execution)).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+            assertThat(until(execution)).isBetween(before.minusSeconds(60), LocalDateTime.now().minusSeconds(60));
+        }
+
+        @Test
+        @DisplayName("실패한 실행은 건너뛰고 마지막으로 성공한 실행의 끝 시각부터 시작한다")
+        void startsFromLastCompletedUntil() {
+            LocalDateTime lastUntil = LocalDateTime.now().minusMinutes(10);
+            pastRun(2L, BatchStatus.FAILED, LocalDateTime.now().minusMinutes(5));
+            pastRun(1L, BatchStatus.COMPLETED, lastUntil);
+            JobExecution execution = currentRun();
+
+            listener.beforeJob(execution);
+
+            assertThat(since(execution)).isEqualTo(lastUntil);
+        }
+
+        @Test
+        @DisplayName("실패가 한 페이지(20 건)를 넘게 이어져도 전체 재동기화로 떨어지지 않는다")
+        void looksPastLongFailureStreak() {
+            LocalDateTime lastUntil = LocalDateTime.now().minusHours(3);
+            LongStream.rangeClosed(1, 45).forEach(i ->
+                    pastRun(100 - i, BatchStatus.FAILED, LocalDateTime.now().minusMinutes(i)));
+            pastRun(1L, BatchStatus.COMPLETED, lastUntil);
+            JobExecution execution = currentRun();
+
+            listener.beforeJob(execution);
+
+            assertThat(since(execution)).isEqualTo(lastUntil);
+            verify(jobExplorer).findJobInstancesByJobName(JOB_NAME, 40, 20);
+        }
+
+        @Test
+        @DisplayName("이전 끝 시각이 이번 끝 시각보다 늦으면 시작을 끝에 맞춘다")
+        void sinceIsClampedToUntil() {
+            pastRun(1L, BatchStatus.COMPLETED, LocalDateTime.now());
+            JobExecution execution = currentRun();
+
+            listener.beforeJob(execution);
+
+            assertThat(since(execution)).isEqualTo(until(execution));
+        }
+    }
+
+    @Nested
+    @DisplayName("삭제 기록 정리 테스트")
+    class AfterJobTest {
+
+        @Test
+        @DisplayName("성공하면 구간 끝에서 보관 기간을 뺀 시각 이전의 삭제 기록을 지운다")
+        void purgesTombstonesOnSuccess() {
+            JobExecution execution = currentRun();
+            listener.beforeJob(execution);
+            execution.setStatus(BatchStatus.COMPLETED);
+
+            listener.afterJob(execution);
+
+            verify(elasticsearchTombstoneRepository).deleteByDeletedAtBefore(until(execution).minusDays(7));
+        }
+
+        @Test
+        @DisplayName("실패하면 삭제 기록을 남겨 다음 실행이 다시 반영하게 한다")
+        void keepsTombstonesOnFailure() {
+            JobExecution execution = currentRun();
+            listener.beforeJob(execution);
+            execution.setStatus(BatchStatus.FAILED);
+
+            listener.afterJob(execution);
+
+            verify(elasticsearchTombstoneRepository, never()).deleteByDeletedAtBefore(any());
+        }
+    }
+}
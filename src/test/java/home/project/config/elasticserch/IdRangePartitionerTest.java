@@ -0,0 +1,129 @@
+package home.project.config.elasticserch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdRangePartitionerTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<Object[]> boundsQuery;
+
+    private IdRangePartitioner partitioner;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(boundsQuery);
+        partitioner = new IdRangePartitioner(entityManagerFactory, "Product");
+    }
+
+    private void givenIdBounds(Long min, Long max) {
+        when(boundsQuery.getSingleResult()).thenReturn(new Object[]{min, max});
+    }
+
+    // 파티션 구간을 시작 id 순으로 정렬해 [minId, maxId] 쌍으로 돌려줍니다.
+    private List<long[]> ranges(Map<String, ExecutionContext> partitions) {
+        return partitions.values().stream()
+                .map(context -> new long[]{context.getLong(IdRangePartitioner.MIN_ID_KEY), context.getLong(IdRangePartitioner.MAX_ID_KEY)})
+                .sorted(Comparator.comparingLong(range -> range[0]))
+                .toList();
+    }
+
+    // 구간들이 빈틈과 겹침 없이 [min, max] 를 덮는지 확인합니다.
+    private void assertCovers(List<long[]> ranges, long min, long max) {
+        assertThat(ranges.get(0)[0]).isEqualTo(min);
+        assertThat(ranges.get(ranges.size() - 1)[1]).isEqualTo(max);
+        for (int i = 0; i < ranges.size(); i++) {
+            assertThat(ranges.get(i)[0]).isLessThanOrEqualTo(ranges.get(i)[1]);
+            if (i > 0) {
+                assertThat(ranges.get(i)[0]).isEqualTo(ranges.get(i - 1)[1] + 1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("id 구간 분할 테스트")
+    class PartitionTest {
+
+        @Test
+        @DisplayName("테이블이 비어 있으면 파티션을 만들지 않는다")
+        void emptyTable() {
+            givenIdBounds(null, null);
+
+            Map<String, ExecutionContext> partitions = partitioner.partition(8);
+
+            assertThat(partitions).isEmpty();
+            verify(entityManager).close();
+        }
+
+        @Test
+        @DisplayName("id 가 하나뿐이면 그 id 만 담은 파티션 하나를 만든다")
+        void singleId() {
+            givenIdBounds(42L, 42L);
+
+            List<long[]> ranges = ranges(partitioner.partition(8));
+
+            assertThat(ranges).hasSize(1);
+            assertThat(ranges.get(0)).containsExactly(42L, 42L);
+        }
+
+        @Test
+        @DisplayName("gridSize 가 id 범위보다 크면 id 하나짜리 파티션을 범위 크기만큼만 만든다")
+        void gridSizeLargerThanIdSpan() {
+            givenIdBounds(10L, 12L);
+
+            List<long[]> ranges = ranges(partitioner.partition(8));
+
+            assertThat(ranges).hasSize(3);
+            assertCovers(ranges, 10L, 12L);
+            ranges.forEach(range -> assertThat(range[0]).isEqualTo(range[1]));
+        }
+
+        @Test
+        @DisplayName("id 범위가 충분히 크면 gridSize 개의 파티션으로 빈틈 없이 나눈다")
+        void partitionCountMatchesGridSize() {
+            givenIdBounds(1L, 1_000L);
+
+            List<long[]> ranges = ranges(partitioner.partition(8));
+
+            assertThat(ranges).hasSize(8);
+            assertCovers(ranges, 1L, 1_000L);
+        }
+
+        @Test
+        @DisplayName("나누어떨어지지 않는 범위도 gridSize 를 넘지 않는다")
+        void partitionCountNeverExceedsGridSize() {
+            givenIdBounds(1L, 10L);
+
+            List<long[]> ranges = ranges(partitioner.partition(3));
+
+            assertThat(ranges).hasSizeLessThanOrEqualTo(3);
+            assertCovers(ranges, 1L, 10L);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package home.project.config.elasticserch;
+
+import home.project.domain.product.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JpaKeysetPagingItemReaderTest {
+
+    private static final String QUERY = "SELECT p FROM Product p WHERE p.id > :lastId AND p.updatedAt > :since AND p.updatedAt <= :until ORDER BY p.id";
+    private static final LocalDateTime SINCE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime UNTIL = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private TypedQuery<Product> query;
+
+    private final List<Product> productTable = new ArrayList<>();
+    private final Map<String, Object> queryParameters = new HashMap<>();
+    private final List<Long> requestedLastIds = new ArrayList<>();
+    private int maxResults;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        when(entityManager.createQuery(QUERY, Product.class)).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenAnswer(invocation -> {
+            maxResults = invocation.getArgument(0);
+            return query;
+        });
+        when(query.setParameter(anyString(), any())).thenAnswer(invocation -> {
+            queryParameters.put(invocation.getArgument(0), invocation.getArgument(1));
+            return query;
+        });
+        // id 키셋과 updatedAt 구간 조건을 그대로 흉내 냅니다.
+        when(query.getResultList()).thenAnswer(invocation -> {
+            long lastId = (Long) queryParameters.get("lastId");
+            LocalDateTime since = (LocalDateTime) queryParameters.get("since");
+            LocalDateTime until = (LocalDateTime) queryParameters.get("until");
+            requestedLastIds.add(lastId);
+            return productTable.stream()
+                    .filter(product -> product.getId() > lastId)
+                    .filter(product -> product.getUpdatedAt().isAfter(since) && !product.getUpdatedAt().isAfter(until))
+                    .limit(maxResults)
+                    .toList();
+        });
+    }
+
+    private void product(long id, LocalDateTime updatedAt) {
+        Product product = new Product();
+        product.setId(id);
+        product.setUpdatedAt(updatedAt);
+        productTable.add(product);
+    }
+
+    private JpaKeysetPagingItemReader<Product> reader(int pageSize) {
+        JpaKeysetPagingItemReader<Product> reader = new JpaKeysetPagingItemReader<>(entityManagerFactory, QUERY, Product.class, Product::getId);
+        reader.setPageSize(pageSize);
+        reader.setParameterValue("since", SINCE);
+        reader.setParameterValue("until", UNTIL);
+        return reader;
+    }
+
+    private List<Long> readAll(JpaKeysetPagingItemReader<Product> reader) throws Exception {
+        reader.open(new ExecutionContext());
+        List<Long> ids = new ArrayList<>();
+        for (Product product = reader.read(); product != null; product = reader.read()) {
+            ids.add(product.getId());
+        }
+        reader.close();
+        return ids;
+    }
+
+    @Nested
+    @DisplayName("키셋 페이징 테스트")
+    class ReadTest {
+
+        @Test
+        @DisplayName("다음 페이지는 이전 페이지의 마지막 id 이후부터 읽는다")
+        void pagesByLastId() throws Exception {
+            product(3L, SINCE.plusHours(1));
+            product(7L, SINCE.plusHours(2));
+            product(9L, SINCE.plusHours(3));
+
+            assertThat(readAll(reader(2))).containsExactly(3L, 7L, 9L);
+            assertThat(requestedLastIds).containsExactly(0L, 7L);
+        }
+
+        @Test
+        @DisplayName("구간 시작은 제외하고 끝은 포함한다")
+        void windowExcludesSinceAndIncludesUntil() throws Exception {
+            product(1L, SINCE);
+            product(2L, SINCE.plusNanos(1_000));
+            product(3L, UNTIL);
+            product(4L, UNTIL.plusNanos(1_000));
+
+            assertThat(readAll(reader(10))).containsExactly(2L, 3L);
+        }
+
+        @Test
+        @DisplayName("읽는 도중 앞쪽 행이 구간에서 빠져도 뒤쪽 행을 건너뛰지 않는다")
+        void rowLeavingWindowDoesNotSkipOthers() throws Exception {
+            product(1L, SINCE.plusHours(1));
+            product(2L, SINCE.plusHours(1));
+            product(3L, SINCE.plusHours(1));
+            JpaKeysetPagingItemReader<Product> reader = reader(2);
+            reader.open(new ExecutionContext());
+
+            assertThat(reader.read().getId()).isEqualTo(1L);
+            assertThat(reader.read().getId()).isEqualTo(2L);
+            productTable.get(0).setUpdatedAt(UNTIL.plusHours(1));
+            assertThat(reader.read().getId()).isEqualTo(3L);
+            assertThat(reader.read()).isNull();
+            reader.close();
+        }
+
+        @Test
+        @DisplayName("시작 id 를 주면 그 이후부터 읽고, 페이지마다 영속성 컨텍스트를 비운다")
+        void startAfterIdAndClearPerPage() throws Exception {
+            product(1L, SINCE.plusHours(1));
+            product(2L, SINCE.plusHours(1));
+            product(3L, SINCE.plusHours(1));
+            JpaKeysetPagingItemReader<Product> reader = reader(1);
+            reader.setStartAfterId(1L);
+
+            assertThat(readAll(reader)).containsExactly(2L, 3L);
+            verify(entityManager, times(3)).clear();
+            verify(entityManager).close();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package home.project.config.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheKeyGeneratorTest {
+
+    private CacheKeyGenerator keyGenerator;
+    private CacheKeyGenerator principalKeyGenerator;
+    private Method findAll;
+    private Method findAllByIds;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        keyGenerator = new CacheKeyGenerator(false);
+        principalKeyGenerator = new CacheKeyGenerator(true);
+        findAll = SampleService.class.getDeclaredMethod("findAll", String.class, String.class, Pageable.class);
+        findAllByIds = SampleService.class.getDeclaredMethod("findAllByIds", List.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private Object key(CacheKeyGenerator generator, Method method, Object... params) {
+        return generator.generate(new SampleService(), method, params);
+    }
+
+    @Nested
+    @DisplayName("키 생성 테스트")
+    class GenerateTest {
+
+        @Test
+        @DisplayName("키는 메서드명으로 시작하고, 같은 인자면 같은 키를 만든다")
+        void sameArgumentsSameKey() {
+            Object first = key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20));
+            Object second = key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20));
+
+            assertThat(first).isEqualTo(second);
+            assertThat(first.toString()).startsWith("findAll:");
+        }
+
+        @Test
+        @DisplayName("페이지 번호, 크기, 정렬이 다르면 다른 키를 만든다")
+        void pageableIsPartOfKey() {
+            Object base = key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20));
+
+            assertThat(key(keyGenerator, findAll, "브랜드", null, PageRequest.of(1, 20))).isNotEqualTo(base);
+            assertThat(key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 10))).isNotEqualTo(base);
+            assertThat(key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20, Sort.by("price"))))
+                    .isNotEqualTo(base);
+        }
+
+        @Test
+        @DisplayName("null 인자와 인자 위치를 구분한다")
+        void nullAndPositionAreDistinguished() {
+            Object brandOnly = key(keyGenerator, findAll, "상의", null, Pageable.unpaged());
+            Object categoryOnly = key(keyGenerator, findAll, null, "상의", Pageable.unpaged());
+
+            assertThat(brandOnly).isNotEqualTo(categoryOnly);
+        }
+
+        @Test
+        @DisplayName("컬렉션 인자는 원소까지 키에 반영한다")
+        void collectionElementsArePartOfKey() {
+            assertThat(key(keyGenerator, findAllByIds, List.of(1L, 2L)))
+                    .isEqualTo(key(keyGenerator, findAllByIds, List.of(1L, 2L)))
+                    .isNotEqualTo(key(keyGenerator, findAllByIds, List.of(1L, 3L)));
+        }
+
+        @Test
+        @DisplayName("같은 캐시를 쓰는 다른 빈의 같은 시그니처 메서드는 다른 키를 만든다")
+        void targetClassIsPartOfKey() throws NoSuchMethodException {
+            Method otherFindAll = OtherService.class.getDeclaredMethod("findAll", String.class, String.class, Pageable.class);
+
+            Object sampleKey = key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20));
+            Object otherKey = keyGenerator.generate(new OtherService(), otherFindAll, "브랜드", null, PageRequest.of(0, 20));
+
+            assertThat(otherKey).isNotEqualTo(sampleKey);
+            assertThat(otherKey.toString()).startsWith("findAll:");
+        }
+
+        @Test
+        @DisplayName("includePrincipal 이면 로그인 사용자가 다를 때 다른 키를 만든다")
+        void principalIsPartOfKey() {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("a@test.com", null));
+            Object first = key(principalKeyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20));
+            Object withoutPrincipal = key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20));
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("b@test.com", null));
+            Object second = key(principalKeyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20));
+
+            assertThat(first).isNotEqualTo(second);
+            assertThat(key(keyGenerator, findAll, "브랜드", null, PageRequest.of(0, 20))).isEqualTo(withoutPrincipal);
+        }
+    }
+
+    static class SampleService {
+
+        List<Object> findAll(String brand, String category, Pageable pageable) {
+            return List.of();
+        }
+
+        List<Object> findAllByIds(List<Long> ids) {
+            return List.of();
+        }
+    }
+
+    static class OtherService {
+
+        List<Object> findAll(String brand, String category, Pageable pageable) {
+            return List.of();
+        }
+    }
+}
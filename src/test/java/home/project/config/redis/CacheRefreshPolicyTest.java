@@ -0,0 +1,172 @@
+package home.project.config.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheRefreshPolicyTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration STALE = Duration.ofMinutes(2);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private final CacheRefreshPolicy policy = new CacheRefreshPolicy(TTL, 0.0, STALE, NEGATIVE_TTL, 0.0);
+
+    @Nested
+    @DisplayName("만료 판단 테스트")
+    class ExpiryTest {
+
+        @Test
+        @DisplayName("jitter 가 없으면 저장 시각 + ttl 에 만료된다")
+        void expiresAfterTtl() {
+            CacheEnvelope envelope = policy.envelope("값", NOW, 5);
+
+            assertThat(envelope.getExpiresAt()).isEqualTo(NOW + TTL.toMillis());
+            assertThat(policy.isExpired(envelope, NOW + TTL.toMillis() - 1)).isFalse();
+            assertThat(policy.isExpired(envelope, NOW + TTL.toMillis())).isTrue();
+        }
+
+        @Test
+        @DisplayName("jitter 를 더한 만료 시각은 ttl 과 ttl * (1 + jitter) 사이에 있다")
+        void jitterStaysWithinBounds() {
+            CacheRefreshPolicy jittered = new CacheRefreshPolicy(TTL, 0.2, STALE, NEGATIVE_TTL, 0.0);
+
+            for (int i = 0; i < 100; i++) {
+                long expiresAt = jittered.envelope("값", NOW, 0).getExpiresAt();
+                assertThat(expiresAt).isBetween(NOW + TTL.toMillis(), NOW + (long) (TTL.toMillis() * 1.2));
+            }
+        }
+
+        @Test
+        @DisplayName("만료 시각이 없는 이전 값은 저장 시각 + ttl 로 판단한다")
+        void legacyEnvelopeUsesCreatedAt() {
+            CacheEnvelope legacy = new CacheEnvelope("값", NOW, 0, 0);
+
+            assertThat(policy.isExpired(legacy, NOW + TTL.toMillis() - 1)).isFalse();
+            assertThat(policy.isExpired(legacy, NOW + TTL.toMillis())).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료 뒤 stale 시간 동안은 이전 값을 내어 줄 수 있다")
+        void servableWithinStale() {
+            CacheEnvelope envelope = policy.envelope("값", NOW, 0);
+            long expiresAt = NOW + TTL.toMillis();
+
+            assertThat(policy.isServable(envelope, expiresAt + STALE.toMillis() - 1)).isTrue();
+            assertThat(policy.isServable(envelope, expiresAt + STALE.toMillis())).isFalse();
+        }
+
+        @Test
+        @DisplayName("음수 캐시는 negativeTtl 이 지나면 stale 로도 내어 주지 않는다")
+        void negativeIsNotServedStale() {
+            CacheEnvelope negative = policy.negativeEnvelope("없음", NOW);
+
+            assertThat(negative.isNegative()).isTrue();
+            assertThat(policy.isServable(negative, NOW + NEGATIVE_TTL.toMillis() - 1)).isTrue();
+            assertThat(policy.isServable(negative, NOW + NEGATIVE_TTL.toMillis())).isFalse();
+        }
+
+        @Test
+        @DisplayName("beta 가 0 이면 만료 전에는 갱신하지 않고, 만료되면 갱신한다")
+        void refreshOnlyAfterExpiryWithoutBeta() {
+            CacheEnvelope envelope = policy.envelope("값", NOW, 1_000);
+
+            assertThat(policy.shouldRefresh(envelope, NOW + TTL.toMillis() - 1)).isFalse();
+            assertThat(policy.shouldRefresh(envelope, NOW + TTL.toMillis())).isTrue();
+        }
+
+        @Test
+        @DisplayName("negativeTtl 이 0 이면 음수 캐시를 쓰지 않는다")
+        void zeroNegativeTtlDisablesNegatives() {
+            assertThat(policy.cachesNegatives()).isTrue();
+            assertThat(new CacheRefreshPolicy(TTL, 0.0, STALE, Duration.ZERO, 0.0).cachesNegatives()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("XFetch 조기 갱신 테스트")
+    class EarlyRefreshTest {
+
+        // 계산 1초, beta 1, 난수 0.5 이면 -ln(0.5) ≈ 0.693 이므로 만료 약 693ms 전부터 갱신합니다.
+        private final CacheRefreshPolicy xfetch = new CacheRefreshPolicy(TTL, 0.0, STALE, NEGATIVE_TTL, 1.0, () -> 0.5);
+
+        @Test
+        @DisplayName("만료까지 남은 시간이 계산 시간 * beta * -ln(난수) 보다 짧으면 미리 갱신한다")
+        void refreshesCloseToExpiry() {
+            CacheEnvelope envelope = xfetch.envelope("값", NOW, 1_000);
+            long expiresAt = NOW + TTL.toMillis();
+
+            assertThat(xfetch.shouldRefresh(envelope, expiresAt - 600)).isTrue();
+            assertThat(xfetch.shouldRefresh(envelope, expiresAt - 800)).isFalse();
+        }
+
+        @Test
+        @DisplayName("계산이 오래 걸린 값일수록 더 일찍 갱신한다")
+        void slowerComputeRefreshesEarlier() {
+            long now = NOW + TTL.toMillis() - 3_000;
+
+            assertThat(xfetch.shouldRefresh(xfetch.envelope("값", NOW, 1_000), now)).isFalse();
+            assertThat(xfetch.shouldRefresh(xfetch.envelope("값", NOW, 5_000), now)).isTrue();
+        }
+
+        @Test
+        @DisplayName("난수가 0 이면 만료 전에는 갱신하지 않는다")
+        void zeroRandomNeverRefreshesEarly() {
+            CacheRefreshPolicy lazy = new CacheRefreshPolicy(TTL, 0.0, STALE, NEGATIVE_TTL, 1.0, () -> 0.0);
+            CacheEnvelope envelope = lazy.envelope("값", NOW, 60_000);
+
+            assertThat(lazy.shouldRefresh(envelope, NOW + TTL.toMillis() - 1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("계산 시간이 기록되지 않은 값은 만료 전에 갱신하지 않는다")
+        void unknownComputeTimeNeverRefreshesEarly() {
+            CacheEnvelope envelope = xfetch.envelope("값", NOW, 0);
+
+            assertThat(xfetch.shouldRefresh(envelope, NOW + TTL.toMillis() - 1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("jitter 는 주입한 난수 비율만큼 만료를 늦춘다")
+        void jitterUsesRandomSource() {
+            CacheRefreshPolicy jittered = new CacheRefreshPolicy(TTL, 0.2, STALE, NEGATIVE_TTL, 0.0, () -> 0.5);
+
+            assertThat(jittered.envelope("값", NOW, 0).getExpiresAt()).isEqualTo(NOW + TTL.toMillis() + TTL.toMillis() / 10);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis TTL 테스트")
+    class RedisTtlTest {
+
+        @Test
+        @DisplayName("Redis 에는 남은 유효시간에 stale 만큼 더 남긴다")
+        void redisTtlIncludesStale() {
+            CacheEnvelope envelope = policy.envelope("값", NOW, 0);
+
+            assertThat(policy.redisTtl(envelope, NOW)).isEqualTo(TTL.plus(STALE));
+            assertThat(policy.redisTtl(envelope, NOW + 60_000)).isEqualTo(TTL.plus(STALE).minusMinutes(1));
+        }
+
+        @Test
+        @DisplayName("음수 캐시는 stale 없이 negativeTtl 만큼만 남긴다")
+        void negativeRedisTtl() {
+            assertThat(policy.redisTtl(policy.negativeEnvelope("없음", NOW), NOW)).isEqualTo(NEGATIVE_TTL);
+        }
+
+        @Test
+        @DisplayName("이미 지난 값도 최소 1초는 남기고, 봉투가 아닌 값은 최대 TTL 을 쓴다")
+        void minimumAndMaximum() {
+            CacheEnvelope envelope = policy.envelope("값", NOW, 0);
+
+            assertThat(policy.redisTtl(envelope, NOW + Duration.ofHours(1).toMillis())).isEqualTo(Duration.ofSeconds(1));
+            assertThat(policy.redisTtl("이전 값", NOW)).isEqualTo(policy.maxRedisTtl());
+            assertThat(policy.maxRedisTtl()).isEqualTo(TTL.plus(STALE));
+        }
+    }
+}
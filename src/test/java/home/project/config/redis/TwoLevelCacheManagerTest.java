@@ -0,0 +1,221 @@
+package home.project.config.redis;
+
+import home.project.dto.cacheDTO.CategorySnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.service.product.ProductCacheTagResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE_NAME = ProductCacheTagResolver.CACHE_NAME;
+    private static final String TAG_KEY = "cache:tag:product:product:1";
+
+    @Mock
+    private CacheManager redisCacheManager;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private StringRedisConnection stringRedisConnection;
+    @Mock
+    private CacheMetrics cacheMetrics;
+
+    private final Map<String, ConcurrentMapCache> redisCaches = new HashMap<>();
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        when(redisCacheManager.getCache(anyString())).thenAnswer(invocation ->
+                redisCaches.computeIfAbsent(invocation.getArgument(0), ConcurrentMapCache::new));
+        when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+
+        CacheRefreshPolicy refreshPolicy = new CacheRefreshPolicy(Duration.ofMinutes(30), 0.0, Duration.ofMinutes(5), Duration.ZERO, 0.0);
+        cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, new CachePolicyProperties(),
+                name -> refreshPolicy,
+                new RedisSerializerFactory(VersionedRedisSerializer.WriteFormat.SMILE, 1024, 0.0, new SimpleMeterRegistry()),
+                List.of("product:"), List.of(new ProductCacheTagResolver()), Duration.ofSeconds(1), cacheMetrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private ProductSnapshot product(long id) {
+        return new ProductSnapshot(id, "티셔츠", "브랜드", new CategorySnapshot(3L, "0101", "상의", 2), "P-" + id,
+                10L, 0L, 10000L, 0, 0L, List.of(), null, null, null, null, List.of());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String publishedMessage() {
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, atLeastOnce()).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), published.capture());
+        return published.getValue();
+    }
+
+    @Nested
+    @DisplayName("pub/sub 무효화 테스트")
+    class InvalidationTest {
+
+        @Test
+        @DisplayName("저장하면 노드 id 를 붙인 삭제 메시지를 발행한다")
+        void putPublishesEvict() {
+            cacheManager.getCache(CACHE_NAME).put("product:1", product(1L));
+
+            assertThat(publishedMessage()).matches("[0-9a-f\\-]{36}\\|E\\|product\\|product:1");
+        }
+
+        @Test
+        @DisplayName("다른 노드의 삭제 메시지를 받으면 L1 만 비워, 다음 조회는 Redis 에서 읽는다")
+        void remoteEvictClearsOnlyLocal() {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            cache.put("product:1", product(1L));
+
+            cacheManager.onMessage(message("other-node|E|product|product:1"), null);
+
+            verify(cacheMetrics).recordEviction(CACHE_NAME, "product:1", CacheMetrics.EVICT_REMOTE);
+            assertThat(cache.get("product:1").get()).isEqualTo(product(1L));
+            verify(cacheMetrics).recordHit(CACHE_NAME, "product:1", CacheMetrics.LEVEL_REDIS);
+            verify(cacheMetrics, never()).recordHit(CACHE_NAME, "product:1", CacheMetrics.LEVEL_LOCAL);
+        }
+
+        @Test
+        @DisplayName("자신이 발행한 메시지는 무시해 방금 채운 L1 을 지우지 않는다")
+        void ownMessageIsIgnored() {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            cache.put("product:1", product(1L));
+
+            cacheManager.onMessage(message(publishedMessage()), null);
+
+            verify(cacheMetrics, never()).recordEviction(anyString(), anyString(), eq(CacheMetrics.EVICT_REMOTE));
+            cache.get("product:1");
+            verify(cacheMetrics).recordHit(CACHE_NAME, "product:1", CacheMetrics.LEVEL_LOCAL);
+        }
+
+        @Test
+        @DisplayName("다른 노드의 전체 삭제 메시지를 받으면 L1 전체를 비운다")
+        void remoteClearClearsLocal() {
+            cacheManager.getCache(CACHE_NAME).put("product:1", product(1L));
+
+            cacheManager.onMessage(message("other-node|C|product|"), null);
+
+            verify(cacheMetrics).recordClear(CACHE_NAME, CacheMetrics.EVICT_REMOTE);
+        }
+
+        @Test
+        @DisplayName("아직 만들어지지 않은 캐시나 형식이 틀린 메시지는 무시한다")
+        void unknownCacheOrMalformedMessageIsIgnored() {
+            cacheManager.onMessage(message("other-node|E|member|member:1"), null);
+            cacheManager.onMessage(message("broken"), null);
+
+            verify(cacheMetrics, never()).recordEviction(anyString(), anyString(), anyString());
+            verify(redisCacheManager, never()).getCache(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("태그 기록/삭제 테스트")
+    class TagTest {
+
+        @Test
+        @DisplayName("저장한 값의 태그마다 키를 Set 에 기록하고 캐시 최대 TTL 로 만료를 건다")
+        @SuppressWarnings("unchecked")
+        void putRecordsTags() {
+            cacheManager.getCache(CACHE_NAME).put("product:1", product(1L));
+
+            ArgumentCaptor<RedisCallback> callback = ArgumentCaptor.forClass(RedisCallback.class);
+            verify(stringRedisTemplate).executePipelined(callback.capture());
+            callback.getValue().doInRedis(stringRedisConnection);
+
+            long maxTtlSeconds = Duration.ofMinutes(35).toSeconds();
+            verify(stringRedisConnection).sAdd(TAG_KEY, "product:1");
+            verify(stringRedisConnection).sAdd("cache:tag:product:brand:브랜드", "product:1");
+            verify(stringRedisConnection).sAdd("cache:tag:product:category:0101", "product:1");
+            verify(stringRedisConnection).expire(TAG_KEY, maxTtlSeconds);
+        }
+
+        @Test
+        @DisplayName("태그 Set 에 담긴 키만 두 단계에서 지우고, 지운 키를 Set 에서 뺀다")
+        void evictTagsEvictsTaggedKeys() {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            cache.put("product:1", product(1L));
+            cache.put("product:2", product(2L));
+            when(setOperations.union(List.of(TAG_KEY))).thenReturn(Set.of("product:1"));
+
+            cacheManager.evictTags(CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(1L)));
+
+            assertThat(redisCaches.get(CACHE_NAME).get("product:1")).isNull();
+            assertThat(redisCaches.get(CACHE_NAME).get("product:2")).isNotNull();
+            verify(cacheMetrics).recordEviction(CACHE_NAME, "product:1", CacheMetrics.EVICT_TAG);
+            verify(setOperations).remove(TAG_KEY, "product:1");
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 호출하면 커밋된 뒤에 지운다")
+        void evictTagsAfterCommit() {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            cache.put("product:1", product(1L));
+            when(setOperations.union(List.of(TAG_KEY))).thenReturn(Set.of("product:1"));
+            TransactionSynchronizationManager.initSynchronization();
+
+            cacheManager.evictTags(CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(1L)));
+
+            assertThat(redisCaches.get(CACHE_NAME).get("product:1")).isNotNull();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(redisCaches.get(CACHE_NAME).get("product:1")).isNull();
+        }
+
+        @Test
+        @DisplayName("태그 Set 이 비어 있으면 아무것도 지우지 않는다")
+        void evictTagsWithoutKeys() {
+            cacheManager.getCache(CACHE_NAME).put("product:1", product(1L));
+            when(setOperations.union(anyCollection())).thenReturn(Set.of());
+
+            cacheManager.evictTags(CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(1L)));
+
+            assertThat(redisCaches.get(CACHE_NAME).get("product:1")).isNotNull();
+            verify(setOperations, never()).remove(anyString(), any(Object[].class));
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package home.project.config.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import home.project.exceptions.exception.IdNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "product";
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+    @Mock
+    private CacheMetrics metrics;
+    @Mock
+    private RedisSerializer<Object> serializer;
+
+    private com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> localCache;
+    private ConcurrentMapCache redisCache;
+    private CacheRefreshPolicy refreshPolicy;
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        localCache = Caffeine.newBuilder().build();
+        redisCache = new ConcurrentMapCache(CACHE_NAME);
+        // jitter 와 XFetch 를 끄고 만료/stale/음수 캐시만 남긴 정책
+        refreshPolicy = new CacheRefreshPolicy(Duration.ofMinutes(30), 0.0, Duration.ofMinutes(5), Duration.ofMinutes(1), 0.0);
+        twoLevelCache = cacheWith(refreshPolicy, Duration.ofSeconds(1));
+    }
+
+    private TwoLevelCache cacheWith(CacheRefreshPolicy policy, Duration loadWaitTimeout) {
+        return new TwoLevelCache(CACHE_NAME, localCache, redisCache, key -> key.startsWith("product:"),
+                policy, loadWaitTimeout, cacheManager, metrics, serializer);
+    }
+
+    private CacheEnvelope freshEnvelope(Object value) {
+        return refreshPolicy.envelope(value, System.currentTimeMillis(), 0);
+    }
+
+    @Nested
+    @DisplayName("L1/L2 조회 테스트")
+    class LookupTest {
+
+        @Test
+        @DisplayName("L1 에 있으면 Redis 를 보지 않고 L1 값을 돌려준다")
+        void localHit() {
+            localCache.put("product:1", freshEnvelope("L1 값"));
+            redisCache.put("product:1", freshEnvelope("L2 값"));
+
+            Cache.ValueWrapper wrapper = twoLevelCache.get("product:1");
+
+            assertThat(wrapper).isNotNull();
+            assertThat(wrapper.get()).isEqualTo("L1 값");
+            verify(metrics).recordHit(CACHE_NAME, "product:1", CacheMetrics.LEVEL_LOCAL);
+        }
+
+        @Test
+        @DisplayName("L1 에 없으면 Redis 에서 읽고, 로컬 대상 키는 L1 에 채운다")
+        void redisHitFillsLocal() {
+            redisCache.put("product:1", freshEnvelope("L2 값"));
+
+            Cache.ValueWrapper wrapper = twoLevelCache.get("product:1");
+
+            assertThat(wrapper.get()).isEqualTo("L2 값");
+            verify(metrics).recordHit(CACHE_NAME, "product:1", CacheMetrics.LEVEL_REDIS);
+            assertThat(localCache.getIfPresent("product:1")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("로컬 대상이 아닌 키는 Redis 에서 읽어도 L1 에 올리지 않는다")
+        void redisHitWithoutLocalKey() {
+            redisCache.put("findAll:abc", freshEnvelope("목록"));
+
+            Cache.ValueWrapper wrapper = twoLevelCache.get("findAll:abc");
+
+            assertThat(wrapper.get()).isEqualTo("목록");
+            assertThat(localCache.getIfPresent("findAll:abc")).isNull();
+        }
+
+        @Test
+        @DisplayName("감싸지 않고 저장된 이전 형식의 값도 그대로 읽는다")
+        void legacyUnwrappedValue() {
+            redisCache.put("product:1", "이전 값");
+
+            assertThat(twoLevelCache.get("product:1").get()).isEqualTo("이전 값");
+        }
+
+        @Test
+        @DisplayName("두 단계 모두 없으면 미스로 기록하고 null 을 돌려준다")
+        void miss() {
+            assertThat(twoLevelCache.get("product:1")).isNull();
+            verify(metrics).recordMiss(CACHE_NAME, "product:1");
+        }
+
+        @Test
+        @DisplayName("만료된 값은 sync 가 아닌 조회에서 미스로 본다")
+        void expiredIsMiss() {
+            long longAgo = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+            redisCache.put("product:1", refreshPolicy.envelope("오래된 값", longAgo, 0));
+
+            assertThat(twoLevelCache.get("product:1")).isNull();
+        }
+
+        @Test
+        @DisplayName("없는 대상으로 캐시된 키는 sync 가 아닌 조회에서도 같은 예외를 던진다")
+        void negativeEntryThrowsOnNonSyncGet() {
+            redisCache.put("product:1", refreshPolicy.negativeEnvelope("1(으)로 등록된 상품이 없습니다.", System.currentTimeMillis()));
+
+            assertThatThrownBy(() -> twoLevelCache.get("product:1"))
+                    .isInstanceOf(IdNotFoundException.class)
+                    .hasMessage("1(으)로 등록된 상품이 없습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("저장/삭제 테스트")
+    class WriteTest {
+
+        @Test
+        @DisplayName("put 은 두 단계에 봉투로 저장하고, 태그를 기록한 뒤 다른 노드에 무효화를 알린다")
+        void putStoresBothLevels() {
+            twoLevelCache.put("product:1", "값");
+
+            assertThat(redisCache.get("product:1").get()).isInstanceOfSatisfying(CacheEnvelope.class,
+                    envelope -> assertThat(envelope.getValue()).isEqualTo("값"));
+            assertThat(localCache.getIfPresent("product:1").getValue()).isEqualTo("값");
+            verify(cacheManager).recordTags(CACHE_NAME, "product:1", "값");
+            verify(cacheManager).publishEvict(CACHE_NAME, "product:1");
+        }
+
+        @Test
+        @DisplayName("evict 는 두 단계에서 지우고 다른 노드에 무효화를 알린다")
+        void evictRemovesBothLevels() {
+            twoLevelCache.put("product:1", "값");
+
+            twoLevelCache.evict("product:1");
+
+            assertThat(redisCache.get("product:1")).isNull();
+            assertThat(localCache.getIfPresent("product:1")).isNull();
+            verify(cacheManager, times(2)).publishEvict(CACHE_NAME, "product:1");
+            verify(metrics).recordEviction(CACHE_NAME, "product:1", CacheMetrics.EVICT_EXPLICIT);
+        }
+
+        @Test
+        @DisplayName("evictLocal 은 L1 만 지우고 Redis 값은 남긴다")
+        void evictLocalKeepsRedis() {
+            twoLevelCache.put("product:1", "값");
+
+            twoLevelCache.evictLocal("product:1");
+
+            assertThat(localCache.getIfPresent("product:1")).isNull();
+            assertThat(redisCache.get("product:1")).isNotNull();
+            verify(metrics).recordEviction(CACHE_NAME, "product:1", CacheMetrics.EVICT_REMOTE);
+        }
+
+        @Test
+        @DisplayName("태그로 지운 키는 지표에 tag 원인으로 남는다")
+        void evictTaggedRecordsCause() {
+            twoLevelCache.put("product:1", "값");
+
+            twoLevelCache.evictTagged("product:1");
+
+            assertThat(redisCache.get("product:1")).isNull();
+            verify(metrics).recordEviction(CACHE_NAME, "product:1", CacheMetrics.EVICT_TAG);
+        }
+    }
+
+    @Nested
+    @DisplayName("로딩 시간 측정 테스트")
+    class PendingLoadTest {
+
+        @Test
+        @DisplayName("미스 뒤 같은 키의 put 은 로딩 시간을 기록한다")
+        void putAfterMissRecordsLoad() {
+            twoLevelCache.get("product:1");
+
+            twoLevelCache.put("product:1", "값");
+
+            verify(metrics).recordLoad(eq(CACHE_NAME), eq("product:1"), anyLong(), eq(true));
+        }
+
+        @Test
+        @DisplayName("메서드가 예외로 끝나 put 이 없었던 미스는 다음 조회에서 버린다")
+        void failedLoadIsDiscardedOnNextGet() {
+            localCache.put("product:2", freshEnvelope("값"));
+            twoLevelCache.get("product:1");
+            twoLevelCache.get("product:2");
+
+            twoLevelCache.put("product:1", "값");
+
+            verify(metrics, never()).recordLoad(anyString(), anyString(), anyLong(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("다른 키의 put 이 오면 남아 있던 미스를 지운다")
+        void putOfOtherKeyClearsPending() {
+            twoLevelCache.get("product:1");
+            twoLevelCache.put("product:2", "값");
+
+            twoLevelCache.put("product:1", "값");
+
+            verify(metrics, never()).recordLoad(anyString(), anyString(), anyLong(), anyBoolean());
+        }
+    }
+
+    @Nested
+    @DisplayName("sync 조회 테스트")
+    class SyncLoadTest {
+
+        @Test
+        @DisplayName("미스면 로더를 실행해 저장하고, 다음 조회는 로더 없이 캐시에서 읽는다")
+        void loadsOnceAndCaches() {
+            AtomicInteger calls = new AtomicInteger();
+
+            String first = twoLevelCache.get("product:1", () -> "값" + calls.incrementAndGet());
+            String second = twoLevelCache.get("product:1", () -> "값" + calls.incrementAndGet());
+
+            assertThat(first).isEqualTo("값1");
+            assertThat(second).isEqualTo("값1");
+            assertThat(calls).hasValue(1);
+            verify(metrics).recordLoad(eq(CACHE_NAME), eq("product:1"), anyLong(), eq(true));
+        }
+
+        @Test
+        @DisplayName("로더가 IdNotFoundException 을 던지면 음수 캐시에 남겨 다음 조회도 로더 없이 같은 예외를 던진다")
+        void cachesNegativeResult() {
+            AtomicInteger calls = new AtomicInteger();
+
+            assertThatThrownBy(() -> twoLevelCache.get("product:1", () -> {
+                calls.incrementAndGet();
+                throw new IdNotFoundException("1(으)로 등록된 상품이 없습니다.");
+            })).isInstanceOf(Cache.ValueRetrievalException.class);
+            assertThatThrownBy(() -> twoLevelCache.get("product:1", () -> calls.incrementAndGet()))
+                    .isInstanceOf(IdNotFoundException.class)
+                    .hasMessage("1(으)로 등록된 상품이 없습니다.");
+
+            assertThat(calls).hasValue(1);
+            assertThat(((CacheEnvelope) redisCache.get("product:1").get()).isNegative()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("조기 갱신/stale 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("XFetch 난수가 갱신을 고르면 만료 전이라도 로더를 실행해 새 값으로 바꾼다")
+        void earlyRefreshBeforeExpiry() {
+            // 계산 10초짜리 값이 만료 5초 전이고, 난수 0.9 면 -ln(0.1) * 10초 ≈ 23초 전부터 갱신합니다.
+            CacheRefreshPolicy xfetch = new CacheRefreshPolicy(Duration.ofMinutes(30), 0.0, Duration.ofMinutes(5),
+                    Duration.ZERO, 1.0, () -> 0.9);
+            TwoLevelCache cache = cacheWith(xfetch, Duration.ofSeconds(1));
+            long createdAt = System.currentTimeMillis() - Duration.ofMinutes(30).toMillis() + 5_000;
+            redisCache.put("product:1", xfetch.envelope("이전 값", createdAt, 10_000));
+
+            String value = cache.get("product:1", () -> "새 값");
+
+            assertThat(value).isEqualTo("새 값");
+            assertThat(((CacheEnvelope) redisCache.get("product:1").get()).getValue()).isEqualTo("새 값");
+        }
+
+        @Test
+        @DisplayName("XFetch 난수가 갱신을 고르지 않으면 만료 전 값을 그대로 쓴다")
+        void noEarlyRefreshWhenRandomIsLow() {
+            CacheRefreshPolicy xfetch = new CacheRefreshPolicy(Duration.ofMinutes(30), 0.0, Duration.ofMinutes(5),
+                    Duration.ZERO, 1.0, () -> 0.0);
+            TwoLevelCache cache = cacheWith(xfetch, Duration.ofSeconds(1));
+            long createdAt = System.currentTimeMillis() - Duration.ofMinutes(30).toMillis() + 5_000;
+            redisCache.put("product:1", xfetch.envelope("이전 값", createdAt, 10_000));
+            AtomicInteger calls = new AtomicInteger();
+
+            String value = cache.get("product:1", () -> "새 값" + calls.incrementAndGet());
+
+            assertThat(value).isEqualTo("이전 값");
+            assertThat(calls).hasValue(0);
+        }
+
+        @Test
+        @DisplayName("만료됐지만 stale 범위 안인 값은 로더가 실패하면 이전 값으로 응답한다")
+        void staleFallbackWhenLoaderFails() {
+            long expiredAMinuteAgo = System.currentTimeMillis() - Duration.ofMinutes(31).toMillis();
+            redisCache.put("product:1", refreshPolicy.envelope("이전 값", expiredAMinuteAgo, 100));
+
+            String value = twoLevelCache.get("product:1", () -> {
+                throw new IllegalStateException("DB 장애");
+            });
+
+            assertThat(value).isEqualTo("이전 값");
+            verify(metrics).recordLoad(eq(CACHE_NAME), eq("product:1"), anyLong(), eq(false));
+        }
+
+        @Test
+        @DisplayName("stale 범위를 넘긴 값은 로더가 실패하면 예외를 그대로 던진다")
+        void noFallbackBeyondStale() {
+            long expiredLongAgo = System.currentTimeMillis() - Duration.ofMinutes(40).toMillis();
+            redisCache.put("product:1", refreshPolicy.envelope("이전 값", expiredLongAgo, 100));
+
+            assertThatThrownBy(() -> twoLevelCache.get("product:1", () -> {
+                throw new IllegalStateException("DB 장애");
+            })).isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("single-flight 테스트")
+    class SingleFlightTest {
+
+        @Test
+        @DisplayName("같은 키의 동시 미스는 로더를 한 번만 실행하고 나머지는 그 결과를 기다린다")
+        void concurrentMissesShareOneLoad() throws Exception {
+            TwoLevelCache cache = cacheWith(refreshPolicy, Duration.ofSeconds(5));
+            AtomicInteger calls = new AtomicInteger();
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Callable<String> loader = () -> {
+                calls.incrementAndGet();
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return "값";
+            };
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                Future<String> first = executor.submit(() -> cache.get("product:1", loader));
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+                List<Future<String>> waiters = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    waiters.add(executor.submit(() -> cache.get("product:1", loader)));
+                }
+                Thread.sleep(100);
+                assertThat(waiters).noneMatch(Future::isDone);
+
+                release.countDown();
+                assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("값");
+                for (Future<String> waiter : waiters) {
+                    assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("값");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("갱신 중에 들어온 요청은 기다리지 않고 stale 값을 받는다")
+        void concurrentRefreshServesStale() throws Exception {
+            long expiredAMinuteAgo = System.currentTimeMillis() - Duration.ofMinutes(31).toMillis();
+            redisCache.put("product:1", refreshPolicy.envelope("이전 값", expiredAMinuteAgo, 100));
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<String> refresh = executor.submit(() -> twoLevelCache.get("product:1", () -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return "새 값";
+                }));
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+                String served = twoLevelCache.get("product:1", () -> "다른 로더");
+
+                assertThat(served).isEqualTo("이전 값");
+                release.countDown();
+                assertThat(refresh.get(5, TimeUnit.SECONDS)).isEqualTo("새 값");
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("먼저 시작한 로더가 실패하면 기다리던 요청도 같은 원인으로 실패한다")
+        void waitersSeeLoaderFailure() throws Exception {
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<String> first = executor.submit(() -> twoLevelCache.get("product:1", () -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new IllegalStateException("DB 장애");
+                }));
+                assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+                Future<String> waiter = executor.submit(() -> twoLevelCache.get("product:1", () -> "값"));
+                Thread.sleep(100);
+
+                release.countDown();
+                assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+                assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package home.project.config.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import home.project.domain.member.MemberGradeType;
+import home.project.domain.member.RoleType;
+import home.project.dto.cacheDTO.CategorySnapshot;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import home.project.dto.cacheDTO.ProductCouponSnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedRedisSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+    private static final byte FLAG_LZ4 = 0x01;
+
+    private RedisSerializerFactory smileFactory;
+    private RedisSerializerFactory jsonFactory;
+
+    @BeforeEach
+    void setUp() {
+        smileFactory = new RedisSerializerFactory(VersionedRedisSerializer.WriteFormat.SMILE,
+                COMPRESSION_THRESHOLD, 0.0, new SimpleMeterRegistry());
+        jsonFactory = new RedisSerializerFactory(VersionedRedisSerializer.WriteFormat.JSON,
+                COMPRESSION_THRESHOLD, 0.0, new SimpleMeterRegistry());
+    }
+
+    private ProductSnapshot productSnapshot(long id, int descriptionLines) {
+        List<String> description = Collections.unmodifiableList(IntStream.range(0, descriptionLines)
+                .mapToObj(line -> "상품 설명 " + id + "-" + line)
+                .collect(Collectors.toList()));
+        List<ProductCouponSnapshot> productCoupons = Collections.unmodifiableList(new ArrayList<>(List.of(
+                new ProductCouponSnapshot(10L, 20L, "여름 할인", 15,
+                        LocalDateTime.of(2024, 6, 1, 0, 0), LocalDateTime.of(2024, 8, 31, 23, 59),
+                        LocalDateTime.of(2024, 6, 2, 12, 30), null, false))));
+        return new ProductSnapshot(id, "티셔츠", "브랜드", new CategorySnapshot(3L, "0101", "상의", 2),
+                "P-" + id, 100L, 7L, 29000L, 10, 0L, description,
+                LocalDateTime.of(2024, 1, 1, 9, 0), "main.png", "M", "black", productCoupons);
+    }
+
+    private CacheEnvelope envelope(Object value) {
+        return new CacheEnvelope(value, 1_700_000_000_000L, 12L, 1_700_000_600_000L);
+    }
+
+    private CacheEnvelope roundTrip(VersionedRedisSerializer serializer, CacheEnvelope envelope) {
+        return (CacheEnvelope) serializer.deserialize(serializer.serialize(envelope));
+    }
+
+    private void assertEnvelopeMetadata(CacheEnvelope restored, CacheEnvelope original) {
+        assertThat(restored.getCreatedAt()).isEqualTo(original.getCreatedAt());
+        assertThat(restored.getComputeMillis()).isEqualTo(original.getComputeMillis());
+        assertThat(restored.getExpiresAt()).isEqualTo(original.getExpiresAt());
+    }
+
+    @Nested
+    @DisplayName("Smile 왕복 테스트")
+    class SmileRoundTripTest {
+
+        @Test
+        @DisplayName("PageImpl 을 담은 CacheEnvelope 을 그대로 복원한다")
+        void pageInEnvelope() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("product");
+            Page<ProductSnapshot> page = new PageImpl<>(List.of(productSnapshot(1L, 2), productSnapshot(2L, 2)),
+                    PageRequest.of(3, 2), 40L);
+            CacheEnvelope original = envelope(page);
+
+            CacheEnvelope restored = roundTrip(serializer, original);
+
+            assertEnvelopeMetadata(restored, original);
+            assertThat(restored.getValue()).isInstanceOf(PageImpl.class);
+            Page<?> restoredPage = (Page<?>) restored.getValue();
+            assertThat(restoredPage.getContent()).containsExactlyElementsOf(page.getContent());
+            assertThat(restoredPage.getNumber()).isEqualTo(3);
+            assertThat(restoredPage.getSize()).isEqualTo(2);
+            assertThat(restoredPage.getTotalElements()).isEqualTo(40L);
+        }
+
+        @Test
+        @DisplayName("불변 리스트를 가진 ProductSnapshot 레코드를 같은 값으로 복원한다")
+        void productSnapshotWithImmutableLists() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("product");
+            ProductSnapshot snapshot = productSnapshot(1L, 3);
+            CacheEnvelope original = envelope(snapshot);
+
+            CacheEnvelope restored = roundTrip(serializer, original);
+
+            assertEnvelopeMetadata(restored, original);
+            assertThat(restored.getValue()).isEqualTo(snapshot);
+        }
+
+        @Test
+        @DisplayName("빈 List.of 를 가진 ProductSnapshot 도 복원한다")
+        void productSnapshotWithEmptyLists() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("product");
+            ProductSnapshot snapshot = new ProductSnapshot(1L, "티셔츠", "브랜드", null, "P-1", 1L, 0L, 1000L, 0, 0L,
+                    List.of(), null, null, null, null, List.of());
+
+            CacheEnvelope restored = roundTrip(serializer, envelope(snapshot));
+
+            assertThat(restored.getValue()).isEqualTo(snapshot);
+        }
+
+        @Test
+        @DisplayName("MemberSnapshot 레코드를 열거형 값까지 복원한다")
+        void memberSnapshot() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("memberSnapshot");
+            MemberSnapshot snapshot = new MemberSnapshot(1L, "test@test.com", RoleType.user, MemberGradeType.GOLD);
+
+            CacheEnvelope restored = roundTrip(serializer, envelope(snapshot));
+
+            assertThat(restored.getValue()).isEqualTo(snapshot);
+        }
+
+        @Test
+        @DisplayName("NegativeCacheValue 는 메시지와 함께 음수 캐시로 복원된다")
+        void negativeCacheValue() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("product");
+
+            CacheEnvelope restored = roundTrip(serializer, envelope(new NegativeCacheValue("1(으)로 등록된 상품이 없습니다.")));
+
+            assertThat(restored.isNegative()).isTrue();
+            assertThat(((NegativeCacheValue) restored.getValue()).getMessage()).isEqualTo("1(으)로 등록된 상품이 없습니다.");
+        }
+
+        @Test
+        @DisplayName("RedisTemplate 용 직렬화기도 같은 형식으로 왕복한다")
+        void templateSerializer() {
+            VersionedRedisSerializer serializer = smileFactory.forTemplate();
+
+            byte[] bytes = serializer.serialize(new NegativeCacheValue("없음"));
+
+            assertThat(bytes[0]).isEqualTo(VersionedRedisSerializer.MAGIC);
+            assertThat(serializer.deserialize(bytes)).isInstanceOfSatisfying(NegativeCacheValue.class,
+                    value -> assertThat(value.getMessage()).isEqualTo("없음"));
+        }
+    }
+
+    @Nested
+    @DisplayName("LZ4 압축 테스트")
+    class CompressionTest {
+
+        @Test
+        @DisplayName("기준보다 작은 값은 압축하지 않고 저장한다")
+        void belowThresholdIsNotCompressed() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("product");
+            CacheEnvelope original = envelope(new MemberSnapshot(1L, "test@test.com", RoleType.user, MemberGradeType.BRONZE));
+
+            byte[] bytes = serializer.serialize(original);
+
+            assertThat(bytes.length).isLessThan(COMPRESSION_THRESHOLD);
+            assertThat(bytes[0]).isEqualTo(VersionedRedisSerializer.MAGIC);
+            assertThat(bytes[1]).isEqualTo(VersionedRedisSerializer.VERSION_SMILE);
+            assertThat(bytes[2] & FLAG_LZ4).isZero();
+            assertThat(((CacheEnvelope) serializer.deserialize(bytes)).getValue()).isEqualTo(original.getValue());
+        }
+
+        @Test
+        @DisplayName("기준 이상인 값은 LZ4 로 압축하고, 읽을 때 원래 값으로 푼다")
+        void aboveThresholdIsCompressed() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("product");
+            Page<ProductSnapshot> page = new PageImpl<>(
+                    LongStream.rangeClosed(1, 30).mapToObj(id -> productSnapshot(id, 20)).collect(Collectors.toList()),
+                    PageRequest.of(0, 30), 300L);
+            CacheEnvelope original = envelope(page);
+
+            byte[] bytes = serializer.serialize(original);
+
+            assertThat(bytes[0]).isEqualTo(VersionedRedisSerializer.MAGIC);
+            assertThat(bytes[2] & FLAG_LZ4).isEqualTo((int) FLAG_LZ4);
+            CacheEnvelope restored = (CacheEnvelope) serializer.deserialize(bytes);
+            assertEnvelopeMetadata(restored, original);
+            assertThat(((Page<?>) restored.getValue()).getContent()).containsExactlyElementsOf(page.getContent());
+        }
+    }
+
+    @Nested
+    @DisplayName("이전 형식 호환 테스트")
+    class CompatibilityTest {
+
+        @Test
+        @DisplayName("캐시 직렬화기는 이전 GenericJackson2JsonRedisSerializer 로 쓴 JSON 을 읽는다")
+        void readsLegacyCacheJson() {
+            CacheEnvelope original = envelope(new MemberSnapshot(1L, "test@test.com", RoleType.user, MemberGradeType.BRONZE));
+            byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(original);
+
+            CacheEnvelope restored = (CacheEnvelope) smileFactory.forCache("memberSnapshot").deserialize(legacy);
+
+            assertEnvelopeMetadata(restored, original);
+            assertThat(restored.getValue()).isEqualTo(original.getValue());
+        }
+
+        @Test
+        @DisplayName("템플릿 직렬화기는 이전 RedisTemplate 설정으로 쓴 JSON 을 읽는다")
+        void readsLegacyTemplateJson() {
+            byte[] legacy = new GenericJackson2JsonRedisSerializer(RedisSerializerFactory.configure(new ObjectMapper()))
+                    .serialize(new NegativeCacheValue("없음"));
+
+            assertThat(smileFactory.forTemplate().deserialize(legacy)).isInstanceOfSatisfying(NegativeCacheValue.class,
+                    value -> assertThat(value.getMessage()).isEqualTo("없음"));
+        }
+
+        @Test
+        @DisplayName("write-format 이 json 이면 이전 노드가 읽을 수 있는 JSON 으로 쓴다")
+        void jsonWriteFormatWritesLegacyJson() {
+            CacheEnvelope original = envelope(new NegativeCacheValue("없음"));
+
+            byte[] bytes = jsonFactory.forCache("product").serialize(original);
+
+            assertThat(bytes[0]).isNotEqualTo(VersionedRedisSerializer.MAGIC);
+            CacheEnvelope restored = (CacheEnvelope) new GenericJackson2JsonRedisSerializer().deserialize(bytes);
+            assertThat(restored.isNegative()).isTrue();
+            assertThat(((CacheEnvelope) smileFactory.forCache("product").deserialize(bytes)).isNegative()).isTrue();
+        }
+
+        @Test
+        @DisplayName("알 수 없는 버전의 값은 캐시 미스(null)로 읽는다")
+        void unknownVersionIsMiss() {
+            byte[] bytes = smileFactory.forCache("product").serialize(envelope(productSnapshot(1L, 1)));
+            bytes[1] = (byte) (VersionedRedisSerializer.VERSION_SMILE + 1);
+
+            assertThat(smileFactory.forCache("product").deserialize(bytes)).isNull();
+        }
+
+        @Test
+        @DisplayName("헤더보다 짧거나 비어 있는 값은 캐시 미스(null)로 읽는다")
+        void truncatedOrEmptyIsMiss() {
+            VersionedRedisSerializer serializer = smileFactory.forCache("product");
+
+            assertThat(serializer.deserialize(new byte[]{VersionedRedisSerializer.MAGIC, VersionedRedisSerializer.VERSION_SMILE})).isNull();
+            assertThat(serializer.deserialize(new byte[0])).isNull();
+            assertThat(serializer.deserialize(null)).isNull();
+        }
+    }
+}
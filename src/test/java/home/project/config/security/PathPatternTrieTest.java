@@ -0,0 +1,86 @@
+package home.project.config.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPatternTrieTest {
+
+    private final PathPatternTrie trie = PathPatternTrie.compile(List.of(
+            "/api/auth/login",
+            "/api/product/**",
+            "/api/qna/qna_detail",
+            "/api/member/*/profile",
+            "/api/files/*.png",
+            "/api/orders/{orderId}/items",
+            "/api/**/public"));
+
+    @Test
+    @DisplayName("리터럴 경로는 정확히 같은 세그먼트만 일치한다")
+    void literal() {
+        assertThat(trie.matches("/api/auth/login")).isTrue();
+        assertThat(trie.matches("/api/auth/login/")).isTrue();
+        assertThat(trie.matches("/api/auth/loginx")).isFalse();
+        assertThat(trie.matches("/api/auth")).isFalse();
+        assertThat(trie.matches("/API/auth/login")).isFalse();
+    }
+
+    @Test
+    @DisplayName("** 는 0개 이상의 세그먼트와 일치한다")
+    void anyDepth() {
+        assertThat(trie.matches("/api/product")).isTrue();
+        assertThat(trie.matches("/api/product/1/detail")).isTrue();
+        assertThat(trie.matches("/api/products")).isFalse();
+        assertThat(trie.matches("/api/public")).isTrue();
+        assertThat(trie.matches("/api/a/b/public")).isTrue();
+        assertThat(trie.matches("/api/a/b/private")).isFalse();
+    }
+
+    @Test
+    @DisplayName("* 와 세그먼트 안의 와일드카드, 경로 변수는 한 세그먼트와 일치한다")
+    void singleSegmentWildcards() {
+        assertThat(trie.matches("/api/member/7/profile")).isTrue();
+        assertThat(trie.matches("/api/member/7/8/profile")).isFalse();
+        assertThat(trie.matches("/api/files/logo.png")).isTrue();
+        assertThat(trie.matches("/api/files/logo.jpg")).isFalse();
+        assertThat(trie.matches("/api/orders/42/items")).isTrue();
+    }
+
+    @Test
+    @DisplayName("security-permissions 의 permitAll 패턴에 대해 AntPathMatcher 와 같은 결과를 낸다")
+    void agreesWithAntPathMatcher() {
+        List<String> patterns = List.of("/home/**", "/api/auth/social/**", "/swagger-ui/index.html",
+                "/api/member/join", "/api/category/**", "/api/qna/qnas", "/api/sales/sales_ranking");
+        PathPatternTrie permitAll = PathPatternTrie.compile(patterns);
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+        for (String path : List.of("/home", "/home/main", "/api/auth/social/google", "/swagger-ui/index.html",
+                "/swagger-ui/other.html", "/api/member/join", "/api/member/joined", "/api/category/1/children",
+                "/api/qna/qnas", "/api/qna/my_qna", "/api/sales/sales_ranking", "/api/order/1")) {
+            boolean expected = patterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+            assertThat(permitAll.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("SecurityPathMatchers 는 컨텍스트 경로를 뺀 요청 경로로 판정한다")
+    void securityPathMatchersStripContextPath() {
+        SecurityPermissionsConfig securityPermissions = new SecurityPermissionsConfig();
+        securityPermissions.setPermitAll(List.of("/api/product/**"));
+        securityPermissions.setJwtExcluded(List.of("/api/auth/login"));
+        SecurityPathMatchers securityPathMatchers = new SecurityPathMatchers(securityPermissions);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/shop/api/product/1");
+        request.setContextPath("/shop");
+        MockHttpServletRequest login = new MockHttpServletRequest("POST", "/api/auth/login");
+
+        assertThat(securityPathMatchers.isPermitAll(request)).isTrue();
+        assertThat(securityPathMatchers.isJwtExcluded(request)).isFalse();
+        assertThat(securityPathMatchers.isJwtExcluded(login)).isTrue();
+    }
+}
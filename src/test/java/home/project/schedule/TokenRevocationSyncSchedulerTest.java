@@ -0,0 +1,59 @@
+package home.project.schedule;
+
+import home.project.service.security.TokenRevocationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenRevocationSyncSchedulerTest {
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private TokenRevocationSyncScheduler tokenRevocationSyncScheduler;
+
+    private Status readiness() {
+        return new TokenRevocationHealthIndicator(tokenRevocationSyncScheduler).health().getStatus();
+    }
+
+    @Nested
+    @DisplayName("기동 시 폐기 목록 읽기 테스트")
+    class LoadOnStartupTest {
+
+        @Test
+        @DisplayName("읽기 전에는 OUT_OF_SERVICE, 읽은 뒤에는 UP 이다")
+        void readyAfterLoad() {
+            assertThat(readiness()).isEqualTo(Status.OUT_OF_SERVICE);
+
+            tokenRevocationSyncScheduler.loadOnStartup();
+
+            verify(tokenRevocationService).synchronize();
+            assertThat(readiness()).isEqualTo(Status.UP);
+        }
+
+        @Test
+        @DisplayName("기동 시 읽기에 실패하면 다음 동기화가 성공할 때까지 OUT_OF_SERVICE 이다")
+        void notReadyUntilSyncSucceeds() {
+            when(tokenRevocationService.synchronize()).thenThrow(new IllegalStateException("redis down")).thenReturn(0);
+
+            tokenRevocationSyncScheduler.loadOnStartup();
+            assertThat(readiness()).isEqualTo(Status.OUT_OF_SERVICE);
+
+            tokenRevocationSyncScheduler.synchronize();
+            assertThat(readiness()).isEqualTo(Status.UP);
+        }
+    }
+}
@@ -6,11 +6,12 @@ import home.project.domain.common.QnAType;
 import home.project.domain.member.Member;
 import home.project.domain.order.Orders;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateQnARequestDTO;
 import home.project.dto.responseDTO.QnADetailResponse;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.repository.common.QnARepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.order.OrderService;
 import home.project.service.product.ProductService;
 import home.project.service.util.Converter;
@@ -41,7 +42,7 @@ class QnAServiceImplTest {
     private QnARepository qnARepository;
 
     @Mock
-    private MemberService memberService;
+    private CurrentMemberResolver currentMemberResolver;
 
     @Mock
     private ProductService productService;
@@ -98,7 +99,7 @@ class QnAServiceImplTest {
             requestDTO.setSubject("Subject");
             requestDTO.setDescription("Description");
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findByProductNum(anyString())).thenReturn(testProduct);
             when(orderService.findByOrderNum(anyString())).thenReturn(testOrder);
             when(qnARepository.save(any(QnA.class))).thenReturn(testQnA);
@@ -128,13 +129,13 @@ class QnAServiceImplTest {
         @Test
         @DisplayName("QnA 등록 실패: 인증 실패")
         void shouldFailToCreateQnAWithoutAuthentication() {
-            SecurityContextHolder.getContext().setAuthentication(null);
+            givenCurrentMemberNotFound(new IdNotFoundException("anonymousUser(으)로 등록된 회원이 없습니다."));
 
             CreateQnARequestDTO requestDTO = new CreateQnARequestDTO();
             requestDTO.setProductNum("P12345");
 
             assertThatThrownBy(() -> qnAService.join(requestDTO))
-                    .isInstanceOf(NullPointerException.class);
+                    .isInstanceOf(IdNotFoundException.class);
         }
 
         @Test
@@ -144,7 +145,7 @@ class QnAServiceImplTest {
             requestDTO.setProductNum("INVALID");
             requestDTO.setOrderNum("O12345");
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findByProductNum(anyString())).thenThrow(new IdNotFoundException("Product not found"));
 
             assertThatThrownBy(() -> qnAService.join(requestDTO))
@@ -213,7 +214,7 @@ class QnAServiceImplTest {
         void shouldAddAnswerSuccessfully() {
             testQnA.setAnswerStatus(AnswerStatus.WAITING); // WAITING 상태로 설정
             when(qnARepository.findById(anyLong())).thenReturn(Optional.of(testQnA));
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(converter.convertFromQnAToQnADetailResponse(any(QnA.class)))
                     .thenReturn(new QnADetailResponse(
                             1L,
@@ -252,10 +253,10 @@ class QnAServiceImplTest {
         @Test
         @DisplayName("답변 추가 실패: 인증 실패")
         void shouldFailToAddAnswerWithoutAuthentication() {
-            SecurityContextHolder.getContext().setAuthentication(null);
+            givenCurrentMemberNotFound(new IdNotFoundException("anonymousUser(으)로 등록된 회원이 없습니다."));
 
             assertThatThrownBy(() -> qnAService.addAnswer(1L, "Test Answer"))
-                    .isInstanceOf(NullPointerException.class);
+                    .isInstanceOf(IdNotFoundException.class);
         }
     }
 
@@ -265,7 +266,7 @@ class QnAServiceImplTest {
         testQnA.setAnswerStatus(AnswerStatus.ANSWERED);
         testQnA.setAnswer("Old Answer");
         when(qnARepository.findById(anyLong())).thenReturn(Optional.of(testQnA));
-        when(memberService.findByEmail(anyString())).thenReturn(testMember);
+        givenCurrentMember(testMember);
         when(converter.convertFromQnAToQnADetailResponse(any(QnA.class)))
                 .thenReturn(new QnADetailResponse(
                         1L,                    // id
@@ -306,9 +307,20 @@ class QnAServiceImplTest {
         @Test
         @DisplayName("답변 수정 실패: 인증 실패")
         void shouldFailToUpdateAnswerWithoutAuthentication() {
-            SecurityContextHolder.getContext().setAuthentication(null);
+            givenCurrentMemberNotFound(new IdNotFoundException("anonymousUser(으)로 등록된 회원이 없습니다."));
 
             assertThatThrownBy(() -> qnAService.updateAnswer(1L, "Updated Answer"))
-                    .isInstanceOf(NullPointerException.class);
+                    .isInstanceOf(IdNotFoundException.class);
         }
+    
+
+    private void givenCurrentMember(Member member) {
+        lenient().when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(member));
+        lenient().when(currentMemberResolver.currentMemberReference()).thenReturn(member);
+    }
+
+    private void givenCurrentMemberNotFound(RuntimeException exception) {
+        lenient().when(currentMemberResolver.currentMember()).thenThrow(exception);
+        lenient().when(currentMemberResolver.currentMemberReference()).thenThrow(exception);
     }
+}
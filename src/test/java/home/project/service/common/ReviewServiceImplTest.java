@@ -7,6 +7,7 @@ import home.project.domain.delivery.Shipping;
 import home.project.domain.member.Member;
 import home.project.domain.order.Orders;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateReviewRequestDTO;
 import home.project.dto.responseDTO.ReviewDetailResponse;
 import home.project.dto.responseDTO.ReviewProductResponse;
@@ -14,7 +15,7 @@ import home.project.dto.responseDTO.ReviewResponse;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.repository.common.ReviewRepository;
 import home.project.repository.order.OrderRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.product.ProductService;
 import home.project.service.util.Converter;
 import home.project.service.file.FileService;
@@ -46,7 +47,7 @@ import static org.mockito.Mockito.*;
 class ReviewServiceImplTest {
 
     @Mock
-    private MemberService memberService;
+    private CurrentMemberResolver currentMemberResolver;
 
     @Mock
     private ProductService productService;
@@ -108,13 +109,13 @@ class ReviewServiceImplTest {
         void getReviewableProductsSuccess() {
             Page<Orders> pagedOrders = new PageImpl<>(Collections.singletonList(testOrder));
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(orderRepository.findByMemberId(anyLong(), any(Pageable.class))).thenReturn(pagedOrders);
 
             Page<ReviewProductResponse> result = reviewService.getReviewableProducts(Pageable.unpaged());
 
             assertThat(result).isNotNull();
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMember();
             verify(orderRepository).findByMemberId(anyLong(), any(Pageable.class));
         }
 
@@ -122,14 +123,13 @@ class ReviewServiceImplTest {
         @DisplayName("리뷰 작성 가능한 상품 조회 - 회원이 존재하지 않는 경우")
         void getReviewableProductsMemberNotFound() {
             Pageable pageable = PageRequest.of(0, 10);
-            when(memberService.findByEmail(anyString()))
-                    .thenThrow(new IdNotFoundException("회원이 존재하지 않습니다."));
+            givenCurrentMemberNotFound(new IdNotFoundException("회원이 존재하지 않습니다."));
 
             assertThatThrownBy(() -> reviewService.getReviewableProducts(pageable))
                     .isInstanceOf(IdNotFoundException.class)
                     .hasMessageContaining("회원이 존재하지 않습니다.");
 
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMember();
             verify(orderRepository, never()).findByMemberId(anyLong(), any(Pageable.class));
         }
 
@@ -140,7 +140,7 @@ class ReviewServiceImplTest {
             member.setId(1L);
             Pageable pageable = PageRequest.of(0, 10);
 
-            when(memberService.findByEmail(anyString())).thenReturn(member);
+            givenCurrentMember(member);
             when(orderRepository.findByMemberId(anyLong(), any(Pageable.class)))
                     .thenReturn(new PageImpl<>(Collections.emptyList()));
 
@@ -150,7 +150,7 @@ class ReviewServiceImplTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
 
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMember();
             verify(orderRepository).findByMemberId(anyLong(), any(Pageable.class));
         }
 
@@ -166,7 +166,7 @@ class ReviewServiceImplTest {
 
             Pageable pageable = PageRequest.of(0, 10);
 
-            when(memberService.findByEmail(anyString())).thenReturn(member);
+            givenCurrentMember(member);
             when(orderRepository.findByMemberId(anyLong(), any(Pageable.class)))
                     .thenReturn(new PageImpl<>(Collections.singletonList(order)));
 
@@ -176,7 +176,7 @@ class ReviewServiceImplTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
 
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMember();
             verify(orderRepository).findByMemberId(anyLong(), any(Pageable.class));
         }
 
@@ -195,7 +195,7 @@ class ReviewServiceImplTest {
 
             Pageable pageable = PageRequest.of(0, 10);
 
-            when(memberService.findByEmail(anyString())).thenReturn(member);
+            givenCurrentMember(member);
             when(orderRepository.findByMemberId(anyLong(), any(Pageable.class)))
                     .thenReturn(new PageImpl<>(Collections.singletonList(order)));
 
@@ -205,7 +205,7 @@ class ReviewServiceImplTest {
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isZero();
 
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMember();
             verify(orderRepository).findByMemberId(anyLong(), any(Pageable.class));
         }
     }
@@ -220,7 +220,7 @@ class ReviewServiceImplTest {
             requestDTO.setRatingType(RatingType.FIVE);
             requestDTO.setDescription("Great product!");
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findByProductIdAndConfirmHasPurchase(anyLong())).thenReturn(testProduct);
             when(fileService.saveFile(any(), any(), any())).thenReturn("saved_image_url");
             when(reviewRepository.save(any(Review.class))).thenReturn(testReview);
@@ -242,7 +242,7 @@ class ReviewServiceImplTest {
             requestDTO.setRatingType(RatingType.FIVE);
             requestDTO.setDescription("Great product!");
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findByProductIdAndConfirmHasPurchase(anyLong()))
                     .thenThrow(new IdNotFoundException("상품을 찾을 수 없습니다."));
 
@@ -366,7 +366,7 @@ class ReviewServiceImplTest {
                     )
             ));
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(reviewRepository.findAllByMemberId(anyLong(), any(Pageable.class))).thenReturn(pagedReviews);
             when(converter.convertFromPagedReviewToPagedReviewResponse(any(Page.class)))
                     .thenReturn(pagedReviewResponses);
@@ -378,7 +378,7 @@ class ReviewServiceImplTest {
             assertThat(response.getContent().get(0).getReviewId()).isEqualTo(1L);
             assertThat(response.getContent().get(0).getProductName()).isEqualTo("Test Product");
             assertThat(response.getContent().get(0).getMemberEmail()).isEqualTo("test@test.com");
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMember();
             verify(reviewRepository).findAllByMemberId(anyLong(), any(Pageable.class));
             verify(converter).convertFromPagedReviewToPagedReviewResponse(any(Page.class));
         }
@@ -386,14 +386,24 @@ class ReviewServiceImplTest {
         @Test
         @DisplayName("내 리뷰 조회 실패: 회원을 찾을 수 없음")
         void findAllMyReviewMemberNotFound() {
-            when(memberService.findByEmail(anyString())).thenThrow(new IdNotFoundException("회원이 존재하지 않습니다."));
+            givenCurrentMemberNotFound(new IdNotFoundException("회원이 존재하지 않습니다."));
 
             assertThatThrownBy(() -> reviewService.findAllMyReview(Pageable.unpaged()))
                     .isInstanceOf(IdNotFoundException.class)
                     .hasMessageContaining("회원이 존재하지 않습니다.");
 
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMember();
             verify(reviewRepository, never()).findAllByMemberId(anyLong(), any(Pageable.class));
         }
     }
+
+    private void givenCurrentMember(Member member) {
+        lenient().when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(member));
+        lenient().when(currentMemberResolver.currentMemberReference()).thenReturn(member);
+    }
+
+    private void givenCurrentMemberNotFound(RuntimeException exception) {
+        lenient().when(currentMemberResolver.currentMember()).thenThrow(exception);
+        lenient().when(currentMemberResolver.currentMemberReference()).thenThrow(exception);
+    }
 }
@@ -0,0 +1,151 @@
+package home.project.service.integration;
+
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.repository.outbox.ElasticsearchOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElasticsearchBulkIndexerTest {
+
+    @Mock
+    private IndexToElasticsearch indexToElasticsearch;
+    @Mock
+    private ElasticsearchOutboxRepository elasticsearchOutboxRepository;
+
+    @InjectMocks
+    private ElasticsearchBulkIndexer elasticsearchBulkIndexer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(elasticsearchBulkIndexer, "maxActions", 500);
+        ReflectionTestUtils.setField(elasticsearchBulkIndexer, "maxBytes", 5_242_880L);
+        ReflectionTestUtils.setField(elasticsearchBulkIndexer, "maxBufferedBytes", 20_971_520L);
+
+        when(indexToElasticsearch.toIndexQuery(any(ProductDocument.class), eq(ProductDocument.class)))
+                .thenAnswer(invocation -> {
+                    ProductDocument document = invocation.getArgument(0);
+                    return new IndexQueryBuilder()
+                            .withId(String.valueOf(document.getId()))
+                            .withSource("{\"id\":" + document.getId() + "}")
+                            .build();
+                });
+    }
+
+    private ProductDocument document(long id) {
+        ProductDocument document = new ProductDocument();
+        document.setId(id);
+        return document;
+    }
+
+    @Nested
+    @DisplayName("버퍼 flush 테스트")
+    class FlushTest {
+
+        @Test
+        @DisplayName("반영에 성공하면 덮어쓴 변경까지 포함해 아웃박스 행을 지운다")
+        void flushAcknowledgesOutboxRows() throws Exception {
+            elasticsearchBulkIndexer.add(document(1L), ProductDocument.class, List.of(10L));
+            elasticsearchBulkIndexer.add(document(1L), ProductDocument.class, List.of(11L));
+            elasticsearchBulkIndexer.add(document(2L), ProductDocument.class, List.of(12L));
+
+            elasticsearchBulkIndexer.flush(ProductDocument.class);
+
+            ArgumentCaptor<List> queries = ArgumentCaptor.forClass(List.class);
+            verify(indexToElasticsearch).bulk(eq(ProductDocument.class), queries.capture(), anyCollection());
+            assertThat(queries.getValue()).hasSize(2);
+            ArgumentCaptor<List> acknowledged = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOutboxRepository).deleteAllByIdInBatch(acknowledged.capture());
+            assertThat(acknowledged.getValue()).containsExactlyInAnyOrder(10L, 11L, 12L);
+            assertThat(elasticsearchBulkIndexer.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("반영에 실패하면 아웃박스 행을 지우지 않고 버퍼에 다시 넣는다")
+        void flushFailureKeepsOutboxRows() throws Exception {
+            elasticsearchBulkIndexer.add(document(1L), ProductDocument.class, List.of(10L));
+            doThrow(new IllegalStateException("ES 장애"))
+                    .when(indexToElasticsearch).bulk(eq(ProductDocument.class), anyList(), anyCollection());
+
+            elasticsearchBulkIndexer.flush(ProductDocument.class);
+
+            verify(elasticsearchOutboxRepository, never()).deleteAllByIdInBatch(anyList());
+            assertThat(elasticsearchBulkIndexer.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패해 다시 넣은 색인은 그 사이 들어온 삭제를 덮어쓰지 않는다")
+        void requeueDoesNotResurrectDeletedDocument() throws Exception {
+            elasticsearchBulkIndexer.add(document(1L), ProductDocument.class, List.of(10L));
+            doThrow(new IllegalStateException("ES 장애"))
+                    .when(indexToElasticsearch).bulk(eq(ProductDocument.class), argThat(queries -> !queries.isEmpty()), anyCollection());
+            elasticsearchBulkIndexer.flush(ProductDocument.class);
+
+            elasticsearchBulkIndexer.delete(ProductDocument.class, 1L, List.of(11L));
+            elasticsearchBulkIndexer.flush(ProductDocument.class);
+
+            verify(indexToElasticsearch).bulk(ProductDocument.class, List.of(), List.of("1"));
+            ArgumentCaptor<List> acknowledged = ArgumentCaptor.forClass(List.class);
+            verify(elasticsearchOutboxRepository).deleteAllByIdInBatch(acknowledged.capture());
+            assertThat(acknowledged.getValue()).containsExactlyInAnyOrder(10L, 11L);
+        }
+
+        @Test
+        @DisplayName("전송 중인 색인이 끝나기 전에는 나중에 들어온 삭제를 보내지 않는다")
+        void deleteWaitsForInFlightIndex() throws Exception {
+            CountDownLatch indexing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                indexing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }).when(indexToElasticsearch).bulk(eq(ProductDocument.class), argThat(queries -> !queries.isEmpty()), anyCollection());
+
+            elasticsearchBulkIndexer.add(document(1L), ProductDocument.class, List.of(10L));
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<?> first = executor.submit(() -> elasticsearchBulkIndexer.flush(ProductDocument.class));
+                assertThat(indexing.await(5, TimeUnit.SECONDS)).isTrue();
+
+                elasticsearchBulkIndexer.delete(ProductDocument.class, 1L, List.of(11L));
+                Future<?> second = executor.submit(() -> elasticsearchBulkIndexer.flush(ProductDocument.class));
+                Thread.sleep(100);
+                verify(indexToElasticsearch, never()).bulk(ProductDocument.class, List.of(), List.of("1"));
+
+                release.countDown();
+                first.get(5, TimeUnit.SECONDS);
+                second.get(5, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            InOrder inOrder = inOrder(indexToElasticsearch);
+            inOrder.verify(indexToElasticsearch).bulk(eq(ProductDocument.class), argThat(queries -> !queries.isEmpty()), eq(List.of()));
+            inOrder.verify(indexToElasticsearch).bulk(ProductDocument.class, List.of(), List.of("1"));
+        }
+    }
+}
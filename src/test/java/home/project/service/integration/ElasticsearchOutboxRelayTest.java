@@ -0,0 +1,248 @@
+package home.project.service.integration;
+
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.domain.outbox.ElasticsearchOutbox;
+import home.project.domain.outbox.OutboxDocumentType;
+import home.project.domain.outbox.OutboxOperation;
+import home.project.domain.product.Product;
+import home.project.repository.member.MemberRepository;
+import home.project.repository.order.OrderRepository;
+import home.project.repository.outbox.ElasticsearchOutboxRepository;
+import home.project.repository.product.ProductRepository;
+import home.project.repository.promotion.CouponRepository;
+import home.project.service.util.Converter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElasticsearchOutboxRelayTest {
+
+    @Mock
+    private ElasticsearchOutboxRepository elasticsearchOutboxRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private CouponRepository couponRepository;
+    @Mock
+    private Converter converter;
+    @Mock
+    private IndexToElasticsearch indexToElasticsearch;
+    @Mock
+    private ElasticsearchBulkIndexer elasticsearchBulkIndexer;
+    @Mock
+    private MeterRegistry meterRegistry;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ElasticsearchOutboxRelay elasticsearchOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(elasticsearchOutboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(elasticsearchOutboxRelay, "bufferedTypes", EnumSet.noneOf(OutboxDocumentType.class));
+        ReflectionTestUtils.setField(elasticsearchOutboxRelay, "leaseSeconds", 60L);
+        when(elasticsearchOutboxRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.empty());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    private ElasticsearchOutbox outbox(long id, long documentId, OutboxOperation operation) {
+        ElasticsearchOutbox outbox = new ElasticsearchOutbox(OutboxDocumentType.PRODUCT, documentId, operation);
+        outbox.setId(id);
+        outbox.setCreatedAt(LocalDateTime.now());
+        outbox.setNextAttemptAt(LocalDateTime.now());
+        return outbox;
+    }
+
+    @Nested
+    @DisplayName("아웃박스 릴레이 테스트")
+    class RelayTest {
+
+        @Test
+        @DisplayName("같은 문서의 마지막 변경만 반영하고 처리한 행을 삭제한다")
+        void relayLatestOperationPerDocument() throws Exception {
+            List<ElasticsearchOutbox> batch = List.of(
+                    outbox(1L, 100L, OutboxOperation.INDEX),
+                    outbox(2L, 100L, OutboxOperation.DELETE),
+                    outbox(3L, 200L, OutboxOperation.INDEX));
+            Product product = new Product();
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt())).thenReturn(batch);
+            when(productRepository.findAllById(List.of(200L))).thenReturn(List.of(product));
+            when(converter.convertFromProductToProductDocument(product)).thenReturn(new ProductDocument());
+
+            boolean more = elasticsearchOutboxRelay.relay();
+
+            assertThat(more).isFalse();
+            verify(indexToElasticsearch).bulk(eq(ProductDocument.class), argThat(queries -> queries.size() == 1), eq(List.of("100")));
+            verify(elasticsearchOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        }
+
+        @Test
+        @DisplayName("버퍼링 대상 타입은 bulk 버퍼로 넘긴다")
+        void relayBufferedType() throws Exception {
+            ReflectionTestUtils.setField(elasticsearchOutboxRelay, "bufferedTypes", EnumSet.of(OutboxDocumentType.PRODUCT));
+            Product product = new Product();
+            product.setId(200L);
+            ProductDocument document = new ProductDocument();
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt())).thenReturn(List.of(
+                    outbox(1L, 200L, OutboxOperation.INDEX),
+                    outbox(2L, 300L, OutboxOperation.INDEX),
+                    outbox(3L, 300L, OutboxOperation.DELETE)));
+            when(productRepository.findAllById(List.of(200L))).thenReturn(List.of(product));
+            when(converter.convertFromProductToProductDocument(product)).thenReturn(document);
+
+            elasticsearchOutboxRelay.relay();
+
+            verify(elasticsearchBulkIndexer).add(document, ProductDocument.class, List.of(1L));
+            verify(elasticsearchBulkIndexer).delete(ProductDocument.class, 300L, List.of(2L, 3L));
+            verify(indexToElasticsearch, never()).bulk(any(), anyList(), anyCollection());
+        }
+
+        @Test
+        @DisplayName("버퍼로 넘긴 행은 지우지 않고 남겨 두며, 원본이 사라져 넘기지 못한 행만 지운다")
+        void relayBufferedTypeKeepsOutboxRows() {
+            ReflectionTestUtils.setField(elasticsearchOutboxRelay, "bufferedTypes", EnumSet.of(OutboxDocumentType.PRODUCT));
+            Product product = new Product();
+            product.setId(200L);
+            ElasticsearchOutbox buffered = outbox(1L, 200L, OutboxOperation.INDEX);
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt()))
+                    .thenReturn(List.of(buffered, outbox(2L, 400L, OutboxOperation.INDEX)));
+            when(productRepository.findAllById(List.of(200L, 400L))).thenReturn(List.of(product));
+            when(converter.convertFromProductToProductDocument(product)).thenReturn(new ProductDocument());
+
+            elasticsearchOutboxRelay.relay();
+
+            verify(elasticsearchOutboxRepository).deleteAllByIdInBatch(List.of(2L));
+            verify(elasticsearchOutboxRepository, never()).saveAll(anyList());
+            assertThat(buffered.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+        }
+
+        @Test
+        @DisplayName("반영에 실패한 행은 남겨두고 재시도 시각을 미룬다")
+        void relayFailureBacksOff() throws Exception {
+            ElasticsearchOutbox failed = outbox(1L, 100L, OutboxOperation.INDEX);
+            LocalDateTime before = failed.getNextAttemptAt();
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt())).thenReturn(List.of(failed));
+            when(productRepository.findAllById(anyList())).thenReturn(List.of(new Product()));
+            doThrow(new IllegalStateException("ES 장애"))
+                    .when(indexToElasticsearch).bulk(eq(ProductDocument.class), anyList(), anyCollection());
+
+            elasticsearchOutboxRelay.relay();
+
+            assertThat(failed.getAttempts()).isEqualTo(1);
+            assertThat(failed.getNextAttemptAt()).isAfter(before);
+            verify(elasticsearchOutboxRepository, never()).deleteAllByIdInBatch(anyList());
+            verify(elasticsearchOutboxRepository).saveAll(List.of(failed));
+        }
+
+        @Test
+        @DisplayName("Elasticsearch 호출은 행을 가져온 트랜잭션이 끝난 뒤에 한다")
+        void relayCallsElasticsearchOutsideTransaction() throws Exception {
+            ElasticsearchOutbox outbox = outbox(1L, 200L, OutboxOperation.INDEX);
+            Product product = new Product();
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt())).thenReturn(List.of(outbox));
+            when(productRepository.findAllById(List.of(200L))).thenReturn(List.of(product));
+            when(converter.convertFromProductToProductDocument(product)).thenReturn(new ProductDocument());
+
+            elasticsearchOutboxRelay.relay();
+
+            InOrder inOrder = inOrder(transactionTemplate, converter, indexToElasticsearch, elasticsearchOutboxRepository);
+            inOrder.verify(transactionTemplate).execute(any());
+            inOrder.verify(converter).convertFromProductToProductDocument(product);
+            inOrder.verify(indexToElasticsearch).bulk(eq(ProductDocument.class), anyList(), anyCollection());
+            inOrder.verify(transactionTemplate).execute(any());
+            inOrder.verify(elasticsearchOutboxRepository).deleteAllByIdInBatch(List.of(1L));
+        }
+
+        @Test
+        @DisplayName("가져온 행은 임대 시간만큼 재시도 시각을 미뤄 다른 노드가 가져가지 못하게 한다")
+        void relayLeasesClaimedRows() {
+            ElasticsearchOutbox outbox = outbox(1L, 200L, OutboxOperation.INDEX);
+            LocalDateTime before = LocalDateTime.now();
+            LocalDateTime[] leasedUntil = new LocalDateTime[1];
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt())).thenReturn(List.of(outbox));
+            when(productRepository.findAllById(anyList())).thenAnswer(invocation -> {
+                leasedUntil[0] = outbox.getNextAttemptAt();
+                return List.of();
+            });
+
+            elasticsearchOutboxRelay.relay();
+
+            verify(elasticsearchOutboxRepository).findDueForUpdateSkipLocked(any(), eq(10));
+            assertThat(leasedUntil[0]).isAfterOrEqualTo(before.plusSeconds(60));
+        }
+
+        @Test
+        @DisplayName("가져올 행이 없으면 Elasticsearch 를 호출하지 않는다")
+        void relayEmptyBatch() {
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt())).thenReturn(List.of());
+
+            boolean more = elasticsearchOutboxRelay.relay();
+
+            assertThat(more).isFalse();
+            verify(transactionTemplate, times(1)).execute(any());
+            verifyNoInteractions(indexToElasticsearch);
+        }
+
+        @Test
+        @DisplayName("릴레이 루프에서는 미반영 행 수를 세지 않는다")
+        void relayDoesNotCountPendingRows() {
+            when(elasticsearchOutboxRepository.findDueForUpdateSkipLocked(any(), anyInt())).thenReturn(List.of());
+
+            elasticsearchOutboxRelay.relay();
+
+            verify(elasticsearchOutboxRepository, never()).count();
+            verify(elasticsearchOutboxRepository, never()).findFirstByOrderByIdAsc();
+        }
+    }
+
+    @Nested
+    @DisplayName("아웃박스 지표 테스트")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("미반영 행 수와 가장 오래된 행의 대기 시간을 갱신한다")
+        void updateMetrics() {
+            ElasticsearchOutbox oldest = outbox(1L, 100L, OutboxOperation.INDEX);
+            oldest.setCreatedAt(LocalDateTime.now().minusSeconds(120));
+            when(elasticsearchOutboxRepository.count()).thenReturn(42L);
+            when(elasticsearchOutboxRepository.findFirstByOrderByIdAsc()).thenReturn(Optional.of(oldest));
+
+            elasticsearchOutboxRelay.updateMetrics();
+
+            AtomicLong pendingCount = (AtomicLong) ReflectionTestUtils.getField(elasticsearchOutboxRelay, "pendingCount");
+            AtomicLong lagSeconds = (AtomicLong) ReflectionTestUtils.getField(elasticsearchOutboxRelay, "lagSeconds");
+            assertThat(pendingCount.get()).isEqualTo(42L);
+            assertThat(lagSeconds.get()).isGreaterThanOrEqualTo(120L);
+        }
+    }
+}
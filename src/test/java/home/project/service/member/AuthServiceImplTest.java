@@ -1,11 +1,14 @@
 package home.project.service.member;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.member.Member;
 import home.project.domain.member.RoleType;
 import home.project.dto.requestDTO.LoginRequestDTO;
 import home.project.dto.responseDTO.TokenResponse;
 import home.project.repository.member.MemberRepository;
+import home.project.exceptions.exception.TooManyRequestsException;
 import home.project.service.security.JwtTokenProvider;
+import home.project.service.security.LoginRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -45,6 +48,10 @@ class AuthServiceImplTest {
     private MemberService memberService;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
 
     @InjectMocks
     private AuthServiceImpl authService;
@@ -89,15 +96,28 @@ class AuthServiceImplTest {
         void loginSuccess() {
             when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
             when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-            when(authenticationManager.authenticate(any())).thenReturn(new UsernamePasswordAuthenticationToken(testMember.getEmail(), testMember.getPassword()));
             when(jwtTokenProvider.generateToken(any())).thenReturn(tokenResponse);
             when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(memberService.findById(anyLong())).thenReturn(testMember);
 
             TokenResponse result = authService.login(loginRequest);
 
             assertThat(result).isNotNull();
             assertThat(result.getAccessToken()).isEqualTo(tokenResponse.getAccessToken());
+            verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+            verify(authenticationManager, never()).authenticate(any());
+            verify(loginRateLimiter, never()).recordLoginFailure(anyString());
+        }
+
+        @Test
+        @DisplayName("로그인 실패: 요청 제한 초과 시 비밀번호를 확인하지 않는다")
+        void loginFailRateLimited() {
+            doThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."))
+                    .when(loginRateLimiter).checkLogin(anyString());
+
+            assertThatThrownBy(() -> authService.login(loginRequest))
+                    .isInstanceOf(TooManyRequestsException.class);
+            verify(userDetailsService, never()).loadUserByUsername(anyString());
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
         }
 
         @Test
@@ -109,6 +129,7 @@ class AuthServiceImplTest {
             assertThatThrownBy(() -> authService.login(loginRequest))
                     .isInstanceOf(BadCredentialsException.class)
                     .hasMessage("비밀번호를 확인해주세요.");
+            verify(loginRateLimiter).recordLoginFailure(loginRequest.getEmail());
         }
 
         @Test
@@ -0,0 +1,113 @@
+package home.project.service.member;
+
+import home.project.domain.member.Member;
+import home.project.domain.member.MemberGradeType;
+import home.project.domain.member.RoleType;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentMemberResolverTest {
+
+    @Mock
+    private MemberService memberService;
+
+    @InjectMocks
+    private CurrentMemberResolver currentMemberResolver;
+
+    private MemberSnapshot testSnapshot;
+
+    @BeforeEach
+    void setUp() {
+        testSnapshot = new MemberSnapshot(1L, "test@test.com", RoleType.user, MemberGradeType.BRONZE);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("test@test.com", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("현재 회원 조회")
+    class CurrentMemberTest {
+
+        @Test
+        @DisplayName("같은 요청 안에서는 한 번만 조회한다")
+        void resolvesOncePerRequest() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(memberService.findSnapshotByEmail("test@test.com")).thenReturn(testSnapshot);
+
+            MemberSnapshot first = currentMemberResolver.currentMember();
+            MemberSnapshot second = currentMemberResolver.currentMember();
+
+            assertThat(first).isSameAs(second);
+            verify(memberService, times(1)).findSnapshotByEmail("test@test.com");
+        }
+
+        @Test
+        @DisplayName("요청 중 인증 정보가 바뀌면 다시 조회한다")
+        void resolvesAgainWhenPrincipalChanges() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            MemberSnapshot other = new MemberSnapshot(2L, "other@test.com", RoleType.admin, MemberGradeType.BRONZE);
+            when(memberService.findSnapshotByEmail("test@test.com")).thenReturn(testSnapshot);
+            when(memberService.findSnapshotByEmail("other@test.com")).thenReturn(other);
+
+            currentMemberResolver.currentMember();
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken("other@test.com", null));
+
+            assertThat(currentMemberResolver.currentMember()).isEqualTo(other);
+        }
+
+        @Test
+        @DisplayName("요청 밖에서는 매번 회원 서비스(캐시)를 거친다")
+        void delegatesOutsideRequest() {
+            when(memberService.findSnapshotByEmail("test@test.com")).thenReturn(testSnapshot);
+
+            currentMemberResolver.currentMember();
+            currentMemberResolver.currentMember();
+
+            verify(memberService, times(2)).findSnapshotByEmail("test@test.com");
+        }
+
+        @Test
+        @DisplayName("인증 정보가 없으면 비로그인 사용자로 본다")
+        void anonymousWithoutAuthentication() {
+            SecurityContextHolder.clearContext();
+
+            assertThat(currentMemberResolver.isAnonymous()).isTrue();
+            verifyNoInteractions(memberService);
+        }
+    }
+
+    @Test
+    @DisplayName("연관관계용 참조는 스냅샷의 id 로 만든다")
+    void referenceUsesSnapshotId() {
+        Member reference = new Member();
+        reference.setId(1L);
+        when(memberService.findSnapshotByEmail("test@test.com")).thenReturn(testSnapshot);
+        when(memberService.getReferenceById(1L)).thenReturn(reference);
+
+        assertThat(currentMemberResolver.currentMemberReference()).isSameAs(reference);
+        verify(memberService, never()).findByEmail(anyString());
+    }
+}
@@ -1,15 +1,18 @@
 package home.project.service.member;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.member.Member;
 import home.project.domain.member.RoleType;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.*;
 import home.project.dto.responseDTO.*;
 import home.project.exceptions.exception.*;
 import home.project.repository.member.MemberRepository;
 import home.project.repositoryForElasticsearch.MemberElasticsearchRepository;
 import home.project.service.common.EmailService;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
 import home.project.service.security.JwtTokenProvider;
+import home.project.service.security.LoginRateLimiter;
 import home.project.service.util.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,19 +21,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -45,7 +52,7 @@ class MemberServiceImplTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private UserDetailsService userDetailsService;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -54,10 +61,8 @@ class MemberServiceImplTest {
     private Converter converter;
 
     @Mock
-    private IndexToElasticsearch indexToElasticsearch;
+    private ElasticsearchOutboxService elasticsearchOutboxService;
 
-    @Mock
-    private ElasticsearchOperations elasticsearchOperations;
 
     @Mock
     private MemberElasticsearchRepository memberElasticsearchRepository;
@@ -65,6 +70,18 @@ class MemberServiceImplTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private ObjectProvider<CurrentMemberResolver> currentMemberResolverProvider;
+
+    @Mock
+    private CurrentMemberResolver currentMemberResolver;
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -98,6 +115,8 @@ class MemberServiceImplTest {
         tokenResponse = new TokenResponse();
         tokenResponse.setAccessToken("access-token");
         tokenResponse.setRefreshToken("refresh-token");
+
+        when(currentMemberResolverProvider.getObject()).thenReturn(currentMemberResolver);
     }
 
     @Nested
@@ -112,6 +131,8 @@ class MemberServiceImplTest {
             when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
             when(converter.convertFromCreateMemberRequestDTOToMember(any())).thenReturn(testMember);
             when(memberRepository.save(any(Member.class))).thenReturn(testMember);
+            when(userDetailsService.loadUserByUsername(anyString()))
+                    .thenReturn(new User("test@example.com", "encodedPassword", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
             when(jwtTokenProvider.generateToken(any())).thenReturn(tokenResponse);
             when(memberRepository.findById(anyLong())).thenReturn(Optional.of(testMember));
 
@@ -120,6 +141,8 @@ class MemberServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(result.getAccessToken()).isEqualTo("access-token");
             verify(memberRepository).save(any(Member.class));
+            verify(loginRateLimiter).checkSignup();
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
         }
 
         @Test
@@ -154,8 +177,7 @@ class MemberServiceImplTest {
         @Test
         @DisplayName("정상적으로 회원 정보를 조회한다")
         void memberInfoSuccess() {
-            when(memberRepository.findByEmail("test@example.com"))
-                    .thenReturn(Optional.of(testMember));
+            when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(testMember));
 
             when(memberRepository.findById(testMember.getId()))
                     .thenReturn(Optional.of(testMember));
@@ -172,20 +194,21 @@ class MemberServiceImplTest {
 
             assertThat(result).isNotNull();
             assertThat(result.getEmail()).isEqualTo("test@example.com");
-            verify(memberRepository).findByEmail("test@example.com");
+            verify(memberRepository, never()).findByEmail(anyString());
             verify(memberRepository).findById(testMember.getId());
         }
 
         @Test
         @DisplayName("회원 정보 조회 실패: 존재하지 않는 회원")
         void memberInfoFailNotFound() {
-            when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+            when(currentMemberResolver.currentMember())
+                    .thenThrow(new IdNotFoundException("test@example.com(으)로 등록된 회원이 없습니다."));
 
             assertThatThrownBy(() -> memberService.memberInfo())
                     .isInstanceOf(IdNotFoundException.class)
                     .hasMessageContaining("등록된 회원이 없습니다");
 
-            verify(memberRepository).findByEmail(anyString());
+            verify(memberRepository, never()).findById(anyLong());
         }
     }
 
@@ -296,6 +319,7 @@ class MemberServiceImplTest {
 
             assertThat(result).isEqualTo("test@example.com");
             verify(memberRepository).deleteById(anyLong());
+            verify(cacheTagInvalidator).evictTags("member", Set.of("member:1"));
         }
 
         @Test
@@ -3,12 +3,13 @@ package home.project.service.notification;
 import home.project.domain.member.Member;
 import home.project.domain.notification.Notification;
 import home.project.domain.notification.NotificationType;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateNotificationRequestDTO;
 import home.project.dto.responseDTO.NotificationDetailResponse;
 import home.project.dto.responseDTO.NotificationResponse;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.repository.notification.NotificationRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.util.Converter;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,7 +40,7 @@ import static org.mockito.Mockito.*;
 class NotificationServiceImplTest {
 
     @Mock
-    private MemberService memberService;
+    private CurrentMemberResolver currentMemberResolver;
 
     @Mock
     private NotificationRepository notificationRepository;
@@ -94,7 +95,7 @@ class NotificationServiceImplTest {
                     LocalDateTime.now() // createdAt
             );
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
             when(converter.convertFromNotificationToNotificationResponse(any(Notification.class)))
                     .thenReturn(expectedResponse);
@@ -118,7 +119,7 @@ class NotificationServiceImplTest {
             requestDTO.setNotificationType(NotificationType.Coupon);
             requestDTO.setDescription("New Notification");
 
-            when(memberService.findByEmail(anyString())).thenThrow(new IdNotFoundException("회원이 존재하지 않습니다."));
+            givenCurrentMemberNotFound(new IdNotFoundException("회원이 존재하지 않습니다."));
 
             // when & then
             assertThatThrownBy(() -> notificationService.createNotification(requestDTO))
@@ -148,7 +149,7 @@ class NotificationServiceImplTest {
                     LocalDateTime.now() // createdAt
             );
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
             when(converter.convertFromNotificationToNotificationResponse(any(Notification.class)))
                     .thenReturn(expectedResponse);
@@ -170,7 +171,7 @@ class NotificationServiceImplTest {
             // given
             String description = "Coupon Notification";
 
-            when(memberService.findByEmail(anyString())).thenThrow(new IdNotFoundException("회원이 존재하지 않습니다."));
+            givenCurrentMemberNotFound(new IdNotFoundException("회원이 존재하지 않습니다."));
 
             // when & then
             assertThatThrownBy(() -> notificationService.createCouponNotification(description))
@@ -189,7 +190,7 @@ class NotificationServiceImplTest {
         @DisplayName("알림 읽기 성공")
         void readNotificationSuccess() {
             // given
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(notificationRepository.findByIdAndMemberId(anyLong(), anyLong()))
                     .thenReturn(Optional.of(testNotification));
 
@@ -208,7 +209,7 @@ class NotificationServiceImplTest {
         @DisplayName("알림 읽기 실패 - 알림 없음")
         void readNotificationFailNotFound() {
             // given
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(notificationRepository.findByIdAndMemberId(anyLong(), anyLong()))
                     .thenReturn(Optional.empty());
 
@@ -241,7 +242,7 @@ class NotificationServiceImplTest {
                     ))
             );
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(notificationRepository.findAllByMemberId(any(Pageable.class), anyLong()))
                     .thenReturn(pagedNotifications);
             when(converter.convertFromPagedNotificationsToPagedNotificationsResponse(any(Page.class)))
@@ -262,7 +263,7 @@ class NotificationServiceImplTest {
         @DisplayName("회원별 알림 조회 실패 - 회원 없음")
         void findAllByMemberIdFailMemberNotFound() {
             // given
-            when(memberService.findByEmail(anyString())).thenThrow(new IdNotFoundException("회원이 존재하지 않습니다."));
+            givenCurrentMemberNotFound(new IdNotFoundException("회원이 존재하지 않습니다."));
 
             // when & then
             assertThatThrownBy(() -> notificationService.findAllByMemberId(Pageable.unpaged()))
@@ -300,4 +301,14 @@ class NotificationServiceImplTest {
                     .hasMessage("알림이 존재하지 않습니다.");
         }
     }
+
+    private void givenCurrentMember(Member member) {
+        lenient().when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(member));
+        lenient().when(currentMemberResolver.currentMemberReference()).thenReturn(member);
+    }
+
+    private void givenCurrentMemberNotFound(RuntimeException exception) {
+        lenient().when(currentMemberResolver.currentMember()).thenThrow(exception);
+        lenient().when(currentMemberResolver.currentMemberReference()).thenThrow(exception);
+    }
 }
@@ -3,13 +3,15 @@ package home.project.service.order;
 import home.project.domain.member.Member;
 import home.project.domain.order.Cart;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
 import home.project.domain.product.ProductCart;
 import home.project.dto.responseDTO.CartResponse;
 import home.project.dto.responseDTO.ProductSimpleResponseForCart;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.repository.order.CartRepository;
 import home.project.repository.order.ProductCartRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.product.ProductService;
 import home.project.service.util.Converter;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,7 +49,7 @@ class CartServiceImplTest {
     private ProductCartRepository productCartRepository;
 
     @Mock
-    private MemberService memberService;
+    private CurrentMemberResolver currentMemberResolver;
 
     @Mock
     private ProductService productService;
@@ -94,7 +96,7 @@ class CartServiceImplTest {
         @Test
         @DisplayName("장바구니 추가 성공")
         void addToCartSuccess() {
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findById(anyLong())).thenReturn(testProduct);
             when(cartRepository.save(any(Cart.class))).thenReturn(testCart);
             when(converter.convertFromCartToCartResponse(any(Cart.class))).thenReturn(new CartResponse("test@test.com", null));
@@ -109,7 +111,7 @@ class CartServiceImplTest {
         @Test
         @DisplayName("장바구니 추가 실패 - 상품 없음")
         void addToCartFailProductNotFound() {
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findById(anyLong())).thenThrow(new IdNotFoundException("상품이 존재하지 않습니다."));
 
             assertThatThrownBy(() -> cartService.join(1L, 2))
@@ -142,7 +144,7 @@ class CartServiceImplTest {
             ));
             Pageable pageable = PageRequest.of(0, 10);
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productCartRepository.findByCart_Member_Id(anyLong(), any(Pageable.class))).thenReturn(pagedProductCart);
             when(converter.convertFromListedProductCartToPagedProductSimpleResponseForCart(any(Page.class)))
                     .thenReturn(expectedResponse);
@@ -157,7 +159,7 @@ class CartServiceImplTest {
         @Test
         @DisplayName("장바구니 조회 실패 - 회원 없음")
         void findAllByMemberIdFailMemberNotFound() {
-            when(memberService.findByEmail(anyString())).thenThrow(new IdNotFoundException("회원이 존재하지 않습니다."));
+            givenCurrentMemberNotFound(new IdNotFoundException("회원이 존재하지 않습니다."));
 
             assertThatThrownBy(() -> cartService.findAllByMemberId(Pageable.unpaged()))
                     .isInstanceOf(IdNotFoundException.class)
@@ -172,8 +174,8 @@ class CartServiceImplTest {
         @Test
         @DisplayName("장바구니에서 상품 삭제 성공")
         void deleteByProductIdSuccess() {
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(productService.findById(anyLong())).thenReturn(testProduct);
+            givenCurrentMember(testMember);
+            when(productService.findSnapshotById(anyLong())).thenReturn(ProductSnapshot.from(testProduct));
 
             String response = cartService.deleteByProductId(1L);
 
@@ -184,8 +186,8 @@ class CartServiceImplTest {
         @Test
         @DisplayName("장바구니에서 상품 삭제 실패 - 상품 없음")
         void deleteByProductIdFailProductNotFound() {
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(productService.findById(anyLong())).thenThrow(new IdNotFoundException("상품이 존재하지 않습니다."));
+            givenCurrentMember(testMember);
+            when(productService.findSnapshotById(anyLong())).thenThrow(new IdNotFoundException("상품이 존재하지 않습니다."));
 
             assertThatThrownBy(() -> cartService.deleteByProductId(1L))
                     .isInstanceOf(IdNotFoundException.class)
@@ -221,4 +223,14 @@ class CartServiceImplTest {
                     .hasMessageContaining("1(으)로 등록된 상품이 없습니다.");
         }
     }
+
+    private void givenCurrentMember(Member member) {
+        lenient().when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(member));
+        lenient().when(currentMemberResolver.currentMemberReference()).thenReturn(member);
+    }
+
+    private void givenCurrentMemberNotFound(RuntimeException exception) {
+        lenient().when(currentMemberResolver.currentMember()).thenThrow(exception);
+        lenient().when(currentMemberResolver.currentMemberReference()).thenThrow(exception);
+    }
 }
@@ -0,0 +1,267 @@
+package home.project.service.order;
+
+import home.project.config.redis.CacheTagInvalidator;
+import home.project.domain.product.Product;
+import home.project.dto.requestDTO.ProductDTOForOrder;
+import home.project.repository.product.ProductRepository;
+import home.project.service.product.ProductCacheTagResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InventoryReservationServiceImplTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    @InjectMocks
+    private InventoryReservationServiceImpl inventoryReservationService;
+
+    private List<ProductDTOForOrder> productOrders;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(inventoryReservationService, "enabled", true);
+        ReflectionTestUtils.setField(inventoryReservationService, "ttlSeconds", 300L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        productOrders = List.of(
+                new ProductDTOForOrder(1L, 10000L, 2),
+                new ProductDTOForOrder(1L, 10000L, 1));
+    }
+
+    @Nested
+    @DisplayName("재고 예약 테스트")
+    class ReserveTest {
+
+        @Test
+        @DisplayName("예약 기능이 꺼져 있으면 Redis 를 사용하지 않는다")
+        void reserveDisabled() {
+            ReflectionTestUtils.setField(inventoryReservationService, "enabled", false);
+
+            boolean reserved = inventoryReservationService.reserve(productOrders);
+
+            assertThat(reserved).isFalse();
+            verifyNoInteractions(stringRedisTemplate);
+        }
+
+        @Test
+        @DisplayName("같은 상품의 수량을 합쳐 한 번에 예약한다")
+        void reserveSuccess() {
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenReturn(1L);
+
+            boolean reserved = inventoryReservationService.reserve(productOrders);
+
+            assertThat(reserved).isTrue();
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    argThat(keys -> keys.contains(InventoryReservationServiceImpl.STOCK_KEY_PREFIX + 1L)),
+                    anyString(), anyString(), anyString(), eq("1"), eq("3"));
+        }
+
+        @Test
+        @DisplayName("재고 카운터가 없으면 DB 재고로 적재한 뒤 다시 예약한다")
+        void reserveLoadsMissingCounter() {
+            Product product = new Product();
+            product.setId(1L);
+            product.setStock(10L);
+            when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenReturn(-1L, 1L, 1L);
+
+            boolean reserved = inventoryReservationService.reserve(productOrders);
+
+            assertThat(reserved).isTrue();
+            verify(valueOperations).setIfAbsent(InventoryReservationServiceImpl.STOCK_KEY_PREFIX + 1L, "10");
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 예약에 실패한다")
+        void reserveFailInsufficientStock() {
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenReturn(0L);
+
+            assertThatThrownBy(() -> inventoryReservationService.reserve(productOrders))
+                    .isInstanceOf(DataIntegrityViolationException.class)
+                    .hasMessageContaining("재고가 부족합니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 확정 테스트")
+    class CommitTest {
+
+        @AfterEach
+        void tearDown() {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("이미 만료된 예약은 확정하지 않고 예외를 던진다")
+        void commitExpiredReservation() {
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+            assertThatThrownBy(() -> inventoryReservationService.commit("reservation-1"))
+                    .isInstanceOf(DataIntegrityViolationException.class)
+                    .hasMessageContaining("만료");
+        }
+
+        @Test
+        @DisplayName("주문 트랜잭션 커밋 직전에 예약이 만료됐으면 예외로 커밋을 막는다")
+        void beforeCommitRejectsExpiredReservation() {
+            TransactionSynchronizationManager.initSynchronization();
+            // 예약 성공 후 커밋 직전 확인에서 만료됨
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenReturn(1L, 0L);
+
+            inventoryReservationService.reserve(productOrders);
+            TransactionSynchronization synchronization = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+            assertThatThrownBy(() -> synchronization.beforeCommit(false))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        @Test
+        @DisplayName("예약을 취소할 때 예약 항목에 담긴 상품의 재고 카운터 키를 모두 KEYS 로 넘긴다")
+        void releasePassesStockKeys() {
+            HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+            when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.get(InventoryReservationServiceImpl.RESERVATION_ITEMS_KEY, "reservation-1"))
+                    .thenReturn("7:2,9:1");
+
+            inventoryReservationService.release("reservation-1");
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(InventoryReservationServiceImpl.RESERVATION_KEY_PREFIX + "reservation-1",
+                            InventoryReservationServiceImpl.PENDING_KEY,
+                            InventoryReservationServiceImpl.RESERVATION_ITEMS_KEY,
+                            InventoryReservationServiceImpl.STOCK_KEY_PREFIX + "7",
+                            InventoryReservationServiceImpl.STOCK_KEY_PREFIX + "9")),
+                    eq("reservation-1"), eq("7"), eq("9"));
+            // 예약 해시가 이미 만료됐어도 예약 항목만으로 상품을 찾으므로 해시는 읽지 않음
+            verify(hashOperations, never()).keys(anyString());
+        }
+
+        @Test
+        @DisplayName("예약 항목이 없는 이전 예약은 예약 해시에서 상품 ID 를 읽는다")
+        void releaseLegacyReservation() {
+            HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+            when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.keys(InventoryReservationServiceImpl.RESERVATION_KEY_PREFIX + "reservation-1"))
+                    .thenReturn(Set.of("7"));
+
+            inventoryReservationService.release("reservation-1");
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(InventoryReservationServiceImpl.RESERVATION_KEY_PREFIX + "reservation-1",
+                            InventoryReservationServiceImpl.PENDING_KEY,
+                            InventoryReservationServiceImpl.RESERVATION_ITEMS_KEY,
+                            InventoryReservationServiceImpl.STOCK_KEY_PREFIX + "7")),
+                    eq("reservation-1"), eq("7"));
+        }
+
+        @Test
+        @DisplayName("예약할 때 만료되지 않는 예약 항목 키를 함께 넘긴다")
+        void reserveWritesDurableItems() {
+            when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenReturn(1L);
+
+            inventoryReservationService.reserve(productOrders);
+
+            verify(stringRedisTemplate).execute(any(RedisScript.class),
+                    argThat(keys -> keys.get(2).equals(InventoryReservationServiceImpl.RESERVATION_ITEMS_KEY)
+                            && keys.get(3).equals(InventoryReservationServiceImpl.STOCK_KEY_PREFIX + 1L)),
+                    anyString(), anyString(), anyString(), eq("1"), eq("3"));
+        }
+    }
+
+    @Nested
+    @DisplayName("확정 수량 DB 반영 테스트")
+    class ReconcileTest {
+
+        private HashOperations<String, Object, Object> hashOperations;
+
+        @BeforeEach
+        void setUp() {
+            TransactionSynchronizationManager.initSynchronization();
+            ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+            hashOperations = mock(HashOperations.class);
+            when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+            when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+            when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of());
+            when(stringRedisTemplate.execute(any(RedisScript.class),
+                    eq(List.of(InventoryReservationServiceImpl.SETTLED_KEY)), any(Object[].class)))
+                    .thenReturn(List.of("1", "3", "2", "5"));
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("DB 재고와 맞지 않아 반영하지 못한 수량은 커밋 후 다시 확정 수량에 돌려놓는다")
+        void requeueMismatchedQuantities() {
+            when(productRepository.decreaseStockAndIncreaseSoldQuantity(1L, 3L)).thenReturn(1);
+            when(productRepository.decreaseStockAndIncreaseSoldQuantity(2L, 5L)).thenReturn(0);
+
+            inventoryReservationService.reconcile();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            verify(hashOperations).increment(InventoryReservationServiceImpl.SETTLED_KEY, "2", 5L);
+            verify(hashOperations, never()).increment(InventoryReservationServiceImpl.SETTLED_KEY, "1", 3L);
+            verify(cacheTagInvalidator).evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(1L)));
+        }
+
+        @Test
+        @DisplayName("DB 반영이 롤백되면 꺼낸 수량을 모두 돌려놓는다")
+        void requeueAllOnRollback() {
+            when(productRepository.decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong())).thenReturn(1);
+
+            inventoryReservationService.reconcile();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            verify(hashOperations).increment(InventoryReservationServiceImpl.SETTLED_KEY, "1", 3L);
+            verify(hashOperations).increment(InventoryReservationServiceImpl.SETTLED_KEY, "2", 5L);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package home.project.service.order;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.delivery.DeliveryStatusType;
 import home.project.domain.delivery.DeliveryType;
 import home.project.domain.delivery.Shipping;
@@ -7,6 +8,7 @@ import home.project.domain.member.Member;
 import home.project.domain.member.MemberGradeType;
 import home.project.domain.order.Orders;
 import home.project.domain.product.*;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.requestDTO.CreateOrderRequestDTO;
 import home.project.dto.requestDTO.ProductDTOForOrder;
 import home.project.dto.responseDTO.OrderResponse;
@@ -16,11 +18,14 @@ import home.project.repository.order.OrderRepository;
 import home.project.repository.order.ProductOrderRepository;
 import home.project.repository.promotion.MemberCouponRepository;
 import home.project.repositoryForElasticsearch.OrdersElasticsearchRepository;
+import home.project.service.member.CurrentMemberResolver;
+import home.project.service.member.MemberCacheTagResolver;
 import home.project.service.member.MemberService;
 import home.project.service.product.ProductService;
+import home.project.service.product.SoldQuantityCounterService;
 import home.project.service.promotion.CouponService;
 import home.project.service.util.Converter;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,10 +36,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -43,10 +48,12 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -69,13 +76,19 @@ class OrderServiceImplTest {
     @Mock
     private Converter converter;
     @Mock
-    private IndexToElasticsearch indexToElasticsearch;
+    private ElasticsearchOutboxService elasticsearchOutboxService;
     @Mock
     private OrdersElasticsearchRepository ordersElasticsearchRepository;
     @Mock
-    private ElasticsearchOperations elasticsearchOperations;
-    @Mock
     private ProductOrderRepository productOrderRepository;
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+    @Mock
+    private SoldQuantityCounterService soldQuantityCounterService;
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+    @Mock
+    private CurrentMemberResolver currentMemberResolver;
 
     @InjectMocks
     private OrderServiceImpl orderService;
@@ -188,7 +201,7 @@ class OrderServiceImplTest {
         void createOrderSuccess() {
             // given
             when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(productService.findById(anyLong())).thenReturn(testProduct);
+            when(productService.decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong())).thenReturn(testProduct);
             when(couponService.findById(anyLong())).thenReturn(testCoupon);
             when(memberCouponRepository.findByMemberAndCoupon(any(Member.class), any(Coupon.class)))
                     .thenReturn(Optional.of(testMemberCoupon));
@@ -204,7 +217,45 @@ class OrderServiceImplTest {
             assertThat(response).isNotNull();
             assertThat(response.getOrderNum()).isEqualTo("TEST123");
             verify(orderRepository).save(any(Orders.class));
-            verify(productService).decreaseStock(anyLong(), anyLong());
+            verify(productService).decreaseStockAndIncreaseSoldQuantity(1L, 2L);
+            verify(productService, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Redis 재고 예약에 성공하면 상품 재고를 직접 차감하지 않는다")
+        void createOrderWithReservationSuccess() {
+            // given
+            createOrderRequestDTO.setCouponId(null);
+            when(inventoryReservationService.reserve(anyList())).thenReturn(true);
+            when(productService.getReferenceById(anyLong())).thenReturn(testProduct);
+            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            when(orderRepository.save(any(Orders.class))).thenReturn(testOrder);
+            when(converter.convertFromOrderToOrderResponse(any(Orders.class))).thenReturn(orderResponse);
+            when(converter.convertFromCreateOrderRequestDTOToShipping(any(CreateOrderRequestDTO.class)))
+                    .thenReturn(testShipping);
+
+            // when
+            orderService.join(createOrderRequestDTO);
+
+            // then
+            verify(inventoryReservationService).reserve(productDTOList);
+            verify(productService).getReferenceById(1L);
+            verify(productService, never()).decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Redis 재고 예약이 거절되면 주문 생성에 실패한다")
+        void createOrderFailReservationRejected() {
+            // given
+            when(inventoryReservationService.reserve(anyList()))
+                    .thenThrow(new DataIntegrityViolationException("재고가 부족합니다."));
+
+            // when & then
+            assertThatThrownBy(() -> orderService.join(createOrderRequestDTO))
+                    .isInstanceOf(DataIntegrityViolationException.class)
+                    .hasMessageContaining("재고가 부족합니다");
+            verify(productService, never()).decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong());
+            verify(orderRepository, never()).save(any(Orders.class));
         }
 
         @Test
@@ -215,16 +266,16 @@ class OrderServiceImplTest {
             createOrderRequestDTO.setCouponId(null);
 
             when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(productService.findById(anyLong())).thenReturn(testProduct);
             when(converter.convertFromCreateOrderRequestDTOToShipping(any(CreateOrderRequestDTO.class)))
                     .thenReturn(testShipping);
-            when(productService.decreaseStock(anyLong(), anyLong()))
-                    .thenThrow(new IllegalStateException("재고가 부족합니다"));
+            when(productService.decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong()))
+                    .thenThrow(new DataIntegrityViolationException("재고가 부족합니다."));
 
             // when & then
             assertThatThrownBy(() -> orderService.join(createOrderRequestDTO))
-                    .isInstanceOf(IllegalStateException.class)
+                    .isInstanceOf(DataIntegrityViolationException.class)
                     .hasMessageContaining("재고가 부족합니다");
+            verify(orderRepository, never()).save(any(Orders.class));
         }
 
         @Test
@@ -233,7 +284,7 @@ class OrderServiceImplTest {
             // given
             testCoupon.setEndDate(now.minusDays(1));
             when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(productService.findById(anyLong())).thenReturn(testProduct);
+            when(productService.decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong())).thenReturn(testProduct);
             when(couponService.findById(anyLong())).thenReturn(testCoupon);
             when(converter.convertFromCreateOrderRequestDTOToShipping(any(CreateOrderRequestDTO.class)))
                     .thenReturn(testShipping);
@@ -250,7 +301,7 @@ class OrderServiceImplTest {
             testMember.setPoint(0L);
             createOrderRequestDTO.setPointsUsed(1000L);
             when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(productService.findById(anyLong())).thenReturn(testProduct);
+            when(productService.decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong())).thenReturn(testProduct);
             when(converter.convertFromCreateOrderRequestDTOToShipping(any(CreateOrderRequestDTO.class)))
                     .thenReturn(testShipping);
 
@@ -273,7 +324,7 @@ class OrderServiceImplTest {
             createOrderRequestDTO.setCouponId(null);
 
             when(memberService.findByEmail(anyString())).thenReturn(testMember);
-            when(productService.findById(anyLong())).thenReturn(testProduct);
+            when(productService.decreaseStockAndIncreaseSoldQuantity(anyLong(), anyLong())).thenReturn(testProduct);
             when(orderRepository.save(any(Orders.class))).thenReturn(testOrder);
             when(converter.convertFromOrderToOrderResponse(any(Orders.class))).thenReturn(orderResponse);
             when(converter.convertFromCreateOrderRequestDTOToShipping(any(CreateOrderRequestDTO.class)))
@@ -316,7 +367,33 @@ class OrderServiceImplTest {
 
             // then
             verify(productService).increaseStock(anyLong(), eq(2L));
-            verify(productService).decreaseSoldQuantity(anyLong(), eq(2L));
+            verify(soldQuantityCounterService).decrease(anyLong(), eq(2L));
+            verify(productService, never()).decreaseSoldQuantity(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("주문 취소로 회원 등급이 내려가면 회원 요약 캐시를 지운다")
+        void deleteOrderEvictsMemberSnapshotWhenGradeChanges() {
+            testMember.setGrade(MemberGradeType.SILVER);
+            testMember.setAccumulatedPurchase(20000L);
+            when(orderRepository.findById(anyLong())).thenReturn(Optional.of(testOrder));
+
+            orderService.deleteById(1L);
+
+            assertThat(testMember.getGrade()).isEqualTo(MemberGradeType.BRONZE);
+            verify(cacheTagInvalidator).evictTags(MemberCacheTagResolver.CACHE_NAME,
+                    Set.of(MemberCacheTagResolver.memberTag(testMember.getId())));
+        }
+
+        @Test
+        @DisplayName("주문 취소 뒤에도 등급이 같으면 회원 요약 캐시를 지우지 않는다")
+        void deleteOrderKeepsMemberSnapshotWhenGradeUnchanged() {
+            when(orderRepository.findById(anyLong())).thenReturn(Optional.of(testOrder));
+
+            orderService.deleteById(1L);
+
+            assertThat(testMember.getGrade()).isEqualTo(MemberGradeType.BRONZE);
+            verify(cacheTagInvalidator, never()).evictTags(eq(MemberCacheTagResolver.CACHE_NAME), anyCollection());
         }
     }
 
@@ -329,7 +406,7 @@ class OrderServiceImplTest {
             // given
             List<Orders> ordersList = List.of(testOrder);
             Page<Orders> ordersPage = new PageImpl<>(ordersList);
-            when(memberRepository.findByEmail(anyString())).thenReturn(Optional.of(testMember));
+            when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(testMember));
             when(orderRepository.findByMemberId(anyLong(), any(Pageable.class))).thenReturn(ordersPage);
             when(converter.convertFromPagedOrderToPagedOrderResponse(any())).thenReturn(new PageImpl<>(List.of(orderResponse)));
 
@@ -340,6 +417,7 @@ class OrderServiceImplTest {
             assertThat(response).isNotNull();
             assertThat(response.getContent()).hasSize(1);
             verify(orderRepository).findByMemberId(eq(testMember.getId()), any(Pageable.class));
+            verify(memberRepository, never()).findByEmail(anyString());
         }
     }
 }
\ No newline at end of file
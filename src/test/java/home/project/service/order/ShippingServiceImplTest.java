@@ -1,5 +1,6 @@
 package home.project.service.order;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.delivery.DeliveryStatusType;
 import home.project.domain.delivery.DeliveryType;
 import home.project.domain.delivery.Shipping;
@@ -11,7 +12,9 @@ import home.project.repository.order.ProductOrderRepository;
 import home.project.repository.shipping.ShippingRepository;
 import home.project.service.order.OrderService;
 import home.project.service.order.ShippingServiceImpl;
+import home.project.service.member.MemberCacheTagResolver;
 import home.project.service.product.ProductService;
+import home.project.service.product.SoldQuantityCounterService;
 import home.project.service.util.Converter;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +29,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -89,6 +93,10 @@ class ShippingServiceImplTest {
     private OrderService orderService;
     @Mock
     private MemberRepository memberRepository;
+    @Mock
+    private SoldQuantityCounterService soldQuantityCounterService;
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
 
     @InjectMocks
     private ShippingServiceImpl shippingService;
@@ -170,6 +178,7 @@ class ShippingServiceImplTest {
             assertThat(result.getDeliveryNum()).startsWith("SHIP");
             verify(shippingRepository).save(any(Shipping.class));
             verify(productOrderRepository).saveAll(any());
+            verify(cacheTagInvalidator, never()).evictTags(anyString(), anyCollection());
         }
 
         @Test
@@ -193,9 +202,11 @@ class ShippingServiceImplTest {
             assertThat(testMember.getAccumulatedPurchase()).isEqualTo(100000L);
             assertThat(testMember.getGrade()).isEqualTo(MemberGradeType.SILVER);
             verify(productService).increaseStock(eq(1L), eq(2L));
-            verify(productService).decreaseSoldQuantity(eq(1L), eq(2L));
+            verify(soldQuantityCounterService).decrease(eq(1L), eq(2L));
             verify(memberRepository).save(testMember);
             verify(productOrderRepository).saveAll(any());
+            verify(cacheTagInvalidator).evictTags(MemberCacheTagResolver.CACHE_NAME,
+                    Set.of(MemberCacheTagResolver.memberTag(testMember.getId())));
         }
 
         @Test
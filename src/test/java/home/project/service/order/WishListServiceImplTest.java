@@ -3,10 +3,11 @@ package home.project.service.order;
 import home.project.domain.common.WishList;
 import home.project.domain.member.Member;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
 import home.project.dto.responseDTO.ProductResponse;
 import home.project.dto.responseDTO.WishListResponse;
 import home.project.repository.product.WishListRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.product.ProductService;
 import home.project.service.util.Converter;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +29,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -43,7 +45,7 @@ class WishListServiceImplTest {
     private ProductService productService;
 
     @Mock
-    private MemberService memberService;
+    private CurrentMemberResolver currentMemberResolver;
 
     @Mock
     private Converter converter;
@@ -91,7 +93,7 @@ class WishListServiceImplTest {
             savedWishList.setLiked(true);
             savedWishList.setCreateAt(LocalDateTime.now());
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findById(anyLong())).thenReturn(testProduct);
             when(wishListRepository.findByMemberIdAndProductId(anyLong(), anyLong())).thenReturn(null);
 
@@ -109,7 +111,7 @@ class WishListServiceImplTest {
             assertThat(response.isLiked()).isTrue();
             assertThat(response.getMessage()).isEqualTo("위시리스트에 추가되었습니다.");
 
-            verify(memberService).findByEmail(anyString());
+            verify(currentMemberResolver).currentMemberReference();
             verify(productService).findById(1L);
             verify(wishListRepository).findByMemberIdAndProductId(anyLong(), anyLong());
             verify(wishListRepository).save(any(WishList.class));
@@ -120,7 +122,7 @@ class WishListServiceImplTest {
         void addToWishListAlreadyExists() {
             // given
             testWishList.setLiked(true);
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findById(anyLong())).thenReturn(testProduct);
             when(wishListRepository.findByMemberIdAndProductId(anyLong(), anyLong())).thenReturn(testWishList);
 
@@ -140,7 +142,7 @@ class WishListServiceImplTest {
         @DisplayName("상품이 존재하지 않는 경우 추가 실패")
         void addToWishListProductNotFound() {
             // given
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findById(anyLong()))
                     .thenThrow(new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
@@ -160,7 +162,7 @@ class WishListServiceImplTest {
         @DisplayName("위시리스트에서 상품 삭제 성공")
         void removeFromWishListSuccess() {
             // given
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findById(anyLong())).thenReturn(testProduct);
             when(wishListRepository.findByMemberIdAndProductId(anyLong(), anyLong())).thenReturn(testWishList);
 
@@ -180,7 +182,7 @@ class WishListServiceImplTest {
         @DisplayName("위시리스트에 없는 상품 삭제 시도")
         void removeFromWishListNotFound() {
             // given
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(productService.findById(anyLong())).thenReturn(testProduct);
             when(wishListRepository.findByMemberIdAndProductId(anyLong(), anyLong())).thenReturn(null);
 
@@ -212,9 +214,10 @@ class WishListServiceImplTest {
             );
             Page<ProductResponse> expectedPage = new PageImpl<>(List.of(expectedResponse));
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(wishListRepository.findAllByMemberId(anyLong(), any(Pageable.class))).thenReturn(pagedWishList);
-            when(converter.convertFromPagedWishListToProductResponseResponse(any())).thenReturn(expectedPage);
+            when(productService.findAllByIds(any())).thenReturn(Map.of());
+            when(converter.convertFromPagedWishListToProductResponseResponse(any(), any())).thenReturn(expectedPage);
 
             // when
             Page<ProductResponse> response = wishListService.findAllMyWishList(PageRequest.of(0, 10));
@@ -225,7 +228,8 @@ class WishListServiceImplTest {
             assertThat(response.getContent().get(0).getId()).isEqualTo(testProduct.getId());
             assertThat(response.getContent().get(0).getName()).isEqualTo("Test Product");
 
-            verify(converter).convertFromPagedWishListToProductResponseResponse(pagedWishList);
+            verify(productService).findAllByIds(List.of(testProduct.getId()));
+            verify(converter).convertFromPagedWishListToProductResponseResponse(eq(pagedWishList), any());
         }
 
         @Test
@@ -235,9 +239,10 @@ class WishListServiceImplTest {
             Page<WishList> emptyPage = new PageImpl<>(List.of());
             Page<ProductResponse> emptyResponse = new PageImpl<>(List.of());
 
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(wishListRepository.findAllByMemberId(anyLong(), any(Pageable.class))).thenReturn(emptyPage);
-            when(converter.convertFromPagedWishListToProductResponseResponse(any())).thenReturn(emptyResponse);
+            when(productService.findAllByIds(any())).thenReturn(Map.of());
+            when(converter.convertFromPagedWishListToProductResponseResponse(any(), any())).thenReturn(emptyResponse);
 
             // when
             Page<ProductResponse> response = wishListService.findAllMyWishList(PageRequest.of(0, 10));
@@ -248,5 +253,9 @@ class WishListServiceImplTest {
             assertThat(response.getTotalElements()).isZero();
         }
     }
-}
 
+    private void givenCurrentMember(Member member) {
+        lenient().when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(member));
+        lenient().when(currentMemberResolver.currentMemberReference()).thenReturn(member);
+    }
+}
@@ -0,0 +1,78 @@
+package home.project.service.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CatalogCacheWarmerTest {
+
+    @Mock
+    private ProductPageReader productPageReader;
+    @Mock
+    private ProductService productService;
+    @Mock
+    private CategoryService categoryService;
+
+    @InjectMocks
+    private CatalogCacheWarmer catalogCacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(catalogCacheWarmer, "pages", 2);
+        ReflectionTestUtils.setField(catalogCacheWarmer, "pageSize", 5);
+    }
+
+    @Nested
+    @DisplayName("카탈로그 캐시 데우기 테스트")
+    class WarmTest {
+
+        @Test
+        @DisplayName("컨트롤러와 같은 Pageable 로 설정된 페이지 수만큼 목록을 조회한다")
+        void warmConfiguredPages() {
+            int warmed = catalogCacheWarmer.warm();
+
+            assertEquals(8, warmed);
+            assertTrue(catalogCacheWarmer.isWarmedUp());
+            for (int page = 0; page < 2; page++) {
+                PageRequest pageable = PageRequest.of(page, 5);
+                verify(productPageReader).findNewProduct(pageable);
+                verify(productService).findAllBySoldQuantity(pageable);
+                verify(productService).brandList(pageable);
+                verify(categoryService).findAllCategory(pageable);
+            }
+        }
+
+        @Test
+        @DisplayName("일부 목록이 실패해도 나머지를 데우고 완료로 표시한다")
+        void continueOnFailure() {
+            when(productService.findAllBySoldQuantity(any())).thenThrow(new RuntimeException("redis down"));
+
+            int warmed = catalogCacheWarmer.warm();
+
+            assertEquals(6, warmed);
+            assertTrue(catalogCacheWarmer.isWarmedUp());
+            verify(categoryService, times(2)).findAllCategory(any());
+        }
+
+        @Test
+        @DisplayName("데우기 전에는 완료되지 않은 상태다")
+        void notWarmedUpBeforeWarm() {
+            assertFalse(catalogCacheWarmer.isWarmedUp());
+        }
+    }
+}
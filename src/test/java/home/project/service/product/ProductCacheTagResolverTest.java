@@ -0,0 +1,106 @@
+package home.project.service.product;
+
+import home.project.dto.cacheDTO.CategorySnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.dto.responseDTO.ProductResponse;
+import home.project.dto.responseDTO.ProductSimpleResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCacheTagResolverTest {
+
+    private final ProductCacheTagResolver resolver = new ProductCacheTagResolver();
+
+    private ProductSimpleResponse simpleResponse(long id, String brand) {
+        return new ProductSimpleResponse(id, "티셔츠", brand, 10000L, 0, null, false, "black");
+    }
+
+    private ProductSnapshot snapshot(long id, CategorySnapshot category) {
+        return new ProductSnapshot(id, "티셔츠", "브랜드", category, "P-" + id, 10L, 0L, 10000L, 0, 0L,
+                List.of(), null, null, null, null, List.of());
+    }
+
+    @Nested
+    @DisplayName("태그 추출 테스트")
+    class ResolveTagsTest {
+
+        @Test
+        @DisplayName("product 캐시가 아니면 태그를 붙이지 않는다")
+        void otherCacheHasNoTags() {
+            assertThat(resolver.resolveTags("member", "member:1", snapshot(1L, null))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("페이지 값에는 목록 메서드 태그와 항목별 상품/브랜드 태그를 붙인다")
+        void pageTags() {
+            PageImpl<ProductSimpleResponse> page = new PageImpl<>(
+                    List.of(simpleResponse(1L, "나이키"), simpleResponse(2L, "아디다스")), PageRequest.of(0, 2), 2);
+
+            assertThat(resolver.resolveTags(ProductCacheTagResolver.CACHE_NAME, "findAll:abc", page))
+                    .containsExactlyInAnyOrder("listing:findAll", "product:1", "product:2", "brand:나이키", "brand:아디다스");
+        }
+
+        @Test
+        @DisplayName("단건 응답에는 상품, 브랜드, 카테고리 태그를 붙인다")
+        void singleResponseTags() {
+            ProductResponse response = new ProductResponse();
+            response.setId(1L);
+            response.setBrand("나이키");
+            response.setCategory("0101");
+
+            assertThat(resolver.resolveTags(ProductCacheTagResolver.CACHE_NAME, "product:1", response))
+                    .containsExactlyInAnyOrder("product:1", "brand:나이키", "category:0101");
+        }
+
+        @Test
+        @DisplayName("카테고리가 없는 스냅샷은 카테고리 태그 없이 상품과 브랜드 태그만 붙인다")
+        void snapshotWithoutCategory() {
+            assertThat(resolver.resolveTags(ProductCacheTagResolver.CACHE_NAME, "product:1", snapshot(1L, null)))
+                    .containsExactlyInAnyOrder("product:1", "brand:브랜드");
+            assertThat(resolver.resolveTags(ProductCacheTagResolver.CACHE_NAME, "product:2",
+                    snapshot(2L, new CategorySnapshot(3L, "0101", "상의", 2))))
+                    .containsExactlyInAnyOrder("product:2", "brand:브랜드", "category:0101");
+        }
+
+        @Test
+        @DisplayName("브랜드 목록은 항목마다 브랜드 태그를 붙인다")
+        void brandListTags() {
+            assertThat(resolver.resolveTags(ProductCacheTagResolver.CACHE_NAME, "brandList:abc", List.of("나이키", "아디다스")))
+                    .containsExactlyInAnyOrder("brand:나이키", "brand:아디다스");
+        }
+    }
+
+    @Nested
+    @DisplayName("삭제 태그 테스트")
+    class EvictionTagsTest {
+
+        @Test
+        @DisplayName("새 상품 등록 시에는 필터 없는 목록과 그 상품의 브랜드/카테고리 목록을 지운다")
+        void tagsForNewProduct() {
+            assertThat(ProductCacheTagResolver.tagsForNewProduct("나이키", "0101"))
+                    .contains("listing:findAll", "listing:brandList", "brand:나이키", "category:0101")
+                    .noneMatch(tag -> tag.startsWith("product:"));
+        }
+
+        @Test
+        @DisplayName("상품 변경 시에는 상품, 브랜드, 카테고리 태그를 지운다")
+        void tagsForChangedProduct() {
+            assertThat(ProductCacheTagResolver.tagsForChangedProduct(1L, "나이키", null))
+                    .containsExactlyInAnyOrder("product:1", "brand:나이키");
+        }
+
+        @Test
+        @DisplayName("여러 상품 id 를 상품 태그로 바꾼다")
+        void productTags() {
+            assertThat(ProductCacheTagResolver.productTags(List.of(1L, 2L, 1L)))
+                    .containsExactlyInAnyOrder("product:1", "product:2");
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package home.project.service.product;
+
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.repository.product.ProductRepository;
+import home.project.repositoryForElasticsearch.ProductElasticsearchRepository;
+import home.project.service.util.Converter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductPageReaderTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductElasticsearchRepository productElasticsearchRepository;
+    @Mock
+    private Converter converter;
+    @Mock
+    private ProductSnapshotReader productSnapshotReader;
+
+    @InjectMocks
+    private ProductPageReader productPageReader;
+
+    @Nested
+    @DisplayName("Elasticsearch 공유 페이지 조회 테스트")
+    class FindProductsOnElasticTest {
+
+        @Test
+        @DisplayName("필드가 빠진 문서만 한 번에 조회해 보완하고 좋아요 없이 응답을 만든다")
+        void fallbackToBatchedLookup() {
+            ProductDocument complete = new ProductDocument();
+            complete.setId(1L);
+            ProductDocument incomplete = new ProductDocument();
+            incomplete.setId(2L);
+            ProductSnapshot snapshot = new ProductSnapshot(2L, "상품", "브랜드", null, "P2", 1L, 0L, 1000L, 0, 0L,
+                    List.of(), null, null, null, null, List.of());
+            Page<ProductDocument> pagedDocuments = new PageImpl<>(List.of(complete, incomplete), PageRequest.of(0, 20), 2);
+            when(productElasticsearchRepository.findProducts(any(), any(), any(), any(), any())).thenReturn(pagedDocuments);
+            when(converter.isProductDocumentCompleteForSimpleResponse(complete)).thenReturn(true);
+            when(converter.isProductDocumentCompleteForSimpleResponse(incomplete)).thenReturn(false);
+            when(productSnapshotReader.findAllByIds(List.of(2L))).thenReturn(Map.of(2L, snapshot));
+
+            productPageReader.findProductsOnElastic(null, null, null, null, PageRequest.of(0, 20));
+
+            verify(productSnapshotReader).findAllByIds(List.of(2L));
+            verify(converter).convertFromPagedProductDocumentToPagedProductSimpleResponse(pagedDocuments, Map.of(2L, snapshot));
+        }
+
+        @Test
+        @DisplayName("모든 문서가 완전하면 DB 를 조회하지 않는다")
+        void skipLookupWhenComplete() {
+            ProductDocument document = new ProductDocument();
+            document.setId(1L);
+            Page<ProductDocument> pagedDocuments = new PageImpl<>(List.of(document), PageRequest.of(0, 20), 1);
+            when(productElasticsearchRepository.findProducts(any(), any(), any(), any(), any())).thenReturn(pagedDocuments);
+            when(converter.isProductDocumentCompleteForSimpleResponse(document)).thenReturn(true);
+
+            productPageReader.findProductsOnElastic(null, null, null, null, PageRequest.of(0, 20));
+
+            verify(productSnapshotReader, never()).findAllByIds(any());
+        }
+    }
+}
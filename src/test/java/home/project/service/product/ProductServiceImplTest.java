@@ -1,13 +1,18 @@
 package home.project.service.product;
 
 import home.project.config.TestConfig;
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.elasticsearch.ProductDocument;
 import home.project.domain.member.Member;
 import home.project.domain.product.Category;
 import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.MemberSnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
 import home.project.dto.requestDTO.CreateProductRequestDTO;
 import home.project.dto.requestDTO.UpdateProductRequestDTO;
 import home.project.dto.responseDTO.ProductResponse;
+import home.project.dto.responseDTO.ProductSimpleResponse;
+import home.project.dto.responseDTO.ProductWithQnAAndReviewResponse;
 import home.project.exceptions.exception.IdNotFoundException;
 import home.project.repository.common.QnARepository;
 import home.project.repository.common.ReviewRepository;
@@ -17,22 +22,31 @@ import home.project.repository.product.CategoryRepository;
 import home.project.repository.product.ProductRepository;
 import home.project.repository.product.WishListRepository;
 import home.project.repositoryForElasticsearch.ProductElasticsearchRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
+import home.project.service.order.InventoryReservationService;
 import home.project.service.util.Converter;
 import home.project.service.file.FileService;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
+import home.project.domain.outbox.OutboxDocumentType;
 import home.project.service.util.PageUtil;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -40,7 +54,9 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -63,9 +79,9 @@ class ProductServiceImplTest {
     @Mock
     private Converter converter;
     @Mock
-    private IndexToElasticsearch indexToElasticsearch;
+    private ElasticsearchOutboxService elasticsearchOutboxService;
     @Mock
-    private MemberService memberService;
+    private CurrentMemberResolver currentMemberResolver;
     @Mock
     private MemberProductRepository memberProductRepository;
     @Mock
@@ -77,9 +93,23 @@ class ProductServiceImplTest {
     @Mock
     private ReviewRepository reviewRepository;
     @Mock
-    private ElasticsearchOperations elasticsearchOperations;
-    @Mock
     private FileService fileService;
+    @Mock
+    private InventoryReservationService inventoryReservationService;
+    @Mock
+    private ProductPageReader productPageReader;
+    @Mock
+    private ProductDetailReader productDetailReader;
+    @Mock
+    private ProductSnapshotReader productSnapshotReader;
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache productCache;
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private ProductServiceImpl productService;
@@ -148,7 +178,7 @@ class ProductServiceImplTest {
             when(categoryRepository.findByCode(anyString())).thenReturn(Optional.of(testCategory));
             when(productRepository.existsByProductNum(anyString())).thenReturn(false);
             when(productRepository.save(any(Product.class))).thenReturn(testProduct);
-            when(memberService.findByEmail(anyString())).thenReturn(testMember);
+            givenCurrentMember(testMember);
             when(fileService.saveFile(any(), anyString(), anyString())).thenReturn("test-image-url");
 
             MultipartFile mockFile = mock(MultipartFile.class);
@@ -158,13 +188,36 @@ class ProductServiceImplTest {
 
             verify(productRepository).save(any(Product.class));
             verify(fileService, times(1)).saveFile(any(), anyString(), anyString());
+            verify(cacheTagInvalidator).evictTags("product", ProductCacheTagResolver.tagsForNewProduct("TestBrand", "01"));
+        }
+
+        @Test
+        @DisplayName("새 id 로 미리 저장된 '없음' 캐시를 지운다")
+        void createProductEvictsNegativeEntries() {
+            when(categoryRepository.findByCode(anyString())).thenReturn(Optional.of(testCategory));
+            when(productRepository.existsByProductNum(anyString())).thenReturn(false);
+            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> {
+                Product saved = invocation.getArgument(0);
+                saved.setId(7L);
+                return saved;
+            });
+            when(cacheManager.getCache("product")).thenReturn(productCache);
+            givenCurrentMember(testMember);
+            when(fileService.saveFile(any(), anyString(), anyString())).thenReturn("test-image-url");
+            MultipartFile mockFile = mock(MultipartFile.class);
+            when(mockFile.isEmpty()).thenReturn(false);
+
+            productService.join(createProductRequestDTO, mockFile, List.of());
+
+            verify(productCache).evict("product:7");
+            verify(productCache).evict("product:detail:7");
         }
 
         @Test
         @DisplayName("카테고리가 존재하지 않을 경우 실패한다")
         void createProductFailNoCategory() {
             when(categoryRepository.findByCode(anyString())).thenReturn(Optional.empty());
-            when(memberService.findByEmail(anyString())).thenReturn(testMember); // Mock Member
+            givenCurrentMember(testMember); // Mock Member
 
             MultipartFile mockFile = mock(MultipartFile.class);
             when(mockFile.isEmpty()).thenReturn(false);
@@ -212,6 +265,18 @@ class ProductServiceImplTest {
                     .isInstanceOf(IdNotFoundException.class)
                     .hasMessageContaining("등록된 상품이 없습니다");
         }
+        @Test
+        @DisplayName("캐시용 스냅샷은 엔티티 대신 카테고리 값만 담는다")
+        void findSnapshotById() {
+            when(productRepository.findById(anyLong())).thenReturn(Optional.of(testProduct));
+
+            ProductSnapshot snapshot = productService.findSnapshotById(1L);
+
+            assertThat(snapshot.id()).isEqualTo(1L);
+            assertThat(snapshot.name()).isEqualTo("TestProduct");
+            assertThat(snapshot.category().code()).isEqualTo("01");
+            assertThat(snapshot.productCoupons()).isEmpty();
+        }
     }
 
     @Nested
@@ -248,6 +313,100 @@ class ProductServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 재고 차감 테스트")
+    class DecreaseStockForOrderTest {
+
+        @Test
+        @DisplayName("조건부 UPDATE 한 번으로 재고를 차감하고 판매량을 증가시킨다")
+        void decreaseStockAndIncreaseSoldQuantitySuccess() {
+            when(productRepository.decreaseStockAndIncreaseSoldQuantity(1L, 2L)).thenReturn(1);
+            when(productRepository.getReferenceById(1L)).thenReturn(testProduct);
+            when(converter.convertFromProductToProductDocument(any(Product.class))).thenReturn(new ProductDocument());
+
+            Product product = productService.decreaseStockAndIncreaseSoldQuantity(1L, 2L);
+
+            assertThat(product).isSameAs(testProduct);
+            verify(productRepository).decreaseStockAndIncreaseSoldQuantity(1L, 2L);
+            InOrder inOrder = inOrder(productRepository, entityManager);
+            inOrder.verify(productRepository).decreaseStockAndIncreaseSoldQuantity(1L, 2L);
+            inOrder.verify(entityManager).refresh(testProduct);
+            verify(productRepository, never()).findById(anyLong());
+            verify(productRepository, never()).save(any(Product.class));
+            verify(cacheTagInvalidator).evictTags("product", Set.of("product:1"));
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 실패한다")
+        void decreaseStockAndIncreaseSoldQuantityFailInsufficientStock() {
+            when(productRepository.decreaseStockAndIncreaseSoldQuantity(1L, 200L)).thenReturn(0);
+            when(productRepository.existsById(1L)).thenReturn(true);
+
+            assertThatThrownBy(() -> productService.decreaseStockAndIncreaseSoldQuantity(1L, 200L))
+                    .isInstanceOf(DataIntegrityViolationException.class)
+                    .hasMessageContaining("재고가 부족합니다");
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품이면 실패한다")
+        void decreaseStockAndIncreaseSoldQuantityFailNoProduct() {
+            when(productRepository.decreaseStockAndIncreaseSoldQuantity(1L, 2L)).thenReturn(0);
+            when(productRepository.existsById(1L)).thenReturn(false);
+
+            assertThatThrownBy(() -> productService.decreaseStockAndIncreaseSoldQuantity(1L, 2L))
+                    .isInstanceOf(IdNotFoundException.class)
+                    .hasMessageContaining("등록된 상품이 없습니다");
+        }
+    }
+
+    @Nested
+    @DisplayName("재고/판매량 변경 캐시 무효화 테스트")
+    class StockChangeEvictionTest {
+
+        @BeforeEach
+        void setUp() {
+            testProduct.setSoldQuantity(10L);
+            when(productRepository.findById(1L)).thenReturn(Optional.of(testProduct));
+        }
+
+        @Test
+        @DisplayName("재고를 늘리면 상품 태그를 지워 관리자 목록과 상세가 바뀐 재고를 읽게 한다")
+        void increaseStockEvictsProductTag() {
+            productService.increaseStock(1L, 5L);
+
+            assertThat(testProduct.getStock()).isEqualTo(105L);
+            verify(cacheTagInvalidator).evictTags("product", Set.of("product:1"));
+        }
+
+        @Test
+        @DisplayName("재고를 줄이면 상품 태그를 지운다")
+        void decreaseStockEvictsProductTag() {
+            productService.decreaseStock(1L, 5L);
+
+            assertThat(testProduct.getStock()).isEqualTo(95L);
+            verify(cacheTagInvalidator).evictTags("product", Set.of("product:1"));
+        }
+
+        @Test
+        @DisplayName("판매량을 바꾸면 판매량순 목록이 갱신되도록 상품 태그를 지운다")
+        void soldQuantityChangeEvictsProductTag() {
+            productService.increaseSoldQuantity(1L, 3L);
+            productService.decreaseSoldQuantity(1L, 2L);
+
+            assertThat(testProduct.getSoldQuantity()).isEqualTo(11L);
+            verify(cacheTagInvalidator, times(2)).evictTags("product", Set.of("product:1"));
+        }
+
+        @Test
+        @DisplayName("재고가 부족해 실패하면 태그를 지우지 않는다")
+        void failedDecreaseDoesNotEvict() {
+            assertThatThrownBy(() -> productService.decreaseStock(1L, 200L))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+
+            verify(cacheTagInvalidator, never()).evictTags(anyString(), anySet());
+        }
+    }
+
     @Nested
     @DisplayName("상품 삭제 테스트")
     class DeleteProductTest {
@@ -261,7 +420,8 @@ class ProductServiceImplTest {
 
             assertThat(deletedProductName).isEqualTo("TestProduct");
             verify(productRepository).deleteById(anyLong());
-            verify(elasticsearchOperations).delete(anyString(), eq(ProductDocument.class));
+            verify(elasticsearchOutboxService).enqueueDelete(OutboxDocumentType.PRODUCT, 1L);
+            verify(cacheTagInvalidator).evictTags("product", Set.of("product:1"));
         }
 
         @Test
@@ -274,4 +434,134 @@ class ProductServiceImplTest {
                     .hasMessageContaining("등록된 상품이 없습니다");
         }
     }
+
+    @Nested
+    @DisplayName("Elasticsearch 상품 검색 테스트")
+    class FindProductsOnElasticTest {
+
+        @Test
+        @DisplayName("필드가 모두 있는 문서는 DB 조회 없이 응답으로 만든다")
+        void buildResponseFromDocuments() {
+            ProductDocument document = new ProductDocument();
+            document.setId(1L);
+            Page<ProductDocument> pagedDocuments = new PageImpl<>(List.of(document), PageRequest.of(0, 20), 1);
+            when(productElasticsearchRepository.findProducts(any(), any(), any(), any(), any())).thenReturn(pagedDocuments);
+            when(converter.isProductDocumentCompleteForManagerResponse(document)).thenReturn(true);
+
+            productService.findProductsOnElasticForManaging(null, null, null, null, PageRequest.of(0, 20));
+
+            verify(productSnapshotReader, never()).findAllByIds(any());
+            verify(productRepository, never()).findById(anyLong());
+            verify(converter).convertFromListedProductDocumentToListedProductResponseForManager(List.of(document), Map.of());
+        }
+
+        @Test
+        @DisplayName("판매자는 페이지의 상품 소유 여부를 한 번에 조회해 자신의 상품만 받는다")
+        void filterOwnedProductsInOneQuery() {
+            ProductDocument own = new ProductDocument();
+            own.setId(2L);
+            ProductDocument other = new ProductDocument();
+            other.setId(3L);
+            Page<ProductDocument> pagedDocuments = new PageImpl<>(List.of(own, other), PageRequest.of(0, 20), 2);
+            givenCurrentMember(testMember);
+            when(productElasticsearchRepository.findProducts(any(), any(), any(), any(), any())).thenReturn(pagedDocuments);
+            when(memberProductRepository.findProductIdsByMemberIdAndProductIdIn(1L, List.of(2L, 3L))).thenReturn(List.of(2L));
+            when(converter.isProductDocumentCompleteForManagerResponse(any())).thenReturn(true);
+
+            productService.findProductsOnElasticForAdmin(null, null, null, null, PageRequest.of(0, 20));
+
+            verify(memberProductRepository, never()).existsByMemberIdAndProductId(anyLong(), anyLong());
+            verify(converter).convertFromListedProductDocumentToListedProductResponseForManager(List.of(own), Map.of());
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 목록 좋아요 표시 테스트")
+    class ApplyLikedStatusTest {
+
+        private Page<ProductSimpleResponse> sharedPage() {
+            return new PageImpl<>(List.of(
+                    new ProductSimpleResponse(1L, "상품1", "브랜드", 10000L, 0, null, false, "블루"),
+                    new ProductSimpleResponse(2L, "상품2", "브랜드", 20000L, 0, null, false, "레드")
+            ), PageRequest.of(0, 20), 2);
+        }
+
+        @Test
+        @DisplayName("로그인 사용자는 공유 페이지에 좋아요 여부를 덧씌운 복사본을 받는다")
+        void overlayLikedIdsOnSharedPage() {
+            Page<ProductSimpleResponse> shared = sharedPage();
+            when(productPageReader.findAll(any())).thenReturn(shared);
+            givenCurrentMember(testMember);
+            when(wishListRepository.findProductIdsByMemberIdAndProductIdIn(1L, List.of(1L, 2L))).thenReturn(List.of(2L));
+
+            Page<ProductSimpleResponse> result = productService.findAll(PageRequest.of(0, 20));
+
+            assertThat(result.getContent()).extracting(ProductSimpleResponse::isLiked).containsExactly(false, true);
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            assertThat(shared.getContent()).extracting(ProductSimpleResponse::isLiked).containsExactly(false, false);
+            verify(wishListRepository, never()).findProductIdsByMemberId(anyLong());
+        }
+
+        @Test
+        @DisplayName("비로그인 사용자는 공유 페이지를 그대로 받는다")
+        void anonymousGetsSharedPage() {
+            Page<ProductSimpleResponse> shared = sharedPage();
+            when(productPageReader.findNewProduct(any())).thenReturn(shared);
+            when(currentMemberResolver.isAnonymous()).thenReturn(true);
+
+            Page<ProductSimpleResponse> result = productService.findNewProduct(PageRequest.of(0, 20));
+
+            assertThat(result).isSameAs(shared);
+            verifyNoInteractions(wishListRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 상세 좋아요 표시 테스트")
+    class DetailLikedStatusTest {
+
+        private ProductWithQnAAndReviewResponse sharedDetail() {
+            return new ProductWithQnAAndReviewResponse(1L, "상품1", "브랜드", "01", "P1", 10000L, 0, List.of(), null,
+                    false, "M", "블루", List.of(), List.of(), List.of());
+        }
+
+        @Test
+        @DisplayName("같은 공유 상세를 받아도 회원마다 자신의 좋아요 여부만 보인다")
+        void likedStatusIsPerMember() {
+            ProductWithQnAAndReviewResponse shared = sharedDetail();
+            when(productDetailReader.findDetail(1L)).thenReturn(shared);
+            Member otherMember = new Member();
+            otherMember.setId(2L);
+            otherMember.setEmail("other@example.com");
+            when(wishListRepository.findProductIdsByMemberIdAndProductIdIn(1L, List.of(1L))).thenReturn(List.of(1L));
+            when(wishListRepository.findProductIdsByMemberIdAndProductIdIn(2L, List.of(1L))).thenReturn(List.of());
+
+            givenCurrentMember(testMember);
+            ProductWithQnAAndReviewResponse likedByFirst = productService.findByIdReturnProductResponse(1L);
+            givenCurrentMember(otherMember);
+            ProductWithQnAAndReviewResponse seenBySecond = productService.findByIdReturnProductResponse(1L);
+
+            assertThat(likedByFirst.isLiked()).isTrue();
+            assertThat(likedByFirst).isNotSameAs(shared);
+            assertThat(seenBySecond.isLiked()).isFalse();
+            assertThat(shared.isLiked()).isFalse();
+            verify(productDetailReader, times(2)).findDetail(1L);
+        }
+
+        @Test
+        @DisplayName("비로그인 사용자는 공유 상세를 그대로 받는다")
+        void anonymousGetsSharedDetail() {
+            ProductWithQnAAndReviewResponse shared = sharedDetail();
+            when(productDetailReader.findDetail(1L)).thenReturn(shared);
+            when(currentMemberResolver.isAnonymous()).thenReturn(true);
+
+            assertThat(productService.findByIdReturnProductResponse(1L)).isSameAs(shared);
+            verifyNoInteractions(wishListRepository);
+        }
+    }
+
+    private void givenCurrentMember(Member member) {
+        lenient().when(currentMemberResolver.currentMember()).thenReturn(MemberSnapshot.from(member));
+        lenient().when(currentMemberResolver.currentMemberReference()).thenReturn(member);
+    }
 }
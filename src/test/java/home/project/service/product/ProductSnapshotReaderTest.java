@@ -0,0 +1,91 @@
+package home.project.service.product;
+
+import home.project.config.redis.BatchCacheAccessor;
+import home.project.domain.product.Product;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.repository.product.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductSnapshotReaderTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private BatchCacheAccessor batchCacheAccessor;
+
+    @InjectMocks
+    private ProductSnapshotReader productSnapshotReader;
+
+    private ProductSnapshot snapshot(Long id) {
+        return new ProductSnapshot(id, "상품" + id, "브랜드", null, "P" + id, 1L, 0L, 1000L, 0, 0L,
+                List.of(), null, null, null, null, List.of());
+    }
+
+    @Nested
+    @DisplayName("상품 여러 건 조회 테스트")
+    class FindAllByIdsTest {
+
+        @Test
+        @DisplayName("캐시에 있는 상품은 그대로 쓰고 미스난 상품만 한 번에 조회해 캐시에 채운다")
+        void loadOnlyMissesAndBackfill() {
+            ProductSnapshot cached = snapshot(1L);
+            Product product = new Product();
+            product.setId(2L);
+            product.setName("상품2");
+            when(batchCacheAccessor.getAll("product", List.of("product:1", "product:2")))
+                    .thenReturn(Map.of("product:1", cached));
+            when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(product));
+
+            Map<Long, ProductSnapshot> result = productSnapshotReader.findAllByIds(List.of(1L, 2L, 1L));
+
+            assertThat(result.keySet()).containsExactly(1L, 2L);
+            assertThat(result.get(1L)).isSameAs(cached);
+            assertThat(result.get(2L).name()).isEqualTo("상품2");
+            verify(productRepository).findAllById(List.of(2L));
+            verify(batchCacheAccessor).putAll("product", Map.of("product:2", result.get(2L)));
+        }
+
+        @Test
+        @DisplayName("모두 캐시에 있으면 DB 를 조회하지 않고 캐시에 다시 쓰지 않는다")
+        void skipDatabaseWhenAllCached() {
+            when(batchCacheAccessor.getAll("product", List.of("product:1")))
+                    .thenReturn(Map.of("product:1", snapshot(1L)));
+
+            Map<Long, ProductSnapshot> result = productSnapshotReader.findAllByIds(List.of(1L));
+
+            assertThat(result).containsOnlyKeys(1L);
+            verify(productRepository, never()).findAllById(any());
+            verify(batchCacheAccessor, never()).putAll(anyString(), anyMap());
+        }
+
+        @Test
+        @DisplayName("없는 상품의 id 는 결과에서 빠진다")
+        void omitUnknownIds() {
+            when(batchCacheAccessor.getAll(anyString(), any())).thenReturn(Map.of());
+            when(productRepository.findAllById(List.of(9L))).thenReturn(List.of());
+
+            Map<Long, ProductSnapshot> result = productSnapshotReader.findAllByIds(List.of(9L));
+
+            assertThat(result).isEmpty();
+        }
+    }
+}
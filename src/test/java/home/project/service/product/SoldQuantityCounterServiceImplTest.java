@@ -0,0 +1,136 @@
+package home.project.service.product;
+
+import home.project.config.redis.CacheTagInvalidator;
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.repository.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SoldQuantityCounterServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
+
+    @InjectMocks
+    private SoldQuantityCounterServiceImpl soldQuantityCounterService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @Nested
+    @DisplayName("판매량 반영 테스트")
+    class FlushTest {
+
+        @Test
+        @DisplayName("누적된 증감분을 상품별로 합쳐 한 번에 반영한다")
+        void flushAccumulatedDeltas() {
+            soldQuantityCounterService.decrease(1L, 3L);
+            soldQuantityCounterService.decrease(1L, 2L);
+            soldQuantityCounterService.decrease(2L, 1L);
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            soldQuantityCounterService.flush();
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            verify(productRepository).addSoldQuantities(Map.of(1L, -5L, 2L, -1L));
+            verify(elasticsearchOperations).bulkUpdate(anyList(), eq(ProductDocument.class));
+            verify(cacheTagInvalidator).evictTags(ProductCacheTagResolver.CACHE_NAME,
+                    Set.of(ProductCacheTagResolver.productTag(1L), ProductCacheTagResolver.productTag(2L)));
+        }
+
+        @Test
+        @DisplayName("변경분이 없으면 아무것도 반영하지 않는다")
+        void flushWithoutDeltas() {
+            soldQuantityCounterService.flush();
+
+            verifyNoInteractions(productRepository, elasticsearchOperations);
+        }
+
+        @Test
+        @DisplayName("DB 반영이 롤백되면 증감분을 다음 주기에 다시 반영한다")
+        void flushRetriesAfterRollback() {
+            soldQuantityCounterService.decrease(1L, 4L);
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            soldQuantityCounterService.flush();
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+            soldQuantityCounterService.flush();
+
+            verify(productRepository, times(2)).addSoldQuantities(Map.of(1L, -4L));
+            verifyNoInteractions(elasticsearchOperations);
+        }
+
+        @Test
+        @DisplayName("감소분은 호출한 트랜잭션이 커밋된 뒤에만 쌓인다")
+        void decreaseAppliedAfterCommit() {
+            soldQuantityCounterService.decrease(1L, 2L);
+
+            soldQuantityCounterService.flush();
+            verifyNoInteractions(productRepository);
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            soldQuantityCounterService.flush();
+
+            verify(productRepository).addSoldQuantities(Map.of(1L, -2L));
+        }
+
+        @Test
+        @DisplayName("호출한 트랜잭션이 롤백되면 감소분을 버린다")
+        void decreaseDiscardedOnRollback() {
+            soldQuantityCounterService.decrease(1L, 2L);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            soldQuantityCounterService.flush();
+
+            verifyNoInteractions(productRepository);
+        }
+
+        @Test
+        @DisplayName("음수 수량은 허용하지 않는다")
+        void decreaseFailNegativeQuantity() {
+            assertThatThrownBy(() -> soldQuantityCounterService.decrease(1L, -1L))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("음수일 수 없습니다");
+        }
+    }
+}
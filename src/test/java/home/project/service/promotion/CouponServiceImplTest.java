@@ -1,8 +1,10 @@
 package home.project.service.promotion;
 
+import home.project.config.redis.CacheTagInvalidator;
 import home.project.domain.member.Member;
 import home.project.domain.product.Coupon;
 import home.project.domain.product.Product;
+import home.project.domain.product.ProductCoupon;
 import home.project.domain.product.AssignType;
 import home.project.dto.requestDTO.CreateCouponRequestDTO;
 import home.project.dto.requestDTO.AssignCouponToMemberRequestDTO;
@@ -16,11 +18,12 @@ import home.project.repository.product.ProductRepository;
 import home.project.repository.promotion.CouponRepository;
 import home.project.repository.promotion.MemberCouponRepository;
 import home.project.repository.promotion.ProductCouponRepository;
-import home.project.service.member.MemberService;
+import home.project.service.member.CurrentMemberResolver;
 import home.project.service.notification.NotificationService;
 import home.project.service.notification.WebSocketNotificationService;
+import home.project.service.product.ProductCacheTagResolver;
 import home.project.service.util.Converter;
-import home.project.service.integration.IndexToElasticsearch;
+import home.project.service.integration.ElasticsearchOutboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,12 +35,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -62,15 +66,15 @@ class CouponServiceImplTest {
     @Mock
     private Converter converter;
     @Mock
-    private MemberService memberService;
+    private CurrentMemberResolver currentMemberResolver;
     @Mock
-    private IndexToElasticsearch indexToElasticsearch;
-    @Mock
-    private ElasticsearchOperations elasticsearchOperations;
+    private ElasticsearchOutboxService elasticsearchOutboxService;
     @Mock
     private WebSocketNotificationService webSocketNotificationService;
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private CacheTagInvalidator cacheTagInvalidator;
 
     @InjectMocks
     private CouponServiceImpl couponService;
@@ -244,6 +248,22 @@ class CouponServiceImplTest {
             verify(couponRepository).findById(anyLong());
         }
 
+        @Test
+        @DisplayName("상품에 쿠폰을 할당하면 대상 상품의 캐시를 지운다")
+        void assignCouponToProductEvictsProductCache() {
+            AssignCouponToProductRequestDTO requestDTO = new AssignCouponToProductRequestDTO();
+            requestDTO.setCouponId(1L);
+            requestDTO.setAssignType(AssignType.ALL);
+
+            when(couponRepository.findById(anyLong())).thenReturn(Optional.of(testCoupon));
+            when(productRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(testProduct)));
+            when(productCouponRepository.save(any(ProductCoupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            couponService.assignCouponToProduct(requestDTO, Pageable.unpaged());
+
+            verify(cacheTagInvalidator).evictTags(ProductCacheTagResolver.CACHE_NAME, Set.of(ProductCacheTagResolver.productTag(1L)));
+        }
+
         @Test
         @DisplayName("상품에 쿠폰 할당 실패 - 쿠폰 없음")
         void assignCouponToProductFailCouponNotFound() {
@@ -0,0 +1,92 @@
+package home.project.service.security;
+
+import home.project.exceptions.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("전용 스레드 풀에서 BCrypt 로 인코딩하고 확인한다")
+    void encodeAndMatches() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        String encoded = encoder.encode("password");
+
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 큐가 모두 차면 기다리지 않고 바로 거절한다")
+    void rejectWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches(any(), anyString())).thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        // 하나는 실행 중, 하나는 큐에서 대기
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "hash"));
+        verify(delegate, timeout(1000)).matches(any(), anyString());
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "hash"));
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> encoder.matches("c", "hash"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시간 안에 끝나지 않으면 작업을 취소하고 거절한다")
+    void rejectOnTimeout() {
+        CountDownLatch never = new CountDownLatch(1);
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            never.await();
+            return "encoded";
+        });
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(50), new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("위임한 인코더의 예외는 그대로 전달한다")
+    void propagateDelegateException() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.encode(any())).thenThrow(new IllegalArgumentException("rawPassword cannot be null"));
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> encoder.encode("password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("rawPassword cannot be null");
+    }
+}
@@ -1,5 +1,8 @@
 package home.project.service.security;
 
+import home.project.config.security.SecurityPathMatchers;
+import home.project.config.security.SecurityPermissionsConfig;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,7 +14,10 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class JwtAuthenticationFilterTest {
@@ -36,7 +42,9 @@ class JwtAuthenticationFilterTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider);
+        SecurityPermissionsConfig securityPermissions = new SecurityPermissionsConfig();
+        securityPermissions.setJwtExcluded(List.of("/swagger-ui/**", "/api/auth/login", "/api/admin/auth/login"));
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, new SecurityPathMatchers(securityPermissions));
         SecurityContextHolder.clearContext();
     }
 
@@ -58,12 +66,16 @@ class JwtAuthenticationFilterTest {
 
         when(request.getRequestURI()).thenReturn("/api/secure");
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(token)).thenReturn(authentication);
+        Claims claims = mock(Claims.class);
+        when(jwtTokenProvider.verify(token))
+                .thenReturn(new JwtTokenProvider.VerifiedToken(JwtTokenProvider.TokenStatus.VALID, claims));
+        when(jwtTokenProvider.getAuthentication(claims)).thenReturn(authentication);
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isEqualTo(authentication);
+        verify(jwtTokenProvider, times(1)).verify(token);
+        verify(jwtTokenProvider, never()).getAuthentication(anyString());
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -74,7 +86,8 @@ class JwtAuthenticationFilterTest {
 
         when(request.getRequestURI()).thenReturn("/api/secure");
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtTokenProvider.validateToken(token)).thenReturn(false);
+        when(jwtTokenProvider.verify(token))
+                .thenReturn(new JwtTokenProvider.VerifiedToken(JwtTokenProvider.TokenStatus.INVALID, null));
 
         jwtAuthenticationFilter.doFilter(request, response, filterChain);
 
@@ -2,6 +2,10 @@ package home.project.service.security;
 
 import home.project.dto.responseDTO.TokenResponse;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +23,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,13 +37,14 @@ class JwtTokenProviderTest {
     @Mock
     private UserDetailsService userDetailsService;
 
+    private final TokenRevocationRegistry tokenRevocationRegistry = new TokenRevocationRegistry(1000, 0.01);
     private Authentication authentication;
     private UserDetails userDetails;
     private final String secretKey = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3Nlcy1vbmx5LXNob3VsZC1iZS1sb25nLWVub3VnaA=="; // 테스트용 시크릿 키
 
     @BeforeEach
     void setUp() {
-        jwtTokenProvider = new JwtTokenProvider(secretKey, userDetailsService);
+        jwtTokenProvider = new JwtTokenProvider(secretKey, userDetailsService, 100, tokenRevocationRegistry);
 
         Collection<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
         userDetails = new User("test@example.com", "", authorities);
@@ -77,6 +83,29 @@ class JwtTokenProviderTest {
             assertThat(jwtTokenProvider.getIdFromVerificationToken(token)).isEqualTo(id.toString());
         }
 
+        @Test
+        @DisplayName("검증 토큰의 jti 는 회원 ID 가 아닌 토큰마다 다른 임의 값이다")
+        void verificationTokenHasRandomId() {
+            String first = jwtTokenProvider.generateVerificationToken("test@example.com", 1L);
+            String second = jwtTokenProvider.generateVerificationToken("test@example.com", 1L);
+
+            String firstId = jwtTokenProvider.verify(first).claims().getId();
+            assertThat(firstId).isNotEqualTo("1").isNotEqualTo(jwtTokenProvider.verify(second).claims().getId());
+        }
+
+        @Test
+        @DisplayName("회원 ID 를 jti 에 담아 발급한 이전 검증 토큰도 회원 ID 를 읽는다")
+        void legacyVerificationTokenId() {
+            String legacyToken = Jwts.builder()
+                    .setSubject("test@example.com")
+                    .setId("1")
+                    .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)), SignatureAlgorithm.HS256)
+                    .compact();
+
+            assertThat(jwtTokenProvider.getIdFromVerificationToken(legacyToken)).isEqualTo("1");
+        }
+
         @Test
         @DisplayName("비밀번호 재설정 토큰을 생성한다")
         void generateResetTokenSuccess() {
@@ -112,6 +141,72 @@ class JwtTokenProviderTest {
             assertThat(jwtTokenProvider.validateTokenDetail(invalidToken))
                     .isEqualTo(JwtTokenProvider.TokenStatus.INVALID);
         }
+
+        @Test
+        @DisplayName("만료된 토큰은 EXPIRED 상태로 검증한다")
+        void verifyExpiredToken() {
+            String expiredToken = Jwts.builder()
+                    .setSubject("test@example.com")
+                    .claim("auth", "ROLE_USER")
+                    .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                    .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)), SignatureAlgorithm.HS256)
+                    .compact();
+
+            JwtTokenProvider.VerifiedToken verifiedToken = jwtTokenProvider.verify(expiredToken);
+
+            assertThat(verifiedToken.status()).isEqualTo(JwtTokenProvider.TokenStatus.EXPIRED);
+            assertThat(verifiedToken.claims()).isNull();
+        }
+
+        @Test
+        @DisplayName("한 번 검증한 토큰은 캐시된 Claims 를 재사용한다")
+        void verifyReusesVerifiedClaims() {
+            TokenResponse tokenResponse = jwtTokenProvider.generateToken(authentication);
+
+            JwtTokenProvider.VerifiedToken first = jwtTokenProvider.verify(tokenResponse.getAccessToken());
+            JwtTokenProvider.VerifiedToken second = jwtTokenProvider.verify(tokenResponse.getAccessToken());
+
+            assertThat(first.isValid()).isTrue();
+            assertThat(second.claims()).isSameAs(first.claims());
+            assertThat(jwtTokenProvider.getAuthentication(second.claims()).getName()).isEqualTo("test@example.com");
+        }
+
+        @Test
+        @DisplayName("폐기된 토큰은 검증에 캐시된 Claims 가 있어도 REVOKED 로 거부한다")
+        void verifyRejectsRevokedToken() {
+            String token = jwtTokenProvider.generateToken(authentication).getAccessToken();
+            JwtTokenProvider.VerifiedToken verifiedToken = jwtTokenProvider.verify(token);
+
+            tokenRevocationRegistry.revoke(verifiedToken.claims().getId(), verifiedToken.claims().getExpiration().getTime());
+
+            assertThat(jwtTokenProvider.verify(token).status()).isEqualTo(JwtTokenProvider.TokenStatus.REVOKED);
+            assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(token))
+                    .isInstanceOf(JwtException.class)
+                    .hasMessageContaining("로그아웃된");
+        }
+
+        @Test
+        @DisplayName("발급되는 액세스/리프레시 토큰은 서로 다른 jti 를 가진다")
+        void generatedTokensHaveDistinctIds() {
+            TokenResponse tokenResponse = jwtTokenProvider.generateToken(authentication);
+
+            String accessId = jwtTokenProvider.verify(tokenResponse.getAccessToken()).claims().getId();
+            String refreshId = jwtTokenProvider.verify(tokenResponse.getRefreshToken()).claims().getId();
+
+            assertThat(accessId).isNotBlank();
+            assertThat(refreshId).isNotBlank().isNotEqualTo(accessId);
+        }
+
+        @Test
+        @DisplayName("서명이 다른 토큰은 캐시와 관계없이 거부한다")
+        void verifyRejectsTamperedToken() {
+            String token = jwtTokenProvider.generateToken(authentication).getAccessToken();
+            jwtTokenProvider.verify(token);
+
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            assertThat(jwtTokenProvider.verify(tampered).status()).isEqualTo(JwtTokenProvider.TokenStatus.INVALID);
+        }
     }
 
     @Nested
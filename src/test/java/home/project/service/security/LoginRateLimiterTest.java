@@ -0,0 +1,171 @@
+package home.project.service.security;
+
+import home.project.exceptions.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoginRateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(loginRateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(loginRateLimiter, "loginIpCapacity", 20L);
+        ReflectionTestUtils.setField(loginRateLimiter, "loginIpRefillPerMinute", 10L);
+        ReflectionTestUtils.setField(loginRateLimiter, "loginAccountCapacity", 30L);
+        ReflectionTestUtils.setField(loginRateLimiter, "loginAccountRefillPerMinute", 5L);
+        ReflectionTestUtils.setField(loginRateLimiter, "loginAccountIpCapacity", 5L);
+        ReflectionTestUtils.setField(loginRateLimiter, "loginAccountIpRefillPerMinute", 1L);
+        ReflectionTestUtils.setField(loginRateLimiter, "signupIpCapacity", 5L);
+        ReflectionTestUtils.setField(loginRateLimiter, "signupIpRefillPerMinute", 1L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("IP 버킷은 차감하고, (계정, IP) 버킷과 계정 버킷은 남아 있는지만 확인한다")
+    @SuppressWarnings("unchecked")
+    void checkLoginUsesIpAndAccountBuckets() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        loginRateLimiter.checkLogin(" Test@Example.com ");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactly(
+                LoginRateLimiter.LOGIN_IP_KEY_PREFIX + "10.0.0.1",
+                LoginRateLimiter.LOGIN_ACCOUNT_IP_KEY_PREFIX + "test@example.com:10.0.0.1",
+                LoginRateLimiter.LOGIN_ACCOUNT_KEY_PREFIX + "test@example.com");
+        // 현재 시각 뒤로 (용량, 분당 충전량, 차감량) 이 버킷 순서대로 온다
+        assertThat(List.of(args.getValue()).subList(1, 10)).containsExactly("20", "10", "1", "5", "1", "0", "30", "5", "0");
+    }
+
+    @Test
+    @DisplayName("비밀번호 확인에 실패하면 (계정, IP) 버킷과 계정 버킷을 차감한다")
+    @SuppressWarnings("unchecked")
+    void recordLoginFailureChargesAccountBucket() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        loginRateLimiter.recordLoginFailure("test@example.com");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+        assertThat(keys.getValue()).containsExactly(
+                LoginRateLimiter.LOGIN_ACCOUNT_IP_KEY_PREFIX + "test@example.com:10.0.0.1",
+                LoginRateLimiter.LOGIN_ACCOUNT_KEY_PREFIX + "test@example.com");
+        assertThat(List.of(args.getValue()).subList(1, 7)).containsExactly("5", "1", "1", "30", "5", "1");
+    }
+
+    @Test
+    @DisplayName("IP 를 바꿔도 계정 버킷은 같고, (계정, IP) 버킷은 IP 마다 다르다")
+    @SuppressWarnings("unchecked")
+    void accountBucketIsSharedAcrossIps() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+        loginRateLimiter.recordLoginFailure("test@example.com");
+
+        MockHttpServletRequest other = new MockHttpServletRequest();
+        other.setRemoteAddr("10.0.0.2");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(other));
+        loginRateLimiter.checkLogin("test@example.com");
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        List<String> failureKeys = keys.getAllValues().get(0);
+        List<String> otherIpKeys = keys.getAllValues().get(1);
+        assertThat(otherIpKeys).doesNotContain(failureKeys.get(0));
+        assertThat(otherIpKeys).contains(failureKeys.get(1));
+    }
+
+    @Test
+    @DisplayName("용량이나 충전량이 0 이하이면 기동 시 거절한다")
+    void validateRejectsNonPositiveRefill() {
+        ReflectionTestUtils.setField(loginRateLimiter, "loginAccountRefillPerMinute", 0L);
+
+        assertThatThrownBy(() -> loginRateLimiter.validate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("security.rate-limit.login.account.refill-per-minute");
+    }
+
+    @Test
+    @DisplayName("(계정, IP) 버킷이나 계정 버킷이 비면 429 예외를 던진다")
+    void checkLoginRejectedByAccount() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(2L, 3L);
+
+        assertThatThrownBy(() -> loginRateLimiter.checkLogin("test@example.com"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("이 계정의 로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        assertThatThrownBy(() -> loginRateLimiter.checkLogin("test@example.com"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("이 계정의 로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Test
+    @DisplayName("회원가입은 IP 버킷이 비면 거절한다")
+    void checkSignupRejected() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        assertThatThrownBy(() -> loginRateLimiter.checkSignup())
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시에는 제한 없이 통과시킨다")
+    void failOpenOnRedisError() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatCode(() -> loginRateLimiter.checkLogin("test@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("제한이 꺼져 있으면 Redis 를 사용하지 않는다")
+    void disabled() {
+        ReflectionTestUtils.setField(loginRateLimiter, "enabled", false);
+
+        loginRateLimiter.checkLogin("test@example.com");
+        loginRateLimiter.checkSignup();
+
+        verifyNoInteractions(stringRedisTemplate);
+    }
+}
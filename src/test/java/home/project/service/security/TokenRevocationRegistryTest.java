@@ -0,0 +1,61 @@
+package home.project.service.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    private final TokenRevocationRegistry registry = new TokenRevocationRegistry(4, 0.01);
+
+    @Test
+    @DisplayName("폐기한 jti 만 폐기된 것으로 본다")
+    void revokedTokenIsReported() {
+        registry.revoke("revoked-id", System.currentTimeMillis() + 60_000);
+
+        assertThat(registry.isRevoked("revoked-id")).isTrue();
+        assertThat(registry.isRevoked("other-id")).isFalse();
+        assertThat(registry.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 기록하지 않는다")
+    void expiredTokenIsIgnored() {
+        registry.revoke("expired-id", System.currentTimeMillis() - 1);
+
+        assertThat(registry.isRevoked("expired-id")).isFalse();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("용량을 넘겨 Bloom filter 를 다시 만들어도 기존 항목을 잃지 않는다")
+    void growingKeepsAllEntries() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        String[] ids = new String[50];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            registry.revoke(ids[i], expiresAt);
+        }
+
+        for (String id : ids) {
+            assertThat(registry.isRevoked(id)).isTrue();
+        }
+        assertThat(registry.size()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("만료된 항목을 정리하면 남은 항목만 폐기 상태로 유지한다")
+    void purgeExpiredRemovesOnlyExpired() throws InterruptedException {
+        registry.revoke("short-lived", System.currentTimeMillis() + 20);
+        registry.revoke("long-lived", System.currentTimeMillis() + 60_000);
+
+        Thread.sleep(50);
+
+        assertThat(registry.purgeExpired()).isEqualTo(1);
+        assertThat(registry.isRevoked("short-lived")).isFalse();
+        assertThat(registry.isRevoked("long-lived")).isTrue();
+    }
+}
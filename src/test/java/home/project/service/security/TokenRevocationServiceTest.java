@@ -0,0 +1,115 @@
+package home.project.service.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("유효한 토큰을 폐기하면 로컬 목록, Redis, 채널에 모두 기록한다")
+    void revokeValidToken() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.getExpiration()).thenReturn(new Date(expiresAt));
+        when(jwtTokenProvider.verify("token"))
+                .thenReturn(new JwtTokenProvider.VerifiedToken(JwtTokenProvider.TokenStatus.VALID, claims));
+
+        boolean revoked = tokenRevocationService.revoke("token");
+
+        assertThat(revoked).isTrue();
+        verify(tokenRevocationRegistry).revoke("jti-1", expiresAt);
+        verify(zSetOperations).add(TokenRevocationService.REVOKED_KEY, "jti-1", (double) expiresAt);
+        verify(stringRedisTemplate).convertAndSend(TokenRevocationService.REVOCATION_CHANNEL, "jti-1|" + expiresAt);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 폐기하지 않는다")
+    void revokeInvalidTokenIsIgnored() {
+        when(jwtTokenProvider.verify("token"))
+                .thenReturn(new JwtTokenProvider.VerifiedToken(JwtTokenProvider.TokenStatus.EXPIRED, null));
+
+        assertThat(tokenRevocationService.revoke("token")).isFalse();
+        verifyNoInteractions(tokenRevocationRegistry);
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 기록에 실패해도 이 노드에서는 폐기된다")
+    void revokeSurvivesRedisFailure() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(zSetOperations.add(anyString(), anyString(), anyDouble())).thenThrow(new RuntimeException("redis down"));
+
+        tokenRevocationService.revoke("jti-1", expiresAt);
+
+        verify(tokenRevocationRegistry).revoke("jti-1", expiresAt);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 알림을 로컬 목록에 반영한다")
+    void onMessageRevokesLocally() {
+        byte[] body = "jti-2|1700000000000".getBytes(StandardCharsets.UTF_8);
+
+        tokenRevocationService.onMessage(new DefaultMessage(TokenRevocationService.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        verify(tokenRevocationRegistry).revoke("jti-2", 1700000000000L);
+    }
+
+    @Test
+    @DisplayName("동기화는 Redis 의 만료 항목을 지우고 남은 항목을 로컬 목록에 합친다")
+    void synchronizeMergesRemoteList() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        Set<ZSetOperations.TypedTuple<String>> revoked = Set.of(new DefaultTypedTuple<>("jti-3", (double) expiresAt));
+        when(zSetOperations.rangeByScoreWithScores(eq(TokenRevocationService.REVOKED_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(revoked);
+
+        int merged = tokenRevocationService.synchronize();
+
+        assertThat(merged).isEqualTo(1);
+        verify(zSetOperations).removeRangeByScore(eq(TokenRevocationService.REVOKED_KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        verify(tokenRevocationRegistry).revoke("jti-3", expiresAt);
+        verify(tokenRevocationRegistry).purgeExpired();
+    }
+}
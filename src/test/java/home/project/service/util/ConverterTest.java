@@ -0,0 +1,71 @@
+package home.project.service.util;
+
+import home.project.domain.elasticsearch.ProductDocument;
+import home.project.dto.cacheDTO.CategorySnapshot;
+import home.project.dto.cacheDTO.ProductSnapshot;
+import home.project.dto.responseDTO.ProductResponseForManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConverterTest {
+
+    private final Converter converter = new Converter(null, null, null);
+
+    private ProductDocument productDocument(long id, ProductDocument.CategoryInfo category) {
+        ProductDocument document = new ProductDocument();
+        document.setId(id);
+        document.setName("티셔츠");
+        document.setBrand("브랜드");
+        document.setProductNum("P-" + id);
+        document.setPrice(10000L);
+        document.setStock(10L);
+        document.setCategory(category);
+        document.setProductCoupons(null);
+        return document;
+    }
+
+    @Nested
+    @DisplayName("검색 문서 → 관리자 상품 응답 변환 테스트")
+    class ProductDocumentForManagerTest {
+
+        @Test
+        @DisplayName("카테고리가 빠진 문서는 카테고리 없이 응답을 만든다")
+        void documentWithoutCategory() {
+            ProductResponseForManager response = converter.convertFromProductDocumentToProductResponseForManager(productDocument(1L, null));
+
+            assertThat(response.getId()).isEqualTo(1L);
+            assertThat(response.getCategory()).isNull();
+            assertThat(response.getProductCouponResponse()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("카테고리가 있는 문서는 카테고리 코드를 담는다")
+        void documentWithCategory() {
+            ProductDocument.CategoryInfo category = new ProductDocument.CategoryInfo();
+            category.setCode("0101");
+
+            ProductResponseForManager response = converter.convertFromProductDocumentToProductResponseForManager(productDocument(1L, category));
+
+            assertThat(response.getCategory()).isEqualTo("0101");
+        }
+
+        @Test
+        @DisplayName("목록 변환은 DB 에서 다시 읽은 상품이 있으면 그 값을 쓰고, 없으면 문서로 만든다")
+        void listPrefersFallbackProducts() {
+            ProductSnapshot fallback = new ProductSnapshot(1L, "DB 티셔츠", "브랜드", new CategorySnapshot(3L, "0101", "상의", 2),
+                    "P-1", 10L, 0L, 10000L, 0, 0L, List.of(), null, null, null, null, List.of());
+
+            List<ProductResponseForManager> responses = converter.convertFromListedProductDocumentToListedProductResponseForManager(
+                    List.of(productDocument(1L, null), productDocument(2L, null)), Map.of(1L, fallback));
+
+            assertThat(responses).extracting(ProductResponseForManager::getName).containsExactly("DB 티셔츠", "티셔츠");
+            assertThat(responses).extracting(ProductResponseForManager::getCategory).containsExactly("0101", null);
+        }
+    }
+}